@@ -0,0 +1,151 @@
+package com.vibecoding.devlog.benchmark;
+
+import com.vibecoding.devlog.model.DevLog;
+import com.vibecoding.devlog.model.Project;
+import com.vibecoding.devlog.model.ProjectStats;
+import com.vibecoding.devlog.model.TechTag;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력 데이터 생성기
+ *
+ * 시드가 고정된 난수로 만들어 실행마다, 릴리스마다 같은 입력을 측정합니다.
+ * 값의 크기(본문 길이, 태그 수, 프로젝트 수)는 seed.sql의 실제 데이터와 비슷하게 맞췄습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 20260105L;
+
+    private static final String[] MOODS = {"GREAT", "GOOD", "NORMAL", "BAD", "TERRIBLE"};
+    private static final String[] CATEGORIES = {"LANGUAGE", "FRAMEWORK", "DATABASE", "TOOL", "LIBRARY", "PLATFORM"};
+    private static final String WORDS = "스프링 부트 마이바티스 쿼리 인덱스 캐시 트랜잭션 배포 리팩토링 테스트 "
+            + "PostgreSQL Svelte Docker endpoint latency pagination cursor migration";
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * 매퍼가 반환하는 형태의 개발 로그 목록 (프로젝트, 기술 태그 포함)
+     *
+     * @param count 로그 수
+     * @return 개발 로그 목록
+     */
+    public static List<DevLog> devLogs(int count) {
+        Random random = new Random(SEED);
+        List<Project> projects = projects(8);
+        List<TechTag> tags = techTags(40);
+        LocalDate firstDay = LocalDate.of(2025, 1, 1);
+
+        List<DevLog> logs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Project project = projects.get(random.nextInt(projects.size()));
+            LocalTime start = LocalTime.of(9 + random.nextInt(8), random.nextInt(4) * 15);
+            int minutes = 30 + random.nextInt(8) * 15;
+            LocalDate logDate = firstDay.plusDays(i % 365);
+
+            List<TechTag> logTags = new ArrayList<>();
+            int tagCount = random.nextInt(5);
+            for (int t = 0; t < tagCount; t++) {
+                logTags.add(tags.get(random.nextInt(tags.size())));
+            }
+
+            logs.add(DevLog.builder()
+                    .id((long) i + 1)
+                    .projectId(project.getId())
+                    .project(project)
+                    .title("개발 로그 " + (i + 1) + " - " + words(random, 4))
+                    .description(words(random, 60))
+                    .startTime(start)
+                    .endTime(start.plusMinutes(minutes))
+                    .workMinutes(minutes)
+                    .achievements(words(random, 25))
+                    .challenges(words(random, 20))
+                    .learnings(words(random, 30))
+                    .codeSnippets(random.nextInt(3) == 0 ? "SELECT * FROM dev_logs WHERE log_date >= ?;" : null)
+                    .logDate(logDate)
+                    .mood(MOODS[random.nextInt(MOODS.length)])
+                    .createdAt(logDate.atTime(18, 0))
+                    .updatedAt(logDate.atTime(18, 30))
+                    .techTags(logTags)
+                    .build());
+        }
+        return logs;
+    }
+
+    /**
+     * 기간 통계 쿼리가 반환하는 (프로젝트, 날짜) 롤업 행
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (미포함)
+     * @param projectCount 프로젝트 수
+     * @return 프로젝트 일별 통계 행
+     */
+    public static List<ProjectStats> projectStats(LocalDate from, LocalDate to, int projectCount) {
+        Random random = new Random(SEED);
+        List<ProjectStats> rows = new ArrayList<>();
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            for (long projectId = 1; projectId <= projectCount; projectId++) {
+                int logCount = random.nextInt(4);
+                rows.add(ProjectStats.builder()
+                        .projectId(projectId)
+                        .projectName("프로젝트 " + projectId)
+                        .statDate(date)
+                        .logCount(logCount)
+                        .timedLogCount(logCount)
+                        .totalMinutes(logCount * (30 + random.nextInt(120)))
+                        .build());
+            }
+        }
+        return rows;
+    }
+
+    private static List<Project> projects(int count) {
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            projects.add(Project.builder()
+                    .id((long) i)
+                    .name("프로젝트 " + i)
+                    .status("IN_PROGRESS")
+                    .color("#3b82f6")
+                    .progress(i * 10)
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                    .build());
+        }
+        return projects;
+    }
+
+    private static List<TechTag> techTags(int count) {
+        List<TechTag> tags = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            tags.add(TechTag.builder()
+                    .id((long) i)
+                    .name("Tag" + i)
+                    .category(CATEGORIES[i % CATEGORIES.length])
+                    .color("#10b981")
+                    .usageCount(i)
+                    .build());
+        }
+        return tags;
+    }
+
+    private static String words(Random random, int count) {
+        String[] words = WORDS.split(" ");
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(words[random.nextInt(words.length)]);
+        }
+        return text.toString();
+    }
+}
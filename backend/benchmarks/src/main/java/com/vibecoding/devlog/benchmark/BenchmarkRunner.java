@@ -0,0 +1,54 @@
+package com.vibecoding.devlog.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행 진입점 (benchmarks.jar의 Main-Class)
+ *
+ * JMH 명령줄 옵션을 그대로 받고, 지정하지 않으면 다음을 기본으로 켭니다.
+ *
+ * - 할당 프로파일러 (-prof gc): 결과에 gc.alloc.rate.norm(연산당 할당 바이트)이 함께 기록됩니다.
+ * - JSON 결과 파일 (-rf json -rff jmh-result-{버전}.json): 릴리스 간 비교용
+ *
+ * 예) java -jar benchmarks.jar DevLogResponse -p rows=10000
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListProfilers()
+                || cli.shouldListResultFormats() || cli.shouldListWithParams()) {
+            // 목록/도움말은 JMH 기본 동작 사용
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (cli.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!cli.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            options.result("jmh-result-" + version() + ".json");
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static String version() {
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+}
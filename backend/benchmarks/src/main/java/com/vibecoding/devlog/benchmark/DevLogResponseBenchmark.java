@@ -0,0 +1,111 @@
+package com.vibecoding.devlog.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.vibecoding.devlog.config.WebConfig;
+import com.vibecoding.devlog.dto.response.DevLogResponse;
+import com.vibecoding.devlog.model.DevLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 개발 로그 응답 변환/직렬화 벤치마크
+ *
+ * GET /logs 응답 경로의 CPU 비용을 측정합니다.
+ * 매퍼 결과(DevLog)를 DevLogResponse로 바꾸는 단계와 Jackson으로 JSON을 쓰는 단계를 나눠 봅니다.
+ * ObjectMapper는 WebConfig의 운영 설정을 그대로 사용합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DevLogResponseBenchmark {
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private List<DevLog> logs;
+    private List<DevLogResponse> responses;
+    private ObjectWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        logs = BenchmarkData.devLogs(rows);
+        responses = convert(logs);
+        ObjectMapper objectMapper = new WebConfig(null, null).objectMapper();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, DevLogResponse.class));
+    }
+
+    /**
+     * 매퍼 결과 → 응답 DTO 변환 (컨트롤러와 같은 stream().map(DevLogResponse::from))
+     */
+    @Benchmark
+    public List<DevLogResponse> convertToResponses() {
+        return convert(logs);
+    }
+
+    /**
+     * 응답 DTO 목록 JSON 직렬화 (응답 본문 버퍼를 흉내 낸 버리는 스트림으로 출력)
+     */
+    @Benchmark
+    public long serializeResponses() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        writer.writeValue(out, responses);
+        return out.count;
+    }
+
+    /**
+     * 변환 + 직렬화 (요청 하나의 응답 경로 전체)
+     */
+    @Benchmark
+    public byte[] convertAndSerialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(convert(logs));
+    }
+
+    private static List<DevLogResponse> convert(List<DevLog> logs) {
+        return logs.stream()
+                .map(DevLogResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 쓴 바이트 수만 세는 출력 스트림
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
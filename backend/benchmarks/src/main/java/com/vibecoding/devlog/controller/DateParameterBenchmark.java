@@ -0,0 +1,61 @@
+package com.vibecoding.devlog.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜 파라미터 파싱 벤치마크
+ *
+ * 목록/검색 요청마다 호출되는 DevLogController.parseDateParameter의 형식별 비용을 측정합니다.
+ * 잘못된 형식은 예외와 에러 로그를 만드는 경로이므로 따로 측정합니다 (로그 출력은 logback.xml에서 끔).
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateParameterBenchmark {
+
+    private DevLogController controller;
+
+    // 상수 접기를 막기 위해 필드로 전달
+    private String date = "2026-01-05";
+    private String dateTime = "2026-01-05T09:30:00";
+    private String invalid = "2026/01/05";
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        controller = new DevLogController(null, null, null);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDate() {
+        return controller.parseDateParameter(date);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTime() {
+        return controller.parseDateParameter(dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime parseInvalid() {
+        return controller.parseDateParameter(invalid);
+    }
+}
@@ -0,0 +1,98 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.benchmark.BenchmarkData;
+import com.vibecoding.devlog.dto.response.MonthlyStatsDTO;
+import com.vibecoding.devlog.dto.response.WeeklyStatsDTO;
+import com.vibecoding.devlog.mapper.StatisticsMapper;
+import com.vibecoding.devlog.model.ProjectStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통계 DTO 생성 벤치마크
+ *
+ * 캐시를 거치지 않고 주간/월간 통계 DTO를 만드는 CPU 비용과,
+ * resultType="map" 통계 쿼리 결과에서 값을 꺼내는 getIntegerValue 비용을 측정합니다.
+ * StatisticsMapper는 고정된 롤업 행을 반환하는 프록시로 대체해 DB 시간은 제외합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsBenchmark {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 1, 5);
+    private static final LocalDate MONTH_START = LocalDate.of(2026, 1, 1);
+    private static final int PROJECTS = 8;
+
+    private static final String[] KEYS = {"totallogs", "totalworkminutes", "avgworkminutes", "techtagcount", "missing"};
+
+    private StatisticsService statisticsService;
+    private Map<String, Object> basicStats;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProjectStats> weekRows = BenchmarkData.projectStats(WEEK_START, WEEK_START.plusDays(7), PROJECTS);
+        List<ProjectStats> monthRows = BenchmarkData.projectStats(MONTH_START, MONTH_START.plusMonths(1), PROJECTS);
+
+        StatisticsMapper statisticsMapper = (StatisticsMapper) Proxy.newProxyInstance(
+                StatisticsMapper.class.getClassLoader(), new Class<?>[]{StatisticsMapper.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getPeriodProjectStats")) {
+                        return args[0].equals(WEEK_START) ? weekRows : monthRows;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        statisticsService = new StatisticsService(statisticsMapper, null, null);
+
+        // PostgreSQL 드라이버가 COUNT/SUM/AVG에 돌려주는 타입 조합
+        basicStats = new HashMap<>();
+        basicStats.put("totallogs", 128L);
+        basicStats.put("totalworkminutes", new BigDecimal("9630"));
+        basicStats.put("avgworkminutes", new BigDecimal("75.2343750000000000"));
+        basicStats.put("techtagcount", 17);
+    }
+
+    @Benchmark
+    public WeeklyStatsDTO buildWeeklyStats() {
+        return statisticsService.loadWeeklyStats(WEEK_START, WEEK_START.plusDays(7));
+    }
+
+    @Benchmark
+    public MonthlyStatsDTO buildMonthlyStats() {
+        return statisticsService.loadMonthlyStats(MONTH_START, MONTH_START.plusMonths(1));
+    }
+
+    /**
+     * Long, BigDecimal, Integer, 없는 키 조회를 한 번씩
+     */
+    @Benchmark
+    public void extractIntegerValues(Blackhole blackhole) {
+        for (String key : KEYS) {
+            blackhole.consume(StatisticsService.getIntegerValue(basicStats, key));
+        }
+    }
+}
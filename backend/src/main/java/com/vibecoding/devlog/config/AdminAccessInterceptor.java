@@ -0,0 +1,50 @@
+package com.vibecoding.devlog.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 운영 진단 API 접근 인터셉터
+ *
+ * /admin 경로는 느린 쿼리의 SQL과 실행 계획을 노출하므로 X-Admin-Token 헤더가
+ * 설정한 토큰(devlog.admin.token)과 같을 때만 허용합니다.
+ * 토큰을 설정하지 않으면 진단 API를 모두 거부합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AdminAccessInterceptor implements HandlerInterceptor {
+
+    public static final String TOKEN_HEADER = "X-Admin-Token";
+
+    private final byte[] token;
+
+    public AdminAccessInterceptor(@Value("${devlog.admin.token:}") String token) {
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+        String provided = request.getHeader(TOKEN_HEADER);
+        // 일치하는 앞부분 길이로 토큰을 추측할 수 없도록 상수 시간 비교
+        if (token.length > 0 && provided != null
+                && MessageDigest.isEqual(token, provided.getBytes(StandardCharsets.UTF_8))) {
+            return true;
+        }
+        log.warn("Admin access denied: {} {}", request.getMethod(), request.getRequestURI());
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        return false;
+    }
+}
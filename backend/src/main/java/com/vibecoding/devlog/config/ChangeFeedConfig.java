@@ -0,0 +1,37 @@
+package com.vibecoding.devlog.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 변경 피드 실행 설정
+ *
+ * SSE 변경 피드의 이벤트 전송과 heartbeat를 맡는 전용 스레드 풀을 등록합니다.
+ * 느린 클라이언트로의 전송이 요청 스레드나 대시보드 풀을 점유하지 않도록 분리합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Configuration
+public class ChangeFeedConfig {
+
+    /**
+     * 변경 피드 전송 실행기
+     *
+     * @param threads 동시에 전송할 구독자 수
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService changeFeedExecutor(@Value("${devlog.events.threads:2}") int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
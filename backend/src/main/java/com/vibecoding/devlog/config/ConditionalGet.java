@@ -0,0 +1,35 @@
+package com.vibecoding.devlog.config;
+
+import com.vibecoding.devlog.service.ChangeVersions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조건부 GET 대상 표시
+ *
+ * 붙은 조회 핸들러는 응답이 의존하는 데이터 영역의 변경 버전으로 ETag를 받고,
+ * If-None-Match가 일치하면 핸들러를 호출하지 않고 304로 응답합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ * @see ConditionalGetInterceptor
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /**
+     * 응답이 의존하는 데이터 영역
+     */
+    ChangeVersions.Domain[] value();
+
+    /**
+     * 오늘 날짜에 따라 결과가 달라지는 응답이면 true (이번 주/월 통계 등)
+     */
+    boolean daily() default false;
+}
@@ -0,0 +1,54 @@
+package com.vibecoding.devlog.config;
+
+import com.vibecoding.devlog.service.ChangeVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 조건부 GET 인터셉터
+ *
+ * {@link ConditionalGet}이 붙은 GET/HEAD 요청에 변경 버전 기반 ETag를 붙입니다.
+ * If-None-Match가 현재 ETag와 같으면 컨트롤러와 서비스를 호출하지 않고 304로 끝내므로
+ * 변경이 없는 대시보드 새로고침은 DB 조회 없이 응답합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ChangeVersions changeVersions;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditional = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditional == null) {
+            return true;
+        }
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+
+        String etag = changeVersions.etag(conditional.value(), conditional.daily());
+        // 브라우저가 매번 재검증하도록 저장은 허용하되 no-cache로 표시
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            log.debug("Not modified: {} {}", method, request.getRequestURI());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.vibecoding.devlog.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 대시보드 통계 실행 설정
+ *
+ * 대시보드의 섹션별 통계를 병렬로 조회하는 전용 실행기를 등록합니다.
+ * 섹션은 대부분 DB 응답을 기다리므로 섹션마다 가상 스레드를 하나씩 쓰고,
+ * DB 커넥션을 쓰는 동시 섹션 수는 DashboardService가 제한합니다 (devlog.dashboard.max-concurrency).
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Configuration
+public class DashboardConfig {
+
+    /**
+     * 대시보드 섹션 실행기 (섹션당 가상 스레드)
+     * 대기 큐나 거부 정책 없이 바로 시작하며, 커넥션 대기는 가상 스레드에서 기한까지만 합니다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService dashboardExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,224 @@
+package com.vibecoding.devlog.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매퍼 구문 지표 수집 MyBatis 플러그인
+ *
+ * 구문 ID별로 다음 지표를 기록합니다. statement 태그는 "StatisticsMapper.getPeriodProjectStats"처럼
+ * 매퍼 이름과 구문 이름만 남깁니다.
+ *
+ * - devlog.mapper.statement (Timer): 실행 시간, command(SELECT/INSERT/UPDATE/DELETE)와 outcome(success/error) 태그
+ * - devlog.mapper.rows (DistributionSummary): 조회 행 수 또는 변경 행 수
+ * - devlog.mapper.fetched (DistributionSummary, bytes): 결과 집합에서 읽은 값의 추정 크기 (fetchedBytes를 켠 경우만)
+ *
+ * 읽은 크기는 ResultSet 값 조회를 감싸 문자열은 UTF-8 길이, 숫자/날짜는 8바이트로 셉니다.
+ * 2차 캐시에서 반환된 조회는 결과 집합을 읽지 않으므로 크기를 기록하지 않습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = ResultSetHandler.class, method = "handleResultSets",
+                args = {Statement.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    /** 현재 스레드에서 실행 중인 구문이 읽은 바이트 수 */
+    private static final ThreadLocal<long[]> FETCHED_BYTES = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final boolean fetchedBytes;
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry 지표 레지스트리
+     * @param fetchedBytes 결과 집합에서 읽은 크기 측정 여부 (값 조회마다 프록시 호출 비용이 듦)
+     */
+    public MapperMetricsInterceptor(MeterRegistry meterRegistry, boolean fetchedBytes) {
+        this.meterRegistry = meterRegistry;
+        this.fetchedBytes = fetchedBytes;
+    }
+
+    /**
+     * 구문 하나의 지표 (호출마다 레지스트리를 조회하지 않도록 보관)
+     */
+    private record StatementMeters(Timer success, Timer error, DistributionSummary rows, DistributionSummary bytes) {
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if (invocation.getTarget() instanceof ResultSetHandler) {
+            return handleResultSets(invocation);
+        }
+
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        StatementMeters statementMeters = meters.computeIfAbsent(statement.getId(),
+                id -> register(statement));
+
+        long[] previous = FETCHED_BYTES.get();
+        long[] fetched = {-1};
+        FETCHED_BYTES.set(fetched);
+        long startedAt = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            statementMeters.success().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            if (result instanceof Collection<?> rows) {
+                statementMeters.rows().record(rows.size());
+            } else if (result instanceof Integer updated) {
+                statementMeters.rows().record(updated);
+            }
+            if (fetched[0] >= 0) {
+                statementMeters.bytes().record(fetched[0]);
+            }
+            return result;
+        } catch (Throwable e) {
+            statementMeters.error().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
+        } finally {
+            if (previous != null) {
+                FETCHED_BYTES.set(previous);
+            } else {
+                FETCHED_BYTES.remove();
+            }
+        }
+    }
+
+    private StatementMeters register(MappedStatement statement) {
+        String name = shortId(statement.getId());
+        String command = statement.getSqlCommandType().name();
+        return new StatementMeters(
+                timer(name, command, "success"),
+                timer(name, command, "error"),
+                DistributionSummary.builder("devlog.mapper.rows")
+                        .description("Rows returned or affected per mapper statement")
+                        .tag("statement", name)
+                        .register(meterRegistry),
+                DistributionSummary.builder("devlog.mapper.fetched")
+                        .description("Estimated result set bytes read per mapper statement")
+                        .baseUnit("bytes")
+                        .tag("statement", name)
+                        .register(meterRegistry));
+    }
+
+    private Timer timer(String name, String command, String outcome) {
+        return Timer.builder("devlog.mapper.statement")
+                .description("Mapper statement execution time")
+                .tag("statement", name)
+                .tag("command", command)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * com.vibecoding.devlog.mapper.StatisticsMapper.getPeriodProjectStats → StatisticsMapper.getPeriodProjectStats
+     */
+    static String shortId(String id) {
+        int method = id.lastIndexOf('.');
+        int mapper = method > 0 ? id.lastIndexOf('.', method - 1) : -1;
+        return id.substring(mapper + 1);
+    }
+
+    /**
+     * 결과 집합을 읽는 동안 값 크기를 세도록 Statement를 감쌈
+     */
+    private Object handleResultSets(Invocation invocation) throws Throwable {
+        long[] fetched = FETCHED_BYTES.get();
+        if (fetchedBytes && fetched != null) {
+            fetched[0] = Math.max(fetched[0], 0);
+            Object[] args = invocation.getArgs();
+            args[0] = countingProxy(Statement.class, (Statement) args[0], fetched);
+        }
+        return invocation.proceed();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T countingProxy(Class<T> type, T delegate, long[] fetched) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object value;
+            try {
+                value = method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (value instanceof ResultSet resultSet && method.getReturnType() == ResultSet.class) {
+                return countingProxy(ResultSet.class, resultSet, fetched);
+            }
+            if (type == ResultSet.class && args != null && value != null && isValueGetter(method)) {
+                fetched[0] += estimateSize(value);
+            }
+            return value;
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static boolean isValueGetter(Method method) {
+        String name = method.getName();
+        return name.startsWith("get") && !name.equals("getMetaData") && !name.equals("getStatement");
+    }
+
+    /**
+     * 값 크기 추정 (문자열은 UTF-8 바이트 수)
+     */
+    static long estimateSize(Object value) {
+        if (value instanceof CharSequence text) {
+            long bytes = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c < 0x80) {
+                    bytes += 1;
+                } else if (c < 0x800) {
+                    bytes += 2;
+                } else if (Character.isHighSurrogate(c)) {
+                    bytes += 4;
+                    i++;
+                } else {
+                    bytes += 3;
+                }
+            }
+            return bytes;
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Temporal
+                || value instanceof Date) {
+            return 8;
+        }
+        return 16;
+    }
+}
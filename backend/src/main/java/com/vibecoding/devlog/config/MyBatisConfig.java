@@ -1,16 +1,21 @@
 package com.vibecoding.devlog.config;
 
+import com.vibecoding.devlog.service.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import org.apache.ibatis.type.LocalDateTimeTypeHandler;
 import org.apache.ibatis.type.LocalDateTypeHandler;
 import org.apache.ibatis.type.LocalTimeTypeHandler;
 import org.mybatis.spring.boot.autoconfigure.ConfigurationCustomizer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
  * MyBatis 설정
  *
- * Java 8 날짜/시간 타입 지원을 위한 TypeHandler 등록
+ * Java 8 날짜/시간 타입 지원을 위한 TypeHandler 등록과 매퍼 구문 지표/느린 쿼리 플러그인 등록
  *
  * @author DevLog Team
  * @version 1.0
@@ -32,4 +37,29 @@ public class MyBatisConfig {
             configuration.getTypeHandlerRegistry().register(java.time.LocalDateTime.class, LocalDateTimeTypeHandler.class);
         };
     }
+
+    /**
+     * 매퍼 구문 지표 플러그인
+     * MyBatis 자동 설정이 Interceptor 빈을 SqlSessionFactory에 등록합니다.
+     * 지표 레지스트리가 없는 슬라이스 테스트에서는 전역 레지스트리에 기록합니다.
+     * 결과 크기 측정은 모든 조회에 비용을 더하므로 설정으로 켤 때만 합니다.
+     */
+    @Bean
+    public MapperMetricsInterceptor mapperMetricsInterceptor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${devlog.metrics.mapper.fetched-bytes:false}") boolean fetchedBytes) {
+        return new MapperMetricsInterceptor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), fetchedBytes);
+    }
+
+    /**
+     * 느린 조회 감지 플러그인
+     *
+     * @param thresholdMillis 임계값 (밀리초), 0이면 끔
+     */
+    @Bean
+    public SlowQueryInterceptor slowQueryInterceptor(
+            SlowQueryLog slowQueryLog,
+            @Value("${devlog.slow-query.threshold-ms:500}") long thresholdMillis) {
+        return new SlowQueryInterceptor(slowQueryLog, thresholdMillis);
+    }
 }
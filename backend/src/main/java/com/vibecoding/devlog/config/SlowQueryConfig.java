@@ -0,0 +1,41 @@
+package com.vibecoding.devlog.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 쿼리 실행 계획 수집 설정
+ *
+ * EXPLAIN ANALYZE는 원래 쿼리만큼 걸리므로 스레드 하나에서 차례로 실행해 커넥션을 하나만 쓰고,
+ * 대기열이 가득 차면 새 작업을 거절합니다 (SlowQueryLog가 DROPPED로 표시).
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Configuration
+public class SlowQueryConfig {
+
+    /**
+     * 실행 계획 수집 실행기 (단일 스레드)
+     *
+     * @param queueCapacity 대기 작업 수
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService slowQueryExecutor(
+            @Value("${devlog.slow-query.queue-capacity:4}") int queueCapacity) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,59 @@
+package com.vibecoding.devlog.config;
+
+import com.vibecoding.devlog.service.SlowQueryLog;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 느린 조회 감지 MyBatis 플러그인
+ *
+ * 매퍼 조회가 임계값 이상 걸리면 SlowQueryLog에 넘겨 기록하고 실행 계획 수집을 맡깁니다.
+ * 커서 조회(내보내기 스트리밍)는 오래 열려 있는 것이 정상이므로 대상에서 뺍니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class SlowQueryInterceptor implements Interceptor {
+
+    private final SlowQueryLog slowQueryLog;
+    private final long thresholdNanos;
+
+    /**
+     * @param slowQueryLog 느린 쿼리 기록
+     * @param thresholdMillis 임계값 (밀리초), 0 이하면 감지하지 않음
+     */
+    public SlowQueryInterceptor(SlowQueryLog slowQueryLog, long thresholdMillis) {
+        this.slowQueryLog = slowQueryLog;
+        this.thresholdNanos = thresholdMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(thresholdMillis) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long startedAt = System.nanoTime();
+        Object result = invocation.proceed();
+        long elapsed = System.nanoTime() - startedAt;
+        if (elapsed >= thresholdNanos) {
+            Object[] args = invocation.getArgs();
+            MappedStatement statement = (MappedStatement) args[0];
+            BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : statement.getBoundSql(args[1]);
+            slowQueryLog.record(statement, args[1], boundSql, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,32 @@
+package com.vibecoding.devlog.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * 태그 사용 횟수 반영 설정
+ *
+ * 메모리에 모은 usage_count 변화를 주기적으로 반영하고 보정하는 전용 스레드를 등록합니다.
+ * 종료 시 남은 변화량은 TagUsageCounter가 직접 반영하므로 여기서는 즉시 중단합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Configuration
+public class TagUsageConfig {
+
+    /**
+     * 태그 사용 횟수 반영 실행기 (단일 스레드)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService tagUsageExecutor() {
+        return new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "tag-usage");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
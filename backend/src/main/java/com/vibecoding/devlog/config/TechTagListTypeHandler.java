@@ -0,0 +1,72 @@
+package com.vibecoding.devlog.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecoding.devlog.model.TechTag;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기술 태그 JSON 배열 TypeHandler
+ *
+ * 로그 조회 쿼리에서 json_agg로 모은 태그 배열
+ * ([{"id":1,"name":"Java","category":"LANGUAGE","color":"#f89820"}, ...])을
+ * List&lt;TechTag&gt;로 변환합니다. 로그마다 태그를 다시 조회하지 않도록 한 쿼리로 가져올 때 사용합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+public class TechTagListTypeHandler extends BaseTypeHandler<List<TechTag>> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final TypeReference<List<TechTag>> TAG_LIST = new TypeReference<>() {
+    };
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, List<TechTag> parameter, JdbcType jdbcType)
+            throws SQLException {
+        try {
+            ps.setObject(i, OBJECT_MAPPER.writeValueAsString(parameter), Types.OTHER);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Failed to serialize tech tags", e);
+        }
+    }
+
+    @Override
+    public List<TechTag> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return parse(rs.getString(columnName));
+    }
+
+    @Override
+    public List<TechTag> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return parse(rs.getString(columnIndex));
+    }
+
+    @Override
+    public List<TechTag> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return parse(cs.getString(columnIndex));
+    }
+
+    static List<TechTag> parse(String json) throws SQLException {
+        if (json == null || json.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, TAG_LIST);
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Failed to parse tech tags: " + json, e);
+        }
+    }
+}
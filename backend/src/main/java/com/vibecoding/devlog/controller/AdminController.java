@@ -0,0 +1,64 @@
+package com.vibecoding.devlog.controller;
+
+import com.vibecoding.devlog.dto.response.SlowQuery;
+import com.vibecoding.devlog.service.SlowQueryLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 운영 진단 REST API 컨트롤러
+ *
+ * 느린 쿼리 기록과 실행 계획을 조회합니다.
+ * 운영 환경에서는 리버스 프록시에서 내부망에만 허용합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * 느린 쿼리 기록 조회 (최근 것부터)
+     *
+     * @param statementId 구문 ID 일부로 필터링 (선택사항, 예: StatisticsMapper)
+     * @return 느린 쿼리 기록 목록
+     */
+    @GetMapping("/slow-queries")
+    public ResponseEntity<List<SlowQuery>> getSlowQueries(
+            @RequestParam(required = false) String statementId) {
+        log.debug("GET /admin/slow-queries - statementId: {}", statementId);
+
+        List<SlowQuery> entries = slowQueryLog.findAll();
+        if (statementId != null && !statementId.isBlank()) {
+            entries = entries.stream()
+                    .filter(entry -> entry.getStatementId().contains(statementId))
+                    .toList();
+        }
+        return ResponseEntity.ok(entries);
+    }
+
+    /**
+     * 느린 쿼리 기록 삭제
+     *
+     * @return 204 No Content
+     */
+    @DeleteMapping("/slow-queries")
+    public ResponseEntity<Void> clearSlowQueries() {
+        log.info("DELETE /admin/slow-queries");
+        slowQueryLog.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
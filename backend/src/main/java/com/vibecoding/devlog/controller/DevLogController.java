@@ -1,16 +1,31 @@
 package com.vibecoding.devlog.controller;
 
+import com.vibecoding.devlog.config.ConditionalGet;
 import com.vibecoding.devlog.dto.request.DevLogCreateRequest;
+import com.vibecoding.devlog.dto.request.LogFields;
+import com.vibecoding.devlog.dto.response.CalendarHeatmapDTO;
+import com.vibecoding.devlog.dto.response.CursorPage;
 import com.vibecoding.devlog.dto.response.DevLogResponse;
+import com.vibecoding.devlog.dto.response.DevLogSummaryResponse;
+import com.vibecoding.devlog.dto.response.LogImportResult;
+import com.vibecoding.devlog.dto.response.SearchPage;
 import com.vibecoding.devlog.model.DevLog;
+import com.vibecoding.devlog.service.ChangeVersions.Domain;
 import com.vibecoding.devlog.service.DevLogService;
+import com.vibecoding.devlog.service.LogExportService;
+import com.vibecoding.devlog.service.LogImportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -18,6 +33,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 개발 로그 REST API 컨트롤러
@@ -33,23 +49,51 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DevLogController {
 
+    /**
+     * 다음 페이지 커서를 전달하는 응답 헤더
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * 검색어에 일치한 전체 개수를 전달하는 응답 헤더
+     */
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final DevLogService devLogService;
+    private final LogImportService logImportService;
+    private final LogExportService logExportService;
 
     /**
      * 모든 개발 로그 조회
      *
+     * limit 또는 after가 주어지면 키셋 페이지네이션으로 조회하고,
+     * 다음 페이지가 있으면 X-Next-Cursor 헤더로 커서를 반환합니다.
+     * keyword 검색은 page 또는 size가 주어지면 해당 페이지만 반환하고 전체 일치 수를 X-Total-Count 헤더로 보내며,
+     * 없으면 일치한 로그를 모두 반환합니다.
+     *
      * @param projectId 필터링할 프로젝트 ID (선택사항)
      * @param startDate 시작 날짜 (선택사항)
      * @param endDate 종료 날짜 (선택사항)
      * @param keyword 검색 키워드 (선택사항)
-     * @return 개발 로그 목록
+     * @param limit 페이지 크기 (선택사항)
+     * @param after 이전 응답의 X-Next-Cursor 값 (선택사항)
+     * @param page keyword 검색 페이지 번호 (선택사항)
+     * @param size keyword 검색 페이지 크기 (선택사항, 최대: 100)
+     * @param fields 응답에 포함할 필드, 쉼표 구분 (선택사항)
+     * @return 개발 로그 목록 (fields가 있으면 요약 형태)
      */
     @GetMapping
-    public ResponseEntity<List<DevLogResponse>> getAllLogs(
+    @ConditionalGet(Domain.LOGS)
+    public ResponseEntity<List<?>> getAllLogs(
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String fields) {
 
         // Parse dates - accept both "yyyy-MM-dd" and "yyyy-MM-dd'T'HH:mm:ss" formats
         LocalDateTime startDateTime = null;
@@ -62,22 +106,47 @@ public class DevLogController {
             endDateTime = parseDateParameter(endDate);
         }
 
-        log.info("GET /logs - projectId: {}, startDate: {}, endDate: {}, keyword: {}",
-                projectId, startDateTime, endDateTime, keyword);
+        log.info("GET /logs - projectId: {}, startDate: {}, endDate: {}, keyword: {}, limit: {}, after: {}, fields: {}",
+                projectId, startDateTime, endDateTime, keyword, limit, after, fields);
+
+        LogFields logFields;
+        try {
+            logFields = LogFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
 
         List<DevLog> logs;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
-            logs = devLogService.search(keyword);
+            if (page == null && size == null) {
+                logs = devLogService.search(keyword, logFields);
+            } else {
+                SearchPage<DevLog> results = devLogService.searchPage(keyword,
+                        page != null ? page : 1, size != null ? size : DevLogService.DEFAULT_PAGE_SIZE, logFields);
+                return searchResponse(results, logFields);
+            }
+        } else if (limit != null || (after != null && !after.isEmpty())) {
+            CursorPage<DevLog> cursorPage;
+            try {
+                cursorPage = devLogService.findPage(projectId, startDateTime, endDateTime,
+                        after, limit != null ? limit : DevLogService.DEFAULT_PAGE_SIZE, logFields);
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid page request: {}", e.getMessage());
+                return ResponseEntity.badRequest().build();
+            }
+
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+            if (cursorPage.isHasNext()) {
+                builder.header(NEXT_CURSOR_HEADER, cursorPage.getNextCursor());
+            }
+            return builder.body(toResponses(cursorPage.getItems(), logFields));
         } else {
-            logs = devLogService.findAll(projectId, startDateTime, endDateTime);
+            logs = devLogService.findAll(projectId, startDateTime, endDateTime, logFields);
         }
 
-        List<DevLogResponse> responses = logs.stream()
-                .map(DevLogResponse::from)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(toResponses(logs, logFields));
     }
 
     /**
@@ -87,6 +156,7 @@ public class DevLogController {
      * @return 개발 로그 정보
      */
     @GetMapping("/{id}")
+    @ConditionalGet(Domain.LOGS)
     public ResponseEntity<DevLogResponse> getLogById(@PathVariable Long id) {
         log.info("GET /logs/{}", id);
 
@@ -116,6 +186,32 @@ public class DevLogController {
         }
     }
 
+    /**
+     * 개발 로그 일괄 가져오기
+     *
+     * 본문은 NDJSON(application/x-ndjson) 또는 CSV(text/csv)로 보낸 DevLogCreateRequest 목록입니다.
+     * 행 단위로 검증해 실패한 행은 건너뛰고, 결과에 줄 번호와 사유를 담아 반환합니다.
+     *
+     * @param format 형식 (ndjson, csv), 없으면 Content-Type으로 결정
+     * @param contentType 요청 Content-Type
+     * @param body 요청 본문
+     * @return 가져오기 결과
+     */
+    @PostMapping("/import")
+    public ResponseEntity<LogImportResult> importLogs(
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        log.info("POST /logs/import - format: {}, contentType: {}", format, contentType);
+
+        try {
+            return ResponseEntity.ok(logImportService.importLogs(body, format, contentType));
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to import logs: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 개발 로그 수정
      *
@@ -161,20 +257,45 @@ public class DevLogController {
 
     /**
      * 개발 로그 검색
+     * 관련도 순으로 정렬되며, 각 결과에 키워드가 강조된 snippet이 포함됩니다.
      *
      * @param q 검색 키워드
-     * @return 검색 결과 목록
+     * @param page 페이지 번호 (기본값: 1)
+     * @param size 페이지 크기 (기본값: 20, 최대: 100)
+     * @param fields 응답에 포함할 필드, 쉼표 구분 (선택사항)
+     * @return 검색 결과 목록 (전체 일치 수는 X-Total-Count 헤더)
      */
     @GetMapping("/search")
-    public ResponseEntity<List<DevLogResponse>> searchLogs(@RequestParam String q) {
-        log.info("GET /logs/search?q={}", q);
+    @ConditionalGet(Domain.LOGS)
+    public ResponseEntity<List<?>> searchLogs(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
+        log.info("GET /logs/search?q={}&page={}&size={}&fields={}", q, page, size, fields);
+
+        LogFields logFields;
+        try {
+            logFields = LogFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
 
-        List<DevLog> logs = devLogService.search(q);
-        List<DevLogResponse> responses = logs.stream()
-                .map(DevLogResponse::from)
-                .collect(Collectors.toList());
+        return searchResponse(devLogService.searchPage(q, page, size, logFields), logFields);
+    }
 
-        return ResponseEntity.ok(responses);
+    /**
+     * 검색 결과 페이지 응답 (전체 일치 수는 헤더로 전달)
+     *
+     * @param results 검색 결과 페이지
+     * @param fields 요청한 필드 (선택사항)
+     * @return 응답 DTO 목록과 X-Total-Count 헤더
+     */
+    private ResponseEntity<List<?>> searchResponse(SearchPage<DevLog> results, LogFields fields) {
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(results.getTotal()))
+                .body(toResponses(results.getItems(), fields));
     }
 
     /**
@@ -185,34 +306,120 @@ public class DevLogController {
      * @return 날짜별 로그 개수
      */
     @GetMapping("/calendar")
+    @ConditionalGet(Domain.LOGS)
     public ResponseEntity<List<Map<String, Object>>> getCalendarData(
             @RequestParam int year,
             @RequestParam int month) {
 
         log.info("GET /logs/calendar?year={}&month={}", year, month);
 
-        List<Map<String, Object>> calendarData = devLogService.findCalendarData(year, month);
-        return ResponseEntity.ok(calendarData);
+        try {
+            List<Map<String, Object>> calendarData = devLogService.findCalendarData(year, month);
+            return ResponseEntity.ok(calendarData);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid calendar request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 연간 캘린더 히트맵 조회
+     * 날짜별 로그 수와 작업 시간을 1월 1일부터 배열로 한 번에 반환합니다.
+     *
+     * @param year 년도
+     * @return 연간 히트맵
+     */
+    @GetMapping("/calendar/heatmap")
+    @ConditionalGet(Domain.LOGS)
+    public ResponseEntity<CalendarHeatmapDTO> getCalendarHeatmap(@RequestParam int year) {
+        log.info("GET /logs/calendar/heatmap?year={}", year);
+
+        try {
+            return ResponseEntity.ok(devLogService.findCalendarYear(year));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid calendar heatmap request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 개발 로그 내보내기
+     *
+     * 로그를 DB 커서로 읽으면서 바로 응답 스트림에 쓰므로 로그 수와 무관하게 메모리 사용량이 일정합니다.
+     *
+     * @param format 출력 형식 (ndjson, csv, 기본값: ndjson)
+     * @param gzip gzip 압축 여부 (기본값: false)
+     * @param projectId 필터링할 프로젝트 ID (선택사항)
+     * @param startDate 시작 날짜, 포함 (선택사항)
+     * @param endDate 종료 날짜, 포함 (선택사항)
+     * @return 내보내기 스트림
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLogs(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("GET /logs/export - format: {}, gzip: {}, projectId: {}, startDate: {}, endDate: {}",
+                format, gzip, projectId, startDate, endDate);
+
+        LogExportService.Format exportFormat;
+        try {
+            exportFormat = LogExportService.Format.from(format);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid export request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            log.error("Invalid export request: endDate {} is before startDate {}", endDate, startDate);
+            return ResponseEntity.badRequest().build();
+        }
+
+        String filename = "devlogs-" + LocalDate.now() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192);
+                logExportService.export(projectId, startDate, endDate, exportFormat, gzipOut);
+                gzipOut.finish();
+            } else {
+                logExportService.export(projectId, startDate, endDate, exportFormat, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename).build().toString())
+                .body(body);
     }
 
     /**
      * 최근 개발 로그 조회
      *
      * @param limit 조회할 개수 (기본값: 10)
+     * @param fields 응답에 포함할 필드, 쉼표 구분 (선택사항)
      * @return 최근 로그 목록
      */
     @GetMapping("/recent")
-    public ResponseEntity<List<DevLogResponse>> getRecentLogs(
-            @RequestParam(defaultValue = "10") int limit) {
+    @ConditionalGet(Domain.LOGS)
+    public ResponseEntity<List<?>> getRecentLogs(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String fields) {
 
-        log.info("GET /logs/recent?limit={}", limit);
+        log.info("GET /logs/recent?limit={}&fields={}", limit, fields);
 
-        List<DevLog> logs = devLogService.findRecent(limit);
-        List<DevLogResponse> responses = logs.stream()
-                .map(DevLogResponse::from)
-                .collect(Collectors.toList());
+        LogFields logFields;
+        try {
+            logFields = LogFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid fields: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
 
-        return ResponseEntity.ok(responses);
+        List<DevLog> logs = devLogService.findRecent(limit, logFields);
+        return ResponseEntity.ok(toResponses(logs, logFields));
     }
 
     /**
@@ -221,6 +428,7 @@ public class DevLogController {
      * @return 로그 통계 정보
      */
     @GetMapping("/statistics")
+    @ConditionalGet(value = Domain.LOGS, daily = true)
     public ResponseEntity<Map<String, Object>> getStatistics() {
         log.info("GET /logs/statistics");
 
@@ -239,6 +447,25 @@ public class DevLogController {
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * 로그 목록을 응답 DTO로 변환
+     * fields가 있으면 요청한 필드만 담은 요약 DTO, 없으면 전체 DTO로 변환합니다.
+     *
+     * @param logs 로그 목록
+     * @param fields 요청한 필드 (선택사항)
+     * @return 응답 DTO 목록
+     */
+    private List<?> toResponses(List<DevLog> logs, LogFields fields) {
+        if (fields == null) {
+            return logs.stream()
+                    .map(DevLogResponse::from)
+                    .collect(Collectors.toList());
+        }
+        return logs.stream()
+                .map(devLog -> DevLogSummaryResponse.from(devLog, fields))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 날짜 파라미터 파싱 헬퍼 메서드
      * "yyyy-MM-dd" 또는 "yyyy-MM-dd'T'HH:mm:ss" 형식을 모두 지원
@@ -246,7 +473,7 @@ public class DevLogController {
      * @param dateString 날짜 문자열
      * @return LocalDateTime 객체
      */
-    private LocalDateTime parseDateParameter(String dateString) {
+    LocalDateTime parseDateParameter(String dateString) {
         if (dateString == null || dateString.isEmpty()) {
             return null;
         }
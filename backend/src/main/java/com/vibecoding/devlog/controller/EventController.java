@@ -0,0 +1,55 @@
+package com.vibecoding.devlog.controller;
+
+import com.vibecoding.devlog.service.ChangeFeed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 변경 이벤트 REST API 컨트롤러
+ *
+ * 로그/프로젝트/기술 태그 변경을 Server-Sent Events로 제공합니다.
+ * 클라이언트는 폴링 대신 이 스트림을 구독해 화면 상태를 부분 갱신합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/events")
+@RequiredArgsConstructor
+public class EventController {
+
+    private final ChangeFeed changeFeed;
+
+    /**
+     * 변경 이벤트 구독
+     *
+     * @param projectId 프로젝트 필터 (선택사항, 기술 태그 이벤트는 항상 포함)
+     * @return SSE 스트림 (구독자 수 한도를 넘으면 503)
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam(required = false) Long projectId) {
+        log.info("GET /events - projectId: {}", projectId);
+
+        try {
+            SseEmitter emitter = changeFeed.subscribe(projectId);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    // nginx 프록시 버퍼링 비활성화
+                    .header("X-Accel-Buffering", "no")
+                    .body(emitter);
+        } catch (IllegalStateException e) {
+            log.warn("Change feed subscription rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.vibecoding.devlog.controller;
 
+import com.vibecoding.devlog.config.ConditionalGet;
 import com.vibecoding.devlog.model.Project;
+import com.vibecoding.devlog.service.ChangeVersions.Domain;
 import com.vibecoding.devlog.service.ProjectService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +38,7 @@ public class ProjectController {
      * @return 프로젝트 목록
      */
     @GetMapping
+    @ConditionalGet(Domain.PROJECTS)
     public ResponseEntity<List<Project>> getAllProjects(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String keyword) {
@@ -62,6 +65,7 @@ public class ProjectController {
      * @return 프로젝트 정보
      */
     @GetMapping("/{id}")
+    @ConditionalGet(Domain.PROJECTS)
     public ResponseEntity<Project> getProjectById(@PathVariable Long id) {
         log.info("GET /projects/{}", id);
 
@@ -193,6 +197,7 @@ public class ProjectController {
      * @return 프로젝트 통계 정보
      */
     @GetMapping("/statistics")
+    @ConditionalGet(Domain.PROJECTS)
     public ResponseEntity<Map<String, Object>> getStatistics() {
         log.info("GET /projects/statistics");
 
@@ -1,23 +1,32 @@
 package com.vibecoding.devlog.controller;
 
+import com.vibecoding.devlog.config.ConditionalGet;
+import com.vibecoding.devlog.dto.response.ActivityStatsDTO;
+import com.vibecoding.devlog.dto.response.DashboardStatsDTO;
 import com.vibecoding.devlog.dto.response.MonthlyStatsDTO;
 import com.vibecoding.devlog.dto.response.ProjectStatsDTO;
 import com.vibecoding.devlog.dto.response.TechStackStatsDTO;
 import com.vibecoding.devlog.dto.response.WeeklyStatsDTO;
+import com.vibecoding.devlog.service.ActivityIndex;
+import com.vibecoding.devlog.service.ChangeVersions.Domain;
+import com.vibecoding.devlog.service.DashboardService;
+import com.vibecoding.devlog.service.StatisticsCache;
 import com.vibecoding.devlog.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 /**
  * 통계 REST 컨트롤러
  *
  * 개발 로그 통계 관련 API 엔드포인트를 제공합니다.
- * 주간, 월간, 프로젝트별, 기술 스택 통계 API를 제공합니다.
+ * 주간, 월간, 프로젝트별, 기술 스택, 활동(연속 기록) 통계 API를 제공합니다.
  *
  * @author DevLog Team
  * @version 1.0
@@ -30,6 +39,9 @@ import java.time.LocalDate;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final DashboardService dashboardService;
+    private final StatisticsCache statisticsCache;
+    private final ActivityIndex activityIndex;
 
     /**
      * 주간 통계 조회
@@ -38,6 +50,7 @@ public class StatisticsController {
      * @return 주간 통계 DTO
      */
     @GetMapping("/weekly")
+    @ConditionalGet(value = {Domain.LOGS, Domain.PROJECTS, Domain.TECH_TAGS}, daily = true)
     public ResponseEntity<WeeklyStatsDTO> getWeeklyStats(
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate) {
@@ -55,6 +68,7 @@ public class StatisticsController {
      * @return 이번 주 통계 DTO
      */
     @GetMapping("/weekly/current")
+    @ConditionalGet(value = {Domain.LOGS, Domain.PROJECTS, Domain.TECH_TAGS}, daily = true)
     public ResponseEntity<WeeklyStatsDTO> getCurrentWeekStats() {
         log.debug("GET /statistics/weekly/current");
 
@@ -69,6 +83,7 @@ public class StatisticsController {
      * @return 지난 주 통계 DTO
      */
     @GetMapping("/weekly/last")
+    @ConditionalGet(value = {Domain.LOGS, Domain.PROJECTS, Domain.TECH_TAGS}, daily = true)
     public ResponseEntity<WeeklyStatsDTO> getLastWeekStats() {
         log.debug("GET /statistics/weekly/last");
 
@@ -85,6 +100,7 @@ public class StatisticsController {
      * @return 월간 통계 DTO
      */
     @GetMapping("/monthly")
+    @ConditionalGet(value = {Domain.LOGS, Domain.PROJECTS, Domain.TECH_TAGS}, daily = true)
     public ResponseEntity<MonthlyStatsDTO> getMonthlyStats(
             @RequestParam(required = false, defaultValue = "0") int year,
             @RequestParam(required = false, defaultValue = "0") int month) {
@@ -106,6 +122,7 @@ public class StatisticsController {
      * @return 이번 달 통계 DTO
      */
     @GetMapping("/monthly/current")
+    @ConditionalGet(value = {Domain.LOGS, Domain.PROJECTS, Domain.TECH_TAGS}, daily = true)
     public ResponseEntity<MonthlyStatsDTO> getCurrentMonthStats() {
         log.debug("GET /statistics/monthly/current");
 
@@ -120,6 +137,7 @@ public class StatisticsController {
      * @return 지난 달 통계 DTO
      */
     @GetMapping("/monthly/last")
+    @ConditionalGet(value = {Domain.LOGS, Domain.PROJECTS, Domain.TECH_TAGS}, daily = true)
     public ResponseEntity<MonthlyStatsDTO> getLastMonthStats() {
         log.debug("GET /statistics/monthly/last");
 
@@ -135,6 +153,7 @@ public class StatisticsController {
      * @return 프로젝트 통계 DTO
      */
     @GetMapping("/project/{projectId}")
+    @ConditionalGet(value = {Domain.LOGS, Domain.PROJECTS, Domain.TECH_TAGS}, daily = true)
     public ResponseEntity<ProjectStatsDTO> getProjectStats(@PathVariable Long projectId) {
         log.debug("GET /statistics/project/{} - projectId: {}", projectId, projectId);
 
@@ -153,6 +172,7 @@ public class StatisticsController {
      * @return 기술 스택 통계 DTO
      */
     @GetMapping("/tech-stack")
+    @ConditionalGet(value = {Domain.LOGS, Domain.PROJECTS, Domain.TECH_TAGS}, daily = true)
     public ResponseEntity<TechStackStatsDTO> getTechStackStats() {
         log.debug("GET /statistics/tech-stack");
 
@@ -161,29 +181,87 @@ public class StatisticsController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * 전체 활동 통계 조회
+     * 현재/최장 연속 기록, 기간 활동일 수, 지난주 대비 증감을 제공합니다.
+     *
+     * @param from 기간 시작 (선택, 형식: yyyy-MM-dd, 기본값: 첫 활동일)
+     * @param to 기간 끝 (선택, 형식: yyyy-MM-dd, 기본값: 오늘)
+     * @return 활동 통계 DTO
+     */
+    @GetMapping("/activity")
+    @ConditionalGet(value = Domain.LOGS, daily = true)
+    public ResponseEntity<ActivityStatsDTO> getActivityStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("GET /statistics/activity - from: {}, to: {}", from, to);
+        return activityStats(null, from, to);
+    }
+
+    /**
+     * 프로젝트 활동 통계 조회
+     *
+     * @param projectId 프로젝트 ID
+     * @param from 기간 시작 (선택, 형식: yyyy-MM-dd, 기본값: 첫 활동일)
+     * @param to 기간 끝 (선택, 형식: yyyy-MM-dd, 기본값: 오늘)
+     * @return 활동 통계 DTO (로그가 없는 프로젝트는 0)
+     */
+    @GetMapping("/activity/project/{projectId}")
+    @ConditionalGet(value = Domain.LOGS, daily = true)
+    public ResponseEntity<ActivityStatsDTO> getProjectActivityStats(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("GET /statistics/activity/project/{} - from: {}, to: {}", projectId, from, to);
+        return activityStats(projectId, from, to);
+    }
+
     /**
      * 대시보드용 종합 통계 조회
-     * 주간, 월간, 기술 스택 통계를 한 번에 제공합니다.
+     * 주간, 월간, 기술 스택 통계를 병렬로 조회해 한 번에 제공합니다.
+     * 기한 안에 끝나지 않은 섹션은 null로 비우고 partial=true로 표시합니다.
      *
-     * @return 종합 통계 맵
+     * @return 종합 통계 DTO
      */
     @GetMapping("/dashboard")
-    public ResponseEntity<?> getDashboardStats() {
+    @ConditionalGet(value = {Domain.LOGS, Domain.PROJECTS, Domain.TECH_TAGS}, daily = true)
+    public ResponseEntity<DashboardStatsDTO> getDashboardStats() {
         log.debug("GET /statistics/dashboard");
 
         try {
-            WeeklyStatsDTO weeklyStats = statisticsService.getCurrentWeekStats();
-            MonthlyStatsDTO monthlyStats = statisticsService.getCurrentMonthStats();
-            TechStackStatsDTO techStackStats = statisticsService.getTechStackStats();
-
-            return ResponseEntity.ok(new Object() {
-                public final WeeklyStatsDTO weekly = weeklyStats;
-                public final MonthlyStatsDTO monthly = monthlyStats;
-                public final TechStackStatsDTO techStack = techStackStats;
-            });
+            DashboardStatsDTO stats = dashboardService.getDashboardStats();
+            if (stats.isPartial()) {
+                // 일부 섹션이 비어 있는 응답은 ETag로 재사용되지 않도록 저장 금지
+                return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(stats);
+            }
+            return ResponseEntity.ok(stats);
         } catch (Exception e) {
             log.error("Error getting dashboard stats", e);
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * 통계 캐시 상태 조회
+     * 캐시 항목 수와 적중/실패 횟수를 제공합니다.
+     *
+     * @return 캐시 통계 맵
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        log.debug("GET /statistics/cache");
+        return ResponseEntity.ok(statisticsCache.getStats());
+    }
+
+    /**
+     * 활동 통계 조회 (기간이 잘못되면 400)
+     */
+    private ResponseEntity<ActivityStatsDTO> activityStats(Long projectId, LocalDate from, LocalDate to) {
+        try {
+            return ResponseEntity.ok(activityIndex.getStats(projectId, from, to));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid activity stats request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
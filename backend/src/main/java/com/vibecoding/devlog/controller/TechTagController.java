@@ -1,6 +1,9 @@
 package com.vibecoding.devlog.controller;
 
+import com.vibecoding.devlog.config.ConditionalGet;
+import com.vibecoding.devlog.dto.request.TagResolveRequest;
 import com.vibecoding.devlog.model.TechTag;
+import com.vibecoding.devlog.service.ChangeVersions.Domain;
 import com.vibecoding.devlog.service.TechTagService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +39,7 @@ public class TechTagController {
      * @return 기술 태그 목록
      */
     @GetMapping
+    @ConditionalGet(Domain.TECH_TAGS)
     public ResponseEntity<List<TechTag>> getAllTags(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String keyword) {
@@ -67,6 +71,7 @@ public class TechTagController {
      * @return 태그 정보
      */
     @GetMapping("/{id}")
+    @ConditionalGet(Domain.TECH_TAGS)
     public ResponseEntity<TechTag> getTagById(@PathVariable Long id) {
         log.info("GET /tech-tags/{}", id);
 
@@ -82,6 +87,7 @@ public class TechTagController {
      * @return 인기 태그 목록
      */
     @GetMapping("/popular")
+    @ConditionalGet(Domain.TECH_TAGS)
     public ResponseEntity<List<TechTag>> getPopularTags(
             @RequestParam(defaultValue = "10") int limit) {
 
@@ -91,6 +97,26 @@ public class TechTagController {
         return ResponseEntity.ok(tags);
     }
 
+    /**
+     * 태그 이름 자동완성
+     *
+     * @param q 입력 중인 문자열 (비어 있으면 인기 태그)
+     * @param limit 최대 개수 (기본값: 10, 최대 50)
+     * @param fuzzy 오타 허용 여부 (기본값: false)
+     * @return 자동완성 후보
+     */
+    @GetMapping("/autocomplete")
+    @ConditionalGet(Domain.TECH_TAGS)
+    public ResponseEntity<List<TechTag>> autocomplete(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "false") boolean fuzzy) {
+
+        log.debug("GET /tech-tags/autocomplete?q={}&limit={}&fuzzy={}", q, limit, fuzzy);
+
+        return ResponseEntity.ok(techTagService.autocomplete(q, limit, fuzzy));
+    }
+
     /**
      * 새 기술 태그 생성
      *
@@ -110,6 +136,26 @@ public class TechTagController {
         }
     }
 
+    /**
+     * 기술 태그 일괄 조회 또는 생성
+     * 이름 수와 관계없이 두 번의 쿼리로 처리하며, 동시에 같은 이름을 만들어도 안전합니다.
+     *
+     * @param request 태그 이름 목록과 기본 카테고리
+     * @return 입력 순서대로 정렬한 태그 목록
+     */
+    @PostMapping("/resolve")
+    public ResponseEntity<List<TechTag>> resolveTags(@RequestBody TagResolveRequest request) {
+        log.info("POST /tech-tags/resolve - names: {}", request.getNames() != null ? request.getNames().size() : 0);
+
+        try {
+            List<TechTag> tags = techTagService.findOrCreateMultiple(request.getNames(), request.getCategory());
+            return ResponseEntity.ok(tags);
+        } catch (IllegalArgumentException e) {
+            log.error("Failed to resolve tech tags: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 기술 태그 수정
      *
@@ -159,6 +205,7 @@ public class TechTagController {
      * @return 검색 결과 목록
      */
     @GetMapping("/search")
+    @ConditionalGet(Domain.TECH_TAGS)
     public ResponseEntity<List<TechTag>> searchTags(@RequestParam String q) {
         log.info("GET /tech-tags/search?q={}", q);
 
@@ -172,6 +219,7 @@ public class TechTagController {
      * @return 태그 통계 정보
      */
     @GetMapping("/statistics")
+    @ConditionalGet(Domain.TECH_TAGS)
     public ResponseEntity<Map<String, Object>> getStatistics() {
         log.info("GET /tech-tags/statistics");
 
@@ -189,44 +237,6 @@ public class TechTagController {
         return ResponseEntity.ok(statistics);
     }
 
-    /**
-     * 사용 횟수 증가
-     *
-     * @param id 태그 ID
-     * @return 200 OK
-     */
-    @PostMapping("/{id}/increment")
-    public ResponseEntity<Void> incrementUsage(@PathVariable Long id) {
-        log.info("POST /tech-tags/{}/increment", id);
-
-        try {
-            techTagService.incrementUsage(id);
-            return ResponseEntity.ok().build();
-        } catch (IllegalArgumentException e) {
-            log.error("Failed to increment usage: {}", e.getMessage());
-            return ResponseEntity.notFound().build();
-        }
-    }
-
-    /**
-     * 사용 횟수 감소
-     *
-     * @param id 태그 ID
-     * @return 200 OK
-     */
-    @PostMapping("/{id}/decrement")
-    public ResponseEntity<Void> decrementUsage(@PathVariable Long id) {
-        log.info("POST /tech-tags/{}/decrement", id);
-
-        try {
-            techTagService.decrementUsage(id);
-            return ResponseEntity.ok().build();
-        } catch (IllegalArgumentException e) {
-            log.error("Failed to decrement usage: {}", e.getMessage());
-            return ResponseEntity.notFound().build();
-        }
-    }
-
     /**
      * 전역 예외 처리
      *
@@ -0,0 +1,102 @@
+package com.vibecoding.devlog.dto.request;
+
+import com.vibecoding.devlog.model.DevLog;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 개발 로그 목록 커서
+ *
+ * 키셋 페이지네이션에서 마지막으로 반환된 로그의 정렬 키
+ * (log_date, created_at, id)를 담습니다.
+ * 클라이언트에는 불투명한 Base64 토큰으로 전달됩니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogCursor {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 로그 날짜
+     */
+    private LocalDate logDate;
+
+    /**
+     * 생성일시
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 로그 ID
+     */
+    private Long id;
+
+    /**
+     * 로그의 정렬 키로 커서 생성
+     *
+     * @param devLog 마지막으로 반환된 로그
+     * @return 커서
+     */
+    public static LogCursor of(DevLog devLog) {
+        return LogCursor.builder()
+                .logDate(devLog.getLogDate())
+                .createdAt(devLog.getCreatedAt())
+                .id(devLog.getId())
+                .build();
+    }
+
+    /**
+     * 커서를 불투명 토큰으로 인코딩
+     *
+     * @return URL-safe Base64 토큰
+     */
+    public String encode() {
+        String raw = logDate + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 커서로 디코딩
+     *
+     * @param token 클라이언트가 전달한 after 토큰
+     * @return 커서
+     * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+     */
+    public static LogCursor decode(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            throw new IllegalArgumentException("Cursor token is required");
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor token: " + token);
+            }
+
+            return LogCursor.builder()
+                    .logDate(LocalDate.parse(parts[0]))
+                    .createdAt(LocalDateTime.parse(parts[1]))
+                    .id(Long.parseLong(parts[2]))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid cursor token: " + token, e);
+        }
+    }
+}
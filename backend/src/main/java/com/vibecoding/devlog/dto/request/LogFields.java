@@ -0,0 +1,85 @@
+package com.vibecoding.devlog.dto.request;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 개발 로그 목록 필드 선택 (sparse fieldset)
+ *
+ * fields=title,logDate,mood,project,techTags 처럼 목록 화면에 필요한 필드만 요청하면
+ * SQL에서도 해당 컬럼만 조회합니다. 설명/성과/도전과제/학습내용/코드 스니펫 같은
+ * 큰 본문 필드는 선택할 수 없으며, 필요하면 fields 없이 조회하거나 단건 조회를 사용합니다.
+ *
+ * id는 항상 포함되고, 키셋 페이지네이션 커서를 위해 logDate/createdAt은 항상 조회되지만
+ * 요청하지 않으면 응답에는 포함되지 않습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+public final class LogFields {
+
+    /**
+     * 선택 가능한 필드 (project는 프로젝트 이름과 색상)
+     */
+    public static final List<String> ALLOWED = List.of(
+            "projectId", "project", "title", "logDate", "mood",
+            "startTime", "endTime", "techTags", "createdAt", "updatedAt"
+    );
+
+    private final Set<String> names;
+
+    private LogFields(Set<String> names) {
+        this.names = Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * fields 파라미터 파싱
+     *
+     * @param fields 쉼표로 구분한 필드 이름 (선택사항)
+     * @return 필드 선택, 파라미터가 없으면 null (전체 필드)
+     * @throws IllegalArgumentException 선택할 수 없는 필드가 있는 경우
+     */
+    public static LogFields parse(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return null;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String raw : fields.split(",")) {
+            String name = raw.trim();
+            if (name.isEmpty() || "id".equals(name)) {
+                continue;
+            }
+            if (!ALLOWED.contains(name)) {
+                throw new IllegalArgumentException("Unsupported field: " + name + " (allowed: " + ALLOWED + ")");
+            }
+            names.add(name);
+        }
+        return new LogFields(names);
+    }
+
+    /**
+     * 필드 포함 여부 (매퍼 XML에서 사용)
+     *
+     * @param name 필드 이름
+     * @return 요청된 필드면 true
+     */
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * 요청된 필드 이름 (id 제외)
+     *
+     * @return 필드 이름 집합
+     */
+    public Set<String> getNames() {
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(",", names);
+    }
+}
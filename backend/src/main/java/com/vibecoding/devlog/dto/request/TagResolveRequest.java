@@ -0,0 +1,33 @@
+package com.vibecoding.devlog.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 기술 태그 일괄 조회/생성 요청 DTO
+ *
+ * 태그 이름 목록을 받아 있는 태그는 조회하고 없는 태그는 생성합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagResolveRequest {
+
+    /**
+     * 태그 이름 목록 (최대 100개)
+     */
+    private List<String> names;
+
+    /**
+     * 새로 만드는 태그의 카테고리 (선택사항, 기본값 TOOL)
+     */
+    private String category;
+}
@@ -0,0 +1,104 @@
+package com.vibecoding.devlog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 활동 통계 응답 DTO
+ *
+ * 로그를 하나 이상 작성한 날(활동일)을 기준으로 연속 기록과 활동일 수를 담습니다.
+ * 프로젝트를 지정하지 않으면 모든 프로젝트를 합친 값입니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityStatsDTO {
+
+    /**
+     * 프로젝트 ID (전체이면 null)
+     */
+    private Long projectId;
+
+    /**
+     * 기준 날짜 (오늘)
+     */
+    private LocalDate asOf;
+
+    /**
+     * 현재 연속 활동일 수 (오늘 또는 어제까지 이어진 경우, 아니면 0)
+     */
+    private Integer currentStreak;
+
+    /**
+     * 현재 연속 기록 시작일
+     */
+    private LocalDate currentStreakStart;
+
+    /**
+     * 최장 연속 활동일 수
+     */
+    private Integer longestStreak;
+
+    /**
+     * 최장 연속 기록 시작일
+     */
+    private LocalDate longestStreakStart;
+
+    /**
+     * 최장 연속 기록 종료일
+     */
+    private LocalDate longestStreakEnd;
+
+    /**
+     * 첫 활동일
+     */
+    private LocalDate firstActiveDate;
+
+    /**
+     * 마지막 활동일
+     */
+    private LocalDate lastActiveDate;
+
+    /**
+     * 전체 활동일 수
+     */
+    private Integer totalActiveDays;
+
+    /**
+     * 조회 기간 시작 (포함)
+     */
+    private LocalDate from;
+
+    /**
+     * 조회 기간 끝 (포함)
+     */
+    private LocalDate to;
+
+    /**
+     * 조회 기간 활동일 수
+     */
+    private Integer activeDays;
+
+    /**
+     * 이번 주(월요일 ~ 오늘) 활동일 수
+     */
+    private Integer thisWeekActiveDays;
+
+    /**
+     * 지난주 같은 구간(월요일 ~ 오늘과 같은 요일) 활동일 수
+     */
+    private Integer lastWeekActiveDays;
+
+    /**
+     * 지난주 대비 활동일 증감
+     */
+    private Integer weekOverWeekChange;
+}
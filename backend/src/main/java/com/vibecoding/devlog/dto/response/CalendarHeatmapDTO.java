@@ -0,0 +1,64 @@
+package com.vibecoding.devlog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 연간 캘린더 히트맵 응답 DTO
+ *
+ * 한 해의 날짜별 로그 수와 작업 시간을 1월 1일부터 순서대로 배열로 담습니다.
+ * 배열의 i번째 값이 startDate.plusDays(i)의 값입니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarHeatmapDTO {
+
+    /**
+     * 년도
+     */
+    private Integer year;
+
+    /**
+     * 배열 첫 날짜 (1월 1일)
+     */
+    private LocalDate startDate;
+
+    /**
+     * 날짜별 로그 수 (365 또는 366개)
+     */
+    private int[] counts;
+
+    /**
+     * 날짜별 작업 시간 (분, counts와 같은 길이)
+     */
+    private int[] workMinutes;
+
+    /**
+     * 연간 로그 수
+     */
+    private Integer totalLogs;
+
+    /**
+     * 연간 작업 시간 (분)
+     */
+    private Integer totalWorkMinutes;
+
+    /**
+     * 로그가 있는 날 수
+     */
+    private Integer activeDays;
+
+    /**
+     * 하루 최대 로그 수 (히트맵 색상 단계 계산용)
+     */
+    private Integer maxCount;
+}
@@ -0,0 +1,89 @@
+package com.vibecoding.devlog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 이벤트 DTO
+ *
+ * SSE 변경 피드(GET /events)로 전달되는 생성/수정/삭제 이벤트입니다.
+ * 클라이언트는 data로 목록을 직접 갱신하고, 삭제 이벤트는 id로 항목을 제거합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEvent {
+
+    /**
+     * 대상 종류
+     */
+    public enum Entity {
+        LOG, PROJECT, TECH_TAG
+    }
+
+    /**
+     * 변경 종류 (IMPORTED는 일괄 가져오기 완료, 목록을 다시 조회해야 함)
+     */
+    public enum Action {
+        CREATED, UPDATED, DELETED, IMPORTED
+    }
+
+    /**
+     * 이벤트 순번 (서버 재시작 전까지 단조 증가)
+     */
+    private long sequence;
+
+    /**
+     * 대상 종류
+     */
+    private Entity entity;
+
+    /**
+     * 변경 종류
+     */
+    private Action action;
+
+    /**
+     * 대상 ID (IMPORTED는 null)
+     */
+    private Long id;
+
+    /**
+     * 로그의 프로젝트 ID, 프로젝트 이벤트면 프로젝트 ID
+     */
+    private Long projectId;
+
+    /**
+     * 수정으로 프로젝트가 바뀐 로그의 이전 프로젝트 ID
+     */
+    private Long previousProjectId;
+
+    /**
+     * 변경 후 데이터 (삭제면 null, IMPORTED면 가져온 건수)
+     */
+    private Object data;
+
+    /**
+     * 커밋 시각
+     */
+    private LocalDateTime occurredAt;
+
+    /**
+     * SSE 이벤트 이름 (예: log.created)
+     *
+     * @return 이벤트 이름
+     */
+    public String eventName() {
+        return entity.name().toLowerCase().replace('_', '-') + "." + action.name().toLowerCase();
+    }
+}
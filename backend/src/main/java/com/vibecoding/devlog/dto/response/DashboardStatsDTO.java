@@ -0,0 +1,55 @@
+package com.vibecoding.devlog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대시보드 통계 DTO
+ *
+ * 이번 주, 이번 달, 기술 스택 통계를 한 번에 담습니다.
+ * 기한 안에 끝나지 못한 섹션은 null이며 missingSections에 이름이 담깁니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStatsDTO {
+
+    /**
+     * 이번 주 통계
+     */
+    private WeeklyStatsDTO weekly;
+
+    /**
+     * 이번 달 통계
+     */
+    private MonthlyStatsDTO monthly;
+
+    /**
+     * 기술 스택 통계
+     */
+    private TechStackStatsDTO techStack;
+
+    /**
+     * 시간 초과 또는 오류로 빠진 섹션 이름 (weekly, monthly, techStack)
+     */
+    @Builder.Default
+    private List<String> missingSections = new ArrayList<>();
+
+    /**
+     * 일부 섹션이 빠진 부분 결과인지 여부
+     *
+     * @return 빠진 섹션이 있으면 true
+     */
+    public boolean isPartial() {
+        return missingSections != null && !missingSections.isEmpty();
+    }
+}
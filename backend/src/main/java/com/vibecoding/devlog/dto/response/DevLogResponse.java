@@ -1,5 +1,6 @@
 package com.vibecoding.devlog.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.vibecoding.devlog.model.DevLog;
 import com.vibecoding.devlog.model.TechTag;
 import lombok.AllArgsConstructor;
@@ -43,6 +44,11 @@ public class DevLogResponse {
      */
     private String projectName;
 
+    /**
+     * 프로젝트 색상
+     */
+    private String projectColor;
+
     /**
      * 로그 제목
      */
@@ -113,6 +119,18 @@ public class DevLogResponse {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * 검색 관련도 점수 (검색 결과에만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double searchRank;
+
+    /**
+     * 검색 키워드가 &lt;mark&gt;로 강조된 본문 발췌 (검색 결과에만 포함)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String snippet;
+
     /**
      * 기술 태그 DTO
      */
@@ -149,11 +167,14 @@ public class DevLogResponse {
                 .logDate(devLog.getLogDate())
                 .mood(devLog.getMood())
                 .createdAt(devLog.getCreatedAt())
-                .updatedAt(devLog.getUpdatedAt());
+                .updatedAt(devLog.getUpdatedAt())
+                .searchRank(devLog.getSearchRank())
+                .snippet(devLog.getSearchSnippet());
 
         // 프로젝트 정보 추가
         if (devLog.getProject() != null) {
-            builder.projectName(devLog.getProject().getName());
+            builder.projectName(devLog.getProject().getName())
+                    .projectColor(devLog.getProject().getColor());
         }
 
         // 기술 태그 목록 변환
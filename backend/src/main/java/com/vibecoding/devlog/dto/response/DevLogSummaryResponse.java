@@ -0,0 +1,156 @@
+package com.vibecoding.devlog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.vibecoding.devlog.dto.request.LogFields;
+import com.vibecoding.devlog.model.DevLog;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 개발 로그 요약 응답 DTO
+ *
+ * fields 파라미터로 필드를 선택한 목록 조회에서 반환합니다.
+ * 요청한 필드만 채우고 나머지는 JSON에서 생략합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DevLogSummaryResponse {
+
+    /**
+     * 로그 ID
+     */
+    private Long id;
+
+    /**
+     * 프로젝트 ID
+     */
+    private Long projectId;
+
+    /**
+     * 프로젝트 이름
+     */
+    private String projectName;
+
+    /**
+     * 프로젝트 색상
+     */
+    private String projectColor;
+
+    /**
+     * 로그 제목
+     */
+    private String title;
+
+    /**
+     * 로그 날짜
+     */
+    private LocalDate logDate;
+
+    /**
+     * 기분 상태
+     */
+    private String mood;
+
+    /**
+     * 작업 시작 시간
+     */
+    private LocalTime startTime;
+
+    /**
+     * 작업 종료 시간
+     */
+    private LocalTime endTime;
+
+    /**
+     * 기술 태그 목록
+     */
+    private List<DevLogResponse.TechTagDto> techTags;
+
+    /**
+     * 생성일시
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 수정일시
+     */
+    private LocalDateTime updatedAt;
+
+    /**
+     * 검색 관련도 점수 (검색 결과에만 포함)
+     */
+    private Double searchRank;
+
+    /**
+     * 검색 키워드가 강조된 발췌 (검색 결과에만 포함, 선택한 필드에서만 생성)
+     */
+    private String snippet;
+
+    /**
+     * DevLog 엔티티에서 요청한 필드만 골라 변환
+     *
+     * @param devLog DevLog 엔티티
+     * @param fields 요청한 필드
+     * @return DevLogSummaryResponse DTO
+     */
+    public static DevLogSummaryResponse from(DevLog devLog, LogFields fields) {
+        DevLogSummaryResponseBuilder builder = DevLogSummaryResponse.builder()
+                .id(devLog.getId())
+                .searchRank(devLog.getSearchRank())
+                .snippet(devLog.getSearchSnippet());
+
+        if (fields.contains("projectId") || fields.contains("project")) {
+            builder.projectId(devLog.getProjectId());
+        }
+        if (fields.contains("project") && devLog.getProject() != null) {
+            builder.projectName(devLog.getProject().getName())
+                    .projectColor(devLog.getProject().getColor());
+        }
+        if (fields.contains("title")) {
+            builder.title(devLog.getTitle());
+        }
+        if (fields.contains("logDate")) {
+            builder.logDate(devLog.getLogDate());
+        }
+        if (fields.contains("mood")) {
+            builder.mood(devLog.getMood());
+        }
+        if (fields.contains("startTime")) {
+            builder.startTime(devLog.getStartTime());
+        }
+        if (fields.contains("endTime")) {
+            builder.endTime(devLog.getEndTime());
+        }
+        if (fields.contains("techTags") && devLog.getTechTags() != null) {
+            builder.techTags(devLog.getTechTags().stream()
+                    .map(tag -> DevLogResponse.TechTagDto.builder()
+                            .id(tag.getId())
+                            .name(tag.getName())
+                            .category(tag.getCategory())
+                            .color(tag.getColor())
+                            .build())
+                    .collect(Collectors.toList()));
+        }
+        if (fields.contains("createdAt")) {
+            builder.createdAt(devLog.getCreatedAt());
+        }
+        if (fields.contains("updatedAt")) {
+            builder.updatedAt(devLog.getUpdatedAt());
+        }
+        return builder.build();
+    }
+}
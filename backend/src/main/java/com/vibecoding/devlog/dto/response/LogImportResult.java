@@ -0,0 +1,59 @@
+package com.vibecoding.devlog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 개발 로그 일괄 가져오기 결과 DTO
+ *
+ * 처리한 행 수와 실패한 행의 줄 번호/사유를 담습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogImportResult {
+
+    /**
+     * 읽은 전체 행 수
+     */
+    private int totalRows;
+
+    /**
+     * 저장된 행 수
+     */
+    private int importedRows;
+
+    /**
+     * 실패한 행 수
+     */
+    private int failedRows;
+
+    /**
+     * 실패한 행 목록 (앞에서부터 최대 설정 개수까지)
+     */
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * 처리 시간 (밀리초)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 행 단위 오류
+     *
+     * @param line 입력 줄 번호 (1부터, CSV 헤더 포함)
+     * @param message 실패 사유
+     */
+    public record RowError(long line, String message) {
+    }
+}
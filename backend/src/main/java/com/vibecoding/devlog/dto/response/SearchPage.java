@@ -0,0 +1,34 @@
+package com.vibecoding.devlog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 검색 결과 페이지 DTO
+ *
+ * 관련도 순 검색 결과 한 페이지와 검색어에 일치한 전체 개수를 담습니다.
+ *
+ * @param <T> 항목 타입
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPage<T> {
+
+    /**
+     * 현재 페이지 항목
+     */
+    private List<T> items;
+
+    /**
+     * 검색어에 일치한 전체 개수
+     */
+    private long total;
+}
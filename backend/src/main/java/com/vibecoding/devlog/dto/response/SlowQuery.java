@@ -0,0 +1,80 @@
+package com.vibecoding.devlog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 느린 쿼리 기록 DTO
+ *
+ * 임계값을 넘긴 매퍼 구문과 바인딩 파라미터, 표본으로 다시 실행한 실행 계획을 담습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQuery {
+
+    /**
+     * 실행 계획 수집 상태
+     */
+    public enum ExplainStatus {
+        /** 백그라운드 실행 대기 중 */
+        PENDING,
+        /** 수집 완료 */
+        DONE,
+        /** EXPLAIN 실행 실패 (plan에 오류 메시지) */
+        FAILED,
+        /** 쓰기 구문이거나 표본에서 빠짐 */
+        SKIPPED,
+        /** 실행 대기열이 가득 차 버림 */
+        DROPPED
+    }
+
+    /**
+     * 기록 순번 (1부터 증가)
+     */
+    private long id;
+
+    /**
+     * 매퍼 구문 ID (예: com.vibecoding.devlog.mapper.StatisticsMapper.getPeriodProjectStats)
+     */
+    private String statementId;
+
+    /**
+     * 실행한 SQL (공백 정리)
+     */
+    private String sql;
+
+    /**
+     * 바인딩 파라미터 (SQL의 ? 순서, 긴 값은 잘라서 표시)
+     */
+    private List<String> parameters;
+
+    /**
+     * 실행 시간 (밀리초)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 기록 시각
+     */
+    private LocalDateTime capturedAt;
+
+    /**
+     * 실행 계획 수집 상태
+     */
+    private ExplainStatus explainStatus;
+
+    /**
+     * EXPLAIN (ANALYZE, BUFFERS) 결과 또는 실패 사유
+     */
+    private String plan;
+}
@@ -1,10 +1,15 @@
 package com.vibecoding.devlog.mapper;
 
+import com.vibecoding.devlog.dto.request.LogCursor;
+import com.vibecoding.devlog.dto.request.LogFields;
 import com.vibecoding.devlog.model.DevLog;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -28,9 +33,63 @@ public interface DevLogMapper {
      * @param endDate 종료 날짜 (선택사항)
      * @return 개발 로그 목록
      */
+    default List<DevLog> findAll(Long projectId, LocalDateTime startDate, LocalDateTime endDate) {
+        return findAll(projectId, startDate, endDate, null);
+    }
+
+    /**
+     * 모든 개발 로그 조회 (선택한 필드만)
+     *
+     * @param projectId 필터링할 프로젝트 ID (선택사항)
+     * @param startDate 시작 날짜 (선택사항)
+     * @param endDate 종료 날짜 (선택사항)
+     * @param fields 조회할 필드 (null이면 전체, 프로젝트/태그 정보 포함)
+     * @return 개발 로그 목록
+     */
     List<DevLog> findAll(@Param("projectId") Long projectId,
                          @Param("startDate") LocalDateTime startDate,
-                         @Param("endDate") LocalDateTime endDate);
+                         @Param("endDate") LocalDateTime endDate,
+                         @Param("fields") LogFields fields);
+
+    /**
+     * 개발 로그 스트리밍 조회 (내보내기용)
+     * 결과를 한 번에 올리지 않고 fetch size 단위로 읽습니다. 트랜잭션 안에서 소비해야 합니다.
+     *
+     * @param projectId 필터링할 프로젝트 ID (선택사항)
+     * @param startDate 시작 날짜, 포함 (선택사항)
+     * @param endDate 종료 날짜, 미포함 (선택사항)
+     * @return 로그 커서 (log_date, created_at, id 오름차순, 태그 ID 포함)
+     */
+    Cursor<DevLog> streamAll(@Param("projectId") Long projectId,
+                             @Param("startDate") LocalDate startDate,
+                             @Param("endDate") LocalDate endDate);
+
+    /**
+     * 검색 색인용 로그 스트리밍 조회
+     * ID, 프로젝트 ID와 색인 대상 본문 컬럼만 fetch size 단위로 읽습니다. 트랜잭션 안에서 소비해야 합니다.
+     *
+     * @return 로그 커서 (id, projectId, title, description, achievements, challenges, learnings만 채워짐)
+     */
+    Cursor<DevLog> streamSearchDocuments();
+
+    /**
+     * 키셋 페이지네이션으로 개발 로그 조회
+     * (log_date, created_at, id) 내림차순으로 커서 이후의 로그를 조회합니다.
+     *
+     * @param projectId 필터링할 프로젝트 ID (선택사항)
+     * @param startDate 시작 날짜 (선택사항)
+     * @param endDate 종료 날짜 (선택사항)
+     * @param after 이전 페이지의 마지막 로그 커서 (선택사항)
+     * @param limit 조회할 개수
+     * @param fields 조회할 필드 (null이면 전체)
+     * @return 개발 로그 목록
+     */
+    List<DevLog> findPage(@Param("projectId") Long projectId,
+                          @Param("startDate") LocalDateTime startDate,
+                          @Param("endDate") LocalDateTime endDate,
+                          @Param("after") LogCursor after,
+                          @Param("limit") int limit,
+                          @Param("fields") LogFields fields);
 
     /**
      * ID로 개발 로그 조회 (프로젝트, 태그 정보 포함)
@@ -40,14 +99,49 @@ public interface DevLogMapper {
      */
     DevLog findById(@Param("id") Long id);
 
+    /**
+     * ID로 개발 로그를 조회하고 트랜잭션이 끝날 때까지 행 잠금 (수정/삭제용)
+     * 같은 로그를 동시에 수정하거나 삭제하면 뒤 트랜잭션은 앞 트랜잭션이 끝난 뒤의 값을 읽습니다.
+     *
+     * @param id 로그 ID
+     * @return 개발 로그 정보, 없으면 null
+     */
+    DevLog findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * ID 목록으로 개발 로그 조회 (순서 보장 없음)
+     *
+     * @param ids 로그 ID 목록
+     * @param fields 조회할 필드 (null이면 전체)
+     * @return 개발 로그 목록
+     */
+    List<DevLog> findByIds(@Param("ids") List<Long> ids, @Param("fields") LogFields fields);
+
     /**
      * 개발 로그 검색
-     * 제목, 설명, 성과, 도전과제, 학습내용에서 검색
+     * 제목, 설명, 성과, 도전과제, 학습내용을 결합한 search_text 트라이그램 인덱스로 검색하고
+     * 제목 일치 여부와 단어 유사도로 정렬합니다.
      *
-     * @param keyword 검색 키워드
-     * @return 검색 결과 목록
+     * @param keyword 검색 키워드 (유사도 계산용)
+     * @param pattern ILIKE 패턴 (와일드카드 이스케이프 후 %로 감싼 키워드)
+     * @param offset 건너뛸 개수
+     * @param limit 조회할 개수 (null이면 전체)
+     * @param fields 조회할 필드 (null이면 전체)
+     * @return 검색 결과 목록 (searchRank 포함)
      */
-    List<DevLog> search(@Param("keyword") String keyword);
+    List<DevLog> search(@Param("keyword") String keyword,
+                        @Param("pattern") String pattern,
+                        @Param("offset") int offset,
+                        @Param("limit") Integer limit,
+                        @Param("fields") LogFields fields);
+
+    /**
+     * 검색어에 일치하는 개발 로그 수
+     *
+     * @param pattern ILIKE 패턴 (search와 같은 값)
+     * @return 일치한 로그 수
+     */
+    long countSearch(@Param("pattern") String pattern);
 
     /**
      * 날짜 범위로 개발 로그 조회
@@ -68,14 +162,33 @@ public interface DevLogMapper {
     List<DevLog> findByProjectId(@Param("projectId") Long projectId);
 
     /**
-     * 캘린더 데이터 조회 (년월별 로그 개수)
+     * 캘린더 데이터 조회 (기간별 로그 개수)
      *
-     * @param year 년도
-     * @param month 월
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (미포함)
      * @return 날짜별 로그 개수 (date, count)
      */
-    List<Map<String, Object>> findCalendarData(@Param("year") int year,
-                                                @Param("month") int month);
+    List<Map<String, Object>> findCalendarData(@Param("startDate") LocalDate startDate,
+                                                @Param("endDate") LocalDate endDate);
+
+    /**
+     * 프로젝트별 로그가 있는 날짜와 로그 수 조회 (활동 인덱스 생성용)
+     *
+     * @return 프로젝트 ID(project_id), 날짜(log_date), 로그 수(log_count) 목록
+     */
+    List<Map<String, Object>> findActiveDays();
+
+    /**
+     * 기간 안에서 프로젝트별 로그가 있는 날짜와 로그 수 조회 (다른 인스턴스의 변경 반영용)
+     *
+     * @param projectIds 프로젝트 ID 목록 (null이면 모든 프로젝트, 비어 있으면 안 됨)
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (미포함)
+     * @return 프로젝트 ID(project_id), 날짜(log_date), 로그 수(log_count) 목록
+     */
+    List<Map<String, Object>> findActiveDaysInRange(@Param("projectIds") Collection<Long> projectIds,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
 
     /**
      * 개발 로그 생성
@@ -110,6 +223,32 @@ public interface DevLogMapper {
      */
     int insertLogTechTag(@Param("logId") Long logId, @Param("tagId") Long tagId);
 
+    /**
+     * 로그와 여러 태그를 한 번에 연결 (다중 행 INSERT, 이미 연결된 태그는 무시)
+     *
+     * @param logId 로그 ID
+     * @param tagIds 태그 ID 목록 (비어 있으면 안 됨)
+     * @return 생성된 행 수
+     */
+    int insertLogTechTags(@Param("logId") Long logId, @Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 로그에 연결된 태그 ID 조회
+     *
+     * @param logId 로그 ID
+     * @return 태그 ID 목록
+     */
+    List<Long> findTechTagIds(@Param("logId") Long logId);
+
+    /**
+     * 로그의 지정한 태그 연결만 삭제
+     *
+     * @param logId 로그 ID
+     * @param tagIds 삭제할 태그 ID 목록 (비어 있으면 안 됨)
+     * @return 삭제된 행 수
+     */
+    int deleteLogTechTagsIn(@Param("logId") Long logId, @Param("tagIds") Collection<Long> tagIds);
+
     /**
      * 로그의 모든 태그 연결 삭제
      *
@@ -147,7 +286,8 @@ public interface DevLogMapper {
      * 최근 개발 로그 조회
      *
      * @param limit 조회할 개수
+     * @param fields 조회할 필드 (null이면 전체)
      * @return 최근 로그 목록
      */
-    List<DevLog> findRecent(@Param("limit") int limit);
+    List<DevLog> findRecent(@Param("limit") int limit, @Param("fields") LogFields fields);
 }
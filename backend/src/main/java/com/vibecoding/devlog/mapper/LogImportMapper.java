@@ -0,0 +1,54 @@
+package com.vibecoding.devlog.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 개발 로그 일괄 가져오기 MyBatis 매퍼 인터페이스
+ *
+ * COPY로 채운 임시 스테이징 테이블(dev_logs_import)을 dev_logs, log_tech_tags,
+ * project_stats에 한 번에 병합합니다. 모든 문장은 같은 트랜잭션 안에서 호출해야 합니다.
+ * LogImportMapper.xml과 매핑됩니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Mapper
+public interface LogImportMapper {
+
+    /**
+     * 스테이징 테이블 생성 (트랜잭션 커밋 시 자동 삭제)
+     */
+    void createStagingTable();
+
+    /**
+     * dev_logs 시퀀스에서 ID 미리 할당
+     *
+     * @param count 할당할 ID 수
+     * @return 할당된 ID 목록
+     */
+    List<Long> nextLogIds(@Param("count") int count);
+
+    /**
+     * 스테이징 행을 dev_logs에 병합
+     *
+     * @return 추가된 로그 수
+     */
+    int mergeLogs();
+
+    /**
+     * 스테이징 행의 태그 ID를 log_tech_tags에 병합
+     *
+     * @return 추가된 연결 수
+     */
+    int mergeTechTags();
+
+    /**
+     * 스테이징 행을 (프로젝트, 날짜)별로 묶어 project_stats에 더함
+     *
+     * @return 영향받은 행 수
+     */
+    int mergeProjectStats();
+}
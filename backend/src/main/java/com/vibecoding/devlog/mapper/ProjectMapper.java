@@ -1,9 +1,11 @@
 package com.vibecoding.devlog.mapper;
 
 import com.vibecoding.devlog.model.Project;
+import com.vibecoding.devlog.model.TagUsageDelta;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,6 +34,22 @@ public interface ProjectMapper {
      * @return 프로젝트 정보, 없으면 null
      */
     Project findById(@Param("id") Long id);
+
+    /**
+     * 주어진 ID 중 실제로 존재하는 프로젝트 ID 조회
+     *
+     * @param ids 확인할 프로젝트 ID 목록
+     * @return 존재하는 프로젝트 ID 목록
+     */
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 프로젝트 로그에 연결된 태그별 연결 수 조회 (프로젝트 삭제 시 사용 횟수 차감용)
+     *
+     * @param projectId 프로젝트 ID
+     * @return 태그별 연결 수
+     */
+    List<TagUsageDelta> countTagLinks(@Param("projectId") Long projectId);
     
     /**
      * 상태별 프로젝트 조회
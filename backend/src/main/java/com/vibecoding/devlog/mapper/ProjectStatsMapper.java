@@ -0,0 +1,71 @@
+package com.vibecoding.devlog.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트 일별 통계 롤업 MyBatis 매퍼 인터페이스
+ *
+ * project_stats 테이블의 증분 갱신과 재집계를 처리합니다.
+ * ProjectStatsMapper.xml과 매핑됩니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Mapper
+public interface ProjectStatsMapper {
+
+    /**
+     * (프로젝트, 날짜) 통계에 변화량 반영
+     * 행이 없으면 변화량으로 새 행을 만들고, 있으면 기존 값에 더합니다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param statDate 통계 날짜
+     * @param minutesDelta 작업 시간 변화량 (분)
+     * @param logCountDelta 로그 수 변화량
+     * @param timedLogCountDelta 작업 시간이 기록된 로그 수 변화량
+     * @return 영향받은 행 수
+     */
+    int applyDelta(
+            @Param("projectId") Long projectId,
+            @Param("statDate") LocalDate statDate,
+            @Param("minutesDelta") int minutesDelta,
+            @Param("logCountDelta") int logCountDelta,
+            @Param("timedLogCountDelta") int timedLogCountDelta
+    );
+
+    /**
+     * 롤업 행 수 조회
+     *
+     * @return project_stats 행 수
+     */
+    int count();
+
+    /**
+     * 기간 내 날짜별 로그 수와 작업 시간 합계 조회 (모든 프로젝트 합산)
+     *
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (미포함)
+     * @return 날짜(date), 로그 수(count), 작업 시간(minutes, 분) 목록
+     */
+    List<Map<String, Object>> findDailyTotals(@Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    /**
+     * 롤업 전체 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    int deleteAll();
+
+    /**
+     * dev_logs에서 롤업 전체 재집계
+     *
+     * @return 생성된 행 수
+     */
+    int insertFromDevLogs();
+}
@@ -1,9 +1,8 @@
 package com.vibecoding.devlog.mapper;
 
-import com.vibecoding.devlog.dto.response.MonthlyStatsDTO;
 import com.vibecoding.devlog.dto.response.ProjectStatsDTO;
 import com.vibecoding.devlog.dto.response.TechStackStatsDTO;
-import com.vibecoding.devlog.dto.response.WeeklyStatsDTO;
+import com.vibecoding.devlog.model.ProjectStats;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -24,94 +23,21 @@ import java.util.Map;
 @Mapper
 public interface StatisticsMapper {
 
-    // ========== 주간 통계 ==========
+    // ========== 주간/월간 통계 ==========
 
     /**
-     * 주간 통계 기본 정보 조회
+     * 기간 내 프로젝트 일별 통계 조회
+     * 주간/월간 통계의 모든 섹션을 이 결과 하나로 집계합니다.
      *
-     * @param startDate 시작 날짜
-     * @param endDate 종료 날짜
-     * @return 주간 통계 기본 정보 (총 로그 수, 총 작업 시간 등)
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (미포함)
+     * @return 날짜, 프로젝트 순 통계 행 목록 (프로젝트 이름 포함)
      */
-    Map<String, Object> getWeeklyBasicStats(
+    List<ProjectStats> getPeriodProjectStats(
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
 
-    /**
-     * 주간 일별 로그 카운트 조회
-     *
-     * @param startDate 시작 날짜
-     * @param endDate 종료 날짜
-     * @return 일별 로그 카운트 목록
-     */
-    List<WeeklyStatsDTO.DailyCount> getWeeklyDailyCounts(
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
-    );
-
-    /**
-     * 주간 프로젝트별 로그 카운트 조회
-     *
-     * @param startDate 시작 날짜
-     * @param endDate 종료 날짜
-     * @return 프로젝트별 로그 카운트 목록
-     */
-    List<WeeklyStatsDTO.ProjectCount> getWeeklyProjectCounts(
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
-    );
-
-    // ========== 월간 통계 ==========
-
-    /**
-     * 월간 통계 기본 정보 조회
-     *
-     * @param year 연도
-     * @param month 월
-     * @return 월간 통계 기본 정보
-     */
-    Map<String, Object> getMonthlyBasicStats(
-            @Param("year") int year,
-            @Param("month") int month
-    );
-
-    /**
-     * 월간 일별 로그 카운트 조회
-     *
-     * @param year 연도
-     * @param month 월
-     * @return 일별 로그 카운트 목록
-     */
-    List<MonthlyStatsDTO.DailyCount> getMonthlyDailyCounts(
-            @Param("year") int year,
-            @Param("month") int month
-    );
-
-    /**
-     * 월간 프로젝트별 로그 카운트 조회
-     *
-     * @param year 연도
-     * @param month 월
-     * @return 프로젝트별 로그 카운트 목록
-     */
-    List<MonthlyStatsDTO.ProjectCount> getMonthlyProjectCounts(
-            @Param("year") int year,
-            @Param("month") int month
-    );
-
-    /**
-     * 월간 주별 카운트 조회
-     *
-     * @param year 연도
-     * @param month 월
-     * @return 주별 카운트 목록
-     */
-    List<MonthlyStatsDTO.WeeklyCount> getMonthlyWeeklyCounts(
-            @Param("year") int year,
-            @Param("month") int month
-    );
-
     // ========== 프로젝트별 통계 ==========
 
     /**
@@ -198,8 +124,8 @@ public interface StatisticsMapper {
     /**
      * 기간별 활성 프로젝트 수 조회
      *
-     * @param startDate 시작 날짜
-     * @param endDate 종료 날짜
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (미포함)
      * @return 활성 프로젝트 수
      */
     int getActiveProjectCount(
@@ -210,8 +136,8 @@ public interface StatisticsMapper {
     /**
      * 기간별 작업 일수 조회
      *
-     * @param startDate 시작 날짜
-     * @param endDate 종료 날짜
+     * @param startDate 시작 날짜 (포함)
+     * @param endDate 종료 날짜 (미포함)
      * @return 작업 일수
      */
     int getWorkDaysCount(
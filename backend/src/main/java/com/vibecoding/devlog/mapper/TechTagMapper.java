@@ -1,9 +1,11 @@
 package com.vibecoding.devlog.mapper;
 
+import com.vibecoding.devlog.model.TagUsageDelta;
 import com.vibecoding.devlog.model.TechTag;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,6 +35,14 @@ public interface TechTagMapper {
      */
     TechTag findById(@Param("id") Long id);
 
+    /**
+     * 주어진 ID 중 실제로 존재하는 태그 ID 조회
+     *
+     * @param ids 확인할 태그 ID 목록
+     * @return 존재하는 태그 ID 목록
+     */
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 이름으로 기술 태그 조회
      *
@@ -41,6 +51,14 @@ public interface TechTagMapper {
      */
     TechTag findByName(@Param("name") String name);
 
+    /**
+     * 여러 이름으로 기술 태그 일괄 조회
+     *
+     * @param names 태그 이름 배열
+     * @return 존재하는 태그 목록 (순서 보장 없음)
+     */
+    List<TechTag> findByNames(@Param("names") String[] names);
+
     /**
      * 카테고리별 기술 태그 조회
      *
@@ -73,6 +91,15 @@ public interface TechTagMapper {
      */
     int insert(TechTag techTag);
 
+    /**
+     * 없는 이름만 일괄 생성 (INSERT ... ON CONFLICT DO NOTHING RETURNING)
+     *
+     * @param names 태그 이름 배열
+     * @param category 새 태그 카테고리
+     * @return 새로 생성된 태그 목록 (이미 있던 이름은 제외)
+     */
+    List<TechTag> insertMissing(@Param("names") String[] names, @Param("category") String category);
+
     /**
      * 기술 태그 수정
      *
@@ -90,20 +117,26 @@ public interface TechTagMapper {
     int delete(@Param("id") Long id);
 
     /**
-     * 사용 횟수 증가
+     * 여러 태그의 사용 횟수를 한 문장으로 변경
      *
-     * @param id 태그 ID
-     * @return 수정된 행 수
+     * @param deltas 태그별 변화량 (태그 ID 순 정렬 권장)
+     * @return 수정된 태그의 ID와 반영 후 사용 횟수
      */
-    int incrementUsageCount(@Param("id") Long id);
+    List<TechTag> addUsageCounts(@Param("deltas") List<TagUsageDelta> deltas);
 
     /**
-     * 사용 횟수 감소
+     * 사용 횟수 보정 잠금 시도 (트랜잭션 범위 advisory 잠금, 트랜잭션이 끝나면 해제)
      *
-     * @param id 태그 ID
-     * @return 수정된 행 수
+     * @return 잠금을 얻었으면 true (다른 인스턴스가 보정 중이면 false)
+     */
+    boolean tryLockUsageCounts();
+
+    /**
+     * 사용 횟수를 실제 연결 수(log_tech_tags)로 보정
+     *
+     * @return 보정된 태그 수
      */
-    int decrementUsageCount(@Param("id") Long id);
+    int reconcileUsageCounts();
 
     /**
      * 전체 태그 수 조회
@@ -110,6 +110,21 @@ public class DevLog {
      */
     private List<TechTag> techTags;
 
+    /**
+     * 연관된 기술 태그 ID 목록 (내보내기 시 사용)
+     */
+    private Long[] techTagIds;
+
+    /**
+     * 검색 관련도 점수 (검색 시 사용)
+     */
+    private Double searchRank;
+
+    /**
+     * 검색 키워드가 강조된 본문 발췌 (검색 시 사용)
+     */
+    private String searchSnippet;
+
     /**
      * 작업 시간을 시작/종료 시간으로부터 계산
      *
@@ -59,6 +59,11 @@ public class Project {
      */
     private Integer progress;
     
+    /**
+     * 프로젝트 색상 (Hex Code)
+     */
+    private String color;
+    
     /**
      * 생성일시
      */
@@ -0,0 +1,54 @@
+package com.vibecoding.devlog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 프로젝트 일별 통계 도메인 모델
+ *
+ * 프로젝트별 하루 단위 집계 값입니다.
+ * project_stats 테이블과 매핑됩니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStats {
+
+    /**
+     * 프로젝트 ID
+     */
+    private Long projectId;
+
+    /**
+     * 프로젝트 이름 (조인 결과)
+     */
+    private String projectName;
+
+    /**
+     * 통계 날짜
+     */
+    private LocalDate statDate;
+
+    /**
+     * 총 작업 시간 (분 단위)
+     */
+    private int totalMinutes;
+
+    /**
+     * 로그 개수
+     */
+    private int logCount;
+
+    /**
+     * 작업 시간이 기록된 로그 개수
+     */
+    private int timedLogCount;
+}
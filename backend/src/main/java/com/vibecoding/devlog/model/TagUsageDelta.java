@@ -0,0 +1,31 @@
+package com.vibecoding.devlog.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 태그 사용 횟수 변화량
+ *
+ * 메모리에 모아 둔 usage_count 변화를 tech_tags에 한 번에 반영할 때 사용합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagUsageDelta {
+
+    /**
+     * 기술 태그 ID
+     */
+    private Long tagId;
+
+    /**
+     * 사용 횟수 변화량 (음수면 감소)
+     */
+    private Long delta;
+}
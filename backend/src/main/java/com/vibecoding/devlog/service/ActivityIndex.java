@@ -0,0 +1,474 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.ActivityStatsDTO;
+import com.vibecoding.devlog.mapper.DevLogMapper;
+import com.vibecoding.devlog.model.DevLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 활동일 인덱스 (인메모리 비트셋)
+ *
+ * 프로젝트별로 로그가 있는 날을 epoch day 위치의 비트로 유지하고, 모든 프로젝트를 합친 비트셋도 함께 둡니다.
+ * 연속 기록, 기간별 활동일 수, 지난주 대비 증감을 데이터베이스 없이 비트 연산으로 계산합니다.
+ *
+ * - 하루에 로그가 여러 건인 날만 추가 건수를 맵에 두어, 로그를 지워도 그날의 비트를 정확히 끕니다.
+ * - 시작 시 (프로젝트, 날짜)별 로그 수로 만들고, 이후 쓰기는 커밋된 뒤 반영합니다.
+ * - 다른 인스턴스의 변경은 알림에 담긴 프로젝트와 기간만 다시 읽어 그 구간의 비트를 바꿉니다.
+ * - 다시 만들어야 할 때는 한 번에 하나만 만들고, 그동안 다른 조회는 이전 비트셋으로 응답합니다.
+ * - 만드는 동안 커밋된 쓰기가 있으면 결과를 저장하지 않고 다음 조회에서 다시 만듭니다.
+ * - 1970-01-01 이전 날짜는 다루지 않습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ActivityIndex {
+
+    private final DevLogMapper devLogMapper;
+    private final Clock clock;
+
+    /**
+     * 전체 생성은 한 번에 하나만
+     */
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    /**
+     * 아래 필드는 this로 보호 (stale이면 다시 만들 때까지 이전 비트셋으로 응답)
+     */
+    private final CommitGuard guard = new CommitGuard(this);
+    private Activity activity;
+    private boolean stale;
+
+    @Autowired
+    public ActivityIndex(DevLogMapper devLogMapper) {
+        this(devLogMapper, Clock.systemDefaultZone());
+    }
+
+    ActivityIndex(DevLogMapper devLogMapper, Clock clock) {
+        this.devLogMapper = devLogMapper;
+        this.clock = clock;
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 로그로 인덱스 생성
+     * 데이터베이스에 연결할 수 없으면 첫 조회 때 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        buildLock.lock();
+        try {
+            load();
+        } catch (DataAccessException e) {
+            log.warn("Activity index build failed, will retry on first request: {}", e.getMessage());
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 활동 통계 조회
+     *
+     * @param projectId 프로젝트 ID (null이면 모든 프로젝트)
+     * @param from 조회 기간 시작 (포함, null이면 첫 활동일)
+     * @param to 조회 기간 끝 (포함, null이면 오늘)
+     * @return 연속 기록, 활동일 수, 지난주 대비 증감
+     * @throws IllegalArgumentException to가 from보다 앞선 경우
+     */
+    public ActivityStatsDTO getStats(Long projectId, LocalDate from, LocalDate to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+
+        Activity current = current();
+        synchronized (this) {
+            DayBits bits = (projectId == null) ? current.all : current.projects.get(projectId);
+            return toStats(bits == null ? new DayBits() : bits, projectId, from, to);
+        }
+    }
+
+    /**
+     * 로그 변경 반영 (트랜잭션 커밋 후)
+     *
+     * @param previous 변경 전 로그 (생성이면 null)
+     * @param current 변경 후 로그 (삭제면 null)
+     */
+    public void applyChange(DevLog previous, DevLog current) {
+        if (previous != null && current != null
+                && Objects.equals(previous.getProjectId(), current.getProjectId())
+                && Objects.equals(previous.getLogDate(), current.getLogDate())) {
+            return;
+        }
+        afterCommit(() -> {
+            activity.remove(previous);
+            activity.add(current);
+        });
+    }
+
+    /**
+     * 여러 로그 추가 반영 (가져오기, 트랜잭션 커밋 후)
+     *
+     * @param created 생성된 로그 목록
+     */
+    public void addAll(List<DevLog> created) {
+        afterCommit(() -> created.forEach(activity::add));
+    }
+
+    /**
+     * 프로젝트 삭제 반영 (로그가 연쇄 삭제되므로 프로젝트의 활동일을 전체에서도 뺌)
+     *
+     * @param projectId 삭제된 프로젝트 ID
+     */
+    public void removeProject(Long projectId) {
+        afterCommit(() -> activity.removeProject(projectId));
+    }
+
+    /**
+     * 다른 인스턴스나 SQL로 바뀐 로그 반영
+     * 해당 프로젝트와 기간의 활동일만 데이터베이스에서 다시 읽어 바꿉니다.
+     * 기간을 모르거나 다시 읽는 동안 이 인스턴스의 쓰기가 커밋되면 전체를 다시 만들도록 표시합니다.
+     *
+     * @param projectIds 변경된 프로젝트 ID 목록 (null이면 모든 프로젝트)
+     * @param from 변경된 로그의 가장 이른 날짜 (null이면 전체)
+     * @param to 변경된 로그의 가장 늦은 날짜 (포함, null이면 전체)
+     */
+    public void applyRemote(Collection<Long> projectIds, LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            invalidate();
+            return;
+        }
+        if (projectIds != null && projectIds.isEmpty()) {
+            return;
+        }
+        long stamp;
+        synchronized (this) {
+            if (activity == null) {
+                return;
+            }
+            guard.changed();
+            stamp = guard.beginRead();
+        }
+
+        List<Map<String, Object>> rows;
+        try {
+            rows = devLogMapper.findActiveDaysInRange(projectIds, from, to.plusDays(1));
+        } catch (DataAccessException e) {
+            log.warn("Activity range reload failed, marking index stale: {}", e.getMessage());
+            invalidate();
+            return;
+        }
+
+        synchronized (this) {
+            if (activity == null) {
+                return;
+            }
+            if (guard.unchangedSince(stamp)) {
+                activity.replaceRange(projectIds, index(from), index(to), rows);
+            } else {
+                stale = true;
+            }
+        }
+    }
+
+    /**
+     * 인덱스를 다시 만들도록 표시 (다음 조회에서 다시 생성, 그때까지 이전 비트셋으로 응답)
+     */
+    public synchronized void invalidate() {
+        guard.changed();
+        stale = true;
+    }
+
+    /**
+     * 조회에 쓸 인덱스
+     * 처음이면 한 스레드만 만들고 나머지는 기다립니다. 다시 만들어야 하면 빈 스레드 하나가 만들고,
+     * 이미 만드는 중이거나 만들다 실패하면 이전 비트셋을 씁니다.
+     */
+    private Activity current() {
+        Activity previous;
+        synchronized (this) {
+            if (activity != null && !stale) {
+                return activity;
+            }
+            previous = activity;
+        }
+
+        if (previous != null) {
+            if (!buildLock.tryLock()) {
+                return previous;
+            }
+            try {
+                return load();
+            } catch (DataAccessException e) {
+                log.warn("Activity index rebuild failed, serving previous index: {}", e.getMessage());
+                return previous;
+            } finally {
+                buildLock.unlock();
+            }
+        }
+
+        buildLock.lock();
+        try {
+            synchronized (this) {
+                if (activity != null) {
+                    return activity;
+                }
+            }
+            return load();
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * (프로젝트, 날짜)별 로그 수로 인덱스 생성 (buildLock 안에서 호출)
+     * 생성 중 커밋된 쓰기가 없을 때만 저장하며, 저장하지 못해도 만든 결과는 반환합니다.
+     */
+    private Activity load() {
+        long started = System.currentTimeMillis();
+        long startedGeneration;
+        synchronized (this) {
+            startedGeneration = guard.beginRead();
+        }
+
+        Activity loaded = new Activity();
+        for (Map<String, Object> row : devLogMapper.findActiveDays()) {
+            loaded.add(((Number) row.get("project_id")).longValue(),
+                    toLocalDate(row.get("log_date")),
+                    ((Number) row.get("log_count")).intValue());
+        }
+
+        synchronized (this) {
+            if (guard.unchangedSince(startedGeneration)) {
+                activity = loaded;
+                stale = false;
+            }
+        }
+        log.info("Activity index built: {} projects, {} active days in {} ms",
+                loaded.projects.size(), loaded.all.days.cardinality(), System.currentTimeMillis() - started);
+        return loaded;
+    }
+
+    private ActivityStatsDTO toStats(DayBits bits, Long projectId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(clock);
+        BitSet days = bits.days;
+        int first = days.nextSetBit(0);
+        int last = days.length() - 1;
+
+        // 오늘 아직 기록하지 않았으면 어제까지 이어진 기록을 현재 연속 기록으로 봄
+        int todayIndex = index(today);
+        int streakEnd = days.get(todayIndex) ? todayIndex : (days.get(todayIndex - 1) ? todayIndex - 1 : -1);
+        int streakStart = (streakEnd < 0) ? -1 : days.previousClearBit(streakEnd) + 1;
+
+        int longestStart = -1;
+        int longestLength = 0;
+        for (int start = first; start >= 0; ) {
+            int end = days.nextClearBit(start);
+            if (end - start > longestLength) {
+                longestStart = start;
+                longestLength = end - start;
+            }
+            start = days.nextSetBit(end);
+        }
+
+        LocalDate rangeFrom = (from != null) ? from : (first >= 0 ? toDate(first) : today);
+        LocalDate rangeTo = (to != null) ? to : today;
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        int thisWeek = count(days, weekStart, today);
+        int lastWeek = count(days, weekStart.minusWeeks(1), today.minusWeeks(1));
+
+        return ActivityStatsDTO.builder()
+                .projectId(projectId)
+                .asOf(today)
+                .currentStreak(streakEnd < 0 ? 0 : streakEnd - streakStart + 1)
+                .currentStreakStart(streakEnd < 0 ? null : toDate(streakStart))
+                .longestStreak(longestLength)
+                .longestStreakStart(longestStart < 0 ? null : toDate(longestStart))
+                .longestStreakEnd(longestStart < 0 ? null : toDate(longestStart + longestLength - 1))
+                .firstActiveDate(first < 0 ? null : toDate(first))
+                .lastActiveDate(last < 0 ? null : toDate(last))
+                .totalActiveDays(days.cardinality())
+                .from(rangeFrom)
+                .to(rangeTo)
+                .activeDays(count(days, rangeFrom, rangeTo))
+                .thisWeekActiveDays(thisWeek)
+                .lastWeekActiveDays(lastWeek)
+                .weekOverWeekChange(thisWeek - lastWeek)
+                .build();
+    }
+
+    /**
+     * 기간(양 끝 포함) 안의 활동일 수
+     */
+    private static int count(BitSet days, LocalDate from, LocalDate to) {
+        int start = Math.max(index(from), 0);
+        int end = index(to) + 1;
+        return (start >= end) ? 0 : days.get(start, end).cardinality();
+    }
+
+    private static int index(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+
+    private static LocalDate toDate(int index) {
+        return LocalDate.ofEpochDay(index);
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return (value instanceof Date date) ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    /**
+     * 커밋되면 잠금 안에서 실행, 커밋 결과를 알 수 없으면 다시 만들도록 표시
+     * 인덱스가 아직 없으면 반영하지 않습니다 (생성 때 데이터베이스에서 읽음).
+     */
+    private void afterCommit(Runnable action) {
+        guard.afterCommit(() -> {
+            if (activity != null) {
+                action.run();
+            }
+        }, () -> stale = true);
+    }
+
+    /**
+     * 프로젝트별 활동일과 전체 활동일
+     */
+    private static final class Activity {
+
+        private final Map<Long, DayBits> projects = new HashMap<>();
+        private final DayBits all = new DayBits();
+
+        private void add(DevLog devLog) {
+            if (devLog != null && devLog.getProjectId() != null && devLog.getLogDate() != null) {
+                add(devLog.getProjectId(), devLog.getLogDate(), 1);
+            }
+        }
+
+        private void remove(DevLog devLog) {
+            if (devLog == null || devLog.getProjectId() == null || devLog.getLogDate() == null) {
+                return;
+            }
+            DayBits bits = projects.get(devLog.getProjectId());
+            int day = index(devLog.getLogDate());
+            if (bits != null && day >= 0) {
+                bits.remove(day, 1);
+                all.remove(day, 1);
+                if (bits.days.isEmpty()) {
+                    projects.remove(devLog.getProjectId());
+                }
+            }
+        }
+
+        private void add(Long projectId, LocalDate date, int logCount) {
+            int day = index(date);
+            if (day < 0) {
+                return;
+            }
+            projects.computeIfAbsent(projectId, id -> new DayBits()).add(day, logCount);
+            all.add(day, logCount);
+        }
+
+        /**
+         * 프로젝트들의 [fromDay, toDay] 구간 활동일을 새로 읽은 값으로 교체
+         *
+         * @param projectIds 대상 프로젝트 (null이면 모든 프로젝트)
+         */
+        private void replaceRange(Collection<Long> projectIds, int fromDay, int toDay,
+                                  List<Map<String, Object>> rows) {
+            int start = Math.max(fromDay, 0);
+            Collection<Long> targets = (projectIds != null) ? projectIds : new ArrayList<>(projects.keySet());
+            for (Long projectId : targets) {
+                DayBits bits = projects.get(projectId);
+                if (bits == null) {
+                    continue;
+                }
+                for (int day = bits.days.nextSetBit(start); day >= 0 && day <= toDay;
+                     day = bits.days.nextSetBit(day + 1)) {
+                    all.remove(day, bits.count(day));
+                }
+                bits.clear(start, toDay);
+                if (bits.days.isEmpty()) {
+                    projects.remove(projectId);
+                }
+            }
+            for (Map<String, Object> row : rows) {
+                add(((Number) row.get("project_id")).longValue(),
+                        toLocalDate(row.get("log_date")),
+                        ((Number) row.get("log_count")).intValue());
+            }
+        }
+
+        private void removeProject(Long projectId) {
+            DayBits bits = projects.remove(projectId);
+            if (bits == null) {
+                return;
+            }
+            for (int day = bits.days.nextSetBit(0); day >= 0; day = bits.days.nextSetBit(day + 1)) {
+                all.remove(day, bits.count(day));
+            }
+        }
+    }
+
+    /**
+     * 활동일 비트셋 (비트 위치 = epoch day)
+     * 하루 두 건 이상이면 (로그 수 - 1)을 extraLogs에 둡니다.
+     */
+    private static final class DayBits {
+
+        private final BitSet days = new BitSet();
+        private final Map<Integer, Integer> extraLogs = new HashMap<>();
+
+        private void add(int day, int logCount) {
+            int extra = logCount;
+            if (!days.get(day)) {
+                days.set(day);
+                extra--;
+            }
+            if (extra > 0) {
+                extraLogs.merge(day, extra, Integer::sum);
+            }
+        }
+
+        private void remove(int day, int logCount) {
+            int extra = extraLogs.getOrDefault(day, 0);
+            if (logCount < extra) {
+                extraLogs.put(day, extra - logCount);
+            } else if (logCount == extra) {
+                extraLogs.remove(day);
+            } else {
+                extraLogs.remove(day);
+                days.clear(day);
+            }
+        }
+
+        private void clear(int fromDay, int toDay) {
+            if (fromDay > toDay) {
+                return;
+            }
+            days.clear(fromDay, toDay + 1);
+            extraLogs.keySet().removeIf(day -> day >= fromDay && day <= toDay);
+        }
+
+        private int count(int day) {
+            return days.get(day) ? 1 + extraLogs.getOrDefault(day, 0) : 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.vibecoding.devlog.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 도우미
+ *
+ * 인메모리 캐시/색인/카운터는 데이터베이스 쓰기가 커밋된 뒤에만 바뀌어야 하므로,
+ * 쓰기 경로에서 바로 반영하지 않고 이 도우미로 커밋 후에 실행합니다.
+ * 롤백되면 실행하지 않습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션이 있으면 커밋 후, 없으면 즉시 실행
+     *
+     * @param action 실행할 동작
+     */
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
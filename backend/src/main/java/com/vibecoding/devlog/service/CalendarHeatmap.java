@@ -0,0 +1,237 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.CalendarHeatmapDTO;
+import com.vibecoding.devlog.mapper.ProjectStatsMapper;
+import com.vibecoding.devlog.model.DevLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연간 캘린더 히트맵 (인메모리)
+ *
+ * 년도별로 날짜별 로그 수와 작업 시간을 int[366] 두 개로 메모리에 유지합니다.
+ * 캘린더 조회는 월/연 단위 모두 이 배열을 읽으므로 GROUP BY를 반복하지 않습니다.
+ *
+ * - 없는 년도는 project_stats의 stat_date 범위 조회 한 번으로 채웁니다.
+ * - DevLogService의 쓰기는 커밋된 뒤 해당 날짜 칸에 변화량만 더합니다.
+ * - 가져오기, 프로젝트 삭제, 다른 인스턴스의 변경처럼 변화량을 모르면 해당 년도를 버리고 다시 읽습니다.
+ * - 채우는 동안 커밋된 쓰기가 있으면 읽은 배열을 저장하지 않습니다. 커밋 직전부터
+ *   변화량 반영까지를 진행 중으로 표시하므로 변화량이 빠지거나 두 번 더해지지 않습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CalendarHeatmap {
+
+    private final ProjectStatsMapper projectStatsMapper;
+    private final Map<Integer, YearCells> years;
+
+    /**
+     * 커밋 순서 보호 (this로 보호)
+     */
+    private final CommitGuard guard = new CommitGuard(this);
+
+    public CalendarHeatmap(ProjectStatsMapper projectStatsMapper,
+                           @Value("${devlog.calendar.max-years:20}") int maxYears) {
+        this.projectStatsMapper = projectStatsMapper;
+        this.years = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, YearCells> eldest) {
+                return size() > maxYears;
+            }
+        };
+    }
+
+    /**
+     * 연간 히트맵 조회
+     *
+     * @param year 년도
+     * @return 날짜별 로그 수/작업 시간 배열과 합계
+     */
+    public CalendarHeatmapDTO getYear(int year) {
+        YearCells cells = cells(year);
+
+        int totalLogs = 0;
+        int totalMinutes = 0;
+        int activeDays = 0;
+        int maxCount = 0;
+        for (int day = 0; day < cells.counts.length; day++) {
+            int count = cells.counts[day];
+            totalLogs += count;
+            totalMinutes += cells.minutes[day];
+            if (count > 0) {
+                activeDays++;
+                maxCount = Math.max(maxCount, count);
+            }
+        }
+
+        return CalendarHeatmapDTO.builder()
+                .year(year)
+                .startDate(LocalDate.ofYearDay(year, 1))
+                .counts(cells.counts)
+                .workMinutes(cells.minutes)
+                .totalLogs(totalLogs)
+                .totalWorkMinutes(totalMinutes)
+                .activeDays(activeDays)
+                .maxCount(maxCount)
+                .build();
+    }
+
+    /**
+     * 월간 캘린더 조회 (로그가 있는 날만)
+     *
+     * @param year 년도
+     * @param month 월 (1~12)
+     * @return 날짜(date), 로그 수(count), 작업 시간(workMinutes) 목록 (날짜순)
+     */
+    public List<Map<String, Object>> getMonth(int year, int month) {
+        YearCells cells = cells(year);
+        LocalDate monthStart = LocalDate.of(year, month, 1);
+        int first = monthStart.getDayOfYear() - 1;
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (int day = 0; day < monthStart.lengthOfMonth(); day++) {
+            int count = cells.counts[first + day];
+            if (count > 0) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("date", monthStart.plusDays(day));
+                row.put("count", (long) count);
+                row.put("workMinutes", cells.minutes[first + day]);
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 로그 변경을 날짜 칸에 반영 (트랜잭션 커밋 후)
+     *
+     * @param previous 변경 전 로그 (생성이면 null)
+     * @param current 변경 후 로그 (삭제면 null)
+     */
+    public void applyChange(DevLog previous, DevLog current) {
+        if (previous != null && current != null
+                && previous.getLogDate() != null && previous.getLogDate().equals(current.getLogDate())
+                && previous.calculateWorkMinutes().equals(current.calculateWorkMinutes())) {
+            return;
+        }
+        afterCommit(() -> {
+            add(previous, -1);
+            add(current, 1);
+        });
+    }
+
+    /**
+     * 변경 범위의 년도 무효화 (트랜잭션 커밋 후)
+     * 다른 인스턴스나 SQL로 직접 바뀐 로그처럼 변화량을 알 수 없을 때 사용합니다.
+     *
+     * @param from 변경된 로그의 가장 이른 날짜 (null이면 모든 년도)
+     * @param to 변경된 로그의 가장 늦은 날짜 (포함, null이면 모든 년도)
+     */
+    public void evictRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            evictAll();
+            return;
+        }
+        afterCommit(() -> years.keySet().removeIf(year -> year >= from.getYear() && year <= to.getYear()));
+    }
+
+    /**
+     * 전체 무효화 (트랜잭션 커밋 후)
+     */
+    public void evictAll() {
+        afterCommit(years::clear);
+    }
+
+    /**
+     * 년도 배열 사본 반환, 없으면 project_stats에서 채움
+     */
+    private YearCells cells(int year) {
+        long started;
+        synchronized (this) {
+            YearCells cached = years.get(year);
+            if (cached != null) {
+                return cached.copy();
+            }
+            started = guard.beginRead();
+        }
+
+        YearCells loaded = load(year);
+        synchronized (this) {
+            if (guard.unchangedSince(started)) {
+                years.put(year, loaded.copy());
+            }
+        }
+        return loaded;
+    }
+
+    private YearCells load(int year) {
+        LocalDate start = LocalDate.ofYearDay(year, 1);
+        YearCells cells = new YearCells(start.lengthOfYear());
+        for (Map<String, Object> row : projectStatsMapper.findDailyTotals(start, start.plusYears(1))) {
+            int day = toLocalDate(row.get("date")).getDayOfYear() - 1;
+            cells.counts[day] = ((Number) row.get("count")).intValue();
+            cells.minutes[day] = ((Number) row.get("minutes")).intValue();
+        }
+        log.debug("Calendar heatmap loaded for {}", year);
+        return cells;
+    }
+
+    /**
+     * 로그 한 건만큼 날짜 칸 가감 (this 잠금 안에서 호출, 캐시된 년도만)
+     */
+    private void add(DevLog devLog, int sign) {
+        if (devLog == null || devLog.getLogDate() == null) {
+            return;
+        }
+        YearCells cells = years.get(devLog.getLogDate().getYear());
+        if (cells != null) {
+            int day = devLog.getLogDate().getDayOfYear() - 1;
+            cells.counts[day] += sign;
+            cells.minutes[day] += sign * devLog.calculateWorkMinutes();
+        }
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return (value instanceof Date date) ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    /**
+     * 커밋되면 잠금 안에서 실행, 커밋 결과를 알 수 없으면 전체를 버림
+     */
+    private void afterCommit(Runnable action) {
+        guard.afterCommit(action, years::clear);
+    }
+
+    /**
+     * 한 해의 날짜별 로그 수와 작업 시간 (인덱스 = dayOfYear - 1)
+     */
+    private static final class YearCells {
+
+        private final int[] counts;
+        private final int[] minutes;
+
+        private YearCells(int days) {
+            this(new int[days], new int[days]);
+        }
+
+        private YearCells(int[] counts, int[] minutes) {
+            this.counts = counts;
+            this.minutes = minutes;
+        }
+
+        private YearCells copy() {
+            return new YearCells(counts.clone(), minutes.clone());
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.ChangeEvent;
+import com.vibecoding.devlog.dto.response.DevLogResponse;
+import com.vibecoding.devlog.model.DevLog;
+import com.vibecoding.devlog.model.Project;
+import com.vibecoding.devlog.model.TechTag;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 변경 피드 (Server-Sent Events)
+ *
+ * 로그/프로젝트/기술 태그의 생성·수정·삭제를 트랜잭션 커밋 후 구독자에게 전달합니다.
+ *
+ * - 이벤트는 구독자별 버퍼에 넣고 전용 스레드 풀에서 보냅니다. 쓰기 요청 스레드는 네트워크를 기다리지 않습니다.
+ * - 버퍼가 가득 차면 가장 오래된 이벤트를 버리고, 다음 전송 앞에 resync 이벤트로 알립니다.
+ *   resync를 받은 클라이언트는 목록을 다시 조회해야 합니다.
+ * - 일정 간격으로 heartbeat 주석을 보내 프록시가 유휴 연결을 끊지 않게 합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ChangeFeed {
+
+    private final ScheduledExecutorService executor;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicLong subscriptionIds = new AtomicLong();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ChangeFeed(@Qualifier("changeFeedExecutor") ScheduledExecutorService executor,
+                      @Value("${devlog.events.buffer-size:256}") int bufferSize,
+                      @Value("${devlog.events.max-subscribers:200}") int maxSubscribers,
+                      @Value("${devlog.events.heartbeat-seconds:15}") long heartbeatSeconds,
+                      @Value("${devlog.events.timeout-ms:1800000}") long timeoutMillis) {
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        executor.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 구독 시작
+     *
+     * @param projectId 프로젝트 필터 (선택사항, 없으면 전체)
+     * @return SSE 연결
+     * @throws IllegalStateException 구독자 수가 한도를 넘은 경우
+     */
+    public SseEmitter subscribe(Long projectId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many change feed subscribers: " + maxSubscribers);
+        }
+
+        long id = subscriptionIds.incrementAndGet();
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(new ChangeSubscription(id, projectId, bufferSize), emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.put(id, subscriber);
+
+        try {
+            // 응답 헤더를 바로 내보내 클라이언트가 연결을 확인할 수 있게 함
+            emitter.send(SseEmitter.event().name("ready").data(Map.of("sequence", sequence.get())));
+        } catch (IOException e) {
+            remove(subscriber);
+            emitter.completeWithError(e);
+        }
+        log.debug("Change feed subscribed - id: {}, projectId: {}, subscribers: {}", id, projectId, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 로그 변경 알림 (커밋 후 전달)
+     *
+     * @param previous 변경 전 로그 (생성이면 null)
+     * @param current 변경 후 로그 (삭제면 null)
+     */
+    public void logChanged(DevLog previous, DevLog current) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        DevLog target = current != null ? current : previous;
+        ChangeEvent.Action action = previous == null ? ChangeEvent.Action.CREATED
+                : current == null ? ChangeEvent.Action.DELETED : ChangeEvent.Action.UPDATED;
+        Long previousProjectId = previous != null && current != null
+                && !Objects.equals(previous.getProjectId(), current.getProjectId()) ? previous.getProjectId() : null;
+
+        publish(ChangeEvent.builder()
+                .entity(ChangeEvent.Entity.LOG)
+                .action(action)
+                .id(target.getId())
+                .projectId(target.getProjectId())
+                .previousProjectId(previousProjectId)
+                .data(current != null ? DevLogResponse.from(current) : null)
+                .build());
+    }
+
+    /**
+     * 프로젝트 변경 알림 (커밋 후 전달)
+     *
+     * @param action 변경 종류
+     * @param project 변경 후 프로젝트 (삭제면 삭제 전 프로젝트)
+     */
+    public void projectChanged(ChangeEvent.Action action, Project project) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        publish(ChangeEvent.builder()
+                .entity(ChangeEvent.Entity.PROJECT)
+                .action(action)
+                .id(project.getId())
+                .projectId(project.getId())
+                .data(action != ChangeEvent.Action.DELETED ? project : null)
+                .build());
+    }
+
+    /**
+     * 기술 태그 변경 알림 (커밋 후 전달)
+     *
+     * @param action 변경 종류
+     * @param techTag 변경 후 태그 (삭제면 삭제 전 태그)
+     */
+    public void techTagChanged(ChangeEvent.Action action, TechTag techTag) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        publish(ChangeEvent.builder()
+                .entity(ChangeEvent.Entity.TECH_TAG)
+                .action(action)
+                .id(techTag.getId())
+                .data(action != ChangeEvent.Action.DELETED ? techTag : null)
+                .build());
+    }
+
+    /**
+     * 일괄 가져오기 알림 (커밋 후 전달, 로그별 이벤트 대신 한 번만 보냄)
+     *
+     * @param count 가져온 로그 수
+     */
+    public void logsImported(int count) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        publish(ChangeEvent.builder()
+                .entity(ChangeEvent.Entity.LOG)
+                .action(ChangeEvent.Action.IMPORTED)
+                .data(Map.of("count", count))
+                .build());
+    }
+
+    /**
+     * 현재 구독자 수
+     *
+     * @return 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void publish(ChangeEvent event) {
+        AfterCommit.run(() -> dispatch(event));
+    }
+
+    private void dispatch(ChangeEvent event) {
+        event.setSequence(sequence.incrementAndGet());
+        event.setOccurredAt(LocalDateTime.now());
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.subscription.matches(event)) {
+                subscriber.subscription.offer(event);
+                scheduleSend(subscriber);
+            }
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.heartbeatDue.set(true);
+            scheduleSend(subscriber);
+        }
+    }
+
+    private void scheduleSend(Subscriber subscriber) {
+        if (subscriber.subscription.tryStartDrain()) {
+            executor.execute(() -> send(subscriber));
+        }
+    }
+
+    /**
+     * 구독자 버퍼 전송 (구독자당 한 번에 한 스레드)
+     */
+    private void send(Subscriber subscriber) {
+        ChangeSubscription subscription = subscriber.subscription;
+        try {
+            long dropped = subscription.takeDropped();
+            if (dropped > 0) {
+                subscriber.emitter.send(SseEmitter.event().name("resync").data(Map.of("dropped", dropped)));
+            }
+            List<ChangeEvent> events = subscription.drain();
+            for (ChangeEvent event : events) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(Long.toString(event.getSequence()))
+                        .name(event.eventName())
+                        .data(event, MediaType.APPLICATION_JSON));
+            }
+            if (subscriber.heartbeatDue.getAndSet(false) && events.isEmpty()) {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Change feed subscriber {} disconnected: {}", subscription.getId(), e.getMessage());
+            remove(subscriber);
+            subscriber.emitter.complete();
+        } finally {
+            subscription.finishDrain();
+        }
+
+        // 전송 중 새로 들어온 이벤트가 있으면 다시 예약
+        if (!subscription.isEmpty() && subscribers.containsKey(subscription.getId())) {
+            scheduleSend(subscriber);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber.subscription.getId()) != null) {
+            log.debug("Change feed unsubscribed - id: {}, subscribers: {}",
+                    subscriber.subscription.getId(), subscribers.size());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    /**
+     * 구독과 SSE 연결
+     */
+    private static final class Subscriber {
+
+        private final ChangeSubscription subscription;
+        private final SseEmitter emitter;
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+
+        private Subscriber(ChangeSubscription subscription, SseEmitter emitter) {
+            this.subscription = subscription;
+            this.emitter = emitter;
+        }
+    }
+}
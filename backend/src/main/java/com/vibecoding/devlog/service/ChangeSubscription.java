@@ -0,0 +1,119 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.ChangeEvent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 변경 피드 구독
+ *
+ * 구독자 한 명의 필터와 전송 대기 버퍼를 관리합니다.
+ * 버퍼가 가득 차면 가장 오래된 이벤트를 버리고 버린 개수를 기록해,
+ * 느린 클라이언트가 서버 메모리나 다른 구독자에게 영향을 주지 않게 합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+class ChangeSubscription {
+
+    private final long id;
+    private final Long projectId;
+    private final int capacity;
+    private final ArrayDeque<ChangeEvent> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private long dropped;
+
+    /**
+     * @param id 구독 ID
+     * @param projectId 프로젝트 필터 (null이면 전체)
+     * @param capacity 버퍼 크기
+     */
+    ChangeSubscription(long id, Long projectId, int capacity) {
+        this.id = id;
+        this.projectId = projectId;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(capacity);
+    }
+
+    long getId() {
+        return id;
+    }
+
+    Long getProjectId() {
+        return projectId;
+    }
+
+    /**
+     * 필터 일치 여부
+     * 프로젝트 필터가 있으면 그 프로젝트의 로그(이전 프로젝트 포함)와 프로젝트 자체 이벤트만 받습니다.
+     * 기술 태그와 일괄 가져오기 이벤트는 프로젝트와 무관하므로 모두 받습니다.
+     *
+     * @param event 변경 이벤트
+     * @return 전달 대상이면 true
+     */
+    boolean matches(ChangeEvent event) {
+        if (projectId == null
+                || event.getEntity() == ChangeEvent.Entity.TECH_TAG
+                || event.getAction() == ChangeEvent.Action.IMPORTED) {
+            return true;
+        }
+        return Objects.equals(projectId, event.getProjectId())
+                || Objects.equals(projectId, event.getPreviousProjectId());
+    }
+
+    /**
+     * 버퍼에 추가 (가득 차면 가장 오래된 이벤트 제거)
+     *
+     * @param event 변경 이벤트
+     */
+    synchronized void offer(ChangeEvent event) {
+        if (buffer.size() == capacity) {
+            buffer.pollFirst();
+            dropped++;
+        }
+        buffer.addLast(event);
+    }
+
+    /**
+     * 대기 중인 이벤트를 모두 꺼냄
+     *
+     * @return 오래된 순 이벤트 목록
+     */
+    synchronized List<ChangeEvent> drain() {
+        List<ChangeEvent> events = new ArrayList<>(buffer);
+        buffer.clear();
+        return events;
+    }
+
+    /**
+     * 마지막 확인 이후 버린 이벤트 수를 반환하고 초기화
+     *
+     * @return 버린 이벤트 수
+     */
+    synchronized long takeDropped() {
+        long count = dropped;
+        dropped = 0;
+        return count;
+    }
+
+    synchronized boolean isEmpty() {
+        return buffer.isEmpty();
+    }
+
+    /**
+     * 전송 작업 선점 (구독자당 전송은 한 스레드에서만 실행)
+     *
+     * @return 선점했으면 true
+     */
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void finishDrain() {
+        draining.set(false);
+    }
+}
@@ -0,0 +1,114 @@
+package com.vibecoding.devlog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 데이터 변경 버전
+ *
+ * 로그/프로젝트/기술 태그마다 메모리에 변경 카운터를 두고, 조회 응답의 ETag를 이 값으로 만듭니다.
+ * 버전이 그대로면 DB를 조회하지 않고 304로 응답할 수 있습니다.
+ *
+ * - 쓰기 트랜잭션은 커밋 직전과 커밋(롤백) 직후에 한 번씩 버전을 올립니다.
+ *   커밋 도중 이전 데이터를 읽은 응답의 ETag는 커밋 후 올라간 버전과 달라지므로
+ *   오래된 응답이 304로 재사용되지 않습니다.
+ * - 재시작 시각(epoch)을 ETag에 포함해 재시작 전 ETag와 겹치지 않게 합니다.
+ * - 다른 인스턴스나 SQL로 직접 바꾼 DB 변경은 devlog_changes 알림을 받은 {@link DatabaseChangeListener}가
+ *   {@link #markChanged}로 반영합니다. 알림이 도착할 때까지의 짧은 지연이 있으며,
+ *   리스너 연결이 끊겼다 다시 붙으면 놓친 알림 대신 모든 영역의 버전을 올립니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ChangeVersions {
+
+    /**
+     * 버전을 관리하는 데이터 영역
+     */
+    public enum Domain {
+        LOGS, PROJECTS, TECH_TAGS
+    }
+
+    private final AtomicLongArray versions = new AtomicLongArray(Domain.values().length);
+    private final String epoch;
+    private final Clock clock;
+
+    public ChangeVersions() {
+        this(Clock.systemDefaultZone());
+    }
+
+    ChangeVersions(Clock clock) {
+        this.clock = clock;
+        this.epoch = Long.toString(clock.millis(), 36);
+    }
+
+    /**
+     * 변경 표시
+     * 트랜잭션이 있으면 커밋 직전과 완료 직후에, 없으면 즉시 버전을 올립니다.
+     *
+     * @param domains 변경된 데이터 영역
+     */
+    public void markChanged(Domain... domains) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    increment(domains);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    increment(domains);
+                }
+            });
+        } else {
+            increment(domains);
+        }
+    }
+
+    /**
+     * 현재 버전
+     *
+     * @param domain 데이터 영역
+     * @return 버전 값
+     */
+    public long version(Domain domain) {
+        return versions.get(domain.ordinal());
+    }
+
+    /**
+     * 강한 ETag 생성 ("epoch-로그.프로젝트.태그[-날짜]")
+     *
+     * @param domains 응답이 의존하는 데이터 영역
+     * @param daily 오늘 날짜에 따라 결과가 달라지는 응답이면 true
+     * @return 따옴표를 포함한 ETag 값
+     */
+    public String etag(Domain[] domains, boolean daily) {
+        StringBuilder sb = new StringBuilder("\"").append(epoch).append('-');
+        for (int i = 0; i < domains.length; i++) {
+            if (i > 0) {
+                sb.append('.');
+            }
+            sb.append(Long.toString(version(domains[i]), 36));
+        }
+        if (daily) {
+            sb.append('-').append(LocalDate.now(clock));
+        }
+        return sb.append('"').toString();
+    }
+
+    private void increment(Domain[] domains) {
+        for (Domain domain : domains) {
+            versions.incrementAndGet(domain.ordinal());
+        }
+        log.debug("Change versions bumped: {}", (Object) domains);
+    }
+}
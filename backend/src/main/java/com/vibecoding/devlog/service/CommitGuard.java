@@ -0,0 +1,101 @@
+package com.vibecoding.devlog.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 변화량으로 갱신하는 인메모리 집계의 커밋 순서 보호
+ *
+ * 집계를 데이터베이스에서 다시 읽는 동안 커밋된 쓰기가 있었는지 판단합니다.
+ * 쓰기는 커밋 직전(beforeCommit)부터 변화량 반영(afterCompletion)까지 진행 중으로 표시되므로,
+ * 읽기가 이 구간과 겹치면 {@link #unchangedSince(long)}이 false가 되어 읽은 결과를 저장하지 않습니다.
+ * 이렇게 하면 변화량이 빠지거나 두 번 더해지지 않습니다.
+ *
+ * 모든 상태는 생성할 때 받은 잠금 객체로 보호하고, 반영 동작도 그 잠금 안에서 실행합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+final class CommitGuard {
+
+    private final Object lock;
+    private int writesInFlight;
+    private long generation;
+
+    CommitGuard(Object lock) {
+        this.lock = lock;
+    }
+
+    /**
+     * 변화량 반영 등록
+     * 트랜잭션이 있으면 커밋된 뒤, 없으면 즉시 잠금 안에서 실행합니다.
+     *
+     * @param action 커밋되면 실행할 반영 동작
+     * @param onUnknown 커밋 결과를 알 수 없을 때 실행할 동작 (보통 집계 폐기)
+     */
+    void afterCommit(Runnable action, Runnable onUnknown) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (lock) {
+                generation++;
+                action.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (lock) {
+                    writesInFlight++;
+                    committing = true;
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (lock) {
+                    if (committing) {
+                        writesInFlight--;
+                    }
+                    generation++;
+                    if (status == STATUS_COMMITTED) {
+                        action.run();
+                    } else if (status == STATUS_UNKNOWN) {
+                        onUnknown.run();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 변화량을 모르는 변경 표시 (진행 중인 읽기 결과를 저장하지 않게 함)
+     */
+    void changed() {
+        synchronized (lock) {
+            generation++;
+        }
+    }
+
+    /**
+     * 읽기 시작 표시
+     *
+     * @return 읽기 시작 시점의 순번 (커밋 중인 쓰기가 있으면 -1)
+     */
+    long beginRead() {
+        synchronized (lock) {
+            return (writesInFlight == 0) ? generation : -1;
+        }
+    }
+
+    /**
+     * 읽기 시작 이후 커밋된 쓰기가 없고 커밋 중인 쓰기도 없는지 확인 (잠금 안에서 호출)
+     *
+     * @param stamp {@link #beginRead()}가 반환한 순번
+     * @return 읽은 결과를 저장해도 되면 true
+     */
+    boolean unchangedSince(long stamp) {
+        return stamp >= 0 && writesInFlight == 0 && generation == stamp;
+    }
+}
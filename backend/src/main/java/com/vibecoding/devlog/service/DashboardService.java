@@ -0,0 +1,169 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.DashboardStatsDTO;
+import com.vibecoding.devlog.dto.response.MonthlyStatsDTO;
+import com.vibecoding.devlog.dto.response.TechStackStatsDTO;
+import com.vibecoding.devlog.dto.response.WeeklyStatsDTO;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 서비스
+ *
+ * 대시보드의 이번 주, 이번 달, 기술 스택 통계를 섹션마다 가상 스레드에서 병렬로 조회합니다.
+ * 응답 시간은 세 섹션의 합이 아니라 가장 느린 섹션에 맞춰지며,
+ * 요청 기한을 넘기거나 실패한 섹션은 비우고 나머지 섹션만으로 부분 결과를 반환합니다.
+ *
+ * 섹션마다 DB 커넥션을 하나씩 쓰므로 동시에 실행하는 섹션 수를 세마포어로 Hikari 최대 풀보다 작게 제한합니다.
+ * 허가를 기한 안에 얻지 못한 섹션은 실행하지 않고 부분 결과로 비웁니다.
+ *
+ * 각 섹션은 남은 기한을 트랜잭션 타임아웃으로 걸고 실행하므로, MyBatis가 문장마다 같은 쿼리 타임아웃을 걸어
+ * 기한을 넘긴 쿼리는 DB에서 취소되고 커넥션이 풀로 돌아옵니다. (스레드 인터럽트만으로는 JDBC 호출이 멈추지 않음)
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Timed("devlog.service")
+public class DashboardService {
+
+    static final String WEEKLY = "weekly";
+    static final String MONTHLY = "monthly";
+    static final String TECH_STACK = "techStack";
+
+    private final StatisticsService statisticsService;
+    private final PlatformTransactionManager transactionManager;
+    private final ExecutorService dashboardExecutor;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+
+    public DashboardService(StatisticsService statisticsService,
+                            PlatformTransactionManager transactionManager,
+                            @Qualifier("dashboardExecutor") ExecutorService dashboardExecutor,
+                            @Value("${devlog.dashboard.max-concurrency:6}") int maxConcurrency,
+                            @Value("${devlog.dashboard.timeout-ms:3000}") long timeoutMillis) {
+        this.statisticsService = statisticsService;
+        this.transactionManager = transactionManager;
+        this.dashboardExecutor = dashboardExecutor;
+        this.permits = new Semaphore(maxConcurrency);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 대시보드 통계 조회
+     * 각 섹션은 별도 가상 스레드에서 자기 트랜잭션(커넥션)으로 실행됩니다.
+     *
+     * @return 대시보드 통계 (기한을 넘기거나 실패한 섹션은 null)
+     */
+    public DashboardStatsDTO getDashboardStats() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Future<Object> weekly = submit(WEEKLY, statisticsService::getCurrentWeekStats, deadline);
+        Future<Object> monthly = submit(MONTHLY, statisticsService::getCurrentMonthStats, deadline);
+        Future<Object> techStack = submit(TECH_STACK, statisticsService::getTechStackStats, deadline);
+
+        List<String> missing = new ArrayList<>();
+        DashboardStatsDTO stats = DashboardStatsDTO.builder()
+                .weekly((WeeklyStatsDTO) await(weekly, WEEKLY, deadline, missing))
+                .monthly((MonthlyStatsDTO) await(monthly, MONTHLY, deadline, missing))
+                .techStack((TechStackStatsDTO) await(techStack, TECH_STACK, deadline, missing))
+                .missingSections(missing)
+                .build();
+
+        if (stats.isPartial()) {
+            log.warn("Dashboard returned partial result, missing sections: {}", missing);
+        }
+        return stats;
+    }
+
+    /**
+     * 섹션 실행 등록
+     *
+     * @return 섹션 결과 (실행기가 종료 중이라 거부되면 null)
+     */
+    private Future<Object> submit(String section, Supplier<?> query, long deadline) {
+        try {
+            return dashboardExecutor.submit(() -> runWithPermit(query, deadline));
+        } catch (RejectedExecutionException e) {
+            log.warn("Dashboard section '{}' rejected, executor is shut down", section);
+            return null;
+        }
+    }
+
+    /**
+     * 동시 실행 허가를 기한까지 기다린 뒤 섹션 실행
+     */
+    private Object runWithPermit(Supplier<?> query, long deadline) throws TimeoutException, InterruptedException {
+        if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("No dashboard permit before deadline");
+        }
+        try {
+            return runWithin(query, deadline);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 남은 기한을 트랜잭션 타임아웃으로 걸고 섹션 실행
+     * 타임아웃은 초 단위라 남은 시간을 올림하며, MyBatis는 문장마다 남은 트랜잭션 시간을 쿼리 타임아웃으로 설정합니다.
+     */
+    private Object runWithin(Supplier<?> query, long deadline) throws TimeoutException {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+            throw new TimeoutException("Deadline passed while waiting for a permit");
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout((int) Math.max(1, (remainingMillis + 999) / 1000));
+        return transactionTemplate.execute(status -> query.get());
+    }
+
+    /**
+     * 섹션 결과를 기한까지 대기
+     * 기한을 넘기면 섹션을 취소하며, 실행 중인 쿼리는 쿼리 타임아웃으로 DB에서 취소됩니다.
+     */
+    private Object await(Future<Object> future, String section, long deadline, List<String> missing) {
+        if (future == null) {
+            missing.add(section);
+            return null;
+        }
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("Dashboard section '{}' timed out after {} ms", section, timeoutMillis);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException || cause instanceof TransactionTimedOutException
+                    || cause instanceof QueryTimeoutException) {
+                log.warn("Dashboard section '{}' timed out after {} ms: {}", section, timeoutMillis, cause.getMessage());
+            } else {
+                log.error("Dashboard section '{}' failed", section, cause);
+            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        missing.add(section);
+        return null;
+    }
+}
@@ -0,0 +1,310 @@
+package com.vibecoding.devlog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * DB 변경 알림 리스너 (PostgreSQL LISTEN/NOTIFY)
+ *
+ * dev_logs, projects, tech_tags, log_tech_tags의 트리거가 보내는 devlog_changes 알림을
+ * 전용 커넥션 하나로 받아 이 인스턴스의 메모리 캐시(통계 캐시, 검색 색인, 태그 레지스트리, ETag 버전)를 무효화합니다.
+ * 다른 백엔드 인스턴스나 SQL로 직접 수정한 변경도 반영되므로 인스턴스별 캐시를 여러 대에서 쓸 수 있습니다.
+ *
+ * - 이 인스턴스 풀에서 보낸 알림은 커밋 후 이미 반영했으므로 건너뜁니다 (application_name으로 구분).
+ * - 연결이 끊기면 다시 연결하고, 끊긴 동안 놓친 알림이 있을 수 있으므로 전체를 무효화합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class DatabaseChangeListener implements SmartLifecycle {
+
+    /**
+     * 알림 채널 이름 (database/schema.sql의 트리거와 같아야 함)
+     */
+    public static final String CHANNEL = "devlog_changes";
+
+    /**
+     * pgjdbc 기본 application_name (인스턴스를 구분할 수 없음)
+     */
+    private static final String DEFAULT_APPLICATION_NAME = "PostgreSQL JDBC Driver";
+
+    /**
+     * 트리거가 보내는 변경 요약
+     *
+     * @param table 테이블 이름
+     * @param op INSERT, UPDATE, DELETE
+     * @param node 변경한 세션의 application_name
+     * @param ids 변경된 행 ID (많으면 null)
+     * @param projectIds 변경된 로그의 프로젝트 ID (dev_logs만, 많으면 null)
+     * @param from 변경된 로그의 가장 이른 날짜 (dev_logs만)
+     * @param to 변경된 로그의 가장 늦은 날짜 (dev_logs만)
+     */
+    public record Change(String table, String op, String node, List<Long> ids, List<Long> projectIds,
+                         LocalDate from, LocalDate to) {
+    }
+
+    private final StatisticsCache statisticsCache;
+    private final CalendarHeatmap calendarHeatmap;
+    private final ActivityIndex activityIndex;
+    private final LogSearchIndex logSearchIndex;
+    private final TechTagRegistry techTagRegistry;
+    private final ChangeVersions changeVersions;
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+    private volatile Connection connection;
+    private String ownApplicationName;
+
+    public DatabaseChangeListener(StatisticsCache statisticsCache,
+                                  CalendarHeatmap calendarHeatmap,
+                                  ActivityIndex activityIndex,
+                                  LogSearchIndex logSearchIndex,
+                                  TechTagRegistry techTagRegistry,
+                                  ChangeVersions changeVersions,
+                                  DataSource dataSource,
+                                  ObjectMapper objectMapper,
+                                  @Value("${devlog.cluster.listen:true}") boolean enabled,
+                                  @Value("${spring.datasource.url}") String url,
+                                  @Value("${spring.datasource.username}") String username,
+                                  @Value("${spring.datasource.password}") String password,
+                                  @Value("${devlog.cluster.poll-timeout-ms:10000}") int pollTimeoutMillis,
+                                  @Value("${devlog.cluster.reconnect-delay-ms:5000}") long reconnectDelayMillis) {
+        this.statisticsCache = statisticsCache;
+        this.calendarHeatmap = calendarHeatmap;
+        this.activityIndex = activityIndex;
+        this.logSearchIndex = logSearchIndex;
+        this.techTagRegistry = techTagRegistry;
+        this.changeVersions = changeVersions;
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Database change listener disabled");
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listenLoop, "db-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+        closeQuietly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 알림 한 건 처리
+     *
+     * @param payload 트리거가 보낸 JSON
+     */
+    void handle(String payload) {
+        Change change;
+        try {
+            change = objectMapper.readValue(payload, Change.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed change notification: {}", payload);
+            return;
+        }
+        if (ownApplicationName != null && ownApplicationName.equals(change.node())) {
+            return;
+        }
+        apply(change);
+    }
+
+    /**
+     * 변경 종류에 맞춰 로컬 캐시 무효화
+     *
+     * @param change 변경 요약
+     */
+    void apply(Change change) {
+        log.debug("External change: {}", change);
+        switch (change.table()) {
+            case "dev_logs" -> {
+                statisticsCache.evictRange(change.projectIds(), change.from(), change.to());
+                calendarHeatmap.evictRange(change.from(), change.to());
+                activityIndex.applyRemote(change.projectIds(), change.from(), change.to());
+                changeVersions.markChanged(ChangeVersions.Domain.LOGS);
+                if (!logSearchIndex.isReady()) {
+                    return;
+                }
+                if (change.ids() != null) {
+                    logSearchIndex.refresh(change.ids());
+                } else {
+                    logSearchIndex.build();
+                }
+            }
+            case "projects" -> {
+                if (change.ids() != null) {
+                    change.ids().forEach(statisticsCache::evictProject);
+                } else {
+                    statisticsCache.evictAll();
+                }
+                changeVersions.markChanged(ChangeVersions.Domain.PROJECTS, ChangeVersions.Domain.LOGS);
+            }
+            case "tech_tags" -> {
+                // 태그 삭제로 끊긴 로그 연결은 log_tech_tags 알림으로 따로 옴
+                if (techTagRegistry.isReady()) {
+                    techTagRegistry.reload();
+                }
+                statisticsCache.evictTechTags();
+                changeVersions.markChanged(ChangeVersions.Domain.TECH_TAGS);
+            }
+            case "log_tech_tags" -> {
+                statisticsCache.evictTechTags();
+                changeVersions.markChanged(ChangeVersions.Domain.TECH_TAGS, ChangeVersions.Domain.LOGS);
+            }
+            default -> log.debug("Ignoring change notification for table: {}", change.table());
+        }
+    }
+
+    /**
+     * 알림을 놓쳤을 수 있을 때 전체 무효화
+     */
+    void invalidateAll() {
+        statisticsCache.evictAll();
+        calendarHeatmap.evictAll();
+        activityIndex.invalidate();
+        changeVersions.markChanged(ChangeVersions.Domain.values());
+        // 시작 시 데이터베이스에 연결하지 못해 준비되지 않았어도 여기서 다시 로드
+        techTagRegistry.load();
+        if (logSearchIndex.isReady()) {
+            logSearchIndex.build();
+        }
+    }
+
+    private void listenLoop() {
+        boolean reconnecting = false;
+        while (running) {
+            try {
+                connect();
+                if (reconnecting) {
+                    log.info("Database change listener reconnected, invalidating local caches");
+                    invalidateAll();
+                }
+                reconnecting = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications == null || notifications.length == 0) {
+                        // 조용한 동안에도 끊긴 연결을 감지
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Database change listener connection lost: {}", e.getMessage());
+                }
+            } catch (RuntimeException e) {
+                log.error("Database change listener failed to apply notification", e);
+            } finally {
+                closeQuietly();
+            }
+            sleepBeforeReconnect();
+        }
+    }
+
+    private void connect() throws SQLException {
+        if (ownApplicationName == null) {
+            ownApplicationName = resolveOwnApplicationName();
+        }
+        Properties properties = new Properties();
+        properties.setProperty("user", username);
+        properties.setProperty("password", password);
+        properties.setProperty("ApplicationName", "devlog-listener");
+        connection = DriverManager.getConnection(url, properties);
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        log.info("Database change listener listening on channel '{}' (own node: {})", CHANNEL, ownApplicationName);
+    }
+
+    /**
+     * 이 인스턴스 커넥션 풀의 application_name (자기 알림을 건너뛰는 데 사용)
+     * pgjdbc 기본값이면 인스턴스를 구분할 수 없으므로 null을 반환해 모든 알림을 처리합니다.
+     */
+    private String resolveOwnApplicationName() throws SQLException {
+        try (Connection pooled = dataSource.getConnection();
+             Statement statement = pooled.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT current_setting('application_name')")) {
+            String name = rs.next() ? rs.getString(1) : null;
+            return name == null || name.isEmpty() || DEFAULT_APPLICATION_NAME.equals(name) ? null : name;
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void closeQuietly() {
+        Connection current = connection;
+        connection = null;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (SQLException e) {
+                log.debug("Error closing listener connection: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -1,18 +1,33 @@
 package com.vibecoding.devlog.service;
 
 import com.vibecoding.devlog.dto.request.DevLogCreateRequest;
+import com.vibecoding.devlog.dto.request.LogCursor;
+import com.vibecoding.devlog.dto.request.LogFields;
+import com.vibecoding.devlog.dto.response.CalendarHeatmapDTO;
+import com.vibecoding.devlog.dto.response.CursorPage;
+import com.vibecoding.devlog.dto.response.SearchPage;
 import com.vibecoding.devlog.mapper.DevLogMapper;
 import com.vibecoding.devlog.model.DevLog;
+import com.vibecoding.devlog.model.TechTag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 개발 로그 서비스
@@ -24,11 +39,40 @@ import java.util.Optional;
  */
 @Slf4j
 @Service
+@Timed("devlog.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DevLogService {
 
+    /**
+     * 페이지 크기 기본값
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * 페이지 크기 최대값
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 검색 결과 발췌 시 키워드 앞뒤로 포함할 글자 수
+     */
+    private static final int SNIPPET_CONTEXT = 40;
+
+    /**
+     * 검색 결과를 ID로 조회할 때 한 번에 넘기는 ID 수
+     */
+    private static final int SEARCH_FETCH_BATCH_SIZE = 1000;
+
     private final DevLogMapper devLogMapper;
+    private final LogSearchIndex logSearchIndex;
+    private final ProjectStatsService projectStatsService;
+    private final StatisticsCache statisticsCache;
+    private final ChangeVersions changeVersions;
+    private final ChangeFeed changeFeed;
+    private final TagUsageCounter tagUsageCounter;
+    private final CalendarHeatmap calendarHeatmap;
+    private final ActivityIndex activityIndex;
 
     /**
      * 모든 개발 로그 조회
@@ -36,12 +80,48 @@ public class DevLogService {
      * @param projectId 필터링할 프로젝트 ID (선택사항)
      * @param startDate 시작 날짜 (선택사항)
      * @param endDate 종료 날짜 (선택사항)
+     * @param fields 조회할 필드 (null이면 전체)
      * @return 개발 로그 목록
      */
-    public List<DevLog> findAll(Long projectId, LocalDateTime startDate, LocalDateTime endDate) {
-        log.debug("Finding all dev logs - projectId: {}, startDate: {}, endDate: {}",
-                projectId, startDate, endDate);
-        return devLogMapper.findAll(projectId, startDate, endDate);
+    public List<DevLog> findAll(Long projectId, LocalDateTime startDate, LocalDateTime endDate, LogFields fields) {
+        log.debug("Finding all dev logs - projectId: {}, startDate: {}, endDate: {}, fields: {}",
+                projectId, startDate, endDate, fields);
+        return devLogMapper.findAll(projectId, startDate, endDate, fields);
+    }
+
+    /**
+     * 키셋 페이지네이션으로 개발 로그 조회
+     * OFFSET 없이 (log_date, created_at, id) 인덱스를 따라 커서 이후 로그만 조회합니다.
+     *
+     * @param projectId 필터링할 프로젝트 ID (선택사항)
+     * @param startDate 시작 날짜 (선택사항)
+     * @param endDate 종료 날짜 (선택사항)
+     * @param after 이전 페이지의 after 토큰 (선택사항)
+     * @param limit 조회할 개수 (1 ~ MAX_PAGE_SIZE)
+     * @param fields 조회할 필드 (null이면 전체)
+     * @return 로그 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 커서 토큰이 올바르지 않은 경우
+     */
+    public CursorPage<DevLog> findPage(Long projectId, LocalDateTime startDate, LocalDateTime endDate,
+                                       String after, int limit, LogFields fields) {
+        log.debug("Finding dev log page - projectId: {}, startDate: {}, endDate: {}, after: {}, limit: {}",
+                projectId, startDate, endDate, after, limit);
+
+        int pageSize = (limit <= 0) ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        LogCursor cursor = (after != null && !after.trim().isEmpty()) ? LogCursor.decode(after) : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<DevLog> rows = devLogMapper.findPage(projectId, startDate, endDate, cursor, pageSize + 1, fields);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<DevLog> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? LogCursor.of(items.get(items.size() - 1)).encode() : null;
+
+        return CursorPage.<DevLog>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
@@ -59,14 +139,89 @@ public class DevLogService {
      * 개발 로그 검색
      *
      * @param keyword 검색 키워드
-     * @return 검색 결과 목록
+     * @return 검색 결과 목록 (관련도 순, 첫 페이지)
      */
     public List<DevLog> search(String keyword) {
+        return search(keyword, null);
+    }
+
+    /**
+     * 개발 로그 검색 (선택한 필드만, 일치한 로그 전체)
+     * 페이지가 필요하면 {@link #searchPage(String, int, int, LogFields)}를 사용합니다.
+     *
+     * @param keyword 검색 키워드
+     * @param fields 조회할 필드 (null이면 전체)
+     * @return 검색 결과 목록 (관련도 순)
+     */
+    public List<DevLog> search(String keyword, LogFields fields) {
         log.debug("Searching dev logs by keyword: {}", keyword);
         if (keyword == null || keyword.trim().isEmpty()) {
-            return devLogMapper.findAll(null, null, null);
+            return devLogMapper.findAll(null, null, null, fields);
         }
-        return devLogMapper.search(keyword.trim());
+
+        String trimmed = keyword.trim();
+        List<DevLog> results = logSearchIndex.isReady()
+                ? findHits(logSearchIndex.search(trimmed, 0, Integer.MAX_VALUE), fields)
+                : devLogMapper.search(trimmed, toLikePattern(trimmed), 0, null, fields);
+        attachSnippets(results, trimmed);
+        return results;
+    }
+
+    /**
+     * 개발 로그 검색 (페이지 단위)
+     * 인메모리 역색인(LogSearchIndex)의 BM25 순위로 검색하고, 해당 페이지의 로그만 ID로 조회합니다.
+     * 색인이 준비되기 전에는 search_text 트라이그램 인덱스로 검색합니다.
+     * 각 결과에는 키워드가 강조된 발췌를 붙입니다.
+     *
+     * @param keyword 검색 키워드
+     * @param page 페이지 번호 (1부터 시작)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @param fields 조회할 필드 (null이면 전체, 발췌는 조회한 필드에서만 생성)
+     * @return 검색 결과 목록 (관련도 순)
+     */
+    public List<DevLog> search(String keyword, int page, int size, LogFields fields) {
+        return searchPage(keyword, page, size, fields).getItems();
+    }
+
+    /**
+     * 개발 로그 검색 (페이지 단위, 전체 일치 수 포함)
+     *
+     * @param keyword 검색 키워드
+     * @param page 페이지 번호 (1부터 시작)
+     * @param size 페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @param fields 조회할 필드 (null이면 전체, 발췌는 조회한 필드에서만 생성)
+     * @return 검색 결과 페이지 (관련도 순)
+     */
+    public SearchPage<DevLog> searchPage(String keyword, int page, int size, LogFields fields) {
+        log.debug("Searching dev logs by keyword: {}, page: {}, size: {}", keyword, page, size);
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return SearchPage.<DevLog>builder().items(List.of()).total(0).build();
+        }
+
+        String trimmed = keyword.trim();
+        int pageSize = (size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int offset = (Math.max(page, 1) - 1) * pageSize;
+
+        List<DevLog> results;
+        long total;
+        if (logSearchIndex.isReady()) {
+            LogSearchIndex.Page hits = logSearchIndex.searchPage(trimmed, offset, pageSize);
+            results = findHits(hits.hits(), fields);
+            total = hits.total();
+        } else {
+            String pattern = toLikePattern(trimmed);
+            results = devLogMapper.search(trimmed, pattern, offset, pageSize, fields);
+            // 첫 페이지가 다 차지 않았으면 그 수가 전체이므로 COUNT 생략
+            total = (offset == 0 && results.size() < pageSize)
+                    ? results.size()
+                    : devLogMapper.countSearch(pattern);
+        }
+        attachSnippets(results, trimmed);
+
+        return SearchPage.<DevLog>builder()
+                .items(results)
+                .total(total)
+                .build();
     }
 
     /**
@@ -94,25 +249,47 @@ public class DevLogService {
 
     /**
      * 캘린더 데이터 조회
+     * 인메모리 연간 히트맵(CalendarHeatmap)에서 해당 월의 날짜만 읽습니다.
      *
      * @param year 년도
      * @param month 월
-     * @return 날짜별 로그 개수
+     * @return 날짜별 로그 개수와 작업 시간
+     * @throws IllegalArgumentException 년도나 월이 범위를 벗어난 경우
      */
     public List<Map<String, Object>> findCalendarData(int year, int month) {
         log.debug("Finding calendar data for {}-{}", year, month);
-        return devLogMapper.findCalendarData(year, month);
+
+        validateYear(year);
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month: " + month + ". Must be between 1 and 12.");
+        }
+        return calendarHeatmap.getMonth(year, month);
+    }
+
+    /**
+     * 연간 캘린더 히트맵 조회
+     *
+     * @param year 년도
+     * @return 날짜별 로그 수/작업 시간 배열과 합계
+     * @throws IllegalArgumentException 년도가 범위를 벗어난 경우
+     */
+    public CalendarHeatmapDTO findCalendarYear(int year) {
+        log.debug("Finding calendar heatmap for {}", year);
+
+        validateYear(year);
+        return calendarHeatmap.getYear(year);
     }
 
     /**
      * 최근 개발 로그 조회
      *
      * @param limit 조회할 개수
+     * @param fields 조회할 필드 (null이면 전체)
      * @return 최근 로그 목록
      */
-    public List<DevLog> findRecent(int limit) {
-        log.debug("Finding recent dev logs, limit: {}", limit);
-        return devLogMapper.findRecent(limit);
+    public List<DevLog> findRecent(int limit, LogFields fields) {
+        log.debug("Finding recent dev logs, limit: {}, fields: {}", limit, fields);
+        return devLogMapper.findRecent(limit, fields);
     }
 
     /**
@@ -140,15 +317,24 @@ public class DevLogService {
             throw new RuntimeException("Failed to create dev log");
         }
 
-        // 기술 태그 연결
-        if (request.getTechTagIds() != null && !request.getTechTagIds().isEmpty()) {
-            for (Long tagId : request.getTechTagIds()) {
-                devLogMapper.insertLogTechTag(devLog.getId(), tagId);
-            }
+        // 기술 태그 연결 (태그 수와 무관하게 INSERT 한 번)
+        Set<Long> tagIds = toTagIdSet(request.getTechTagIds());
+        if (!tagIds.isEmpty()) {
+            devLogMapper.insertLogTechTags(devLog.getId(), tagIds);
+            tagUsageCounter.linked(tagIds);
         }
 
+        DevLog created = devLogMapper.findById(devLog.getId());
+        projectStatsService.applyChange(null, created);
+        statisticsCache.evictLog(null, created);
+        changeVersions.markChanged(ChangeVersions.Domain.LOGS, ChangeVersions.Domain.TECH_TAGS);
+        changeFeed.logChanged(null, created);
+        logSearchIndex.add(created);
+        calendarHeatmap.applyChange(null, created);
+        activityIndex.applyChange(null, created);
+
         log.info("Dev log created successfully with id: {}", devLog.getId());
-        return devLogMapper.findById(devLog.getId());
+        return created;
     }
 
     /**
@@ -162,7 +348,8 @@ public class DevLogService {
     public DevLog update(Long id, DevLogCreateRequest request) {
         log.debug("Updating dev log with id: {}", id);
 
-        DevLog existing = devLogMapper.findById(id);
+        // 변경 전 값으로 롤업/색인 변화량을 계산하므로 트랜잭션이 끝날 때까지 행을 잠금
+        DevLog existing = devLogMapper.findByIdForUpdate(id);
         if (existing == null) {
             throw new IllegalArgumentException("Dev log not found with id: " + id);
         }
@@ -177,16 +364,20 @@ public class DevLogService {
             throw new RuntimeException("Failed to update dev log");
         }
 
-        // 기존 태그 연결 삭제 후 새로 연결
-        devLogMapper.deleteLogTechTags(id);
-        if (request.getTechTagIds() != null && !request.getTechTagIds().isEmpty()) {
-            for (Long tagId : request.getTechTagIds()) {
-                devLogMapper.insertLogTechTag(id, tagId);
-            }
-        }
+        // 기존 태그와 비교해 바뀐 연결만 삭제/추가
+        syncTechTags(id, request.getTechTagIds());
+
+        DevLog updated = devLogMapper.findById(id);
+        projectStatsService.applyChange(existing, updated);
+        statisticsCache.evictLog(existing, updated);
+        changeVersions.markChanged(ChangeVersions.Domain.LOGS, ChangeVersions.Domain.TECH_TAGS);
+        changeFeed.logChanged(existing, updated);
+        logSearchIndex.update(updated);
+        calendarHeatmap.applyChange(existing, updated);
+        activityIndex.applyChange(existing, updated);
 
         log.info("Dev log updated successfully with id: {}", id);
-        return devLogMapper.findById(id);
+        return updated;
     }
 
     /**
@@ -198,18 +389,31 @@ public class DevLogService {
     public void delete(Long id) {
         log.debug("Deleting dev log with id: {}", id);
 
-        DevLog existing = devLogMapper.findById(id);
+        // 변경 전 값으로 롤업/색인 변화량을 계산하므로 트랜잭션이 끝날 때까지 행을 잠금
+        DevLog existing = devLogMapper.findByIdForUpdate(id);
         if (existing == null) {
             throw new IllegalArgumentException("Dev log not found with id: " + id);
         }
 
         // 태그 연결 먼저 삭제
         devLogMapper.deleteLogTechTags(id);
+        if (existing.getTechTags() != null && !existing.getTechTags().isEmpty()) {
+            tagUsageCounter.unlinked(existing.getTechTags().stream()
+                    .map(TechTag::getId)
+                    .collect(Collectors.toList()));
+        }
 
         int result = devLogMapper.delete(id);
         if (result == 0) {
             throw new RuntimeException("Failed to delete dev log");
         }
+        projectStatsService.applyChange(existing, null);
+        statisticsCache.evictLog(existing, null);
+        changeVersions.markChanged(ChangeVersions.Domain.LOGS, ChangeVersions.Domain.TECH_TAGS);
+        changeFeed.logChanged(existing, null);
+        logSearchIndex.remove(existing.getId());
+        calendarHeatmap.applyChange(existing, null);
+        activityIndex.applyChange(existing, null);
 
         log.info("Dev log deleted successfully with id: {}", id);
     }
@@ -244,6 +448,164 @@ public class DevLogService {
         return devLogMapper.countByDateRange(startDate, endDate);
     }
 
+    /**
+     * 로그의 태그 연결을 요청한 태그 집합과 같게 맞춤
+     * 조회 1번과 바뀐 태그에 대한 DELETE/INSERT 최대 1번씩만 실행합니다.
+     *
+     * @param logId 로그 ID
+     * @param requestedTagIds 요청한 태그 ID 목록 (null이면 모든 연결 삭제)
+     */
+    private void syncTechTags(Long logId, List<Long> requestedTagIds) {
+        Set<Long> target = toTagIdSet(requestedTagIds);
+        Set<Long> current = new HashSet<>(devLogMapper.findTechTagIds(logId));
+
+        List<Long> removed = current.stream()
+                .filter(tagId -> !target.contains(tagId))
+                .collect(Collectors.toList());
+        List<Long> added = target.stream()
+                .filter(tagId -> !current.contains(tagId))
+                .collect(Collectors.toList());
+
+        if (!removed.isEmpty()) {
+            devLogMapper.deleteLogTechTagsIn(logId, removed);
+            tagUsageCounter.unlinked(removed);
+        }
+        if (!added.isEmpty()) {
+            devLogMapper.insertLogTechTags(logId, added);
+            tagUsageCounter.linked(added);
+        }
+    }
+
+    /**
+     * 요청 태그 ID 목록에서 null과 중복 제거 (순서 유지)
+     */
+    private Set<Long> toTagIdSet(List<Long> tagIds) {
+        Set<Long> result = new LinkedHashSet<>();
+        if (tagIds != null) {
+            for (Long tagId : tagIds) {
+                if (tagId != null) {
+                    result.add(tagId);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 인메모리 역색인 검색 결과를 순위대로 로그 조회
+     *
+     * @param hits 검색 결과
+     * @param fields 조회할 필드 (null이면 전체)
+     * @return BM25 순위 순서의 로그 목록
+     */
+    private List<DevLog> findHits(List<LogSearchIndex.Hit> hits, LogFields fields) {
+        if (hits.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, DevLog> byId = new HashMap<>();
+        for (int from = 0; from < hits.size(); from += SEARCH_FETCH_BATCH_SIZE) {
+            List<Long> ids = hits.subList(from, Math.min(from + SEARCH_FETCH_BATCH_SIZE, hits.size())).stream()
+                    .map(LogSearchIndex.Hit::logId)
+                    .collect(Collectors.toList());
+            for (DevLog devLog : devLogMapper.findByIds(ids, fields)) {
+                byId.put(devLog.getId(), devLog);
+            }
+        }
+
+        List<DevLog> results = new ArrayList<>(hits.size());
+        for (LogSearchIndex.Hit hit : hits) {
+            DevLog devLog = byId.get(hit.logId());
+            if (devLog != null) {
+                devLog.setSearchRank(hit.score());
+                results.add(devLog);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 검색 결과마다 키워드가 강조된 발췌 추가
+     *
+     * @param results 검색 결과
+     * @param keyword 검색 키워드
+     */
+    private void attachSnippets(List<DevLog> results, String keyword) {
+        for (DevLog devLog : results) {
+            devLog.setSearchSnippet(buildSnippet(devLog, keyword));
+        }
+    }
+
+    /**
+     * 키워드를 ILIKE 부분 일치 패턴으로 변환 (와일드카드 이스케이프)
+     *
+     * @param keyword 검색 키워드
+     * @return %keyword% 형태의 패턴
+     */
+    private String toLikePattern(String keyword) {
+        String escaped = keyword
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * 키워드가 처음 등장하는 필드에서 앞뒤 문맥을 잘라 강조된 발췌 생성
+     * 본문은 HTML 이스케이프되며 일치 부분만 &lt;mark&gt;로 감쌉니다.
+     *
+     * @param devLog 검색 결과 로그
+     * @param keyword 검색 키워드
+     * @return 강조된 발췌, 일치하는 필드가 없으면 null
+     */
+    private String buildSnippet(DevLog devLog, String keyword) {
+        String needle = keyword.toLowerCase(Locale.ROOT);
+        String[] fields = {
+                devLog.getTitle(), devLog.getDescription(), devLog.getAchievements(),
+                devLog.getChallenges(), devLog.getLearnings()
+        };
+
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            int index = field.toLowerCase(Locale.ROOT).indexOf(needle);
+            if (index < 0 || index + keyword.length() > field.length()) {
+                continue;
+            }
+
+            int start = Math.max(0, index - SNIPPET_CONTEXT);
+            int end = Math.min(field.length(), index + keyword.length() + SNIPPET_CONTEXT);
+
+            StringBuilder snippet = new StringBuilder();
+            if (start > 0) {
+                snippet.append("...");
+            }
+            snippet.append(HtmlUtils.htmlEscape(field.substring(start, index)))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(field.substring(index, index + keyword.length())))
+                    .append("</mark>")
+                    .append(HtmlUtils.htmlEscape(field.substring(index + keyword.length(), end)));
+            if (end < field.length()) {
+                snippet.append("...");
+            }
+            return snippet.toString();
+        }
+        return null;
+    }
+
+    /**
+     * 캘린더 년도 범위 검증
+     *
+     * @param year 년도
+     * @throws IllegalArgumentException 1 ~ 9999 범위를 벗어난 경우
+     */
+    private void validateYear(int year) {
+        if (year < 1 || year > 9999) {
+            throw new IllegalArgumentException("Invalid year: " + year + ". Must be between 1 and 9999.");
+        }
+    }
+
     /**
      * 개발 로그 유효성 검증
      *
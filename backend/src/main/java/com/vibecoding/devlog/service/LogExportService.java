@@ -0,0 +1,118 @@
+package com.vibecoding.devlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecoding.devlog.mapper.DevLogMapper;
+import com.vibecoding.devlog.model.DevLog;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * 개발 로그 내보내기 서비스
+ *
+ * MyBatis Cursor로 로그를 fetch size 단위로 읽으면서 바로 출력 스트림에 씁니다.
+ * PostgreSQL은 트랜잭션 안(autocommit 꺼짐)에서만 fetch size를 적용하므로 읽기 전용 트랜잭션에서 실행합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Timed("devlog.service")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LogExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * 형식 이름으로 조회
+         *
+         * @param name 형식 이름 (ndjson, csv)
+         * @return 내보내기 형식
+         * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+         */
+        public static Format from(String name) {
+            if (name != null) {
+                switch (name.trim().toLowerCase(Locale.ROOT)) {
+                    case "ndjson", "jsonl":
+                        return NDJSON;
+                    case "csv":
+                        return CSV;
+                    default:
+                        break;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + name);
+        }
+    }
+
+    private final DevLogMapper devLogMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 조건에 맞는 로그를 출력 스트림으로 내보내기
+     *
+     * @param projectId 필터링할 프로젝트 ID (선택사항)
+     * @param startDate 시작 날짜, 포함 (선택사항)
+     * @param endDate 종료 날짜, 포함 (선택사항)
+     * @param format 출력 형식
+     * @param out 출력 스트림 (닫지 않음)
+     * @return 내보낸 로그 수
+     */
+    public long export(Long projectId, LocalDate startDate, LocalDate endDate,
+                       Format format, OutputStream out) throws IOException {
+        log.debug("Exporting dev logs - projectId: {}, startDate: {}, endDate: {}, format: {}",
+                projectId, startDate, endDate, format);
+
+        LocalDate endExclusive = endDate != null ? endDate.plusDays(1) : null;
+
+        long started = System.currentTimeMillis();
+        long count = 0;
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        LogExportWriter writer = new LogExportWriter(buffered, format, objectMapper.getFactory());
+        try (Cursor<DevLog> cursor = devLogMapper.streamAll(projectId, startDate, endExclusive)) {
+            for (DevLog devLog : cursor) {
+                writer.write(devLog);
+                count++;
+            }
+        }
+        writer.flush();
+        buffered.flush();
+
+        log.info("Exported {} dev logs as {} in {} ms", count, format, System.currentTimeMillis() - started);
+        return count;
+    }
+}
@@ -0,0 +1,168 @@
+package com.vibecoding.devlog.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.vibecoding.devlog.model.DevLog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 개발 로그 내보내기 출력기
+ *
+ * 로그를 한 건씩 NDJSON 또는 CSV로 출력 스트림에 씁니다.
+ * 행을 모아두지 않으므로 내보내는 로그 수와 무관하게 메모리 사용량이 일정합니다.
+ *
+ * 필드 이름은 DevLogCreateRequest와 같아서, NDJSON 출력은 그대로 일괄 가져오기에 쓸 수 있습니다.
+ * CSV에서 techTagIds는 세미콜론으로 구분합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+final class LogExportWriter {
+
+    private record Column(String name, Function<DevLog, Object> getter) {
+    }
+
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", DevLog::getId),
+            new Column("projectId", DevLog::getProjectId),
+            new Column("logDate", DevLog::getLogDate),
+            new Column("startTime", DevLog::getStartTime),
+            new Column("endTime", DevLog::getEndTime),
+            new Column("title", DevLog::getTitle),
+            new Column("description", DevLog::getDescription),
+            new Column("achievements", DevLog::getAchievements),
+            new Column("challenges", DevLog::getChallenges),
+            new Column("learnings", DevLog::getLearnings),
+            new Column("codeSnippets", DevLog::getCodeSnippets),
+            new Column("mood", DevLog::getMood),
+            new Column("techTagIds", DevLog::getTechTagIds),
+            new Column("createdAt", DevLog::getCreatedAt),
+            new Column("updatedAt", DevLog::getUpdatedAt)
+    );
+
+    private final LogExportService.Format format;
+    private final Writer writer;
+    private final JsonGenerator generator;
+
+    /**
+     * @param out 출력 스트림 (닫지 않음, 버퍼링은 호출 측 책임)
+     * @param format 출력 형식
+     * @param jsonFactory NDJSON 출력에 쓸 JsonFactory
+     */
+    LogExportWriter(OutputStream out, LogExportService.Format format, JsonFactory jsonFactory) throws IOException {
+        this.format = format;
+        this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        if (format == LogExportService.Format.NDJSON) {
+            this.generator = jsonFactory.createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        } else {
+            this.generator = null;
+            writeCsvHeader();
+        }
+    }
+
+    /**
+     * 로그 한 건 쓰기
+     *
+     * @param devLog 내보낼 로그
+     */
+    void write(DevLog devLog) throws IOException {
+        if (generator != null) {
+            writeJson(devLog);
+        } else {
+            writeCsv(devLog);
+        }
+    }
+
+    /**
+     * 남은 버퍼를 출력 스트림으로 내보냄 (스트림은 닫지 않음)
+     */
+    void flush() throws IOException {
+        if (generator != null) {
+            generator.flush();
+        }
+        writer.flush();
+    }
+
+    private void writeJson(DevLog devLog) throws IOException {
+        generator.writeStartObject();
+        for (Column column : COLUMNS) {
+            Object value = column.getter().apply(devLog);
+            generator.writeFieldName(column.name());
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Long number) {
+                generator.writeNumber(number);
+            } else if (value instanceof Long[] ids) {
+                generator.writeStartArray();
+                for (Long id : ids) {
+                    generator.writeNumber(id);
+                }
+                generator.writeEndArray();
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private void writeCsvHeader() throws IOException {
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(COLUMNS.get(i).name());
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsv(DevLog devLog) throws IOException {
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = COLUMNS.get(i).getter().apply(devLog);
+            if (value instanceof Long[] ids) {
+                StringBuilder joined = new StringBuilder();
+                for (Long id : ids) {
+                    if (joined.length() > 0) {
+                        joined.append(';');
+                    }
+                    joined.append(id);
+                }
+                value = joined;
+            }
+            if (value != null) {
+                writeCsvField(value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 필드 쓰기 (쉼표, 따옴표, 줄바꿈이 있을 때만 따옴표로 감쌈)
+     */
+    private void writeCsvField(String text) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,284 @@
+package com.vibecoding.devlog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecoding.devlog.dto.request.DevLogCreateRequest;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 개발 로그 가져오기 입력 리더
+ *
+ * NDJSON(한 줄에 DevLogCreateRequest 하나) 또는 CSV(첫 줄이 필드 이름 헤더)를
+ * 한 행씩 읽습니다. 입력 전체를 메모리에 올리지 않으며, 형식이 잘못된 행은
+ * 예외 대신 오류 행으로 돌려주어 나머지 행을 계속 처리할 수 있게 합니다.
+ *
+ * CSV 규칙
+ * - RFC 4180 따옴표 규칙 (큰따옴표 안의 쉼표/줄바꿈 허용, "" 는 큰따옴표 하나)
+ * - 빈 칸은 null
+ * - techTagIds는 세미콜론으로 구분 (예: 1;4;7)
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+final class LogImportReader implements Closeable {
+
+    /**
+     * 입력 형식
+     */
+    enum Format {
+        NDJSON, CSV;
+
+        /**
+         * format 파라미터가 있으면 그것을, 없으면 Content-Type으로 형식 결정
+         *
+         * @param format 형식 이름 (ndjson, csv)
+         * @param contentType 요청 Content-Type
+         * @return 입력 형식
+         * @throws IllegalArgumentException 지원하지 않는 형식인 경우
+         */
+        static Format resolve(String format, String contentType) {
+            if (format != null && !format.isBlank()) {
+                switch (format.trim().toLowerCase(Locale.ROOT)) {
+                    case "ndjson", "jsonl":
+                        return NDJSON;
+                    case "csv":
+                        return CSV;
+                    default:
+                        throw new IllegalArgumentException("Unsupported import format: " + format);
+                }
+            }
+            String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+            if (type.contains("csv")) {
+                return CSV;
+            }
+            if (type.contains("ndjson") || type.contains("jsonl") || type.contains("json-seq")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+        }
+    }
+
+    /**
+     * 읽은 행
+     *
+     * @param line 행이 시작된 줄 번호 (1부터)
+     * @param request 변환된 요청 (오류 행이면 null)
+     * @param error 오류 사유 (정상 행이면 null)
+     */
+    record Row(long line, DevLogCreateRequest request, String error) {
+
+        boolean isValid() {
+            return error == null;
+        }
+    }
+
+    private static final String TECH_TAG_IDS = "techTagIds";
+
+    /**
+     * CSV 헤더로 쓸 수 있는 필드 이름 (대소문자 무시)
+     */
+    private static final Map<String, String> CSV_COLUMNS = new HashMap<>();
+
+    static {
+        for (String name : Arrays.asList("projectId", "title", "description", "startTime", "endTime",
+                "achievements", "challenges", "learnings", "codeSnippets", "logDate", "mood", TECH_TAG_IDS)) {
+            CSV_COLUMNS.put(name.toLowerCase(Locale.ROOT), name);
+        }
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final List<String> header;
+
+    private long lineNo = 0;
+    private boolean unterminatedQuote = false;
+
+    /**
+     * @param in 입력 스트림 (UTF-8)
+     * @param format 입력 형식
+     * @param objectMapper 요청 변환에 쓸 ObjectMapper (Java Time 모듈 필요)
+     * @throws IllegalArgumentException CSV 헤더가 없거나 알 수 없는 컬럼이 있는 경우
+     */
+    LogImportReader(InputStream in, Format format, ObjectMapper objectMapper) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.header = format == Format.CSV ? readHeader() : List.of();
+    }
+
+    /**
+     * 다음 행 읽기 (빈 줄은 건너뜀)
+     *
+     * @return 다음 행, 입력이 끝났으면 null
+     */
+    Row next() throws IOException {
+        return format == Format.NDJSON ? nextJson() : nextCsv();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row nextJson() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                return new Row(lineNo, objectMapper.readValue(line, DevLogCreateRequest.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(lineNo, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    private Row nextCsv() throws IOException {
+        while (true) {
+            long start = lineNo + 1;
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue;
+            }
+            if (unterminatedQuote) {
+                return new Row(start, null, "Unterminated quoted field");
+            }
+            if (fields.size() != header.size()) {
+                return new Row(start, null,
+                        "Expected " + header.size() + " columns but found " + fields.size());
+            }
+
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = fields.get(i);
+                if (value.isEmpty()) {
+                    continue;
+                }
+                String column = header.get(i);
+                if (TECH_TAG_IDS.equals(column)) {
+                    List<String> ids = new ArrayList<>();
+                    for (String id : value.split(";")) {
+                        if (!id.isBlank()) {
+                            ids.add(id.trim());
+                        }
+                    }
+                    values.put(column, ids);
+                } else {
+                    values.put(column, value);
+                }
+            }
+            try {
+                return new Row(start, objectMapper.convertValue(values, DevLogCreateRequest.class), null);
+            } catch (IllegalArgumentException e) {
+                return new Row(start, null, "Invalid value: " + rootMessage(e));
+            }
+        }
+    }
+
+    private List<String> readHeader() throws IOException {
+        List<String> fields = readRecord();
+        if (fields == null || (fields.size() == 1 && fields.get(0).isBlank())) {
+            throw new IllegalArgumentException("CSV header row is required");
+        }
+        List<String> columns = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            String name = field.trim();
+            if (!name.isEmpty() && name.charAt(0) == '\uFEFF') {
+                name = name.substring(1);
+            }
+            String column = CSV_COLUMNS.get(name.toLowerCase(Locale.ROOT));
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown CSV column: " + name);
+            }
+            if (columns.contains(column)) {
+                throw new IllegalArgumentException("Duplicate CSV column: " + name);
+            }
+            columns.add(column);
+        }
+        return columns;
+    }
+
+    /**
+     * CSV 레코드 하나 읽기 (따옴표 안의 줄바꿈은 레코드에 포함)
+     *
+     * @return 필드 목록, 입력이 끝났으면 null
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        unterminatedQuote = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    unterminatedQuote = true;
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNo++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                lineNo++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        if (root instanceof JsonProcessingException jsonException) {
+            return jsonException.getOriginalMessage();
+        }
+        return root.getMessage();
+    }
+}
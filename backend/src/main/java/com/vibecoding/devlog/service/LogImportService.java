@@ -0,0 +1,406 @@
+package com.vibecoding.devlog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecoding.devlog.dto.request.DevLogCreateRequest;
+import com.vibecoding.devlog.dto.response.LogImportResult;
+import com.vibecoding.devlog.mapper.LogImportMapper;
+import com.vibecoding.devlog.mapper.ProjectMapper;
+import com.vibecoding.devlog.model.DevLog;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 개발 로그 일괄 가져오기 서비스
+ *
+ * NDJSON/CSV 입력을 스트림으로 읽어 청크 단위로 저장합니다.
+ *
+ * 청크마다
+ * 1. 프로젝트/기술 태그 ID를 한 번에 확인하고 행 단위로 검증합니다.
+ * 2. 트랜잭션 하나에서 ID를 미리 할당하고, COPY FROM STDIN으로 임시 스테이징 테이블을 채운 뒤
+ *    dev_logs, log_tech_tags, project_stats에 각각 문장 하나로 병합합니다.
+ * 3. 커밋 후 통계 캐시를 비우고 검색 색인에 새 로그를 추가합니다.
+ *
+ * 검증에 실패한 행은 건너뛰고 줄 번호와 사유를 결과에 담습니다.
+ * 병합 중 DB 오류가 나면 그 청크만 롤백되고, 청크의 모든 행이 실패로 보고됩니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Timed("devlog.service")
+public class LogImportService {
+
+    private static final Set<String> MOODS = Set.of("GREAT", "GOOD", "NEUTRAL", "BAD", "TERRIBLE");
+    private static final int MAX_TITLE_LENGTH = 500;
+
+    private static final String COPY_SQL = "COPY dev_logs_import (id, project_id, log_date, start_time, end_time, "
+            + "title, description, achievements, challenges, learnings, code_snippets, mood, tag_ids) "
+            + "FROM STDIN WITH (FORMAT csv)";
+
+    private final LogImportMapper logImportMapper;
+    private final ProjectMapper projectMapper;
+    private final TechTagService techTagService;
+    private final LogSearchIndex logSearchIndex;
+    private final StatisticsCache statisticsCache;
+    private final CalendarHeatmap calendarHeatmap;
+    private final ActivityIndex activityIndex;
+    private final ChangeVersions changeVersions;
+    private final ChangeFeed changeFeed;
+    private final TagUsageCounter tagUsageCounter;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public LogImportService(LogImportMapper logImportMapper,
+                            ProjectMapper projectMapper,
+                            TechTagService techTagService,
+                            LogSearchIndex logSearchIndex,
+                            StatisticsCache statisticsCache,
+                            CalendarHeatmap calendarHeatmap,
+                            ActivityIndex activityIndex,
+                            ChangeVersions changeVersions,
+                            ChangeFeed changeFeed,
+                            TagUsageCounter tagUsageCounter,
+                            DataSource dataSource,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            @Value("${devlog.import.chunk-size:5000}") int chunkSize,
+                            @Value("${devlog.import.max-errors:1000}") int maxErrors) {
+        this.logImportMapper = logImportMapper;
+        this.projectMapper = projectMapper;
+        this.techTagService = techTagService;
+        this.logSearchIndex = logSearchIndex;
+        this.statisticsCache = statisticsCache;
+        this.calendarHeatmap = calendarHeatmap;
+        this.activityIndex = activityIndex;
+        this.changeVersions = changeVersions;
+        this.changeFeed = changeFeed;
+        this.tagUsageCounter = tagUsageCounter;
+        this.dataSource = dataSource;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * 개발 로그 일괄 가져오기
+     *
+     * @param in 요청 본문 (UTF-8)
+     * @param format 형식 이름 (ndjson, csv), 없으면 Content-Type으로 결정
+     * @param contentType 요청 Content-Type
+     * @return 처리 결과
+     * @throws IllegalArgumentException 형식을 알 수 없거나 CSV 헤더가 잘못된 경우
+     */
+    public LogImportResult importLogs(InputStream in, String format, String contentType) {
+        LogImportReader.Format resolved = LogImportReader.Format.resolve(format, contentType);
+        log.info("Importing dev logs, format: {}, chunkSize: {}", resolved, chunkSize);
+
+        long startedAt = System.currentTimeMillis();
+        LogImportResult result = LogImportResult.builder().build();
+
+        try (LogImportReader reader = new LogImportReader(in, resolved, objectMapper)) {
+            List<LogImportReader.Row> chunk = new ArrayList<>(chunkSize);
+            LogImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, result);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read import body", e);
+        }
+
+        result.setElapsedMillis(System.currentTimeMillis() - startedAt);
+        log.info("Dev log import finished - total: {}, imported: {}, failed: {}, elapsed: {}ms",
+                result.getTotalRows(), result.getImportedRows(), result.getFailedRows(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 검증을 통과한 행
+     */
+    private record ImportRow(long line, DevLog devLog, Set<Long> tagIds) {
+    }
+
+    private void importChunk(List<LogImportReader.Row> chunk, LogImportResult result) {
+        result.setTotalRows(result.getTotalRows() + chunk.size());
+
+        // 프로젝트/태그 존재 여부를 청크당 한 번씩 확인
+        Set<Long> projectIds = new HashSet<>();
+        Set<Long> tagIds = new HashSet<>();
+        for (LogImportReader.Row row : chunk) {
+            if (row.isValid()) {
+                DevLogCreateRequest request = row.request();
+                if (request.getProjectId() != null) {
+                    projectIds.add(request.getProjectId());
+                }
+                tagIds.addAll(toTagIdSet(request.getTechTagIds()));
+            }
+        }
+        Set<Long> existingProjects = projectIds.isEmpty()
+                ? Set.of() : new HashSet<>(projectMapper.findExistingIds(projectIds));
+        Set<Long> existingTags = techTagService.findExistingIds(tagIds);
+
+        List<ImportRow> valid = new ArrayList<>(chunk.size());
+        for (LogImportReader.Row row : chunk) {
+            String error = row.isValid()
+                    ? validate(row.request(), existingProjects, existingTags)
+                    : row.error();
+            if (error != null) {
+                addError(result, row.line(), error);
+            } else {
+                valid.add(toImportRow(row));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> merge(valid));
+            result.setImportedRows(result.getImportedRows() + valid.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to import chunk of {} rows starting at line {}: {}",
+                    valid.size(), valid.get(0).line(), e.getMessage());
+            String message = "Chunk rolled back: " + mostSpecificMessage(e);
+            for (ImportRow row : valid) {
+                addError(result, row.line(), message);
+            }
+        }
+    }
+
+    private void merge(List<ImportRow> rows) {
+        List<Long> ids = logImportMapper.nextLogIds(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).devLog().setId(ids.get(i));
+        }
+
+        logImportMapper.createStagingTable();
+        copyToStaging(rows);
+        logImportMapper.mergeLogs();
+        logImportMapper.mergeTechTags();
+        logImportMapper.mergeProjectStats();
+
+        List<DevLog> created = new ArrayList<>(rows.size());
+        Map<Long, Long> linked = new HashMap<>();
+        LocalDate firstDate = null;
+        LocalDate lastDate = null;
+        for (ImportRow row : rows) {
+            created.add(row.devLog());
+            row.tagIds().forEach(tagId -> linked.merge(tagId, 1L, Long::sum));
+            LocalDate logDate = row.devLog().getLogDate();
+            firstDate = (firstDate == null || logDate.isBefore(firstDate)) ? logDate : firstDate;
+            lastDate = (lastDate == null || logDate.isAfter(lastDate)) ? logDate : lastDate;
+        }
+        tagUsageCounter.add(linked);
+        statisticsCache.evictAll();
+        calendarHeatmap.evictRange(firstDate, lastDate);
+        changeVersions.markChanged(ChangeVersions.Domain.LOGS, ChangeVersions.Domain.TECH_TAGS);
+        logSearchIndex.addAll(created);
+        activityIndex.addAll(created);
+        changeFeed.logsImported(created.size());
+    }
+
+    /**
+     * 현재 트랜잭션의 커넥션으로 스테이징 테이블에 COPY
+     */
+    private void copyToStaging(List<ImportRow> rows) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copyIn = null;
+        try {
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+            StringBuilder line = new StringBuilder(512);
+            for (ImportRow row : rows) {
+                line.setLength(0);
+                appendCsvRow(line, row);
+                byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            copyIn.endCopy();
+        } catch (SQLException e) {
+            cancelQuietly(copyIn);
+            throw new UncategorizedSQLException("COPY into dev_logs_import", COPY_SQL, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private static void appendCsvRow(StringBuilder line, ImportRow row) {
+        DevLog devLog = row.devLog();
+        appendField(line, devLog.getId()).append(',');
+        appendField(line, devLog.getProjectId()).append(',');
+        appendField(line, devLog.getLogDate()).append(',');
+        appendField(line, devLog.getStartTime()).append(',');
+        appendField(line, devLog.getEndTime()).append(',');
+        appendField(line, devLog.getTitle()).append(',');
+        appendField(line, devLog.getDescription()).append(',');
+        appendField(line, devLog.getAchievements()).append(',');
+        appendField(line, devLog.getChallenges()).append(',');
+        appendField(line, devLog.getLearnings()).append(',');
+        appendField(line, devLog.getCodeSnippets()).append(',');
+        appendField(line, devLog.getMood()).append(',');
+        if (row.tagIds().isEmpty()) {
+            line.append('\n');
+            return;
+        }
+        StringBuilder array = new StringBuilder("{");
+        for (Long tagId : row.tagIds()) {
+            if (array.length() > 1) {
+                array.append(',');
+            }
+            array.append(tagId);
+        }
+        appendField(line, array.append('}')).append('\n');
+    }
+
+    /**
+     * COPY CSV 필드 추가 (값은 항상 따옴표로 감싸고, null은 빈 칸)
+     */
+    private static StringBuilder appendField(StringBuilder line, Object value) {
+        if (value == null) {
+            return line;
+        }
+        String text = value.toString();
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+
+    private static void cancelQuietly(CopyIn copyIn) {
+        if (copyIn != null && copyIn.isActive()) {
+            try {
+                copyIn.cancelCopy();
+            } catch (SQLException e) {
+                log.warn("Failed to cancel COPY: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 행 단위 검증 (DevLogService의 생성 검증과 DB 제약을 함께 확인)
+     *
+     * @return 오류 사유, 통과하면 null
+     */
+    String validate(DevLogCreateRequest request, Set<Long> existingProjects, Set<Long> existingTags) {
+        if (request == null) {
+            return "Dev log request cannot be null";
+        }
+        if (request.getProjectId() == null) {
+            return "Project id is required";
+        }
+        if (!existingProjects.contains(request.getProjectId())) {
+            return "Project not found: " + request.getProjectId();
+        }
+        if (request.getTitle() == null || request.getTitle().trim().isEmpty()) {
+            return "Dev log title is required";
+        }
+        if (request.getTitle().length() > MAX_TITLE_LENGTH) {
+            return "Dev log title must be at most " + MAX_TITLE_LENGTH + " characters";
+        }
+        if (request.getDescription() == null) {
+            return "Dev log description is required";
+        }
+        if (request.getStartTime() != null && request.getEndTime() != null
+                && request.getEndTime().isBefore(request.getStartTime())) {
+            return "End time must be after start time";
+        }
+        if (request.getMood() != null && !MOODS.contains(request.getMood())) {
+            return "Invalid mood: " + request.getMood();
+        }
+        if (request.getCodeSnippets() != null && !request.getCodeSnippets().isBlank()) {
+            try {
+                objectMapper.readTree(request.getCodeSnippets());
+            } catch (JsonProcessingException e) {
+                return "Code snippets must be valid JSON";
+            }
+        }
+        for (Long tagId : toTagIdSet(request.getTechTagIds())) {
+            if (!existingTags.contains(tagId)) {
+                return "Tech tag not found: " + tagId;
+            }
+        }
+        return null;
+    }
+
+    private static ImportRow toImportRow(LogImportReader.Row row) {
+        DevLogCreateRequest request = row.request();
+        DevLog devLog = request.toEntity();
+        if (devLog.getLogDate() == null) {
+            devLog.setLogDate(LocalDate.now());
+        }
+        if (devLog.getMood() == null) {
+            devLog.setMood("NEUTRAL");
+        }
+        if (devLog.getCodeSnippets() != null && devLog.getCodeSnippets().isBlank()) {
+            devLog.setCodeSnippets(null);
+        }
+        return new ImportRow(row.line(), devLog, toTagIdSet(request.getTechTagIds()));
+    }
+
+    private static Set<Long> toTagIdSet(Collection<Long> tagIds) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (tagIds != null) {
+            for (Long tagId : tagIds) {
+                if (tagId != null) {
+                    ids.add(tagId);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void addError(LogImportResult result, long line, String message) {
+        result.setFailedRows(result.getFailedRows() + 1);
+        if (result.getErrors().size() < maxErrors) {
+            result.getErrors().add(new LogImportResult.RowError(line, message));
+        }
+    }
+
+    private static String mostSpecificMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
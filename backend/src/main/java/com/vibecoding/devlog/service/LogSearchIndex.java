@@ -0,0 +1,711 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.mapper.DevLogMapper;
+import com.vibecoding.devlog.model.DevLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 개발 로그 인메모리 역색인
+ *
+ * 제목, 설명, 성과, 도전과제, 학습내용을 토큰화해 메모리에 역색인을 유지하고
+ * BM25로 순위를 매깁니다. 검색 시 데이터베이스를 사용하지 않습니다.
+ *
+ * - 문서 ID는 int로 순차 부여되며, 포스팅은 (docId 차이, tf) 쌍을 varint로 압축해 저장합니다.
+ * - 문서마다 자신이 들어 있는 포스팅을 기억해, 삭제할 때 포스팅을 훑지 않고 문서 빈도를 보정합니다.
+ * - 한글은 음절 바이그램, 그 외 문자는 단어 단위로 토큰화합니다.
+ * - 검색어 토큰은 같은 토큰과 그 토큰으로 시작하는 토큰에 일치합니다 ("spr" → "spring").
+ *   데이터베이스 대체 검색(부분 일치)과 같은 결과를 얻기 위한 것으로, 접두 일치는 가중치를 낮춥니다.
+ * - 시작 시 전체 로그로 색인을 만들고, 이후 DevLogService의 쓰기가 커밋된 뒤 반영합니다.
+ * - 다시 만드는 동안에는 기존 색인으로 검색하고, 그동안 반영된 쓰기를 기록해 두었다가
+ *   새 색인에 다시 적용한 뒤 교체합니다. 모든 쓰기는 로그 ID 기준으로 멱등입니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /**
+     * 제목 토큰 가중치 (본문 토큰 대비 tf 배수)
+     */
+    private static final int TITLE_WEIGHT = 2;
+
+    /**
+     * 접두 일치 토큰의 점수 배수, 검색어 토큰 하나가 펼쳐질 최대 토큰 수
+     */
+    private static final float PREFIX_WEIGHT = 0.5f;
+    private static final int MAX_PREFIX_TERMS = 64;
+
+    /**
+     * 삭제된 문서 비율이 이 값을 넘으면 색인을 압축
+     */
+    private static final double COMPACT_RATIO = 0.25;
+    private static final int COMPACT_MIN_DELETED = 1000;
+
+    private static final Page EMPTY_PAGE = new Page(List.of(), 0);
+
+    private final DevLogMapper devLogMapper;
+    private final TransactionOperations transactionOperations;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    /**
+     * 아래 필드는 lock으로 보호 (pending은 다시 만드는 동안만 null이 아님)
+     */
+    private Segment segment = new Segment();
+    private List<Consumer<Segment>> pending;
+
+    private volatile boolean ready = false;
+
+    /**
+     * 검색 결과 항목
+     *
+     * @param logId 로그 ID
+     * @param score BM25 점수
+     */
+    public record Hit(Long logId, double score) {
+    }
+
+    /**
+     * 검색 결과 한 페이지
+     *
+     * @param hits 점수 내림차순 결과
+     * @param total 검색어와 일치한 전체 로그 수
+     */
+    public record Page(List<Hit> hits, int total) {
+    }
+
+    /**
+     * 전체 로그로 색인 생성 (애플리케이션 시작 시, 알림을 놓쳤을 때)
+     * 한 번에 하나만 만들며, 데이터베이스 오류가 나면 기존 색인을 유지합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        buildLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Segment built = new Segment();
+            try {
+                transactionOperations.executeWithoutResult(status -> {
+                    try (Cursor<DevLog> cursor = devLogMapper.streamSearchDocuments()) {
+                        for (DevLog devLog : cursor) {
+                            built.put(devLog);
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (DataAccessException | TransactionException | UncheckedIOException e) {
+                lock.writeLock().lock();
+                try {
+                    pending = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                log.warn("Log search index build failed, {}: {}",
+                        ready ? "keeping previous index" : "searching database until next build", e.getMessage());
+                return;
+            }
+
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                replayed = pending.size();
+                pending.forEach(op -> op.accept(built));
+                pending = null;
+                built.compactIfNeeded();
+                segment = built;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("Log search index built: {} docs, {} terms, {} writes replayed in {} ms",
+                    built.liveDocs, built.postings.size(), replayed, System.currentTimeMillis() - started);
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    /**
+     * 색인 사용 가능 여부
+     *
+     * @return 색인 생성이 한 번 이상 끝났으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인된 로그 수
+     *
+     * @return 삭제되지 않은 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 토큰의 문서 빈도
+     *
+     * @param term 토큰
+     * @return 토큰이 들어 있는 삭제되지 않은 문서 수
+     */
+    int docFreq(String term) {
+        lock.readLock().lock();
+        try {
+            PostingList list = segment.postings.get(term);
+            return (list == null) ? 0 : list.liveDocFreq;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 새 로그 색인 (트랜잭션 커밋 후 반영)
+     *
+     * @param created 생성된 로그
+     */
+    public void add(DevLog created) {
+        AfterCommit.run(() -> apply(index -> index.put(created)));
+    }
+
+    /**
+     * 여러 로그를 한 번에 색인 (트랜잭션 커밋 후 쓰기 잠금 한 번으로 반영)
+     *
+     * @param created 생성된 로그 목록
+     */
+    public void addAll(List<DevLog> created) {
+        AfterCommit.run(() -> apply(index -> created.forEach(index::put)));
+    }
+
+    /**
+     * 로그 색인 갱신 (트랜잭션 커밋 후 반영)
+     *
+     * @param updated 수정된 로그
+     */
+    public void update(DevLog updated) {
+        AfterCommit.run(() -> apply(index -> index.put(updated)));
+    }
+
+    /**
+     * 로그 색인 제거 (트랜잭션 커밋 후 반영)
+     *
+     * @param logId 삭제된 로그 ID
+     */
+    public void remove(Long logId) {
+        AfterCommit.run(() -> apply(index -> index.remove(logId)));
+    }
+
+    /**
+     * 프로젝트의 로그 색인 제거 (프로젝트 삭제로 로그가 연쇄 삭제된 경우, 트랜잭션 커밋 후 반영)
+     *
+     * @param projectId 삭제된 프로젝트 ID
+     */
+    public void removeProject(Long projectId) {
+        AfterCommit.run(() -> apply(index -> index.removeProject(projectId)));
+    }
+
+    /**
+     * 지정한 로그를 DB에서 다시 읽어 색인 (다른 인스턴스나 SQL로 직접 바뀐 경우)
+     *
+     * @param ids 변경된 로그 ID (삭제된 로그 포함)
+     */
+    public void refresh(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<DevLog> current = devLogMapper.findByIds(ids, null);
+        apply(index -> {
+            ids.forEach(index::remove);
+            current.forEach(index::put);
+        });
+        log.debug("Log search index refreshed: {} ids, {} present", ids.size(), current.size());
+    }
+
+    /**
+     * BM25 검색
+     *
+     * @param query 검색어
+     * @param offset 건너뛸 개수
+     * @param limit 조회할 개수
+     * @return 점수 내림차순 결과 (동점이면 최근 색인된 로그 우선)
+     */
+    public List<Hit> search(String query, int offset, int limit) {
+        return searchPage(query, offset, limit).hits();
+    }
+
+    /**
+     * BM25 검색 (일치한 전체 로그 수 포함)
+     *
+     * @param query 검색어
+     * @param offset 건너뛸 개수
+     * @param limit 조회할 개수
+     * @return 점수 내림차순 결과와 전체 일치 수
+     */
+    public Page searchPage(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return EMPTY_PAGE;
+        }
+
+        lock.readLock().lock();
+        try {
+            return segment.search(terms, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 색인에 쓰기 반영, 다시 만드는 중이면 새 색인에 다시 적용하도록 기록
+     */
+    private void apply(Consumer<Segment> op) {
+        lock.writeLock().lock();
+        try {
+            op.accept(segment);
+            segment.compactIfNeeded();
+            if (pending != null) {
+                pending.add(op);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ========== 색인 데이터 ==========
+
+    /**
+     * 역색인 데이터 (LogSearchIndex의 lock으로 보호, 다시 만들 때는 만드는 스레드만 사용)
+     */
+    private static final class Segment {
+
+        private final TreeMap<String, PostingList> postings = new TreeMap<>();
+        private final Map<Long, Integer> docIdByLogId = new HashMap<>();
+        private final BitSet deleted = new BitSet();
+
+        private long[] logIds = new long[1024];
+        private long[] projectIds = new long[1024];
+        private int[] docLengths = new int[1024];
+        private PostingList[][] docTerms = new PostingList[1024][];
+        private int nextDocId = 0;
+        private int liveDocs = 0;
+        private long totalLength = 0;
+
+        /**
+         * 로그 색인 (이미 있으면 교체)
+         */
+        private void put(DevLog devLog) {
+            remove(devLog.getId());
+
+            Map<String, Integer> termFreqs = termFrequencies(devLog);
+
+            int docId = nextDocId++;
+            if (docId == logIds.length) {
+                logIds = Arrays.copyOf(logIds, docId * 2);
+                projectIds = Arrays.copyOf(projectIds, docId * 2);
+                docLengths = Arrays.copyOf(docLengths, docId * 2);
+                docTerms = Arrays.copyOf(docTerms, docId * 2);
+            }
+
+            PostingList[] terms = new PostingList[termFreqs.size()];
+            int index = 0;
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+                PostingList list = postings.computeIfAbsent(entry.getKey(), t -> new PostingList());
+                list.add(docId, entry.getValue());
+                terms[index++] = list;
+                length += entry.getValue();
+            }
+
+            logIds[docId] = devLog.getId();
+            projectIds[docId] = (devLog.getProjectId() != null) ? devLog.getProjectId() : 0;
+            docLengths[docId] = length;
+            docTerms[docId] = terms;
+            docIdByLogId.put(devLog.getId(), docId);
+            liveDocs++;
+            totalLength += length;
+        }
+
+        /**
+         * 로그 색인 제거 (없으면 무시)
+         */
+        private void remove(Long logId) {
+            Integer docId = docIdByLogId.remove(logId);
+            if (docId == null) {
+                return;
+            }
+            for (PostingList list : docTerms[docId]) {
+                list.liveDocFreq--;
+            }
+            docTerms[docId] = null;
+            deleted.set(docId);
+            liveDocs--;
+            totalLength -= docLengths[docId];
+        }
+
+        private void removeProject(Long projectId) {
+            if (projectId == null) {
+                return;
+            }
+            for (int docId = deleted.nextClearBit(0); docId < nextDocId; docId = deleted.nextClearBit(docId + 1)) {
+                if (projectIds[docId] == projectId) {
+                    remove(logIds[docId]);
+                }
+            }
+        }
+
+        private Page search(Set<String> terms, int offset, int limit) {
+            if (liveDocs == 0) {
+                return EMPTY_PAGE;
+            }
+
+            // 검색어 토큰마다 같은 토큰과 접두 일치 토큰의 idf를 모음 (같은 포스팅은 한 번만)
+            // 접두 일치는 드문 토큰이어도 같은 토큰보다 높은 점수를 받지 않도록 같은 토큰의 idf를 넘지 않게 함
+            Map<PostingList, Double> matched = new LinkedHashMap<>();
+            long postingCount = 0;
+            for (String term : terms) {
+                PostingList exact = postings.get(term);
+                double exactIdf = Double.MAX_VALUE;
+                if (exact != null && exact.liveDocFreq > 0) {
+                    exactIdf = idf(exact);
+                    if (matched.put(exact, exactIdf) == null) {
+                        postingCount += exact.size;
+                    }
+                }
+                int expanded = 0;
+                Iterator<PostingList> prefixed = postings.subMap(term, false, term + Character.MAX_VALUE, false)
+                        .values().iterator();
+                while (prefixed.hasNext() && expanded < MAX_PREFIX_TERMS) {
+                    PostingList list = prefixed.next();
+                    if (list.liveDocFreq > 0 && !matched.containsKey(list)) {
+                        matched.put(list, PREFIX_WEIGHT * Math.min(idf(list), exactIdf));
+                        postingCount += list.size;
+                        expanded++;
+                    }
+                }
+            }
+            if (matched.isEmpty()) {
+                return EMPTY_PAGE;
+            }
+
+            float avgLength = (float) totalLength / liveDocs;
+            ScoreMap scores = new ScoreMap((int) Math.min(postingCount, nextDocId));
+            for (Map.Entry<PostingList, Double> entry : matched.entrySet()) {
+                double idf = entry.getValue();
+                entry.getKey().forEach((docId, tf) -> {
+                    if (deleted.get(docId)) {
+                        return;
+                    }
+                    float norm = K1 * (1 - B + B * docLengths[docId] / avgLength);
+                    scores.add(docId, (float) (idf * tf * (K1 + 1) / (tf + norm)));
+                });
+            }
+
+            // 점수 상위 offset + limit개만 힙에 유지 (슬롯 번호로 비교)
+            int k = (int) Math.min((long) offset + limit, scores.size);
+            PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(k, scores.size) + 1, (a, b) -> {
+                int cmp = Float.compare(scores.values[a], scores.values[b]);
+                return cmp != 0 ? cmp : Integer.compare(scores.keys[a], scores.keys[b]);
+            });
+            for (int slot = 0; slot < scores.keys.length; slot++) {
+                if (scores.keys[slot] < 0) {
+                    continue;
+                }
+                top.offer(slot);
+                if (top.size() > k) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int slot = top.poll();
+                ranked.add(new Hit(logIds[scores.keys[slot]], scores.values[slot]));
+            }
+
+            List<Hit> result = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (int i = ranked.size() - 1 - offset; i >= 0 && result.size() < limit; i--) {
+                result.add(ranked.get(i));
+            }
+            return new Page(result, scores.size);
+        }
+
+        private double idf(PostingList list) {
+            return Math.log(1 + (liveDocs - list.liveDocFreq + 0.5) / (list.liveDocFreq + 0.5));
+        }
+
+        private void compactIfNeeded() {
+            int deletedCount = nextDocId - liveDocs;
+            if (deletedCount < COMPACT_MIN_DELETED || deletedCount < nextDocId * COMPACT_RATIO) {
+                return;
+            }
+
+            int[] remap = new int[nextDocId];
+            int newId = 0;
+            for (int docId = 0; docId < nextDocId; docId++) {
+                if (deleted.get(docId)) {
+                    remap[docId] = -1;
+                } else {
+                    remap[docId] = newId;
+                    logIds[newId] = logIds[docId];
+                    projectIds[newId] = projectIds[docId];
+                    docLengths[newId] = docLengths[docId];
+                    docTerms[newId] = docTerms[docId];
+                    docIdByLogId.put(logIds[newId], newId);
+                    newId++;
+                }
+            }
+            Arrays.fill(docTerms, newId, nextDocId, null);
+
+            // 문서가 기억하는 포스팅 객체를 그대로 쓰도록 제자리에서 다시 씀
+            Iterator<PostingList> lists = postings.values().iterator();
+            while (lists.hasNext()) {
+                PostingList list = lists.next();
+                list.retain(remap);
+                if (list.size == 0) {
+                    lists.remove();
+                }
+            }
+
+            deleted.clear();
+            log.debug("Log search index compacted: {} -> {} docs", nextDocId, newId);
+            nextDocId = newId;
+        }
+
+        private static Map<String, Integer> termFrequencies(DevLog devLog) {
+            Map<String, Integer> termFreqs = new HashMap<>();
+            countTerms(termFreqs, devLog.getTitle(), TITLE_WEIGHT);
+            countTerms(termFreqs, devLog.getDescription(), 1);
+            countTerms(termFreqs, devLog.getAchievements(), 1);
+            countTerms(termFreqs, devLog.getChallenges(), 1);
+            countTerms(termFreqs, devLog.getLearnings(), 1);
+            return termFreqs;
+        }
+
+        private static void countTerms(Map<String, Integer> termFreqs, String text, int weight) {
+            for (String term : tokenize(text)) {
+                termFreqs.merge(term, weight, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * 검색 한 번의 문서별 점수 (docId → 점수, 열린 주소법)
+     * 일치한 포스팅 길이만큼만 할당하므로 전체 문서 수와 무관합니다.
+     */
+    private static final class ScoreMap {
+
+        private final int[] keys;
+        private final float[] values;
+        private final int shift;
+        private int size;
+
+        private ScoreMap(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 1) * 2 - 1) << 1;
+            keys = new int[capacity];
+            values = new float[capacity];
+            shift = 32 - Integer.numberOfTrailingZeros(capacity);
+            Arrays.fill(keys, -1);
+        }
+
+        private void add(int docId, float score) {
+            int mask = keys.length - 1;
+            int slot = (docId * 0x9E3779B9) >>> shift;
+            while (keys[slot] >= 0 && keys[slot] != docId) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] < 0) {
+                keys[slot] = docId;
+                size++;
+            }
+            values[slot] += score;
+        }
+    }
+
+    // ========== 토큰화 ==========
+
+    /**
+     * 텍스트를 검색 토큰으로 분리
+     * 한글 연속 구간은 음절 바이그램(한 글자면 그대로), 그 외 문자/숫자 구간은 소문자 단어로 만듭니다.
+     *
+     * @param text 원문
+     * @return 토큰 목록 (중복 포함)
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int runStart = -1;
+        boolean runHangul = false;
+
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = (i < lower.length()) ? lower.charAt(i) : ' ';
+            boolean hangul = isHangul(c);
+            boolean word = hangul || Character.isLetterOrDigit(c);
+
+            if (runStart >= 0 && (!word || hangul != runHangul)) {
+                emit(tokens, lower, runStart, i, runHangul);
+                runStart = -1;
+            }
+            if (word && runStart < 0) {
+                runStart = i;
+                runHangul = hangul;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emit(List<String> tokens, String text, int start, int end, boolean hangul) {
+        if (!hangul) {
+            tokens.add(text.substring(start, end));
+        } else if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+        } else {
+            for (int i = start; i + 1 < end; i++) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= '가' && c <= '힣') || (c >= 'ㄱ' && c <= 'ㆎ');
+    }
+
+    // ========== 포스팅 리스트 ==========
+
+    /**
+     * 포스팅 방문 콜백
+     */
+    @FunctionalInterface
+    interface PostingVisitor {
+        void visit(int docId, int tf);
+    }
+
+    /**
+     * 압축 포스팅 리스트
+     * docId는 항상 증가 순서로 추가되므로 직전 docId와의 차이와 tf를 varint로 이어 붙입니다.
+     * 동일성(identity)으로 비교하며, 문서가 삭제되면 liveDocFreq만 줄고 항목은 압축 때 지워집니다.
+     */
+    static final class PostingList {
+
+        private byte[] data = new byte[8];
+        private int length = 0;
+        private int lastDocId = -1;
+        private int size = 0;
+        private int liveDocFreq = 0;
+
+        void add(int docId, int tf) {
+            writeVarint(lastDocId < 0 ? docId : docId - lastDocId);
+            writeVarint(tf);
+            lastDocId = docId;
+            size++;
+            liveDocFreq++;
+        }
+
+        /**
+         * 삭제된 문서 항목을 빼고 docId를 새 번호로 바꿔 다시 씀
+         *
+         * @param remap 이전 docId → 새 docId (삭제면 -1)
+         */
+        void retain(int[] remap) {
+            PostingList rewritten = new PostingList();
+            forEach((docId, tf) -> {
+                if (remap[docId] >= 0) {
+                    rewritten.add(remap[docId], tf);
+                }
+            });
+            data = rewritten.data;
+            length = rewritten.length;
+            lastDocId = rewritten.lastDocId;
+            size = rewritten.size;
+            liveDocFreq = rewritten.liveDocFreq;
+        }
+
+        void forEach(PostingVisitor visitor) {
+            int pos = 0;
+            int docId = 0;
+            while (pos < length) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[pos++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+
+                int tf = 0;
+                shift = 0;
+                do {
+                    b = data[pos++];
+                    tf |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+
+                docId += delta;
+                visitor.visit(docId, tf);
+            }
+        }
+
+        private void writeVarint(int value) {
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 3 / 2, length + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.model.ProjectStats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기간 통계 누산기
+ *
+ * 기간 내 project_stats 행을 한 번 훑으면서 합계, 일별, 프로젝트별 집계를 함께 만듭니다.
+ * 주간/월간 통계가 섹션마다 따로 조회하지 않고 쿼리 하나의 결과로 DTO 전체를 채우는 데 사용합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+final class PeriodStatsAccumulator {
+
+    /**
+     * 일별/주별/프로젝트별 합계
+     */
+    static class Totals {
+        int logCount;
+        int workMinutes;
+        int timedLogCount;
+
+        void add(ProjectStats row) {
+            logCount += row.getLogCount();
+            workMinutes += row.getTotalMinutes();
+            timedLogCount += row.getTimedLogCount();
+        }
+    }
+
+    /**
+     * 프로젝트별 합계
+     */
+    static final class ProjectTotals extends Totals {
+        final Long projectId;
+        final String projectName;
+
+        ProjectTotals(Long projectId, String projectName) {
+            this.projectId = projectId;
+            this.projectName = projectName;
+        }
+    }
+
+    private final Totals total = new Totals();
+    private final TreeMap<LocalDate, Totals> daily = new TreeMap<>();
+    private final Map<Long, ProjectTotals> projects = new LinkedHashMap<>();
+
+    /**
+     * 행 하나를 모든 집계에 반영
+     *
+     * @param row 프로젝트 일별 통계 행
+     */
+    void add(ProjectStats row) {
+        if (row.getLogCount() <= 0) {
+            return;
+        }
+
+        total.add(row);
+        daily.computeIfAbsent(row.getStatDate(), date -> new Totals()).add(row);
+        projects.computeIfAbsent(row.getProjectId(),
+                id -> new ProjectTotals(id, row.getProjectName())).add(row);
+    }
+
+    int getTotalLogs() {
+        return total.logCount;
+    }
+
+    int getTotalWorkMinutes() {
+        return total.workMinutes;
+    }
+
+    /**
+     * 작업 시간이 기록된 로그 기준 평균 작업 시간 (반올림)
+     */
+    int getAvgWorkMinutes() {
+        return total.timedLogCount == 0 ? 0 : Math.round((float) total.workMinutes / total.timedLogCount);
+    }
+
+    int getActiveProjects() {
+        return projects.size();
+    }
+
+    int getWorkDays() {
+        return daily.size();
+    }
+
+    /**
+     * 날짜 오름차순 일별 합계
+     */
+    Map<LocalDate, Totals> getDaily() {
+        return daily;
+    }
+
+    /**
+     * 로그 수, 작업 시간 내림차순 프로젝트별 합계
+     */
+    List<ProjectTotals> getProjects() {
+        List<ProjectTotals> sorted = new ArrayList<>(projects.values());
+        sorted.sort(Comparator.comparingInt((ProjectTotals p) -> p.logCount).reversed()
+                .thenComparing(Comparator.comparingInt((ProjectTotals p) -> p.workMinutes).reversed())
+                .thenComparing(p -> p.projectId));
+        return sorted;
+    }
+
+    /**
+     * 반개구간 [from, to) 합계
+     *
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (미포함)
+     * @return 구간 합계
+     */
+    Totals sumRange(LocalDate from, LocalDate to) {
+        Totals range = new Totals();
+        for (Totals day : daily.subMap(from, true, to, false).values()) {
+            range.logCount += day.logCount;
+            range.workMinutes += day.workMinutes;
+            range.timedLogCount += day.timedLogCount;
+        }
+        return range;
+    }
+}
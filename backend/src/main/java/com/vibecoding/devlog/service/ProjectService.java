@@ -1,13 +1,18 @@
 package com.vibecoding.devlog.service;
 
+import com.vibecoding.devlog.dto.response.ChangeEvent;
 import com.vibecoding.devlog.mapper.ProjectMapper;
 import com.vibecoding.devlog.model.Project;
+import com.vibecoding.devlog.model.TagUsageDelta;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,11 +25,19 @@ import java.util.Optional;
  */
 @Slf4j
 @Service
+@Timed("devlog.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProjectService {
 
     private final ProjectMapper projectMapper;
+    private final StatisticsCache statisticsCache;
+    private final CalendarHeatmap calendarHeatmap;
+    private final ActivityIndex activityIndex;
+    private final LogSearchIndex logSearchIndex;
+    private final ChangeVersions changeVersions;
+    private final ChangeFeed changeFeed;
+    private final TagUsageCounter tagUsageCounter;
 
     /**
      * 모든 프로젝트 조회
@@ -102,6 +115,8 @@ public class ProjectService {
         }
 
         projectMapper.insert(project);
+        changeVersions.markChanged(ChangeVersions.Domain.PROJECTS);
+        changeFeed.projectChanged(ChangeEvent.Action.CREATED, project);
         log.info("프로젝트 생성 완료 - id: {}, name: {}", project.getId(), project.getName());
 
         return project;
@@ -128,9 +143,13 @@ public class ProjectService {
 
         project.setId(id);
         projectMapper.update(project);
+        statisticsCache.evictProject(id);
+        changeVersions.markChanged(ChangeVersions.Domain.PROJECTS, ChangeVersions.Domain.LOGS);
         log.info("프로젝트 수정 완료 - id: {}, name: {}", id, project.getName());
 
-        return projectMapper.findById(id);
+        Project updated = projectMapper.findById(id);
+        changeFeed.projectChanged(ChangeEvent.Action.UPDATED, updated);
+        return updated;
     }
 
     /**
@@ -148,7 +167,23 @@ public class ProjectService {
             throw new IllegalArgumentException("프로젝트를 찾을 수 없습니다: " + id);
         }
 
+        // 로그와 태그 연결이 연쇄 삭제되므로 태그 사용 횟수를 미리 계산해 차감
+        Map<Long, Long> unlinked = new HashMap<>();
+        for (TagUsageDelta usage : projectMapper.countTagLinks(id)) {
+            unlinked.put(usage.getTagId(), -usage.getDelta());
+        }
+
         projectMapper.delete(id);
+        tagUsageCounter.add(unlinked);
+        // 로그가 연쇄 삭제되므로 기간/기술 스택 통계도 모두 바뀜
+        statisticsCache.evictAll();
+        calendarHeatmap.evictAll();
+        activityIndex.removeProject(id);
+        // 이 인스턴스는 자신의 변경 알림을 건너뛰므로 연쇄 삭제된 로그를 색인에서 직접 뺌
+        logSearchIndex.removeProject(id);
+        changeVersions.markChanged(ChangeVersions.Domain.PROJECTS, ChangeVersions.Domain.LOGS,
+                ChangeVersions.Domain.TECH_TAGS);
+        changeFeed.projectChanged(ChangeEvent.Action.DELETED, project);
         log.info("프로젝트 삭제 완료 - id: {}, name: {}", id, project.getName());
     }
 
@@ -174,9 +209,13 @@ public class ProjectService {
         }
 
         projectMapper.updateProgress(id, progress);
+        statisticsCache.evictProject(id);
+        changeVersions.markChanged(ChangeVersions.Domain.PROJECTS, ChangeVersions.Domain.LOGS);
         log.info("프로젝트 진행률 업데이트 완료 - id: {}, progress: {}", id, progress);
 
-        return projectMapper.findById(id);
+        Project updated = projectMapper.findById(id);
+        changeFeed.projectChanged(ChangeEvent.Action.UPDATED, updated);
+        return updated;
     }
 
     /**
@@ -199,9 +238,13 @@ public class ProjectService {
         }
 
         projectMapper.updateStatus(id, status);
+        statisticsCache.evictProject(id);
+        changeVersions.markChanged(ChangeVersions.Domain.PROJECTS, ChangeVersions.Domain.LOGS);
         log.info("프로젝트 상태 변경 완료 - id: {}, status: {}", id, status);
 
-        return projectMapper.findById(id);
+        Project updated = projectMapper.findById(id);
+        changeFeed.projectChanged(ChangeEvent.Action.UPDATED, updated);
+        return updated;
     }
 
     /**
@@ -0,0 +1,113 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.mapper.DevLogMapper;
+import com.vibecoding.devlog.mapper.ProjectStatsMapper;
+import com.vibecoding.devlog.model.DevLog;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+/**
+ * 프로젝트 일별 통계 롤업 서비스
+ *
+ * 개발 로그가 생성/수정/삭제될 때 project_stats의 (프로젝트, 날짜) 행을
+ * 변화량만큼 갱신합니다. 통계 조회는 dev_logs 대신 이 롤업을 읽습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@Timed("devlog.service")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProjectStatsService {
+
+    private final ProjectStatsMapper projectStatsMapper;
+    private final DevLogMapper devLogMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 로그 변경을 롤업에 반영
+     * 호출한 트랜잭션에 참여하므로 로그 쓰기와 함께 커밋되거나 롤백됩니다.
+     *
+     * @param previous 변경 전 로그 (생성이면 null)
+     * @param current 변경 후 로그 (삭제면 null)
+     */
+    @Transactional
+    public void applyChange(DevLog previous, DevLog current) {
+        if (previous != null && current != null && isSameBucket(previous, current)) {
+            int minutesDelta = current.calculateWorkMinutes() - previous.calculateWorkMinutes();
+            int timedDelta = timedCount(current) - timedCount(previous);
+            if (minutesDelta != 0 || timedDelta != 0) {
+                projectStatsMapper.applyDelta(current.getProjectId(), current.getLogDate(),
+                        minutesDelta, 0, timedDelta);
+            }
+            return;
+        }
+
+        // 프로젝트나 날짜가 바뀌면 이전 행에서 빼고 새 행에 더함
+        if (previous != null) {
+            projectStatsMapper.applyDelta(previous.getProjectId(), previous.getLogDate(),
+                    -previous.calculateWorkMinutes(), -1, -timedCount(previous));
+        }
+        if (current != null) {
+            projectStatsMapper.applyDelta(current.getProjectId(), current.getLogDate(),
+                    current.calculateWorkMinutes(), 1, timedCount(current));
+        }
+    }
+
+    /**
+     * dev_logs에서 롤업 전체 재집계
+     *
+     * @return 생성된 롤업 행 수
+     */
+    @Transactional
+    public int rebuild() {
+        projectStatsMapper.deleteAll();
+        int rows = projectStatsMapper.insertFromDevLogs();
+        log.info("Project stats rollup rebuilt: {} rows", rows);
+        return rows;
+    }
+
+    /**
+     * 애플리케이션 시작 시 롤업이 비어 있으면 재집계
+     * 롤업 도입 이전에 쌓인 로그를 통계에 반영합니다.
+     * 데이터베이스에 연결할 수 없으면 건너뛰고 다음 시작 때 다시 확인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIfEmpty() {
+        try {
+            transactionTemplate.execute(status ->
+                    (projectStatsMapper.count() == 0 && devLogMapper.count() > 0) ? rebuild() : 0);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Project stats rollup check skipped: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 같은 (프로젝트, 날짜) 행에 속하는지 확인
+     */
+    private boolean isSameBucket(DevLog previous, DevLog current) {
+        return Objects.equals(previous.getProjectId(), current.getProjectId())
+                && Objects.equals(previous.getLogDate(), current.getLogDate());
+    }
+
+    /**
+     * 작업 시간이 기록된 로그면 1
+     */
+    private int timedCount(DevLog devLog) {
+        return devLog.hasWorkTime() ? 1 : 0;
+    }
+}
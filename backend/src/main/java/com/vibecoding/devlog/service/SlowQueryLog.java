@@ -0,0 +1,266 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.SlowQuery;
+import com.vibecoding.devlog.dto.response.SlowQuery.ExplainStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 느린 쿼리 기록 (고정 크기 링 버퍼)
+ *
+ * SlowQueryInterceptor가 임계값을 넘긴 조회를 넘기면 SQL과 바인딩 파라미터를 기록하고,
+ * 읽기 전용 구문은 표본으로 골라 백그라운드 스레드에서 EXPLAIN (ANALYZE, BUFFERS)로 다시 실행해
+ * 실행 계획을 함께 남깁니다. 버퍼가 차면 가장 오래된 기록부터 덮어씁니다.
+ *
+ * 다시 실행은 다음 조건으로 제한합니다.
+ * - SELECT이면서 flushCache가 아닌 구문만 (INSERT ... RETURNING을 담은 select는 제외)
+ * - 읽기 전용 트랜잭션 안에서 statement_timeout을 걸고 실행한 뒤 항상 롤백
+ * - 같은 구문은 재실행 간격(cooldown) 안에 한 번만, 그 밖에서는 표본 비율만큼
+ * - 실행 스레드 하나와 작은 대기열, 가득 차면 버림
+ *
+ * 바인딩 파라미터에는 사용자가 쓴 로그 내용이 들어가므로 기본으로 값 대신 타입만 기록하고,
+ * 설정(include-parameters)으로 켰을 때만 값을 기록합니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+
+    private static final int MAX_PARAMETER_LENGTH = 200;
+
+    private final DataSource dataSource;
+    private final ExecutorService executor;
+    private final double sampleRate;
+    private final boolean includeParameters;
+    private final long cooldownMillis;
+    private final long explainTimeoutMillis;
+
+    private final SlowQuery[] buffer;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Long> lastExplainedAt = new ConcurrentHashMap<>();
+    private int next;
+    private int size;
+
+    public SlowQueryLog(DataSource dataSource,
+                        @Qualifier("slowQueryExecutor") ExecutorService executor,
+                        @Value("${devlog.slow-query.capacity:100}") int capacity,
+                        @Value("${devlog.slow-query.sample-rate:0.1}") double sampleRate,
+                        @Value("${devlog.slow-query.explain-cooldown-seconds:300}") long cooldownSeconds,
+                        @Value("${devlog.slow-query.explain-timeout-ms:30000}") long explainTimeoutMillis,
+                        @Value("${devlog.slow-query.include-parameters:false}") boolean includeParameters) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Slow query capacity must be positive: " + capacity);
+        }
+        this.dataSource = dataSource;
+        this.executor = executor;
+        this.buffer = new SlowQuery[capacity];
+        this.sampleRate = sampleRate;
+        this.cooldownMillis = cooldownSeconds * 1000;
+        this.explainTimeoutMillis = explainTimeoutMillis;
+        this.includeParameters = includeParameters;
+    }
+
+    /**
+     * 느린 조회 기록, 표본이면 실행 계획 수집 예약
+     *
+     * @param statement 매퍼 구문
+     * @param parameter 매퍼 파라미터 객체
+     * @param boundSql 실행한 SQL과 파라미터 매핑
+     * @param elapsedMillis 실행 시간 (밀리초)
+     * @return 기록 (실행 계획은 나중에 채워짐)
+     */
+    public SlowQuery record(MappedStatement statement, Object parameter, BoundSql boundSql, long elapsedMillis) {
+        boolean explain = isReadOnly(statement) && sample(statement.getId());
+        SlowQuery entry = SlowQuery.builder()
+                .id(sequence.incrementAndGet())
+                .statementId(statement.getId())
+                .sql(boundSql.getSql().replaceAll("\\s+", " ").trim())
+                .parameters(describeParameters(statement.getConfiguration(), parameter, boundSql, includeParameters))
+                .elapsedMillis(elapsedMillis)
+                .capturedAt(LocalDateTime.now())
+                .explainStatus(explain ? ExplainStatus.PENDING : ExplainStatus.SKIPPED)
+                .build();
+        add(entry);
+        log.warn("Slow query {} took {}ms, parameters: {}", statement.getId(), elapsedMillis, entry.getParameters());
+
+        if (explain) {
+            try {
+                executor.execute(() -> explain(entry.getId(), statement, parameter, boundSql));
+            } catch (RejectedExecutionException e) {
+                update(entry.getId(), ExplainStatus.DROPPED, null);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * 기록 목록 (최근 것부터)
+     */
+    public synchronized List<SlowQuery> findAll() {
+        List<SlowQuery> entries = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            entries.add(buffer[(next - i + buffer.length) % buffer.length]);
+        }
+        return entries;
+    }
+
+    /**
+     * 기록 모두 삭제
+     */
+    public synchronized void clear() {
+        Arrays.fill(buffer, null);
+        next = 0;
+        size = 0;
+        lastExplainedAt.clear();
+    }
+
+    private synchronized void add(SlowQuery entry) {
+        buffer[next] = entry;
+        next = (next + 1) % buffer.length;
+        size = Math.min(size + 1, buffer.length);
+    }
+
+    /**
+     * 아직 버퍼에 남아 있으면 실행 계획 상태를 새 기록으로 교체 (읽는 쪽이 본 기록은 바뀌지 않음)
+     */
+    private synchronized void update(long id, ExplainStatus status, String plan) {
+        for (int i = 0; i < size; i++) {
+            SlowQuery entry = buffer[i];
+            if (entry != null && entry.getId() == id) {
+                buffer[i] = entry.toBuilder().explainStatus(status).plan(plan).build();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 데이터를 바꾸지 않는 조회 구문인지 확인
+     */
+    static boolean isReadOnly(MappedStatement statement) {
+        return statement.getSqlCommandType() == SqlCommandType.SELECT && !statement.isFlushCacheRequired();
+    }
+
+    /**
+     * 구문별 재실행 간격과 표본 비율로 이번 기록을 다시 실행할지 결정
+     */
+    private boolean sample(String statementId) {
+        if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        boolean[] selected = {false};
+        lastExplainedAt.compute(statementId, (id, last) -> {
+            if (last != null && now - last < cooldownMillis) {
+                return last;
+            }
+            selected[0] = true;
+            return now;
+        });
+        return selected[0];
+    }
+
+    private void explain(long id, MappedStatement statement, Object parameter, BoundSql boundSql) {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                try (Statement settings = connection.createStatement()) {
+                    settings.execute("SET TRANSACTION READ ONLY");
+                    settings.execute("SET LOCAL statement_timeout = " + explainTimeoutMillis);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (PreparedStatement ps = connection.prepareStatement(
+                        "EXPLAIN (ANALYZE, BUFFERS) " + boundSql.getSql())) {
+                    new DefaultParameterHandler(statement, parameter, boundSql).setParameters(ps);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            plan.append(rs.getString(1)).append('\n');
+                        }
+                    }
+                }
+                update(id, ExplainStatus.DONE, plan.toString());
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Failed to explain slow query {}: {}", statement.getId(), e.getMessage());
+            update(id, ExplainStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 바인딩 파라미터 값을 ? 순서대로 문자열로 (DefaultParameterHandler와 같은 방식으로 값을 찾음)
+     *
+     * @param includeValues false면 값 대신 타입만 기록 (예: {@code <String>})
+     */
+    static List<String> describeParameters(Configuration configuration, Object parameter, BoundSql boundSql,
+                                           boolean includeValues) {
+        List<String> values = new ArrayList<>();
+        MetaObject metaObject = null;
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameter == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameter.getClass())) {
+                value = parameter;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameter);
+                }
+                value = metaObject.getValue(property);
+            }
+            values.add(includeValues ? describe(value) : redact(value));
+        }
+        return values;
+    }
+
+    private static String redact(Object value) {
+        return (value == null) ? "null" : "<" + value.getClass().getSimpleName() + ">";
+    }
+
+    private static String describe(Object value) {
+        String text;
+        if (value instanceof Object[] array) {
+            text = Arrays.toString(array);
+        } else {
+            text = String.valueOf(value);
+        }
+        return text.length() > MAX_PARAMETER_LENGTH ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text;
+    }
+}
@@ -0,0 +1,259 @@
+package com.vibecoding.devlog.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.vibecoding.devlog.model.DevLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 통계 캐시
+ *
+ * StatisticsService의 계산 결과를 기간/프로젝트 키로 캐시합니다.
+ *
+ * - 오늘을 포함하거나 기간이 없는 항목(현재 주/월, 프로젝트, 기술 스택)은 짧은 TTL로 만료됩니다.
+ * - 지난 기간 항목은 긴 TTL(기본 24시간)로 유지되며, 그 기간의 로그가 바뀌면 무효화됩니다.
+ * - 무효화는 쓰기 트랜잭션이 커밋된 뒤 적용합니다. 계산을 시작한 뒤 커밋된 쓰기가 있으면
+ *   계산 결과를 저장하지 않으므로({@link CommitGuard}) 커밋 이전 값이 남지 않습니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class StatisticsCache {
+
+    /**
+     * 캐시 항목 종류
+     */
+    public enum Kind {
+        WEEKLY, MONTHLY, PROJECT, TECH_STACK
+    }
+
+    /**
+     * 캐시 키
+     *
+     * @param kind 항목 종류
+     * @param projectId 프로젝트 ID (PROJECT만 사용)
+     * @param startDate 기간 시작 (포함, 기간 항목만 사용)
+     * @param endDate 기간 끝 (미포함, 기간 항목만 사용)
+     */
+    public record Key(Kind kind, Long projectId, LocalDate startDate, LocalDate endDate) {
+
+        public static Key weekly(LocalDate startDate, LocalDate endDate) {
+            return new Key(Kind.WEEKLY, null, startDate, endDate);
+        }
+
+        public static Key monthly(LocalDate startDate, LocalDate endDate) {
+            return new Key(Kind.MONTHLY, null, startDate, endDate);
+        }
+
+        public static Key project(Long projectId) {
+            return new Key(Kind.PROJECT, projectId, null, null);
+        }
+
+        public static Key techStack() {
+            return new Key(Kind.TECH_STACK, null, null, null);
+        }
+
+        boolean isPeriod() {
+            return startDate != null;
+        }
+
+        boolean contains(LocalDate date) {
+            return isPeriod() && date != null && !date.isBefore(startDate) && date.isBefore(endDate);
+        }
+    }
+
+    private final Cache<Key, Object> cache;
+    private final ConcurrentStatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final CommitGuard guard = new CommitGuard(this);
+    private final Clock clock;
+
+    @Autowired
+    public StatisticsCache(@Value("${devlog.statistics.cache.maximum-size:500}") long maximumSize,
+                           @Value("${devlog.statistics.cache.current-ttl-seconds:60}") long currentTtlSeconds,
+                           @Value("${devlog.statistics.cache.closed-ttl-hours:24}") long closedTtlHours) {
+        this(maximumSize, Duration.ofSeconds(currentTtlSeconds), Duration.ofHours(closedTtlHours),
+                Clock.systemDefaultZone());
+    }
+
+    StatisticsCache(long maximumSize, Duration currentTtl, Duration closedTtl, Clock clock) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PeriodExpiry(currentTtl.toNanos(), closedTtl.toNanos()))
+                .recordStats(() -> statsCounter)
+                .build();
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없으면 계산해 저장
+     * 계산 중 예외가 나면 저장하지 않고 그대로 전파합니다.
+     * 계산을 시작한 뒤 커밋된(또는 커밋 중인) 쓰기가 있으면 결과를 반환만 하고 저장하지 않습니다.
+     * Caffeine의 계산 중 항목은 무효화에서 보이지 않으므로, 저장과 무효화를 같은 잠금으로 순서 짓습니다.
+     *
+     * @param key 캐시 키
+     * @param loader 값 계산 함수
+     * @return 캐시된 값 또는 새로 계산한 값
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Key key, Supplier<T> loader) {
+        Object cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        long started = guard.beginRead();
+        long loadStarted = System.nanoTime();
+        T loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            statsCounter.recordLoadFailure(System.nanoTime() - loadStarted);
+            throw e;
+        }
+        statsCounter.recordLoadSuccess(System.nanoTime() - loadStarted);
+
+        synchronized (this) {
+            if (loaded != null && guard.unchangedSince(started)) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 로그 변경에 영향받는 항목 무효화
+     * 변경 전/후 로그 날짜를 포함하는 기간, 두 프로젝트의 통계, 기술 스택 통계를 제거합니다.
+     *
+     * @param previous 변경 전 로그 (생성이면 null)
+     * @param current 변경 후 로그 (삭제면 null)
+     */
+    public void evictLog(DevLog previous, DevLog current) {
+        afterCommit(() -> evictIf(key -> key.kind() == Kind.TECH_STACK
+                || affects(key, previous)
+                || affects(key, current)));
+    }
+
+    /**
+     * 프로젝트 변경에 영향받는 항목 무효화
+     * 기간 통계에는 프로젝트 이름이 들어 있으므로 기간 항목도 함께 제거합니다.
+     *
+     * @param projectId 변경된 프로젝트 ID
+     */
+    public void evictProject(Long projectId) {
+        afterCommit(() -> evictIf(key -> key.isPeriod() || Objects.equals(key.projectId(), projectId)));
+    }
+
+    /**
+     * 기술 태그 변경에 영향받는 항목 무효화 (기술 스택, 프로젝트별 태그 통계)
+     */
+    public void evictTechTags() {
+        afterCommit(() -> evictIf(key -> key.kind() == Kind.TECH_STACK || key.kind() == Kind.PROJECT));
+    }
+
+    /**
+     * 범위로 알려진 로그 변경에 영향받는 항목 무효화
+     * 다른 인스턴스나 SQL로 직접 바뀐 로그처럼 변경 전/후 로그를 알 수 없을 때 사용합니다.
+     *
+     * @param projectIds 변경된 로그의 프로젝트 ID (null이면 모든 프로젝트)
+     * @param from 변경된 로그의 가장 이른 날짜 (null이면 모든 기간)
+     * @param to 변경된 로그의 가장 늦은 날짜 (포함)
+     */
+    public void evictRange(Collection<Long> projectIds, LocalDate from, LocalDate to) {
+        afterCommit(() -> evictIf(key -> key.kind() == Kind.TECH_STACK
+                || (key.kind() == Kind.PROJECT && (projectIds == null || projectIds.contains(key.projectId())))
+                || (key.isPeriod() && (from == null || to == null
+                        || (key.startDate().isBefore(to.plusDays(1)) && key.endDate().isAfter(from))))));
+    }
+
+    /**
+     * 전체 무효화 (프로젝트 삭제처럼 로그가 연쇄 삭제되는 경우)
+     */
+    public void evictAll() {
+        afterCommit(cache::invalidateAll);
+    }
+
+    /**
+     * 캐시 적중/실패 통계
+     *
+     * @return 항목 수, 적중/실패/제거 횟수, 적중률
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("loadFailureCount", stats.loadFailureCount());
+        return result;
+    }
+
+    private boolean affects(Key key, DevLog devLog) {
+        if (devLog == null) {
+            return false;
+        }
+        return key.contains(devLog.getLogDate())
+                || (key.kind() == Kind.PROJECT && Objects.equals(key.projectId(), devLog.getProjectId()));
+    }
+
+    private void evictIf(Predicate<Key> predicate) {
+        boolean removed = cache.asMap().keySet().removeIf(predicate);
+        log.debug("Statistics cache eviction applied, removed: {}", removed);
+    }
+
+    /**
+     * 커밋되면 잠금 안에서 무효화, 커밋 결과를 알 수 없으면 전체를 버림
+     */
+    private void afterCommit(Runnable action) {
+        guard.afterCommit(action, cache::invalidateAll);
+    }
+
+    /**
+     * 지난 기간은 긴 TTL(무효화를 놓친 경우의 안전망), 그 외에는 짧은 TTL
+     */
+    private final class PeriodExpiry implements Expiry<Key, Object> {
+
+        private final long currentTtlNanos;
+        private final long closedTtlNanos;
+
+        private PeriodExpiry(long currentTtlNanos, long closedTtlNanos) {
+            this.currentTtlNanos = currentTtlNanos;
+            this.closedTtlNanos = closedTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Key key, Object value, long currentTime) {
+            boolean closed = key.isPeriod() && !key.endDate().isAfter(LocalDate.now(clock));
+            return closed ? closedTtlNanos : currentTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
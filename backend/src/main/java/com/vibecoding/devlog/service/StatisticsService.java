@@ -7,6 +7,8 @@ import com.vibecoding.devlog.dto.response.WeeklyStatsDTO;
 import com.vibecoding.devlog.mapper.ProjectMapper;
 import com.vibecoding.devlog.mapper.StatisticsMapper;
 import com.vibecoding.devlog.model.Project;
+import com.vibecoding.devlog.model.ProjectStats;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,6 +18,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -24,18 +27,21 @@ import java.util.Map;
  *
  * 개발 로그 통계 관련 비즈니스 로직을 처리합니다.
  * 주간, 월간, 프로젝트별, 기술 스택 통계를 제공합니다.
+ * 계산 결과는 StatisticsCache에 캐시되며 로그/프로젝트/태그 쓰기 시 무효화됩니다.
  *
  * @author DevLog Team
  * @version 1.0
  */
 @Slf4j
 @Service
+@Timed("devlog.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class StatisticsService {
 
     private final StatisticsMapper statisticsMapper;
     private final ProjectMapper projectMapper;
+    private final StatisticsCache statisticsCache;
 
     /**
      * 주간 통계 조회
@@ -54,25 +60,46 @@ public class StatisticsService {
         // 주의 마지막 날 (일요일) 계산
         LocalDate weekEnd = weekStart.plusDays(6);
 
+        // 조회 범위는 반개구간 [weekStart, nextWeekStart)
+        LocalDate nextWeekStart = weekEnd.plusDays(1);
+
         log.debug("Calculated week range: {} to {}", weekStart, weekEnd);
 
-        // 기본 통계 조회
-        Map<String, Object> basicStats = statisticsMapper.getWeeklyBasicStats(weekStart, weekEnd);
+        return statisticsCache.get(StatisticsCache.Key.weekly(weekStart, nextWeekStart),
+                () -> loadWeeklyStats(weekStart, nextWeekStart));
+    }
 
-        // 일별 카운트 조회
-        List<WeeklyStatsDTO.DailyCount> dailyCounts = statisticsMapper.getWeeklyDailyCounts(weekStart, weekEnd);
+    /**
+     * 주간 통계 계산
+     *
+     * @param weekStart 시작 날짜 (포함)
+     * @param nextWeekStart 종료 날짜 (미포함)
+     * @return 주간 통계 DTO
+     */
+    WeeklyStatsDTO loadWeeklyStats(LocalDate weekStart, LocalDate nextWeekStart) {
+        LocalDate weekEnd = nextWeekStart.minusDays(1);
+
+        // 기간 내 롤업을 한 번 조회해 모든 섹션 집계
+        PeriodStatsAccumulator acc = accumulate(weekStart, nextWeekStart);
 
-        // 프로젝트별 카운트 조회
-        List<WeeklyStatsDTO.ProjectCount> projectCounts = statisticsMapper.getWeeklyProjectCounts(weekStart, weekEnd);
+        List<WeeklyStatsDTO.DailyCount> dailyCounts = new ArrayList<>();
+        acc.getDaily().forEach((date, day) -> dailyCounts.add(
+                new WeeklyStatsDTO.DailyCount(date.toString(), day.logCount, day.workMinutes)));
+
+        List<WeeklyStatsDTO.ProjectCount> projectCounts = new ArrayList<>();
+        for (PeriodStatsAccumulator.ProjectTotals project : acc.getProjects()) {
+            projectCounts.add(new WeeklyStatsDTO.ProjectCount(
+                    project.projectId, project.projectName, project.logCount, project.workMinutes));
+        }
 
         // DTO 생성
         WeeklyStatsDTO stats = WeeklyStatsDTO.builder()
                 .startDate(weekStart)
                 .endDate(weekEnd)
-                .totalLogs(getIntegerValue(basicStats, "totallogs"))
-                .totalWorkMinutes(getIntegerValue(basicStats, "totalworkminutes"))
-                .avgWorkMinutes(getIntegerValue(basicStats, "avgworkminutes"))
-                .activeProjects(getIntegerValue(basicStats, "activeprojects"))
+                .totalLogs(acc.getTotalLogs())
+                .totalWorkMinutes(acc.getTotalWorkMinutes())
+                .avgWorkMinutes(acc.getAvgWorkMinutes())
+                .activeProjects(acc.getActiveProjects())
                 .dailyCounts(dailyCounts)
                 .projectCounts(projectCounts)
                 .build();
@@ -102,29 +129,61 @@ public class StatisticsService {
             throw new IllegalArgumentException("Invalid month: " + targetMonth + ". Must be between 1 and 12.");
         }
 
+        // 조회 범위는 반개구간 [monthStart, nextMonthStart)
+        LocalDate monthStart = LocalDate.of(targetYear, targetMonth, 1);
+        LocalDate nextMonthStart = monthStart.plusMonths(1);
+
         log.debug("Target date: {}-{}", targetYear, targetMonth);
 
-        // 기본 통계 조회
-        Map<String, Object> basicStats = statisticsMapper.getMonthlyBasicStats(targetYear, targetMonth);
+        return statisticsCache.get(StatisticsCache.Key.monthly(monthStart, nextMonthStart),
+                () -> loadMonthlyStats(monthStart, nextMonthStart));
+    }
 
-        // 일별 카운트 조회
-        List<MonthlyStatsDTO.DailyCount> dailyCounts = statisticsMapper.getMonthlyDailyCounts(targetYear, targetMonth);
+    /**
+     * 월간 통계 계산
+     *
+     * @param monthStart 월 첫날 (포함)
+     * @param nextMonthStart 다음 달 첫날 (미포함)
+     * @return 월간 통계 DTO
+     */
+    MonthlyStatsDTO loadMonthlyStats(LocalDate monthStart, LocalDate nextMonthStart) {
+        int targetYear = monthStart.getYear();
+        int targetMonth = monthStart.getMonthValue();
+
+        // 기간 내 롤업을 한 번 조회해 모든 섹션 집계
+        PeriodStatsAccumulator acc = accumulate(monthStart, nextMonthStart);
+
+        List<MonthlyStatsDTO.DailyCount> dailyCounts = new ArrayList<>();
+        acc.getDaily().forEach((date, day) -> dailyCounts.add(
+                new MonthlyStatsDTO.DailyCount(date.toString(), day.logCount, day.workMinutes)));
 
-        // 프로젝트별 카운트 조회
-        List<MonthlyStatsDTO.ProjectCount> projectCounts = statisticsMapper.getMonthlyProjectCounts(targetYear, targetMonth);
+        List<MonthlyStatsDTO.ProjectCount> projectCounts = new ArrayList<>();
+        for (PeriodStatsAccumulator.ProjectTotals project : acc.getProjects()) {
+            projectCounts.add(new MonthlyStatsDTO.ProjectCount(
+                    project.projectId, project.projectName, project.logCount, project.workMinutes));
+        }
 
-        // 주별 카운트 조회
-        List<MonthlyStatsDTO.WeeklyCount> weeklyCounts = statisticsMapper.getMonthlyWeeklyCounts(targetYear, targetMonth);
+        // 주별 카운트: 1일부터 7일 단위로 자르고 마지막 주는 말일에서 끝남
+        List<MonthlyStatsDTO.WeeklyCount> weeklyCounts = new ArrayList<>();
+        int weekNumber = 1;
+        for (LocalDate weekStart = monthStart; weekStart.isBefore(nextMonthStart); weekStart = weekStart.plusDays(7)) {
+            LocalDate nextWeekStart = weekStart.plusDays(7).isBefore(nextMonthStart)
+                    ? weekStart.plusDays(7)
+                    : nextMonthStart;
+            PeriodStatsAccumulator.Totals week = acc.sumRange(weekStart, nextWeekStart);
+            weeklyCounts.add(new MonthlyStatsDTO.WeeklyCount(
+                    weekNumber++, weekStart, nextWeekStart.minusDays(1), week.logCount, week.workMinutes));
+        }
 
         // DTO 생성
         MonthlyStatsDTO stats = MonthlyStatsDTO.builder()
                 .year(targetYear)
                 .month(targetMonth)
-                .totalLogs(getIntegerValue(basicStats, "totallogs"))
-                .totalWorkMinutes(getIntegerValue(basicStats, "totalworkminutes"))
-                .avgWorkMinutes(getIntegerValue(basicStats, "avgworkminutes"))
-                .activeProjects(getIntegerValue(basicStats, "activeprojects"))
-                .workDays(getIntegerValue(basicStats, "workdays"))
+                .totalLogs(acc.getTotalLogs())
+                .totalWorkMinutes(acc.getTotalWorkMinutes())
+                .avgWorkMinutes(acc.getAvgWorkMinutes())
+                .activeProjects(acc.getActiveProjects())
+                .workDays(acc.getWorkDays())
                 .dailyCounts(dailyCounts)
                 .projectCounts(projectCounts)
                 .weeklyCounts(weeklyCounts)
@@ -150,6 +209,17 @@ public class StatisticsService {
             throw new IllegalArgumentException("Project ID is required");
         }
 
+        return statisticsCache.get(StatisticsCache.Key.project(projectId), () -> loadProjectStats(projectId));
+    }
+
+    /**
+     * 프로젝트별 통계 계산
+     *
+     * @param projectId 프로젝트 ID
+     * @return 프로젝트 통계 DTO
+     * @throws IllegalArgumentException 프로젝트가 존재하지 않는 경우
+     */
+    private ProjectStatsDTO loadProjectStats(Long projectId) {
         // 프로젝트 존재 확인
         Project project = projectMapper.findById(projectId);
         if (project == null) {
@@ -202,6 +272,15 @@ public class StatisticsService {
     public TechStackStatsDTO getTechStackStats() {
         log.debug("Getting tech stack statistics");
 
+        return statisticsCache.get(StatisticsCache.Key.techStack(), this::loadTechStackStats);
+    }
+
+    /**
+     * 기술 스택 통계 계산
+     *
+     * @return 기술 스택 통계 DTO
+     */
+    private TechStackStatsDTO loadTechStackStats() {
         // 기본 통계 조회
         Map<String, Object> basicStats = statisticsMapper.getTechStackBasicStats();
 
@@ -275,10 +354,21 @@ public class StatisticsService {
 
     // ========== 헬퍼 메서드 ==========
 
+    /**
+     * 기간 내 프로젝트 일별 통계를 한 번 조회해 누산
+     */
+    private PeriodStatsAccumulator accumulate(LocalDate startDate, LocalDate endDate) {
+        PeriodStatsAccumulator acc = new PeriodStatsAccumulator();
+        for (ProjectStats row : statisticsMapper.getPeriodProjectStats(startDate, endDate)) {
+            acc.add(row);
+        }
+        return acc;
+    }
+
     /**
      * Map에서 Integer 값 안전하게 추출
      */
-    private Integer getIntegerValue(Map<String, Object> map, String key) {
+    static Integer getIntegerValue(Map<String, Object> map, String key) {
         if (map == null || !map.containsKey(key)) {
             return 0;
         }
@@ -0,0 +1,287 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.model.TechTag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 기술 태그 자동완성 트라이
+ *
+ * 소문자로 바꾼 태그 이름과 이름 안의 각 단어 시작 위치("spring boot" → "boot")를 키로 색인합니다.
+ * 만든 뒤에는 바뀌지 않으며, 노드와 간선을 배열 몇 개에 연속 저장해 객체 수를 태그 수와 무관하게 유지합니다.
+ *
+ * - 접두어 검색: 질의로 시작하는 키를 가진 태그
+ * - 유사 검색: 키의 어떤 접두어와 편집 거리가 maxEdits 이하인 태그 (Levenshtein 행을 트라이 경로를 따라 계산)
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+final class TagTrie {
+
+    /**
+     * 검색 결과 항목
+     *
+     * @param tagId 태그 ID
+     * @param distance 질의와 키 접두어의 편집 거리 (접두어 일치면 0)
+     * @param wordMatch 이름 중간 단어에서 일치했으면 true (이름 전체 접두어 일치보다 낮은 순위)
+     */
+    record Match(long tagId, int distance, boolean wordMatch) {
+
+        private boolean betterThan(Match other) {
+            if (distance != other.distance) {
+                return distance < other.distance;
+            }
+            return !wordMatch && other.wordMatch;
+        }
+    }
+
+    static final TagTrie EMPTY = build(List.of());
+
+    // 노드 i의 간선은 edgeLabels/edgeTargets[edgeStart[i] .. edgeStart[i + 1])에 문자 순으로 저장
+    private final int[] edgeStart;
+    private final char[] edgeLabels;
+    private final int[] edgeTargets;
+
+    // 노드 i에서 끝나는 키의 값은 valueIds/valueWordMatch[valueStart[i] .. valueStart[i + 1])
+    private final int[] valueStart;
+    private final long[] valueIds;
+    private final boolean[] valueWordMatch;
+
+    private TagTrie(int[] edgeStart, char[] edgeLabels, int[] edgeTargets,
+                    int[] valueStart, long[] valueIds, boolean[] valueWordMatch) {
+        this.edgeStart = edgeStart;
+        this.edgeLabels = edgeLabels;
+        this.edgeTargets = edgeTargets;
+        this.valueStart = valueStart;
+        this.valueIds = valueIds;
+        this.valueWordMatch = valueWordMatch;
+    }
+
+    /**
+     * 태그 목록으로 트라이 생성
+     *
+     * @param tags 기술 태그 목록
+     * @return 트라이
+     */
+    static TagTrie build(Collection<TechTag> tags) {
+        Node root = new Node();
+        int nodeCount = 1;
+        int valueCount = 0;
+        for (TechTag tag : tags) {
+            if (tag.getId() == null || tag.getName() == null) {
+                continue;
+            }
+            String key = normalize(tag.getName());
+            for (int start = 0; start < key.length(); start++) {
+                if (!isWordStart(key, start)) {
+                    continue;
+                }
+                Node node = root;
+                for (int i = start; i < key.length(); i++) {
+                    Node child = node.children.get(key.charAt(i));
+                    if (child == null) {
+                        child = new Node();
+                        node.children.put(key.charAt(i), child);
+                        nodeCount++;
+                    }
+                    node = child;
+                }
+                node.values.add(new Match(tag.getId(), 0, start > 0));
+                valueCount++;
+            }
+        }
+
+        // 너비 우선으로 번호를 매겨 배열에 옮김
+        int[] edgeStart = new int[nodeCount + 1];
+        char[] edgeLabels = new char[nodeCount - 1];
+        int[] edgeTargets = new int[nodeCount - 1];
+        int[] valueStart = new int[nodeCount + 1];
+        long[] valueIds = new long[valueCount];
+        boolean[] valueWordMatch = new boolean[valueCount];
+
+        List<Node> queue = new ArrayList<>(nodeCount);
+        queue.add(root);
+        int edges = 0;
+        int values = 0;
+        for (int i = 0; i < queue.size(); i++) {
+            Node node = queue.get(i);
+            edgeStart[i] = edges;
+            valueStart[i] = values;
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                edgeLabels[edges] = child.getKey();
+                edgeTargets[edges] = queue.size();
+                queue.add(child.getValue());
+                edges++;
+            }
+            for (Match value : node.values) {
+                valueIds[values] = value.tagId();
+                valueWordMatch[values] = value.wordMatch();
+                values++;
+            }
+        }
+        edgeStart[nodeCount] = edges;
+        valueStart[nodeCount] = values;
+
+        return new TagTrie(edgeStart, edgeLabels, edgeTargets, valueStart, valueIds, valueWordMatch);
+    }
+
+    /**
+     * 자동완성 검색
+     *
+     * @param query 질의 (대소문자 무시)
+     * @param maxEdits 허용 편집 거리 (0이면 접두어 검색)
+     * @return 태그별 가장 좋은 일치 (순서 없음)
+     */
+    List<Match> search(String query, int maxEdits) {
+        String q = normalize(query);
+        Map<Long, Match> best = new HashMap<>();
+        if (q.isEmpty()) {
+            return List.of();
+        }
+
+        if (maxEdits <= 0) {
+            int node = 0;
+            for (int i = 0; i < q.length() && node >= 0; i++) {
+                node = child(node, q.charAt(i));
+            }
+            if (node >= 0) {
+                collect(node, 0, best);
+            }
+            return new ArrayList<>(best.values());
+        }
+
+        // 질의 전체를 지울 수 있는 거리는 모든 키와 일치하므로 제한
+        maxEdits = Math.min(maxEdits, q.length() - 1);
+        int[] row = new int[q.length() + 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = i;
+        }
+        searchFuzzy(0, q, row, Integer.MAX_VALUE, maxEdits, best);
+        return new ArrayList<>(best.values());
+    }
+
+    /**
+     * 트라이 경로를 따라 Levenshtein 행을 계산하며 탐색
+     *
+     * @param node 현재 노드
+     * @param row 질의와 현재 경로(키 접두어)의 편집 거리 행
+     * @param pathMin 지금까지 경로에서 질의 전체와의 최소 편집 거리
+     */
+    private void searchFuzzy(int node, String q, int[] row, int pathMin, int maxEdits, Map<Long, Match> best) {
+        int distance = Math.min(pathMin, row[q.length()]);
+        if (distance <= maxEdits) {
+            addValues(node, distance, best);
+        }
+
+        int rowMin = Integer.MAX_VALUE;
+        for (int value : row) {
+            rowMin = Math.min(rowMin, value);
+        }
+        if (rowMin > maxEdits) {
+            // 더 내려가도 거리가 줄지 않으므로 이미 일치한 경로면 하위 키를 모두 같은 거리로 수집
+            if (distance <= maxEdits) {
+                for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                    collect(edgeTargets[e], distance, best);
+                }
+            }
+            return;
+        }
+
+        for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+            char label = edgeLabels[e];
+            int[] next = new int[row.length];
+            next[0] = row[0] + 1;
+            for (int i = 1; i < row.length; i++) {
+                int cost = q.charAt(i - 1) == label ? 0 : 1;
+                next[i] = Math.min(Math.min(next[i - 1] + 1, row[i] + 1), row[i - 1] + cost);
+            }
+            searchFuzzy(edgeTargets[e], q, next, distance, maxEdits, best);
+        }
+    }
+
+    /**
+     * 노드와 모든 하위 노드의 값을 같은 거리로 수집
+     */
+    private void collect(int root, int distance, Map<Long, Match> best) {
+        int[] stack = new int[16];
+        int size = 0;
+        stack[size++] = root;
+        while (size > 0) {
+            int node = stack[--size];
+            addValues(node, distance, best);
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                if (size == stack.length) {
+                    stack = Arrays.copyOf(stack, size * 2);
+                }
+                stack[size++] = edgeTargets[e];
+            }
+        }
+    }
+
+    private void addValues(int node, int distance, Map<Long, Match> best) {
+        for (int v = valueStart[node]; v < valueStart[node + 1]; v++) {
+            Match match = new Match(valueIds[v], distance, valueWordMatch[v]);
+            best.merge(match.tagId(), match, (current, candidate) -> candidate.betterThan(current) ? candidate : current);
+        }
+    }
+
+    /**
+     * 간선 이진 탐색
+     *
+     * @return 자식 노드 번호, 없으면 -1
+     */
+    private int child(int node, char label) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char current = edgeLabels[mid];
+            if (current < label) {
+                low = mid + 1;
+            } else if (current > label) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 노드 수 (색인 크기 확인용)
+     *
+     * @return 노드 수
+     */
+    int nodeCount() {
+        return edgeStart.length - 1;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 단어 시작 위치 여부 (이름 처음, "node.js"의 "js", "spring boot"의 "boot")
+     */
+    private static boolean isWordStart(String key, int index) {
+        if (index == 0) {
+            return true;
+        }
+        return Character.isLetterOrDigit(key.charAt(index)) && !Character.isLetterOrDigit(key.charAt(index - 1));
+    }
+
+    /**
+     * 생성 중에만 쓰는 노드
+     */
+    private static final class Node {
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        private final List<Match> values = new ArrayList<>(1);
+    }
+}
@@ -0,0 +1,239 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.mapper.TechTagMapper;
+import com.vibecoding.devlog.model.TagUsageDelta;
+import com.vibecoding.devlog.model.TechTag;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 태그 사용 횟수 카운터 (write-behind)
+ *
+ * 로그-태그 연결이 바뀔 때마다 tech_tags 행을 UPDATE하지 않고, 태그별 LongAdder에 변화량만 모아
+ * 일정 간격으로 한 문장에 반영합니다. 인기 태그 행에 동시 쓰기가 몰려 잠금 대기가 생기지 않습니다.
+ *
+ * - 변화량은 트랜잭션이 커밋된 뒤에만 더하므로 롤백된 쓰기는 반영되지 않습니다.
+ * - 반영이 실패하면 변화량을 되돌려 다음 주기에 다시 시도합니다.
+ * - 종료 시 남은 변화량을 반영하고, 주기적으로 log_tech_tags의 실제 연결 수로 보정합니다.
+ *   (비정상 종료로 잃은 변화량이나 다른 경로로 바뀐 연결은 보정 때 바로잡힙니다.)
+ * - 보정은 advisory 잠금으로 한 인스턴스만 실행하고, 보정 중에 이 인스턴스의 연결 변경이 커밋되면
+ *   보정을 롤백합니다. 그래서 보정 후 남은 변화량은 보정 시점 이후의 변경뿐이라 두 번 더해지지 않습니다.
+ *   다른 인스턴스가 아직 반영하지 않은 변화량(최대 반영 주기 하나 분량)은 다음 보정 때 바로잡힙니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class TagUsageCounter {
+
+    private final TechTagMapper techTagMapper;
+    private final TechTagRegistry techTagRegistry;
+    private final StatisticsCache statisticsCache;
+    private final ChangeVersions changeVersions;
+    private final TransactionOperations transactionOperations;
+    private final ScheduledExecutorService executor;
+    private final long flushIntervalMillis;
+    private final long reconcileIntervalMinutes;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 변화량 반영과 보정의 순서 보호 (flush의 데이터베이스 호출과 잠금을 나누려고 별도 잠금 객체 사용)
+     */
+    private final Object deltaLock = new Object();
+    private final CommitGuard guard = new CommitGuard(deltaLock);
+
+    public TagUsageCounter(TechTagMapper techTagMapper,
+                           TechTagRegistry techTagRegistry,
+                           StatisticsCache statisticsCache,
+                           ChangeVersions changeVersions,
+                           TransactionOperations transactionOperations,
+                           @Qualifier("tagUsageExecutor") ScheduledExecutorService executor,
+                           @Value("${devlog.tag-usage.flush-interval-ms:5000}") long flushIntervalMillis,
+                           @Value("${devlog.tag-usage.reconcile-interval-minutes:60}") long reconcileIntervalMinutes) {
+        this.techTagMapper = techTagMapper;
+        this.techTagRegistry = techTagRegistry;
+        this.statisticsCache = statisticsCache;
+        this.changeVersions = changeVersions;
+        this.transactionOperations = transactionOperations;
+        this.executor = executor;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.reconcileIntervalMinutes = reconcileIntervalMinutes;
+    }
+
+    /**
+     * 애플리케이션 시작 후 주기적인 반영과 보정 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        // 시작 직후 한 번 보정해 비정상 종료로 잃은 변화량을 바로잡음
+        executor.scheduleWithFixedDelay(this::reconcileQuietly, flushIntervalMillis,
+                TimeUnit.MINUTES.toMillis(reconcileIntervalMinutes), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 태그 연결 추가 (커밋 후 +1)
+     *
+     * @param tagIds 연결된 태그 ID
+     */
+    public void linked(Collection<Long> tagIds) {
+        afterCommit(() -> tagIds.forEach(tagId -> adder(tagId).increment()));
+    }
+
+    /**
+     * 태그 연결 제거 (커밋 후 -1)
+     *
+     * @param tagIds 연결이 제거된 태그 ID
+     */
+    public void unlinked(Collection<Long> tagIds) {
+        afterCommit(() -> tagIds.forEach(tagId -> adder(tagId).decrement()));
+    }
+
+    /**
+     * 태그별 변화량 추가 (커밋 후 반영, 일괄 가져오기나 프로젝트 삭제처럼 한 번에 많이 바뀔 때)
+     *
+     * @param deltas 태그 ID별 변화량
+     */
+    public void add(Map<Long, Long> deltas) {
+        afterCommit(() -> deltas.forEach((tagId, delta) -> adder(tagId).add(delta)));
+    }
+
+    /**
+     * 아직 반영되지 않은 변화량
+     *
+     * @param tagId 태그 ID
+     * @return 반영 대기 중인 변화량
+     */
+    public long pending(Long tagId) {
+        LongAdder adder = pending.get(tagId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * 모아 둔 변화량을 tech_tags에 반영
+     * 읽은 만큼만 빼므로 반영 중에 더해진 변화량은 다음 주기로 넘어갑니다.
+     *
+     * @return 반영한 태그 수
+     */
+    public synchronized int flush() {
+        Map<Long, Long> taken = new TreeMap<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                entry.getValue().add(-delta);
+                taken.put(entry.getKey(), delta);
+            }
+        }
+        if (taken.isEmpty()) {
+            return 0;
+        }
+
+        // 태그 ID 순으로 반영해 인스턴스 간 잠금 순서를 맞춤
+        List<TagUsageDelta> deltas = new ArrayList<>(taken.size());
+        taken.forEach((tagId, delta) -> deltas.add(new TagUsageDelta(tagId, delta)));
+        List<TechTag> counts;
+        try {
+            counts = techTagMapper.addUsageCounts(deltas);
+        } catch (RuntimeException e) {
+            taken.forEach((tagId, delta) -> adder(tagId).add(delta));
+            throw e;
+        }
+
+        techTagRegistry.applyUsageCounts(counts);
+        statisticsCache.evictTechTags();
+        changeVersions.markChanged(ChangeVersions.Domain.TECH_TAGS);
+        log.debug("Tag usage counts flushed: {} tags", deltas.size());
+        return deltas.size();
+    }
+
+    /**
+     * 실제 연결 수로 사용 횟수 보정 (먼저 대기 중인 변화량을 반영)
+     * 다른 인스턴스가 보정 중이거나 보정 중에 연결 변경이 커밋되면 건너뛰고 다음 주기에 다시 시도합니다.
+     *
+     * @return 보정된 태그 수
+     */
+    public int reconcile() {
+        // 반영보다 먼저 시작 순번을 잡아야, 반영 뒤에 더해진 변화량이 보정 결과와 겹치는지 알 수 있음
+        long stamp = guard.beginRead();
+        if (stamp < 0) {
+            log.debug("Tag usage reconcile skipped: link changes are committing");
+            return 0;
+        }
+        flush();
+        Integer corrected = transactionOperations.execute(status -> {
+            if (!techTagMapper.tryLockUsageCounts()) {
+                log.debug("Tag usage reconcile skipped: running on another instance");
+                return 0;
+            }
+            int rows = techTagMapper.reconcileUsageCounts();
+            synchronized (deltaLock) {
+                if (!guard.unchangedSince(stamp)) {
+                    // 보정이 읽은 연결 수에 남은 변화량이 이미 포함됐을 수 있으므로 보정을 버림
+                    status.setRollbackOnly();
+                    log.debug("Tag usage reconcile rolled back: link changes committed meanwhile");
+                    return 0;
+                }
+            }
+            return rows;
+        });
+        if (corrected != null && corrected > 0) {
+            techTagRegistry.reload();
+            statisticsCache.evictTechTags();
+            changeVersions.markChanged(ChangeVersions.Domain.TECH_TAGS);
+            log.info("Tag usage counts reconciled: {} tags corrected", corrected);
+        }
+        return corrected == null ? 0 : corrected;
+    }
+
+    /**
+     * 종료 전 남은 변화량 반영
+     */
+    @PreDestroy
+    void shutdown() {
+        flushQuietly();
+    }
+
+    private void afterCommit(Runnable action) {
+        // 커밋 결과를 알 수 없으면 변화량을 버리고 다음 보정에 맡김
+        guard.afterCommit(action, () -> { });
+    }
+
+    private LongAdder adder(Long tagId) {
+        return pending.computeIfAbsent(tagId, id -> new LongAdder());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush tag usage counts, will retry: {}", e.getMessage());
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile tag usage counts: {}", e.getMessage());
+        }
+    }
+}
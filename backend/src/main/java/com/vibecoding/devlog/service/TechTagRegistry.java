@@ -0,0 +1,299 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.mapper.TechTagMapper;
+import com.vibecoding.devlog.model.TechTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 기술 태그 인메모리 레지스트리
+ *
+ * 태그는 작고 자주 읽히며 거의 바뀌지 않으므로 전체를 메모리에 두고 조회합니다.
+ * 전체/카테고리별/인기 목록을 미리 정렬한 불변 스냅샷으로 만들어 두고, 바뀔 때마다 새 스냅샷으로 교체합니다.
+ * 읽기는 잠금 없이 현재 스냅샷을 그대로 반환하며 데이터베이스를 사용하지 않습니다.
+ *
+ * - 시작 시 전체 태그를 읽고, 이후 TechTagService의 쓰기는 커밋된 뒤 반영합니다.
+ * - 사용 횟수는 TagUsageCounter가 DB에 반영할 때 함께 적용하며, 이름이 그대로이므로 트라이를 다시 만들지 않습니다.
+ * - 다른 인스턴스나 SQL로 바뀐 태그는 DatabaseChangeListener가 다시 읽게 합니다.
+ * - 스냅샷의 태그 객체는 여러 요청이 공유하므로 호출자가 수정하면 안 됩니다.
+ *
+ * @author DevLog Team
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TechTagRegistry {
+
+    /**
+     * 목록 정렬 순서 (tech_tags 조회 쿼리와 같은 usage_count DESC, name ASC)
+     */
+    private static final Comparator<TechTag> USAGE_ORDER = Comparator
+            .comparing((TechTag tag) -> tag.getUsageCount() != null ? tag.getUsageCount() : 0, Comparator.reverseOrder())
+            .thenComparing(TechTag::getName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final TechTagMapper techTagMapper;
+
+    private volatile Snapshot snapshot = Snapshot.of(List.of(), null);
+    private volatile boolean ready = false;
+
+    /**
+     * 전체 태그 로드 (애플리케이션 시작 시, 변경 알림 연결이 다시 맺어졌을 때)
+     * 데이터베이스에 연결할 수 없으면 준비되지 않은 상태로 두며, 그동안 TechTagService는 데이터베이스에서 조회합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+            ready = true;
+        } catch (DataAccessException e) {
+            log.warn("Tech tag registry load failed, reading tags from database until reload: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스에서 전체 태그를 다시 읽음
+     * 읽는 동안 다른 변경이 끼어들지 않도록 잠금 안에서 조회합니다.
+     */
+    public synchronized void reload() {
+        long started = System.currentTimeMillis();
+        snapshot = Snapshot.of(techTagMapper.findAll(), null);
+        log.info("Tech tag registry loaded: {} tags, {} trie nodes in {} ms",
+                snapshot.all.size(), snapshot.trie.nodeCount(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 레지스트리 사용 가능 여부
+     *
+     * @return 시작 시 로드가 끝났으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<TechTag> findAll() {
+        return snapshot.all;
+    }
+
+    public Optional<TechTag> findById(Long id) {
+        return Optional.ofNullable(snapshot.byId.get(id));
+    }
+
+    public Optional<TechTag> findByName(String name) {
+        return Optional.ofNullable(snapshot.byName.get(name));
+    }
+
+    public List<TechTag> findByCategory(String category) {
+        return snapshot.byCategory.getOrDefault(category, List.of());
+    }
+
+    /**
+     * 인기 태그 조회 (사용 횟수가 있는 태그만)
+     *
+     * @param limit 조회할 개수
+     * @return 인기 태그 목록
+     */
+    public List<TechTag> findPopular(int limit) {
+        List<TechTag> popular = snapshot.popular;
+        return popular.size() <= limit ? popular : popular.subList(0, limit);
+    }
+
+    /**
+     * 이름에 키워드가 포함된 태그 조회 (대소문자 무시)
+     *
+     * @param keyword 검색 키워드
+     * @return 사용 횟수 순 태그 목록
+     */
+    public List<TechTag> search(String keyword) {
+        String lower = keyword.toLowerCase(Locale.ROOT);
+        List<TechTag> results = new ArrayList<>();
+        for (TechTag tag : snapshot.all) {
+            if (tag.getName() != null && tag.getName().toLowerCase(Locale.ROOT).contains(lower)) {
+                results.add(tag);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 자동완성
+     * 이름 전체 접두어 일치, 이름 중간 단어 접두어 일치, 오타 허용 일치 순으로 정렬하고
+     * 같은 순위 안에서는 사용 횟수 순으로 정렬합니다.
+     *
+     * @param query 입력 중인 문자열
+     * @param limit 최대 개수
+     * @param fuzzy 오타 허용 여부 (3~5자는 1자, 6자 이상은 2자까지)
+     * @return 자동완성 후보
+     */
+    public List<TechTag> autocomplete(String query, int limit, boolean fuzzy) {
+        Snapshot current = snapshot;
+        String q = TagTrie.normalize(query);
+        if (q.isEmpty()) {
+            return findPopular(limit);
+        }
+
+        int maxEdits = !fuzzy || q.length() < 3 ? 0 : q.length() < 6 ? 1 : 2;
+        List<TagTrie.Match> matches = current.trie.search(q, maxEdits);
+        matches.sort(Comparator.comparingInt(TagTrie.Match::distance)
+                .thenComparing(TagTrie.Match::wordMatch)
+                .thenComparing(match -> current.byId.get(match.tagId()), USAGE_ORDER));
+
+        List<TechTag> results = new ArrayList<>(Math.min(limit, matches.size()));
+        for (TagTrie.Match match : matches) {
+            if (results.size() == limit) {
+                break;
+            }
+            results.add(current.byId.get(match.tagId()));
+        }
+        return results;
+    }
+
+    public int count() {
+        return snapshot.all.size();
+    }
+
+    public int countByCategory(String category) {
+        return findByCategory(category).size();
+    }
+
+    /**
+     * 태그 반영 (트랜잭션 커밋 후)
+     *
+     * @param tags 생성 또는 수정된 태그 (DB에서 읽은 전체 행)
+     */
+    public void put(Collection<TechTag> tags) {
+        List<TechTag> copy = List.copyOf(tags);
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                replace(copy, List.of());
+            }
+        });
+    }
+
+    /**
+     * 태그 제거 (트랜잭션 커밋 후)
+     *
+     * @param id 삭제된 태그 ID
+     */
+    public void remove(Long id) {
+        AfterCommit.run(() -> {
+            synchronized (this) {
+                replace(List.of(), List.of(id));
+            }
+        });
+    }
+
+    /**
+     * 반영된 사용 횟수 적용 (TagUsageCounter가 DB에 반영한 직후)
+     * 변화량이 아닌 DB가 반환한 값으로 덮어쓰므로 그 사이 다시 읽었더라도 두 번 더해지지 않습니다.
+     *
+     * @param counts 태그 ID와 반영 후 사용 횟수
+     */
+    public synchronized void applyUsageCounts(Collection<TechTag> counts) {
+        Snapshot current = snapshot;
+        Map<Long, TechTag> byId = new HashMap<>(current.byId);
+        boolean changed = false;
+        for (TechTag count : counts) {
+            TechTag tag = byId.get(count.getId());
+            if (tag == null || Objects.equals(tag.getUsageCount(), count.getUsageCount())) {
+                continue;
+            }
+            byId.put(tag.getId(), withUsage(tag, count.getUsageCount()));
+            changed = true;
+        }
+        if (changed) {
+            // 이름이 바뀌지 않았으므로 트라이는 그대로 사용
+            snapshot = Snapshot.of(byId.values(), current.trie);
+        }
+    }
+
+    /**
+     * 스냅샷에 태그를 추가/교체/제거해 새 스냅샷으로 교체 (잠금 안에서 호출)
+     */
+    private void replace(Collection<TechTag> upserts, Collection<Long> removals) {
+        Map<Long, TechTag> byId = new HashMap<>(snapshot.byId);
+        upserts.forEach(tag -> byId.put(tag.getId(), tag));
+        removals.forEach(byId::remove);
+        snapshot = Snapshot.of(byId.values(), null);
+    }
+
+    private static TechTag withUsage(TechTag tag, Integer usageCount) {
+        return TechTag.builder()
+                .id(tag.getId())
+                .name(tag.getName())
+                .category(tag.getCategory())
+                .color(tag.getColor())
+                .usageCount(usageCount)
+                .createdAt(tag.getCreatedAt())
+                .updatedAt(tag.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 불변 스냅샷 (만든 뒤 바뀌지 않으므로 잠금 없이 공유)
+     */
+    private static final class Snapshot {
+
+        private final List<TechTag> all;
+        private final List<TechTag> popular;
+        private final Map<Long, TechTag> byId;
+        private final Map<String, TechTag> byName;
+        private final Map<String, List<TechTag>> byCategory;
+        private final TagTrie trie;
+
+        private Snapshot(List<TechTag> all, List<TechTag> popular, Map<Long, TechTag> byId,
+                         Map<String, TechTag> byName, Map<String, List<TechTag>> byCategory, TagTrie trie) {
+            this.all = all;
+            this.popular = popular;
+            this.byId = byId;
+            this.byName = byName;
+            this.byCategory = byCategory;
+            this.trie = trie;
+        }
+
+        /**
+         * @param tags 전체 태그
+         * @param trie 재사용할 트라이 (이름이 바뀌었으면 null)
+         */
+        private static Snapshot of(Collection<TechTag> tags, TagTrie trie) {
+            List<TechTag> sorted = new ArrayList<>(tags);
+            sorted.sort(USAGE_ORDER);
+
+            Map<Long, TechTag> byId = new HashMap<>(sorted.size() * 2);
+            Map<String, TechTag> byName = new HashMap<>(sorted.size() * 2);
+            Map<String, List<TechTag>> byCategory = new LinkedHashMap<>();
+            int popularCount = 0;
+            for (TechTag tag : sorted) {
+                byId.put(tag.getId(), tag);
+                byName.put(tag.getName(), tag);
+                if (tag.getCategory() != null) {
+                    byCategory.computeIfAbsent(tag.getCategory(), key -> new ArrayList<>()).add(tag);
+                }
+                if (tag.getUsageCount() != null && tag.getUsageCount() > 0) {
+                    popularCount++;
+                }
+            }
+            byCategory.replaceAll((category, list) -> List.copyOf(list));
+
+            List<TechTag> all = List.copyOf(sorted);
+            // 사용 횟수 내림차순이므로 사용 횟수가 있는 태그는 앞쪽에 모여 있음
+            return new Snapshot(all, all.subList(0, popularCount), Map.copyOf(byId), Map.copyOf(byName),
+                    Map.copyOf(byCategory), trie != null ? trie : TagTrie.build(sorted));
+        }
+    }
+}
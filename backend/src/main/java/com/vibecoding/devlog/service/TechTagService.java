@@ -1,32 +1,62 @@
 package com.vibecoding.devlog.service;
 
+import com.vibecoding.devlog.dto.response.ChangeEvent;
 import com.vibecoding.devlog.mapper.TechTagMapper;
 import com.vibecoding.devlog.model.TechTag;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * 기술 태그 서비스
  *
  * 기술 태그 관련 비즈니스 로직을 처리합니다.
  * 태그 자동 생성 및 사용 횟수 관리를 담당합니다.
+ * 조회는 TechTagRegistry의 메모리 스냅샷에서 처리하고, 시작 시 로드가 끝나기 전에만 데이터베이스를 사용합니다.
  *
  * @author DevLog Team
  * @version 1.0
  */
 @Slf4j
 @Service
+@Timed("devlog.service")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TechTagService {
 
+    /**
+     * 한 번에 조회 또는 생성할 수 있는 최대 태그 수
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * 태그 이름 최대 길이 (tech_tags.name VARCHAR(100))
+     */
+    private static final int MAX_NAME_LENGTH = 100;
+
+    /**
+     * 자동완성 최대 개수
+     */
+    private static final int MAX_AUTOCOMPLETE_LIMIT = 50;
+
     private final TechTagMapper techTagMapper;
+    private final TechTagRegistry techTagRegistry;
+    private final StatisticsCache statisticsCache;
+    private final ChangeVersions changeVersions;
+    private final ChangeFeed changeFeed;
 
     /**
      * 모든 기술 태그 조회
@@ -35,7 +65,7 @@ public class TechTagService {
      */
     public List<TechTag> findAll() {
         log.debug("Finding all tech tags");
-        return techTagMapper.findAll();
+        return techTagRegistry.isReady() ? techTagRegistry.findAll() : techTagMapper.findAll();
     }
 
     /**
@@ -46,9 +76,26 @@ public class TechTagService {
      */
     public Optional<TechTag> findById(Long id) {
         log.debug("Finding tech tag by id: {}", id);
+        if (techTagRegistry.isReady()) {
+            return techTagRegistry.findById(id);
+        }
         return Optional.ofNullable(techTagMapper.findById(id));
     }
 
+    /**
+     * 주어진 ID 중 존재하는 태그 ID 일괄 확인
+     *
+     * @param ids 확인할 태그 ID 목록
+     * @return 존재하는 태그 ID 집합
+     */
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptySet();
+        }
+        log.debug("Resolving {} tech tag ids", ids.size());
+        return new HashSet<>(techTagMapper.findExistingIds(ids));
+    }
+
     /**
      * 이름으로 기술 태그 조회
      *
@@ -57,6 +104,9 @@ public class TechTagService {
      */
     public Optional<TechTag> findByName(String name) {
         log.debug("Finding tech tag by name: {}", name);
+        if (techTagRegistry.isReady()) {
+            return techTagRegistry.findByName(name);
+        }
         return Optional.ofNullable(techTagMapper.findByName(name));
     }
 
@@ -69,7 +119,8 @@ public class TechTagService {
     public List<TechTag> findByCategory(String category) {
         log.debug("Finding tech tags by category: {}", category);
         validateCategory(category);
-        return techTagMapper.findByCategory(category);
+        return techTagRegistry.isReady() ? techTagRegistry.findByCategory(category)
+                : techTagMapper.findByCategory(category);
     }
 
     /**
@@ -83,7 +134,7 @@ public class TechTagService {
         if (limit <= 0) {
             limit = 10;
         }
-        return techTagMapper.findPopular(limit);
+        return techTagRegistry.isReady() ? techTagRegistry.findPopular(limit) : techTagMapper.findPopular(limit);
     }
 
     /**
@@ -97,7 +148,27 @@ public class TechTagService {
         if (keyword == null || keyword.trim().isEmpty()) {
             return findAll();
         }
-        return techTagMapper.search(keyword.trim());
+        return techTagRegistry.isReady() ? techTagRegistry.search(keyword.trim())
+                : techTagMapper.search(keyword.trim());
+    }
+
+    /**
+     * 태그 이름 자동완성
+     * 이름 또는 이름 안 단어의 접두어로 찾고, fuzzy면 오타도 허용합니다.
+     *
+     * @param query 입력 중인 문자열 (비어 있으면 인기 태그)
+     * @param limit 최대 개수 (1~50)
+     * @param fuzzy 오타 허용 여부
+     * @return 자동완성 후보
+     */
+    public List<TechTag> autocomplete(String query, int limit, boolean fuzzy) {
+        log.debug("Autocompleting tech tags: {}, limit: {}, fuzzy: {}", query, limit, fuzzy);
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_AUTOCOMPLETE_LIMIT));
+        if (!techTagRegistry.isReady()) {
+            List<TechTag> results = search(query);
+            return results.size() <= boundedLimit ? results : results.subList(0, boundedLimit);
+        }
+        return techTagRegistry.autocomplete(query, boundedLimit, fuzzy);
     }
 
     /**
@@ -130,6 +201,11 @@ public class TechTagService {
         if (result == 0) {
             throw new RuntimeException("Failed to create tech tag");
         }
+        // DB 기본값(색상, 생성일시)까지 채운 행으로 레지스트리 반영
+        techTagRegistry.put(List.of(techTagMapper.findById(techTag.getId())));
+        statisticsCache.evictTechTags();
+        changeVersions.markChanged(ChangeVersions.Domain.TECH_TAGS);
+        changeFeed.techTagChanged(ChangeEvent.Action.CREATED, techTag);
 
         log.info("Tech tag created successfully with id: {}", techTag.getId());
         return techTag;
@@ -158,9 +234,14 @@ public class TechTagService {
         if (result == 0) {
             throw new RuntimeException("Failed to update tech tag");
         }
+        statisticsCache.evictTechTags();
+        changeVersions.markChanged(ChangeVersions.Domain.TECH_TAGS, ChangeVersions.Domain.LOGS);
 
         log.info("Tech tag updated successfully with id: {}", id);
-        return techTagMapper.findById(id);
+        TechTag updated = techTagMapper.findById(id);
+        techTagRegistry.put(List.of(updated));
+        changeFeed.techTagChanged(ChangeEvent.Action.UPDATED, updated);
+        return updated;
     }
 
     /**
@@ -181,6 +262,10 @@ public class TechTagService {
         if (result == 0) {
             throw new RuntimeException("Failed to delete tech tag");
         }
+        techTagRegistry.remove(id);
+        statisticsCache.evictTechTags();
+        changeVersions.markChanged(ChangeVersions.Domain.TECH_TAGS, ChangeVersions.Domain.LOGS);
+        changeFeed.techTagChanged(ChangeEvent.Action.DELETED, existing);
 
         log.info("Tech tag deleted successfully with id: {}", id);
     }
@@ -219,6 +304,10 @@ public class TechTagService {
                 .build();
 
         techTagMapper.insert(newTag);
+        techTagRegistry.put(List.of(techTagMapper.findById(newTag.getId())));
+        statisticsCache.evictTechTags();
+        changeVersions.markChanged(ChangeVersions.Domain.TECH_TAGS);
+        changeFeed.techTagChanged(ChangeEvent.Action.CREATED, newTag);
         log.info("New tech tag created: {} (id: {})", trimmedName, newTag.getId());
 
         return newTag;
@@ -232,58 +321,78 @@ public class TechTagService {
      */
     @Transactional
     public List<TechTag> findOrCreateMultiple(List<String> tagNames) {
-        log.debug("Finding or creating multiple tech tags: {}", tagNames);
+        return findOrCreateMultiple(tagNames, null);
+    }
 
-        List<TechTag> tags = new ArrayList<>();
+    /**
+     * 여러 태그를 한 번에 조회 또는 생성
+     * 이름 수와 관계없이 INSERT ... ON CONFLICT DO NOTHING RETURNING 한 번과 name = ANY(...) 조회 한 번으로 처리합니다.
+     * 다른 요청이 같은 이름을 동시에 만들어도 유니크 제약 오류 없이 그 태그를 반환합니다.
+     *
+     * @param tagNames 태그 이름 목록 (앞뒤 공백 제거, 빈 이름과 중복 제외)
+     * @param category 새로 만드는 태그의 카테고리 (선택사항, 기본값 TOOL)
+     * @return 입력 순서대로 정렬한 태그 목록
+     */
+    @Transactional
+    public List<TechTag> findOrCreateMultiple(List<String> tagNames, String category) {
+        log.debug("Finding or creating multiple tech tags: {}", tagNames);
 
         if (tagNames == null || tagNames.isEmpty()) {
-            return tags;
+            return new ArrayList<>();
         }
 
+        Set<String> names = new LinkedHashSet<>();
         for (String name : tagNames) {
             if (name != null && !name.trim().isEmpty()) {
-                TechTag tag = findOrCreate(name.trim(), null);
-                tags.add(tag);
+                String trimmedName = name.trim();
+                if (trimmedName.length() > MAX_NAME_LENGTH) {
+                    throw new IllegalArgumentException(
+                            "Tag name must be at most " + MAX_NAME_LENGTH + " characters: " + trimmedName);
+                }
+                names.add(trimmedName);
             }
         }
-
-        return tags;
-    }
-
-    /**
-     * 사용 횟수 증가
-     *
-     * @param id 태그 ID
-     */
-    @Transactional
-    public void incrementUsage(Long id) {
-        log.debug("Incrementing usage count for tag: {}", id);
-
-        TechTag existing = techTagMapper.findById(id);
-        if (existing == null) {
-            throw new IllegalArgumentException("Tech tag not found with id: " + id);
+        if (names.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (names.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Too many tag names (max " + MAX_BATCH_SIZE + "): " + names.size());
+        }
+        if (category != null) {
+            validateCategory(category);
         }
 
-        techTagMapper.incrementUsageCount(id);
-        log.debug("Usage count incremented for tag: {}", id);
-    }
-
-    /**
-     * 사용 횟수 감소
-     *
-     * @param id 태그 ID
-     */
-    @Transactional
-    public void decrementUsage(Long id) {
-        log.debug("Decrementing usage count for tag: {}", id);
+        Map<String, TechTag> byName = new HashMap<>();
+        List<TechTag> created = techTagMapper.insertMissing(names.toArray(String[]::new),
+                category != null ? category : "TOOL");
+        created.forEach(tag -> byName.put(tag.getName(), tag));
+
+        // 이미 있던 이름 (다른 트랜잭션이 방금 커밋한 태그 포함)
+        if (byName.size() < names.size()) {
+            String[] existingNames = names.stream()
+                    .filter(name -> !byName.containsKey(name))
+                    .toArray(String[]::new);
+            techTagMapper.findByNames(existingNames).forEach(tag -> byName.put(tag.getName(), tag));
+        }
 
-        TechTag existing = techTagMapper.findById(id);
-        if (existing == null) {
-            throw new IllegalArgumentException("Tech tag not found with id: " + id);
+        if (!created.isEmpty()) {
+            techTagRegistry.put(created);
+            statisticsCache.evictTechTags();
+            changeVersions.markChanged(ChangeVersions.Domain.TECH_TAGS);
+            created.forEach(tag -> changeFeed.techTagChanged(ChangeEvent.Action.CREATED, tag));
+            log.info("New tech tags created: {}", created.stream().map(TechTag::getName).toList());
         }
 
-        techTagMapper.decrementUsageCount(id);
-        log.debug("Usage count decremented for tag: {}", id);
+        List<TechTag> tags = new ArrayList<>(names.size());
+        for (String name : names) {
+            TechTag tag = byName.get(name);
+            if (tag == null) {
+                // 생성 직후 다른 트랜잭션이 삭제한 경우
+                throw new IllegalStateException("Tech tag disappeared while resolving: " + name);
+            }
+            tags.add(tag);
+        }
+        return tags;
     }
 
     /**
@@ -292,7 +401,7 @@ public class TechTagService {
      * @return 전체 태그 수
      */
     public int getTotalCount() {
-        return techTagMapper.count();
+        return techTagRegistry.isReady() ? techTagRegistry.count() : techTagMapper.count();
     }
 
     /**
@@ -303,7 +412,8 @@ public class TechTagService {
      */
     public int getCountByCategory(String category) {
         validateCategory(category);
-        return techTagMapper.countByCategory(category);
+        return techTagRegistry.isReady() ? techTagRegistry.countByCategory(category)
+                : techTagMapper.countByCategory(category);
     }
 
     /**
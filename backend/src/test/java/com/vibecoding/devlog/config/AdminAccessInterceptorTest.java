@@ -0,0 +1,56 @@
+package com.vibecoding.devlog.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AdminAccessInterceptor 단위 테스트
+ *
+ * 설정한 토큰과 같은 X-Admin-Token 헤더만 진단 API를 통과하고,
+ * 토큰을 설정하지 않으면 모두 거부하는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("AdminAccessInterceptor 테스트")
+public class AdminAccessInterceptorTest {
+
+    private static MockHttpServletResponse get(AdminAccessInterceptor interceptor, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/admin/slow-queries");
+        if (token != null) {
+            request.addHeader(AdminAccessInterceptor.TOKEN_HEADER, token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, null);
+        assertThat(proceed).isEqualTo(response.getStatus() != 403);
+        return response;
+    }
+
+    @Test
+    @DisplayName("토큰이 같으면 통과, 없거나 다르면 403")
+    void preHandle_RequiresMatchingToken() {
+        // Given
+        AdminAccessInterceptor interceptor = new AdminAccessInterceptor("s3cret");
+
+        // When & Then
+        assertThat(get(interceptor, "s3cret").getStatus()).isEqualTo(200);
+        assertThat(get(interceptor, null).getStatus()).isEqualTo(403);
+        assertThat(get(interceptor, "s3cre").getStatus()).isEqualTo(403);
+        assertThat(get(interceptor, "").getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    @DisplayName("토큰을 설정하지 않으면 빈 헤더를 포함해 모두 거부")
+    void preHandle_NoTokenConfigured_DeniesAll() {
+        // Given
+        AdminAccessInterceptor interceptor = new AdminAccessInterceptor("");
+
+        // When & Then
+        assertThat(get(interceptor, "").getStatus()).isEqualTo(403);
+        assertThat(get(interceptor, null).getStatus()).isEqualTo(403);
+    }
+}
@@ -0,0 +1,86 @@
+package com.vibecoding.devlog.config;
+
+import com.vibecoding.devlog.service.ChangeVersions;
+import com.vibecoding.devlog.service.ChangeVersions.Domain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ConditionalGetInterceptor 단위 테스트
+ *
+ * 변경 버전이 그대로면 핸들러 호출 없이 304로 끝나고,
+ * 해당 영역에 쓰기가 있으면 새 ETag로 전체 응답하는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("ConditionalGetInterceptor 테스트")
+public class ConditionalGetInterceptorTest {
+
+    private ChangeVersions changeVersions;
+    private ConditionalGetInterceptor interceptor;
+    private HandlerMethod handler;
+
+    static class SampleController {
+
+        @ConditionalGet(Domain.PROJECTS)
+        public String projects() {
+            return "projects";
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        changeVersions = new ChangeVersions();
+        interceptor = new ConditionalGetInterceptor(changeVersions);
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("projects"));
+    }
+
+    private MockHttpServletResponse get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/projects");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        boolean proceed = interceptor.preHandle(request, response, handler);
+        assertThat(proceed).isEqualTo(response.getStatus() != 304);
+        return response;
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 304, 다른 영역 변경은 ETag에 영향 없음")
+    void unchanged_ReturnsNotModified() {
+        // Given
+        String etag = get(null).getHeader("ETag");
+        changeVersions.markChanged(Domain.LOGS);
+
+        // When
+        MockHttpServletResponse response = get(etag);
+
+        // Then
+        assertThat(etag).startsWith("\"");
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("해당 영역이 바뀌면 새 ETag로 핸들러 진행")
+    void changed_ProceedsWithNewEtag() {
+        // Given
+        String etag = get(null).getHeader("ETag");
+        changeVersions.markChanged(Domain.PROJECTS);
+
+        // When
+        MockHttpServletResponse response = get(etag);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("ETag")).isNotEqualTo(etag);
+    }
+}
@@ -0,0 +1,108 @@
+package com.vibecoding.devlog.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * MapperMetricsInterceptor 단위 테스트
+ *
+ * 구문 ID별 실행 시간, 행 수, 결과 집합에서 읽은 크기가 기록되는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("MapperMetricsInterceptor 테스트")
+public class MapperMetricsInterceptorTest {
+
+    private static final String STATEMENT_ID = "com.vibecoding.devlog.mapper.StatisticsMapper.getTechStackStats";
+
+    private SimpleMeterRegistry registry;
+    private MapperMetricsInterceptor interceptor;
+    private Executor executor;
+    private MappedStatement mappedStatement;
+    private Method query;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        registry = new SimpleMeterRegistry();
+        interceptor = new MapperMetricsInterceptor(registry, true);
+        executor = mock(Executor.class);
+        Configuration configuration = new Configuration();
+        mappedStatement = new MappedStatement.Builder(configuration, STATEMENT_ID,
+                new StaticSqlSource(configuration, "SELECT 1"), SqlCommandType.SELECT).build();
+        query = Executor.class.getMethod("query",
+                MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+    }
+
+    private Object execute() throws Throwable {
+        return interceptor.intercept(new Invocation(executor, query,
+                new Object[]{mappedStatement, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER}));
+    }
+
+    @Test
+    @DisplayName("조회 시간, 행 수, 읽은 바이트를 매퍼 이름.구문 이름 태그로 기록")
+    void query_RecordsTimerRowsAndFetchedBytes() throws Throwable {
+        // Given: 결과 집합 핸들러가 문자열 하나(UTF-8 6바이트)와 숫자 하나(8바이트)를 읽음
+        ResultSetHandler resultSetHandler = mock(ResultSetHandler.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(statement.getResultSet()).thenReturn(resultSet);
+        when(resultSet.getString(1)).thenReturn("한글");
+        when(resultSet.getLong(2)).thenReturn(7L);
+        when(resultSetHandler.handleResultSets(any())).thenAnswer(invocation -> {
+            ResultSet rs = invocation.<Statement>getArgument(0).getResultSet();
+            return List.of(rs.getString(1), rs.getLong(2), "third");
+        });
+        Method handle = ResultSetHandler.class.getMethod("handleResultSets", Statement.class);
+        when(executor.query(any(), any(), any(), any())).thenAnswer(invocation ->
+                interceptor.intercept(new Invocation(resultSetHandler, handle, new Object[]{statement})));
+
+        // When
+        Object result = execute();
+
+        // Then
+        assertThat(result).asList().hasSize(3);
+        assertThat(registry.get("devlog.mapper.statement")
+                .tags("statement", "StatisticsMapper.getTechStackStats", "command", "SELECT", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.get("devlog.mapper.rows").summary().totalAmount()).isEqualTo(3);
+        assertThat(registry.get("devlog.mapper.fetched").summary().totalAmount()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("실패한 구문은 error 결과로 기록하고 예외를 그대로 전달")
+    void query_RecordsErrorOutcome() throws Throwable {
+        // Given
+        when(executor.query(any(), any(), any(), any())).thenThrow(new SQLException("canceling statement"));
+
+        // When & Then (Invocation은 리플렉션 예외를 그대로 던지고, MyBatis Plugin 프록시가 원인을 풀어 전달)
+        assertThatThrownBy(this::execute)
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(SQLException.class);
+        assertThat(registry.get("devlog.mapper.statement").tag("outcome", "error").timer().count()).isEqualTo(1);
+        assertThat(registry.get("devlog.mapper.statement").tag("outcome", "success").timer().count()).isZero();
+        assertThat(registry.get("devlog.mapper.fetched").summary().count()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.vibecoding.devlog.config;
+
+import com.vibecoding.devlog.dto.response.DevLogResponse;
+import com.vibecoding.devlog.model.DevLog;
+import com.vibecoding.devlog.model.Project;
+import com.vibecoding.devlog.model.TechTag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TechTagListTypeHandler 단위 테스트
+ *
+ * json_agg로 모은 태그 배열이 TechTag 목록으로 변환되어 응답 DTO까지 전달되는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("TechTagListTypeHandler 테스트")
+public class TechTagListTypeHandlerTest {
+
+    @Test
+    @DisplayName("JSON 태그 배열을 TechTag 목록으로 변환하고 응답에 프로젝트/태그 정보 포함")
+    void parse_MapsTagsIntoResponse() throws SQLException {
+        // Given
+        String json = "[{\"id\":1,\"name\":\"Java\",\"category\":\"LANGUAGE\",\"color\":\"#f89820\"},"
+                + "{\"id\":4,\"name\":\"Spring Boot\",\"category\":\"FRAMEWORK\",\"color\":\"#6db33f\"}]";
+
+        // When
+        List<TechTag> tags = TechTagListTypeHandler.parse(json);
+        DevLogResponse response = DevLogResponse.from(DevLog.builder()
+                .id(10L)
+                .projectId(1L)
+                .project(Project.builder().id(1L).name("DevLog").color("#a855f7").build())
+                .techTags(tags)
+                .build());
+
+        // Then
+        assertThat(response.getProjectName()).isEqualTo("DevLog");
+        assertThat(response.getProjectColor()).isEqualTo("#a855f7");
+        assertThat(response.getTechTags())
+                .extracting(DevLogResponse.TechTagDto::getName)
+                .containsExactly("Java", "Spring Boot");
+    }
+
+    @Test
+    @DisplayName("태그가 없으면 빈 목록")
+    void parse_EmptyOrNull() throws SQLException {
+        assertThat(TechTagListTypeHandler.parse("[]")).isEmpty();
+        assertThat(TechTagListTypeHandler.parse(null)).isEmpty();
+    }
+}
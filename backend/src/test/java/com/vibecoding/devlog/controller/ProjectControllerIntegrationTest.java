@@ -72,7 +72,7 @@ public class ProjectControllerIntegrationTest {
         when(projectService.findAll()).thenReturn(testProjects);
 
         // When & Then: GET 요청을 보내고 응답 검증
-        mockMvc.perform(get("/api/projects")
+        mockMvc.perform(get("/api/projects").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
@@ -92,7 +92,7 @@ public class ProjectControllerIntegrationTest {
         when(projectService.findById(1L)).thenReturn(Optional.of(testProject));
 
         // When & Then: GET 요청을 보내고 응답 검증
-        mockMvc.perform(get("/api/projects/1")
+        mockMvc.perform(get("/api/projects/1").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
@@ -110,7 +110,7 @@ public class ProjectControllerIntegrationTest {
         when(projectService.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then: 404 상태 코드 반환
-        mockMvc.perform(get("/api/projects/999")
+        mockMvc.perform(get("/api/projects/999").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isNotFound());
@@ -140,7 +140,7 @@ public class ProjectControllerIntegrationTest {
         when(projectService.create(any(Project.class))).thenReturn(createdProject);
 
         // When & Then: POST 요청을 보내고 응답 검증
-        mockMvc.perform(post("/api/projects")
+        mockMvc.perform(post("/api/projects").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(newProject)))
                 .andDo(print())
@@ -158,7 +158,7 @@ public class ProjectControllerIntegrationTest {
         String invalidProjectJson = "{\"description\": \"설명만 있음\"}";
 
         // When & Then: 400 상태 코드 반환
-        mockMvc.perform(post("/api/projects")
+        mockMvc.perform(post("/api/projects").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(invalidProjectJson))
                 .andDo(print())
@@ -187,7 +187,7 @@ public class ProjectControllerIntegrationTest {
         when(projectService.update(1L, updateData)).thenReturn(updatedProject);
 
         // When & Then: PUT 요청을 보내고 응답 검증
-        mockMvc.perform(put("/api/projects/1")
+        mockMvc.perform(put("/api/projects/1").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateData)))
                 .andDo(print())
@@ -210,7 +210,7 @@ public class ProjectControllerIntegrationTest {
                 .thenThrow(new IllegalArgumentException("프로젝트를 찾을 수 없습니다: 999"));
 
         // When & Then: 404 또는 400 상태 코드 반환
-        mockMvc.perform(put("/api/projects/999")
+        mockMvc.perform(put("/api/projects/999").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateData)))
                 .andDo(print())
@@ -228,7 +228,7 @@ public class ProjectControllerIntegrationTest {
         doNothing().when(projectService).delete(1L);
 
         // When & Then: DELETE 요청을 보내고 응답 검증
-        mockMvc.perform(delete("/api/projects/1")
+        mockMvc.perform(delete("/api/projects/1").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isNoContent());
@@ -244,7 +244,7 @@ public class ProjectControllerIntegrationTest {
                 .when(projectService).delete(999L);
 
         // When & Then: 404 또는 400 상태 코드 반환
-        mockMvc.perform(delete("/api/projects/999")
+        mockMvc.perform(delete("/api/projects/999").contextPath("/api")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isNotFound());
@@ -261,7 +261,7 @@ public class ProjectControllerIntegrationTest {
         when(projectService.findByStatus("ACTIVE")).thenReturn(testProjects);
 
         // When & Then: 상태 파라미터와 함께 GET 요청
-        mockMvc.perform(get("/api/projects")
+        mockMvc.perform(get("/api/projects").contextPath("/api")
                 .param("status", "ACTIVE")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
@@ -278,7 +278,7 @@ public class ProjectControllerIntegrationTest {
         when(projectService.updateProgress(1L, 75)).thenReturn(testProject);
 
         // When & Then: PATCH 요청을 보내고 응답 검증
-        mockMvc.perform(patch("/api/projects/1/progress")
+        mockMvc.perform(patch("/api/projects/1/progress").contextPath("/api")
                 .param("progress", "75")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
@@ -0,0 +1,51 @@
+package com.vibecoding.devlog.dto.request;
+
+import com.vibecoding.devlog.model.DevLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogCursor 단위 테스트
+ *
+ * 키셋 페이지네이션 커서의 인코딩/디코딩을 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("LogCursor 테스트")
+public class LogCursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩하면 원래 정렬 키로 복원")
+    void encodeDecode_RoundTrip() {
+        // Given
+        DevLog devLog = DevLog.builder()
+                .id(42L)
+                .logDate(LocalDate.of(2025, 12, 30))
+                .createdAt(LocalDateTime.of(2025, 12, 30, 12, 30, 15))
+                .build();
+
+        // When
+        String token = LogCursor.of(devLog).encode();
+        LogCursor decoded = LogCursor.decode(token);
+
+        // Then
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getLogDate()).isEqualTo(LocalDate.of(2025, 12, 30));
+        assertThat(decoded.getCreatedAt()).isEqualTo(LocalDateTime.of(2025, 12, 30, 12, 30, 15));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서 토큰은 IllegalArgumentException")
+    void decode_InvalidToken() {
+        assertThatThrownBy(() -> LogCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LogCursor.decode(""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
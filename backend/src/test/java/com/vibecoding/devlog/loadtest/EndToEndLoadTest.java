@@ -0,0 +1,181 @@
+package com.vibecoding.devlog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종단 간 부하 테스트
+ *
+ * 실제 PostgreSQL 컨테이너에 합성 데이터(LoadDataGenerator)를 적재한 뒤 애플리케이션을 띄우고,
+ * 시나리오(LoadScenario)별로 동시 HTTP 요청을 보내 엔드포인트별 p50/p99와 처리량을 측정합니다.
+ * 결과는 target/load-test/load-test-report.{json,csv}에 남습니다.
+ *
+ * 일반 mvn test에서는 제외되고(load 태그), 다음처럼 실행합니다. Docker가 없으면 건너뜁니다.
+ *
+ *   mvn test -Pload-test
+ *   mvn test -Pload-test -Ddevlog.loadtest.logs=200000 -Ddevlog.loadtest.threads=16
+ *
+ * 시스템 속성 (기본값)
+ * - devlog.loadtest.projects (20), logs (20000), tags (200), seed (20260105): 데이터 규모
+ * - devlog.loadtest.threads (8): 동시 요청 수
+ * - devlog.loadtest.requests (2000), warmup (200): 시나리오별 측정/워밍업 요청 수
+ * - devlog.loadtest.scenarios (LIST,SEARCH,DASHBOARD,WRITE_MIX): 실행할 시나리오
+ * - devlog.loadtest.output (target/load-test): 결과 디렉터리
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("종단 간 부하 테스트")
+public class EndToEndLoadTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withCopyFileToContainer(MountableFile.forHostPath("../database/schema.sql"),
+                    "/docker-entrypoint-initdb.d/01-schema.sql");
+
+    private static LoadDataGenerator.DataSet data;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 애플리케이션 컨텍스트보다 먼저 데이터를 적재
+     * (컨테이너는 확장의 beforeAll에서 시작되고, 스프링 컨텍스트는 테스트 인스턴스를 만들 때 뜸)
+     * 덕분에 시작 시 검색 인덱스, 태그 레지스트리, 통계 롤업이 적재된 데이터로 채워집니다.
+     */
+    @BeforeAll
+    static void populate() throws Exception {
+        LoadDataGenerator generator = new LoadDataGenerator(
+                LoadDataGenerator.Scale.fromSystemProperties(), LocalDate.now());
+        long startedAt = System.currentTimeMillis();
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+            data = generator.populate(connection);
+        }
+        log.info("Load test data ready - {}, tagLinks: {}, elapsed: {}ms",
+                data.scale(), data.tagLinks(), System.currentTimeMillis() - startedAt);
+    }
+
+    @Test
+    @DisplayName("시나리오별 엔드포인트 지연 시간과 처리량 측정")
+    void scenarios_ReportLatencyAndThroughput() throws Exception {
+        // Given
+        int threads = Integer.getInteger("devlog.loadtest.threads", 8);
+        int requests = Integer.getInteger("devlog.loadtest.requests", 2000);
+        int warmup = Integer.getInteger("devlog.loadtest.warmup", 200);
+        List<LoadScenario> scenarios = Arrays.stream(
+                        System.getProperty("devlog.loadtest.scenarios", "LIST,SEARCH,DASHBOARD,WRITE_MIX").split(","))
+                .map(name -> LoadScenario.valueOf(name.trim().toUpperCase()))
+                .toList();
+        Path output = Path.of(System.getProperty("devlog.loadtest.output", "target/load-test"));
+
+        LoadScenario.Target target = new LoadScenario.Target(
+                URI.create("http://localhost:" + port + "/api"), data, objectMapper);
+        LoadReport report = new LoadReport(data, threads, requests);
+
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            // When
+            for (LoadScenario scenario : scenarios) {
+                run(scenario, target, client, workers, threads, warmup, null);
+                LoadReport.Recorder recorder = new LoadReport.Recorder();
+                long elapsed = run(scenario, target, client, workers, threads, requests, recorder);
+                report.add(scenario, recorder, elapsed);
+                log.info("Load scenario {} finished: {} requests in {}ms", scenario, requests, elapsed / 1_000_000);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        report.write(output, objectMapper);
+        report.rows().forEach(row -> log.info("{}", row));
+
+        // Then
+        assertThat(report.totalErrors()).as("non-2xx responses").isZero();
+    }
+
+    /**
+     * 요청 수를 워커끼리 나눠 보내고 전체 경과 시간(나노초)을 반환
+     * 워커마다 시드를 달리한 난수로 엔드포인트와 파라미터를 고릅니다 (워밍업은 측정과 다른 시드).
+     *
+     * @param recorder null이면 기록하지 않음 (워밍업)
+     */
+    private static long run(LoadScenario scenario, LoadScenario.Target target, HttpClient client,
+                            ExecutorService workers, int threads, int requests,
+                            LoadReport.Recorder recorder) throws Exception {
+        AtomicInteger remaining = new AtomicInteger(requests);
+        List<Future<?>> futures = new ArrayList<>(threads);
+        long startedAt = System.nanoTime();
+        for (int worker = 0; worker < threads; worker++) {
+            long seed = target.data().scale().seed() * 31 + scenario.ordinal() * 1000L + worker;
+            Random random = new Random(recorder != null ? seed : ~seed);
+            futures.add(workers.submit(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    LoadScenario.Endpoint endpoint = scenario.pick(random);
+                    HttpRequest request = endpoint.request(target, random);
+                    long sentAt = System.nanoTime();
+                    boolean success;
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        success = status >= 200 && status < 300;
+                    } catch (IOException e) {
+                        success = false;
+                    }
+                    long nanos = System.nanoTime() - sentAt;
+                    if (recorder != null) {
+                        recorder.record(endpoint, nanos, success);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return System.nanoTime() - startedAt;
+    }
+}
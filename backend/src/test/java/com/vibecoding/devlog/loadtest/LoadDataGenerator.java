@@ -0,0 +1,358 @@
+package com.vibecoding.devlog.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 부하 테스트용 합성 데이터 생성기
+ *
+ * N개 프로젝트 × M개 로그 × K개 기술 태그를 고정 시드 난수로 만들어 COPY로 적재합니다.
+ * 같은 시드와 규모면 내용(제목, 본문, 태그 연결, 프로젝트 분포)이 항상 같고,
+ * 날짜만 실행일 기준 최근 1년에 펼쳐 현재 주/월 통계가 비지 않게 합니다.
+ *
+ * - 본문은 한국어 문장과 영어 문장을 섞어 만듭니다 (검색 인덱스의 한글/영문 토큰 모두 사용).
+ * - 태그 인기도는 Zipf 분포(s = 1.1)를 따라 상위 몇 개 태그에 연결이 몰립니다.
+ * - 프로젝트도 약한 Zipf 분포(s = 0.8)로 로그 수가 치우칩니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+final class LoadDataGenerator {
+
+    private static final String[] PROJECT_STATUSES = {"ACTIVE", "ACTIVE", "ACTIVE", "COMPLETED", "ON_HOLD", "ARCHIVED"};
+    private static final String[] MOODS = {"GREAT", "GOOD", "NEUTRAL", "BAD", "TERRIBLE"};
+
+    /** 실제 태그 이름 (seed.sql과 비슷한 구성), K가 더 크면 접미사를 붙여 늘림 */
+    private static final String[][] BASE_TAGS = {
+            {"Java", "LANGUAGE"}, {"TypeScript", "LANGUAGE"}, {"JavaScript", "LANGUAGE"}, {"Python", "LANGUAGE"},
+            {"SQL", "LANGUAGE"}, {"Kotlin", "LANGUAGE"}, {"Go", "LANGUAGE"}, {"Rust", "LANGUAGE"},
+            {"Spring Boot", "FRAMEWORK"}, {"Svelte", "FRAMEWORK"}, {"SvelteKit", "FRAMEWORK"}, {"React", "FRAMEWORK"},
+            {"Vue", "FRAMEWORK"}, {"Next.js", "FRAMEWORK"}, {"Spring Security", "FRAMEWORK"}, {"FastAPI", "FRAMEWORK"},
+            {"PostgreSQL", "DATABASE"}, {"Redis", "DATABASE"}, {"MySQL", "DATABASE"}, {"MongoDB", "DATABASE"},
+            {"Elasticsearch", "DATABASE"}, {"Docker", "TOOL"}, {"Git", "TOOL"}, {"Maven", "TOOL"},
+            {"Gradle", "TOOL"}, {"Vite", "TOOL"}, {"GitHub Actions", "TOOL"}, {"IntelliJ IDEA", "TOOL"},
+            {"MyBatis", "LIBRARY"}, {"Lombok", "LIBRARY"}, {"Jackson", "LIBRARY"}, {"Tailwind CSS", "LIBRARY"},
+            {"Chart.js", "LIBRARY"}, {"Caffeine", "LIBRARY"}, {"JUnit", "LIBRARY"}, {"Testcontainers", "LIBRARY"},
+            {"Kubernetes", "PLATFORM"}, {"AWS", "PLATFORM"}, {"Node.js", "PLATFORM"}, {"Linux", "PLATFORM"},
+            {"Nginx", "PLATFORM"}, {"Vercel", "PLATFORM"}, {"OAuth", "OTHER"}, {"WebSocket", "OTHER"}
+    };
+
+    private static final String[] PROJECT_NAMES = {
+            "데브로그", "사내 위키", "결제 시스템", "모바일 앱", "데이터 파이프라인", "관리자 콘솔",
+            "검색 서비스", "알림 센터", "Design System", "Billing API", "Mobile Client", "Infra Migration"
+    };
+
+    private static final String[] KO_SUBJECTS = {
+            "쿼리", "인덱스", "캐시", "트랜잭션", "배포 스크립트", "테스트 코드", "API 응답", "페이지네이션",
+            "대시보드", "통계 화면", "로그인 흐름", "검색 기능", "마이그레이션", "컴포넌트", "설정 파일", "빌드 파이프라인"
+    };
+    private static final String[] KO_ACTIONS = {
+            "구현했다", "리팩토링했다", "성능을 개선했다", "버그를 수정했다", "테스트를 추가했다",
+            "구조를 정리했다", "문서를 작성했다", "코드 리뷰를 반영했다", "원인을 분석했다", "설계를 다시 검토했다"
+    };
+    private static final String[] KO_DETAILS = {
+            "응답 시간이 눈에 띄게 줄었다", "예상보다 시간이 오래 걸렸다", "경계 조건에서 문제가 있었다",
+            "운영 데이터로 다시 확인해야 한다", "다음 스프린트에서 마무리할 예정이다", "팀원과 같이 페어 프로그래밍을 했다",
+            "실행 계획을 보고 원인을 찾았다", "로컬에서는 재현되지 않았다"
+    };
+    private static final String[] EN_SENTENCES = {
+            "Fixed an N+1 query in the repository layer.", "Reduced p99 latency on the list endpoint.",
+            "Added keyset pagination with an opaque cursor.", "Investigated a flaky integration test.",
+            "Moved the heavy aggregation into a rollup table.", "Cleaned up error handling in the controller.",
+            "Profiled allocations with JFR and removed a hot copy.", "Wrote a migration for the new index.",
+            "Tuned the connection pool size for the batch job.", "Reviewed the PR and left comments on naming."
+    };
+    private static final String[] LEARNINGS = {
+            "EXPLAIN ANALYZE로 실제 행 수를 먼저 확인하자.", "캐시 무효화 시점은 커밋 이후로 미뤄야 한다.",
+            "작은 PR이 리뷰 속도를 크게 높인다.", "Measure first, then optimize.",
+            "Keep transactions short when holding row locks.", "테스트 데이터는 운영 규모에 가깝게 만들어야 한다."
+    };
+
+    /** 검색 시나리오에서 쓰는 키워드 (본문 어휘에서 고름) */
+    static final List<String> SEARCH_KEYWORDS = List.of(
+            "쿼리", "인덱스", "캐시", "트랜잭션", "페이지네이션", "대시보드", "마이그레이션", "성능",
+            "latency", "pagination", "rollup", "migration", "PostgreSQL", "Svelte", "Spring Boot", "Docker");
+
+    /**
+     * 데이터 규모와 시드
+     *
+     * @param projects 프로젝트 수
+     * @param logs 로그 수
+     * @param tags 기술 태그 수
+     * @param seed 난수 시드
+     */
+    record Scale(int projects, int logs, int tags, long seed) {
+
+        /**
+         * 시스템 속성(devlog.loadtest.projects/logs/tags/seed)에서 읽고 없으면 기본값 사용
+         */
+        static Scale fromSystemProperties() {
+            return new Scale(
+                    Integer.getInteger("devlog.loadtest.projects", 20),
+                    Integer.getInteger("devlog.loadtest.logs", 20_000),
+                    Integer.getInteger("devlog.loadtest.tags", 200),
+                    Long.getLong("devlog.loadtest.seed", 20260105L));
+        }
+    }
+
+    /**
+     * 적재한 데이터 요약 (시나리오가 요청 파라미터를 고를 때 사용)
+     *
+     * @param scale 규모
+     * @param tagNames 태그 이름 (ID 1부터 순서대로, 인기 순)
+     * @param firstDate 가장 이른 로그 날짜
+     * @param lastDate 가장 늦은 로그 날짜
+     * @param tagLinks 로그-태그 연결 수
+     */
+    record DataSet(Scale scale, List<String> tagNames, LocalDate firstDate, LocalDate lastDate, long tagLinks) {
+    }
+
+    private final Scale scale;
+    private final LocalDate lastDate;
+
+    LoadDataGenerator(Scale scale, LocalDate lastDate) {
+        if (scale.projects() < 1 || scale.logs() < 1 || scale.tags() < 1) {
+            throw new IllegalArgumentException("Load test scale must be positive: " + scale);
+        }
+        this.scale = scale;
+        this.lastDate = lastDate;
+    }
+
+    /**
+     * 빈 스키마에 데이터를 적재
+     * ID를 1부터 직접 부여하고 끝난 뒤 시퀀스를 맞춥니다.
+     * project_stats 롤업은 애플리케이션 시작 시 재집계(ProjectStatsService.rebuildIfEmpty)에 맡깁니다.
+     *
+     * @param connection 자동 커밋 커넥션
+     * @return 적재 요약
+     */
+    DataSet populate(Connection connection) throws SQLException {
+        List<String> tagNames = tagNames();
+        LocalDate firstDate = lastDate.minusDays(364);
+
+        copy(connection, "COPY projects (id, name, description, status, start_date, progress, color) "
+                + "FROM STDIN WITH (FORMAT csv)", this::writeProjects);
+        copy(connection, "COPY tech_tags (id, name, category, color) FROM STDIN WITH (FORMAT csv)",
+                rows -> writeTags(rows, tagNames));
+
+        long[] tagLinks = new long[1];
+        copy(connection, "COPY dev_logs (id, project_id, log_date, start_time, end_time, title, description, "
+                + "achievements, challenges, learnings, mood) FROM STDIN WITH (FORMAT csv)",
+                rows -> writeLogs(rows, firstDate, null));
+        copy(connection, "COPY log_tech_tags (log_id, tech_tag_id) FROM STDIN WITH (FORMAT csv)",
+                rows -> writeLogs(rows, firstDate, tagLinks));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE tech_tags t SET usage_count = c.cnt "
+                    + "FROM (SELECT tech_tag_id, COUNT(*)::integer AS cnt FROM log_tech_tags GROUP BY tech_tag_id) c "
+                    + "WHERE t.id = c.tech_tag_id");
+            statement.execute("SELECT setval('projects_id_seq', (SELECT MAX(id) FROM projects))");
+            statement.execute("SELECT setval('tech_tags_id_seq', (SELECT MAX(id) FROM tech_tags))");
+            statement.execute("SELECT setval('dev_logs_id_seq', (SELECT MAX(id) FROM dev_logs))");
+            statement.execute("ANALYZE");
+        }
+        return new DataSet(scale, tagNames, firstDate, lastDate, tagLinks[0]);
+    }
+
+    /**
+     * 태그 이름 (ID 순), 기본 목록을 다 쓰면 " 2", " 3" 접미사로 늘림
+     */
+    List<String> tagNames() {
+        List<String> names = new ArrayList<>(scale.tags());
+        for (int i = 0; i < scale.tags(); i++) {
+            String base = BASE_TAGS[i % BASE_TAGS.length][0];
+            int round = i / BASE_TAGS.length;
+            names.add(round == 0 ? base : base + " " + (round + 1));
+        }
+        return names;
+    }
+
+    private void writeProjects(RowWriter rows) throws SQLException {
+        Random random = new Random(scale.seed());
+        for (int id = 1; id <= scale.projects(); id++) {
+            String base = PROJECT_NAMES[(id - 1) % PROJECT_NAMES.length];
+            int round = (id - 1) / PROJECT_NAMES.length;
+            rows.row(id,
+                    round == 0 ? base : base + " " + (round + 1),
+                    base + " 프로젝트 개발 기록. " + EN_SENTENCES[random.nextInt(EN_SENTENCES.length)],
+                    PROJECT_STATUSES[random.nextInt(PROJECT_STATUSES.length)],
+                    lastDate.minusDays(365 + random.nextInt(365)),
+                    random.nextInt(101),
+                    String.format("#%06x", random.nextInt(0x1000000)));
+        }
+    }
+
+    private void writeTags(RowWriter rows, List<String> tagNames) throws SQLException {
+        for (int i = 0; i < tagNames.size(); i++) {
+            rows.row(i + 1, tagNames.get(i), BASE_TAGS[i % BASE_TAGS.length][1],
+                    String.format("#%06x", (i * 2654435761L) & 0xffffff));
+        }
+    }
+
+    /**
+     * 로그 행 또는 로그-태그 연결 행 생성
+     * 두 COPY가 같은 난수 흐름을 다시 돌려 같은 로그를 만들므로, 로그를 메모리에 쌓지 않습니다.
+     *
+     * @param tagLinks null이면 dev_logs 행, 아니면 log_tech_tags 행을 쓰고 연결 수를 셈
+     */
+    private void writeLogs(RowWriter rows, LocalDate firstDate, long[] tagLinks) throws SQLException {
+        Random random = new Random(scale.seed() + 1);
+        double[] projectWeights = zipf(scale.projects(), 0.8);
+        double[] tagWeights = zipf(scale.tags(), 1.1);
+        List<String> tagNames = tagNames();
+        Set<Integer> logTags = new LinkedHashSet<>();
+
+        for (long id = 1; id <= scale.logs(); id++) {
+            int project = sample(projectWeights, random) + 1;
+            LocalDate logDate = firstDate.plusDays(random.nextInt(365));
+            LocalTime start = LocalTime.of(9 + random.nextInt(9), random.nextInt(4) * 15);
+            boolean timed = random.nextInt(10) > 0;
+            LocalTime end = timed ? start.plusMinutes(30 + random.nextInt(16) * 15L) : null;
+
+            logTags.clear();
+            int tagCount = random.nextInt(6);
+            for (int t = 0; t < tagCount; t++) {
+                logTags.add(sample(tagWeights, random) + 1);
+            }
+
+            String subject = KO_SUBJECTS[random.nextInt(KO_SUBJECTS.length)];
+            String title = (logTags.isEmpty() ? "" : tagNames.get(logTags.iterator().next() - 1) + " ")
+                    + subject + " " + KO_ACTIONS[random.nextInt(KO_ACTIONS.length)].replace("했다", "");
+            String description = paragraph(random, 3 + random.nextInt(6));
+            String achievements = random.nextInt(3) > 0 ? paragraph(random, 1 + random.nextInt(3)) : null;
+            String challenges = random.nextInt(2) > 0 ? paragraph(random, 1 + random.nextInt(2)) : null;
+            String learnings = random.nextInt(2) > 0 ? LEARNINGS[random.nextInt(LEARNINGS.length)] : null;
+            String mood = MOODS[Math.min(MOODS.length - 1, (int) Math.abs(random.nextGaussian() * 1.2))];
+
+            if (tagLinks == null) {
+                rows.row(id, project, logDate, start, end, title, description, achievements, challenges, learnings, mood);
+            } else {
+                for (Integer tagId : logTags) {
+                    rows.row(id, tagId);
+                    tagLinks[0]++;
+                }
+            }
+        }
+    }
+
+    private static String paragraph(Random random, int sentences) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            if (random.nextInt(10) < 3) {
+                text.append(EN_SENTENCES[random.nextInt(EN_SENTENCES.length)]);
+            } else {
+                text.append(withObjectParticle(KO_SUBJECTS[random.nextInt(KO_SUBJECTS.length)])).append(' ')
+                        .append(KO_ACTIONS[random.nextInt(KO_ACTIONS.length)]).append(". ")
+                        .append(KO_DETAILS[random.nextInt(KO_DETAILS.length)]).append('.');
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * 받침 유무에 따라 목적격 조사(을/를)를 붙임
+     */
+    private static String withObjectParticle(String word) {
+        char last = word.charAt(word.length() - 1);
+        boolean batchim = last >= '\uAC00' && last <= '\uD7A3' && (last - '\uAC00') % 28 != 0;
+        return word + (batchim ? "을" : "를");
+    }
+
+    /**
+     * 순위 r(0부터)의 가중치가 1 / (r + 1)^s인 누적 분포
+     */
+    static double[] zipf(int size, double exponent) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * 누적 분포에서 순위 하나를 뽑음
+     */
+    static int sample(double[] cumulative, Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    /**
+     * COPY CSV 행 작성기
+     */
+    @FunctionalInterface
+    private interface RowSource {
+        void write(RowWriter rows) throws SQLException;
+    }
+
+    private static void copy(Connection connection, String sql, RowSource source) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        try {
+            RowWriter rows = new RowWriter(copyIn);
+            source.write(rows);
+            rows.flush();
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * 값을 모두 따옴표로 감싼 CSV 행을 버퍼에 모아 64KB 단위로 보냄 (null은 빈 칸)
+     */
+    private static final class RowWriter {
+
+        private static final int FLUSH_SIZE = 64 * 1024;
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_SIZE * 2);
+
+        RowWriter(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                if (values[i] != null) {
+                    buffer.append('"').append(values[i].toString().replace("\"", "\"\"")).append('"');
+                }
+            }
+            buffer.append('\n');
+            if (buffer.length() >= FLUSH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.vibecoding.devlog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 집계
+ *
+ * 시나리오 × 엔드포인트별 지연 시간을 모두 모아 p50/p90/p99/최대값과 처리량을 계산하고,
+ * CI에서 실행 간 비교할 수 있도록 JSON(load-test-report.json)과 CSV(load-test-report.csv)로 씁니다.
+ * 처리량은 엔드포인트 요청 수를 시나리오 전체 측정 시간으로 나눈 값입니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+final class LoadReport {
+
+    /**
+     * 엔드포인트 한 줄 결과
+     */
+    record Row(String scenario, String endpoint, int requests, int errors,
+               double p50Millis, double p90Millis, double p99Millis, double maxMillis, double throughput) {
+    }
+
+    private final Map<String, Object> metadata = new LinkedHashMap<>();
+    private final List<Row> rows = new ArrayList<>();
+
+    LoadReport(LoadDataGenerator.DataSet data, int threads, int requestsPerScenario) {
+        metadata.put("generatedAt", OffsetDateTime.now().toString());
+        metadata.put("projects", data.scale().projects());
+        metadata.put("logs", data.scale().logs());
+        metadata.put("tags", data.scale().tags());
+        metadata.put("tagLinks", data.tagLinks());
+        metadata.put("seed", data.scale().seed());
+        metadata.put("threads", threads);
+        metadata.put("requestsPerScenario", requestsPerScenario);
+    }
+
+    /**
+     * 시나리오 하나의 측정 기록 (워커 스레드에서 동시에 호출)
+     */
+    static final class Recorder {
+
+        private final Map<LoadScenario.Endpoint, long[]> latencies = new EnumMap<>(LoadScenario.Endpoint.class);
+        private final Map<LoadScenario.Endpoint, Integer> counts = new EnumMap<>(LoadScenario.Endpoint.class);
+        private final Map<LoadScenario.Endpoint, Integer> errors = new EnumMap<>(LoadScenario.Endpoint.class);
+
+        synchronized void record(LoadScenario.Endpoint endpoint, long nanos, boolean success) {
+            int count = counts.getOrDefault(endpoint, 0);
+            long[] values = latencies.computeIfAbsent(endpoint, e -> new long[256]);
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+                latencies.put(endpoint, values);
+            }
+            values[count] = nanos;
+            counts.put(endpoint, count + 1);
+            if (!success) {
+                errors.merge(endpoint, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * 시나리오 측정 결과를 행으로 추가 (엔드포인트별 행과 시나리오 합계 행 ALL)
+     *
+     * @param scenario 시나리오
+     * @param recorder 측정 기록
+     * @param elapsedNanos 측정 구간 전체 시간
+     */
+    synchronized void add(LoadScenario scenario, Recorder recorder, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long[] all = new long[0];
+        int allErrors = 0;
+        synchronized (recorder) {
+            for (Map.Entry<LoadScenario.Endpoint, Integer> entry : recorder.counts.entrySet()) {
+                long[] values = Arrays.copyOf(recorder.latencies.get(entry.getKey()), entry.getValue());
+                int errors = recorder.errors.getOrDefault(entry.getKey(), 0);
+                rows.add(row(scenario.name(), entry.getKey().name(), values, errors, seconds));
+
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + values.length);
+                System.arraycopy(values, 0, all, offset, values.length);
+                allErrors += errors;
+            }
+        }
+        rows.add(row(scenario.name(), "ALL", all, allErrors, seconds));
+    }
+
+    private static Row row(String scenario, String endpoint, long[] values, int errors, double seconds) {
+        Arrays.sort(values);
+        return new Row(scenario, endpoint, values.length, errors,
+                percentile(values, 50), percentile(values, 90), percentile(values, 99),
+                values.length == 0 ? 0 : millis(values[values.length - 1]),
+                round(values.length / seconds));
+    }
+
+    /**
+     * 최근접 순위 백분위수 (정렬된 값)
+     */
+    static double percentile(long[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return millis(sorted[Math.max(0, rank - 1)]);
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    List<Row> rows() {
+        return rows;
+    }
+
+    int totalErrors() {
+        return rows.stream().filter(row -> !"ALL".equals(row.endpoint())).mapToInt(Row::errors).sum();
+    }
+
+    /**
+     * JSON, CSV 결과 파일 작성
+     *
+     * @param directory 출력 디렉터리 (없으면 생성)
+     */
+    void write(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+
+        Map<String, Object> json = new LinkedHashMap<>(metadata);
+        json.put("results", rows);
+        objectMapper.writerWithDefaultPrettyPrinter()
+                .writeValue(directory.resolve("load-test-report.json").toFile(), json);
+
+        StringBuilder csv = new StringBuilder(
+                "scenario,endpoint,requests,errors,p50_ms,p90_ms,p99_ms,max_ms,throughput_rps\n");
+        for (Row row : rows) {
+            csv.append(row.scenario()).append(',')
+                    .append(row.endpoint()).append(',')
+                    .append(row.requests()).append(',')
+                    .append(row.errors()).append(',')
+                    .append(row.p50Millis()).append(',')
+                    .append(row.p90Millis()).append(',')
+                    .append(row.p99Millis()).append(',')
+                    .append(row.maxMillis()).append(',')
+                    .append(row.throughput()).append('\n');
+        }
+        Files.writeString(directory.resolve("load-test-report.csv"), csv, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,246 @@
+package com.vibecoding.devlog.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vibecoding.devlog.dto.request.DevLogCreateRequest;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트 시나리오 (엔드포인트별 가중치 조합)
+ *
+ * 각 워커가 가중치에 따라 엔드포인트를 고르고, 적재한 데이터 범위 안에서 요청 파라미터를 만듭니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+enum LoadScenario {
+
+    /** 목록 조회: 키셋 페이지, 프로젝트/기간 필터, 상세, 전체 목록 */
+    LIST(Map.of(
+            Endpoint.LIST_PAGE, 50,
+            Endpoint.LIST_PROJECT, 30,
+            Endpoint.LOG_DETAIL, 15,
+            Endpoint.LIST_ALL, 5)),
+
+    /** 검색: 전문 검색, 목록 키워드 필터, 태그 자동완성 */
+    SEARCH(Map.of(
+            Endpoint.SEARCH, 45,
+            Endpoint.KEYWORD_FILTER, 20,
+            Endpoint.TAG_AUTOCOMPLETE, 35)),
+
+    /** 대시보드: 종합 통계, 기술 스택, 캘린더, 프로젝트 통계 */
+    DASHBOARD(Map.of(
+            Endpoint.DASHBOARD, 40,
+            Endpoint.TECH_STACK, 20,
+            Endpoint.CALENDAR, 20,
+            Endpoint.PROJECT_STATS, 20)),
+
+    /** 쓰기 혼합: 생성/수정 40%와 읽기 60% */
+    WRITE_MIX(Map.of(
+            Endpoint.CREATE_LOG, 20,
+            Endpoint.UPDATE_LOG, 20,
+            Endpoint.LIST_PAGE, 30,
+            Endpoint.LOG_DETAIL, 10,
+            Endpoint.DASHBOARD, 20));
+
+    /**
+     * 요청 대상 (서버 주소와 적재 데이터)
+     *
+     * @param baseUri context-path까지 포함한 서버 주소
+     * @param data 적재 데이터 요약
+     * @param objectMapper 요청 본문 직렬화
+     */
+    record Target(URI baseUri, LoadDataGenerator.DataSet data, ObjectMapper objectMapper) {
+
+        URI uri(String pathAndQuery) {
+            return URI.create(baseUri + pathAndQuery);
+        }
+
+        long randomLogId(Random random) {
+            return 1 + random.nextInt(data.scale().logs());
+        }
+
+        long randomProjectId(Random random) {
+            return 1 + random.nextInt(data.scale().projects());
+        }
+
+        LocalDate randomDate(Random random) {
+            return data.firstDate().plusDays(random.nextInt(365));
+        }
+    }
+
+    /**
+     * 측정 대상 엔드포인트
+     */
+    enum Endpoint {
+        LIST_PAGE {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return get(target, "/logs?limit=50");
+            }
+        },
+        LIST_PROJECT {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                LocalDate from = target.randomDate(random);
+                return get(target, "/logs?projectId=" + target.randomProjectId(random)
+                        + "&startDate=" + from + "&endDate=" + from.plusDays(30));
+            }
+        },
+        LIST_ALL {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return get(target, "/logs");
+            }
+        },
+        LOG_DETAIL {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return get(target, "/logs/" + target.randomLogId(random));
+            }
+        },
+        SEARCH {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return get(target, "/logs/search?size=20&q=" + encode(keyword(random)));
+            }
+        },
+        KEYWORD_FILTER {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return get(target, "/logs?keyword=" + encode(keyword(random)));
+            }
+        },
+        TAG_AUTOCOMPLETE {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                List<String> names = target.data().tagNames();
+                String name = names.get(random.nextInt(Math.min(names.size(), 50)));
+                String prefix = name.substring(0, Math.min(name.length(), 1 + random.nextInt(4)));
+                return get(target, "/tech-tags/autocomplete?limit=10&q=" + encode(prefix));
+            }
+        },
+        DASHBOARD {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return get(target, "/statistics/dashboard");
+            }
+        },
+        TECH_STACK {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return get(target, "/statistics/tech-stack");
+            }
+        },
+        CALENDAR {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                LocalDate date = target.randomDate(random);
+                return get(target, "/logs/calendar?year=" + date.getYear() + "&month=" + date.getMonthValue());
+            }
+        },
+        PROJECT_STATS {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return get(target, "/statistics/project/" + target.randomProjectId(random));
+            }
+        },
+        CREATE_LOG {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return HttpRequest.newBuilder(target.uri("/logs"))
+                        .header("Content-Type", "application/json")
+                        .POST(body(target, random))
+                        .build();
+            }
+        },
+        UPDATE_LOG {
+            @Override
+            HttpRequest request(Target target, Random random) {
+                return HttpRequest.newBuilder(target.uri("/logs/" + target.randomLogId(random)))
+                        .header("Content-Type", "application/json")
+                        .PUT(body(target, random))
+                        .build();
+            }
+        };
+
+        abstract HttpRequest request(Target target, Random random);
+
+        private static HttpRequest get(Target target, String pathAndQuery) {
+            return HttpRequest.newBuilder(target.uri(pathAndQuery)).GET().build();
+        }
+
+        private static String keyword(Random random) {
+            return LoadDataGenerator.SEARCH_KEYWORDS.get(random.nextInt(LoadDataGenerator.SEARCH_KEYWORDS.size()));
+        }
+
+        private static String encode(String value) {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+
+        private static HttpRequest.BodyPublisher body(Target target, Random random) {
+            LocalTime start = LocalTime.of(9 + random.nextInt(9), random.nextInt(4) * 15);
+            List<Long> tagIds = new ArrayList<>();
+            for (int i = random.nextInt(4); i > 0; i--) {
+                long tagId = 1 + random.nextInt(Math.min(target.data().scale().tags(), 30));
+                if (!tagIds.contains(tagId)) {
+                    tagIds.add(tagId);
+                }
+            }
+            DevLogCreateRequest request = DevLogCreateRequest.builder()
+                    .projectId(target.randomProjectId(random))
+                    .title("부하 테스트 로그 " + random.nextInt(1_000_000))
+                    .description("쿼리 성능을 확인했다. Measured latency under concurrent writes.")
+                    .achievements("목록 응답 시간 측정")
+                    .startTime(start)
+                    .endTime(start.plusMinutes(30 + random.nextInt(8) * 15L))
+                    .logDate(target.randomDate(random))
+                    .mood("GOOD")
+                    .techTagIds(tagIds)
+                    .build();
+            try {
+                return HttpRequest.BodyPublishers.ofByteArray(target.objectMapper().writeValueAsBytes(request));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+
+    LoadScenario(Map<Endpoint, Integer> weights) {
+        // Map.of는 순서가 없으므로 엔드포인트 선언 순으로 고정해 같은 시드면 같은 요청 순서를 만듦
+        this.endpoints = weights.keySet().stream().sorted().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /**
+     * 가중치에 따라 엔드포인트 하나를 고름
+     */
+    Endpoint pick(Random random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+}
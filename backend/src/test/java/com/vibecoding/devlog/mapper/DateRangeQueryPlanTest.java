@@ -0,0 +1,112 @@
+package com.vibecoding.devlog.mapper;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.MountableFile;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기간 조회 쿼리 플랜 회귀 테스트
+ *
+ * 월간/주간 통계와 캘린더 쿼리가 날짜 컬럼에 함수를 씌우지 않고
+ * 인덱스로 범위 조회하는지 실제 PostgreSQL의 EXPLAIN으로 검증합니다.
+ * 날짜 조건이 sargable하면 플랜의 Index Cond에 날짜 컬럼과 두 경계값이 들어갑니다.
+ * (EXTRACT(YEAR FROM log_date)처럼 함수를 씌우면 enable_seqscan을 꺼도 인덱스 전체를 읽는
+ * Index Only Scan이 나와 Seq Scan만으로는 회귀를 잡을 수 없으므로 Index Cond를 확인합니다.)
+ *
+ * Docker가 없는 환경에서는 건너뜁니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("기간 조회 쿼리 플랜 테스트")
+public class DateRangeQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withCopyFileToContainer(MountableFile.forHostPath("../database/schema.sql"),
+                    "/docker-entrypoint-initdb.d/01-schema.sql");
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "com.vibecoding.devlog.mapper.StatisticsMapper.getPeriodProjectStats, stat_date",
+            "com.vibecoding.devlog.mapper.StatisticsMapper.getActiveProjectCount, stat_date",
+            "com.vibecoding.devlog.mapper.StatisticsMapper.getWorkDaysCount, stat_date",
+            "com.vibecoding.devlog.mapper.DevLogMapper.findCalendarData, log_date",
+            "com.vibecoding.devlog.mapper.ProjectStatsMapper.findDailyTotals, stat_date"
+    })
+    @DisplayName("기간 조회는 날짜 인덱스를 기간 경계로 범위 조회")
+    void dateRangeQuery_UsesIndexRange(String statementId, String column) throws Exception {
+        // Given
+        Map<String, Object> params = new HashMap<>();
+        params.put("startDate", LocalDate.of(2026, 1, 1));
+        params.put("endDate", LocalDate.of(2026, 2, 1));
+
+        // When
+        String plan = explain(statementId, params);
+
+        // Then: Index Cond가 날짜 컬럼을 두 경계값으로 제한
+        Pattern rangeCondition = Pattern.compile("Index Cond: .*\\b" + column + " >= '2026-01-01'.*\\b"
+                + column + " < '2026-02-01'");
+        assertThat(plan)
+                .doesNotContain("Seq Scan on dev_logs")
+                .doesNotContain("Seq Scan on project_stats")
+                .containsPattern(rangeCondition);
+    }
+
+    private String explain(String statementId, Object params) throws Exception {
+        MappedStatement statement = sqlSessionFactory.getConfiguration().getMappedStatement(statementId);
+        BoundSql boundSql = statement.getBoundSql(params);
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement settings = connection.createStatement()) {
+                settings.execute("SET enable_seqscan = off");
+            }
+
+            try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+                new DefaultParameterHandler(statement, params, boundSql).setParameters(ps);
+
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        }
+    }
+}
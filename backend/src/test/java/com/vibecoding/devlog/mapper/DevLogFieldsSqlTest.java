@@ -0,0 +1,84 @@
+package com.vibecoding.devlog.mapper;
+
+import com.vibecoding.devlog.dto.request.LogFields;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 개발 로그 목록 필드 선택 SQL 테스트
+ *
+ * fields 파라미터에 따라 DevLogMapper.xml이 필요한 컬럼과 조인만 생성하는지
+ * DB 없이 MyBatis 설정만 로드해 확인합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("DevLogMapper 필드 선택 SQL 테스트")
+public class DevLogFieldsSqlTest {
+
+    private static final String RESOURCE = "mapper/DevLogMapper.xml";
+
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void loadMapper() throws Exception {
+        configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        try (InputStream in = Resources.getResourceAsStream(RESOURCE)) {
+            new XMLMapperBuilder(in, configuration, RESOURCE, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    private String recentSql(LogFields fields) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("limit", 10);
+        params.put("fields", fields);
+        return configuration.getMappedStatement(DevLogMapper.class.getName() + ".findRecent")
+                .getBoundSql(params).getSql().replaceAll("\\s+", " ");
+    }
+
+    @Test
+    @DisplayName("선택한 필드만 조회하고 큰 본문 컬럼과 불필요한 조인은 생략")
+    void projected_SelectsOnlyRequestedColumns() {
+        // When
+        String sql = recentSql(LogFields.parse("title,mood,techTags"));
+
+        // Then
+        assertThat(sql).contains("d.title", "d.mood", "tech_tags", "d.log_date", "d.created_at");
+        assertThat(sql).doesNotContain("d.description", "d.code_snippets", "d.learnings", "JOIN projects");
+    }
+
+    @Test
+    @DisplayName("project 필드를 요청할 때만 projects를 조인")
+    void projected_JoinsProjectsOnlyWhenRequested() {
+        // When
+        String sql = recentSql(LogFields.parse("title,project"));
+
+        // Then
+        assertThat(sql).contains("LEFT JOIN projects p", "p.name AS project_name", "d.project_id");
+        assertThat(sql).doesNotContain("tech_tags");
+    }
+
+    @Test
+    @DisplayName("fields가 없으면 전체 컬럼, 본문 필드는 선택할 수 없음")
+    void noFields_SelectsDetailColumns() {
+        // When
+        String sql = recentSql(null);
+
+        // Then
+        assertThat(sql).contains("d.description", "d.code_snippets", "tech_tags", "LEFT JOIN projects p");
+        assertThatThrownBy(() -> LogFields.parse("title,description"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("description");
+    }
+}
@@ -0,0 +1,148 @@
+package com.vibecoding.devlog.mapper;
+
+import com.vibecoding.devlog.dto.request.LogFields;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DevLogMapper 검색 SQL 테스트
+ *
+ * 매퍼 XML을 MyBatis 설정으로 읽어 검색 문장이 만드는 SQL과 바인딩 순서를 DB 연결 없이 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("DevLogMapper 검색 SQL 테스트")
+public class DevLogMapperSearchSqlTest {
+
+    private static final String NAMESPACE = "com.vibecoding.devlog.mapper.DevLogMapper.";
+
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void loadMapper() throws Exception {
+        configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeAliasRegistry().registerAliases("com.vibecoding.devlog.model");
+        String resource = "mapper/DevLogMapper.xml";
+        try (InputStream xml = DevLogMapperSearchSqlTest.class.getClassLoader().getResourceAsStream(resource)) {
+            new XMLMapperBuilder(xml, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    private static BoundSql boundSql(String statement, Map<String, Object> params) {
+        return configuration.getMappedStatement(NAMESPACE + statement).getBoundSql(params);
+    }
+
+    private static String sql(BoundSql boundSql) {
+        return boundSql.getSql().replaceAll("\\s+", " ").trim();
+    }
+
+    private static Map<String, Object> searchParams(Integer limit, LogFields fields) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("keyword", "spring");
+        params.put("pattern", "%spring%");
+        params.put("offset", 20);
+        params.put("limit", limit);
+        params.put("fields", fields);
+        return params;
+    }
+
+    @Test
+    @DisplayName("검색은 search_text 트라이그램 조건으로 거르고 제목 일치와 단어 유사도로 정렬해 페이지를 자름")
+    void search_FiltersOnSearchTextAndPages() {
+        // When
+        BoundSql boundSql = boundSql("search", searchParams(10, null));
+        String sql = sql(boundSql);
+
+        // Then
+        assertThat(sql).contains("WHERE d.search_text ILIKE ?")
+                .contains("(CASE WHEN d.title ILIKE ? THEN 1.0 ELSE 0.0 END) + word_similarity(?, d.search_text) AS search_rank")
+                .contains("ORDER BY search_rank DESC, d.log_date DESC, d.id DESC")
+                .endsWith("LIMIT ? OFFSET ?")
+                .contains("d.description")
+                .contains("LEFT JOIN projects p");
+        assertThat(boundSql.getParameterMappings()).extracting(ParameterMapping::getProperty)
+                .containsExactly("pattern", "keyword", "pattern", "limit", "offset");
+    }
+
+    @Test
+    @DisplayName("limit이 없으면 LIMIT 없이 일치한 행을 모두 조회")
+    void search_WithoutLimit_ReturnsAllRows() {
+        // When
+        BoundSql boundSql = boundSql("search", searchParams(null, null));
+
+        // Then
+        assertThat(sql(boundSql)).doesNotContain("LIMIT").endsWith("OFFSET ?");
+        assertThat(boundSql.getParameterMappings()).extracting(ParameterMapping::getProperty)
+                .containsExactly("pattern", "keyword", "pattern", "offset");
+    }
+
+    @Test
+    @DisplayName("필드를 선택하면 해당 컬럼만 조회하고 프로젝트 조인과 본문 컬럼을 생략")
+    void search_WithFields_SelectsRequestedColumnsOnly() {
+        // When
+        String sql = sql(boundSql("search", searchParams(10, LogFields.parse("title,mood"))));
+
+        // Then
+        assertThat(sql).startsWith("SELECT d.id, d.log_date, d.created_at , d.title , d.mood ,")
+                .doesNotContain("d.description")
+                .doesNotContain("d.project_id")
+                .doesNotContain("JOIN projects")
+                .doesNotContain("json_agg");
+    }
+
+    @Test
+    @DisplayName("프로젝트와 태그를 선택하면 프로젝트 조인과 태그 집계를 포함")
+    void search_WithProjectAndTags_JoinsProjectAndAggregatesTags() {
+        // When
+        String sql = sql(boundSql("search", searchParams(10, LogFields.parse("project,techTags"))));
+
+        // Then
+        assertThat(sql).contains("d.project_id")
+                .contains("p.name AS project_name")
+                .contains("json_agg")
+                .contains("LEFT JOIN projects p ON p.id = d.project_id");
+    }
+
+    @Test
+    @DisplayName("전체 일치 수는 검색과 같은 조건으로 셈")
+    void countSearch_UsesSameCondition() {
+        // When
+        BoundSql boundSql = boundSql("countSearch", Map.of("pattern", "%spring%"));
+
+        // Then
+        assertThat(sql(boundSql)).isEqualTo("SELECT COUNT(*) FROM dev_logs d WHERE d.search_text ILIKE ?");
+        assertThat(boundSql.getParameterMappings()).extracting(ParameterMapping::getProperty)
+                .containsExactly("pattern");
+    }
+
+    @Test
+    @DisplayName("색인 검색 결과는 선택한 필드로 ID 목록만 조회")
+    void findByIds_WithFields_BindsEachId() {
+        // Given
+        Map<String, Object> params = new HashMap<>();
+        params.put("ids", List.of(7L, 4L));
+        params.put("fields", LogFields.parse("title"));
+
+        // When
+        BoundSql boundSql = boundSql("findByIds", params);
+
+        // Then
+        assertThat(sql(boundSql)).isEqualTo(
+                "SELECT d.id, d.log_date, d.created_at , d.title FROM dev_logs d WHERE d.id IN ( ? , ? )");
+        assertThat(boundSql.getParameterMappings()).hasSize(2);
+    }
+}
@@ -0,0 +1,259 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.ActivityStatsDTO;
+import com.vibecoding.devlog.mapper.DevLogMapper;
+import com.vibecoding.devlog.model.DevLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ActivityIndex 단위 테스트
+ *
+ * 활동일 비트셋으로 연속 기록, 기간 활동일 수, 지난주 대비 증감을 계산하고
+ * 로그 쓰기가 증분으로 반영되는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityIndex 테스트")
+public class ActivityIndexTest {
+
+    /**
+     * 기준일: 2026-03-12 (목요일)
+     */
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 12);
+
+    @Mock
+    private DevLogMapper devLogMapper;
+
+    private ActivityIndex activityIndex;
+
+    @BeforeEach
+    void setUp() {
+        activityIndex = indexAt(TODAY);
+    }
+
+    private ActivityIndex indexAt(LocalDate today) {
+        Clock clock = Clock.fixed(today.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        return new ActivityIndex(devLogMapper, clock);
+    }
+
+    private static Map<String, Object> row(long projectId, LocalDate date, long logCount) {
+        return Map.of("project_id", projectId, "log_date", Date.valueOf(date), "log_count", logCount);
+    }
+
+    private static DevLog devLog(long projectId, LocalDate logDate) {
+        DevLog devLog = new DevLog();
+        devLog.setProjectId(projectId);
+        devLog.setLogDate(logDate);
+        return devLog;
+    }
+
+    @Test
+    @DisplayName("어제까지 이어진 연속 기록, 최장 기록, 기간 활동일, 지난주 대비 증감 계산")
+    void getStats_ComputesStreaksAndWeekOverWeek() {
+        // Given: 프로젝트 1은 3/1~3/5(5일), 3/9~3/11(3일), 프로젝트 2는 3/6~3/8(3일)
+        when(devLogMapper.findActiveDays()).thenReturn(List.of(
+                row(1, LocalDate.of(2026, 3, 1), 1), row(1, LocalDate.of(2026, 3, 2), 2),
+                row(1, LocalDate.of(2026, 3, 3), 1), row(1, LocalDate.of(2026, 3, 4), 1),
+                row(1, LocalDate.of(2026, 3, 5), 3), row(1, LocalDate.of(2026, 3, 9), 1),
+                row(1, LocalDate.of(2026, 3, 10), 1), row(1, LocalDate.of(2026, 3, 11), 1),
+                row(2, LocalDate.of(2026, 3, 6), 1), row(2, LocalDate.of(2026, 3, 7), 1),
+                row(2, LocalDate.of(2026, 3, 8), 2)));
+        activityIndex.build();
+
+        // When
+        ActivityStatsDTO project = activityIndex.getStats(1L, LocalDate.of(2026, 3, 4), null);
+        ActivityStatsDTO all = activityIndex.getStats(null, null, null);
+        ActivityStatsDTO none = activityIndex.getStats(99L, null, null);
+
+        // Then: 오늘(3/12) 로그가 없어도 어제까지 이어진 기록이 현재 연속 기록
+        assertThat(project.getCurrentStreak()).isEqualTo(3);
+        assertThat(project.getCurrentStreakStart()).isEqualTo(LocalDate.of(2026, 3, 9));
+        assertThat(project.getLongestStreak()).isEqualTo(5);
+        assertThat(project.getLongestStreakEnd()).isEqualTo(LocalDate.of(2026, 3, 5));
+        assertThat(project.getActiveDays()).isEqualTo(5);
+        // 이번 주 월~목(3/9~3/12) 3일, 지난주 월~목(3/2~3/5) 4일
+        assertThat(project.getThisWeekActiveDays()).isEqualTo(3);
+        assertThat(project.getLastWeekActiveDays()).isEqualTo(4);
+        assertThat(project.getWeekOverWeekChange()).isEqualTo(-1);
+
+        // 전체는 두 프로젝트를 합쳐 3/1~3/11 11일 연속
+        assertThat(all.getCurrentStreak()).isEqualTo(11);
+        assertThat(all.getLongestStreak()).isEqualTo(11);
+        assertThat(all.getTotalActiveDays()).isEqualTo(11);
+
+        assertThat(none.getCurrentStreak()).isZero();
+        assertThat(none.getLongestStreakStart()).isNull();
+        verify(devLogMapper, times(1)).findActiveDays();
+    }
+
+    @Test
+    @DisplayName("로그 쓰기는 그날 마지막 로그가 지워질 때만 활동일을 끄고, 프로젝트 삭제는 전체에서도 뺌")
+    void applyChange_UpdatesBitsIncrementally() {
+        // Given: 프로젝트 1의 3/11 로그 2건, 프로젝트 2의 3/10 로그 1건
+        LocalDate march10 = LocalDate.of(2026, 3, 10);
+        LocalDate march11 = LocalDate.of(2026, 3, 11);
+        when(devLogMapper.findActiveDays()).thenReturn(List.of(row(1, march11, 2), row(2, march10, 1)));
+        activityIndex.build();
+
+        // When: 3/11 로그 하나 삭제 후 오늘 로그 작성
+        activityIndex.applyChange(devLog(1, march11), null);
+        activityIndex.applyChange(null, devLog(1, TODAY));
+        ActivityStatsDTO afterWrites = activityIndex.getStats(1L, null, null);
+
+        // 남은 3/11 로그를 3/1로 옮기고 프로젝트 2 삭제
+        activityIndex.applyChange(devLog(1, march11), devLog(1, LocalDate.of(2026, 3, 1)));
+        activityIndex.removeProject(2L);
+        ActivityStatsDTO all = activityIndex.getStats(null, null, null);
+
+        // Then
+        assertThat(afterWrites.getCurrentStreak()).isEqualTo(2);
+        assertThat(afterWrites.getTotalActiveDays()).isEqualTo(2);
+        assertThat(all.getTotalActiveDays()).isEqualTo(2);
+        assertThat(all.getCurrentStreak()).isEqualTo(1);
+        assertThat(all.getFirstActiveDate()).isEqualTo(LocalDate.of(2026, 3, 1));
+        verify(devLogMapper, times(1)).findActiveDays();
+    }
+
+    @Test
+    @DisplayName("연말에서 새해로, 윤년 2월 29일을 지나도 연속 기록이 이어짐")
+    void getStats_StreakCrossesYearBoundary() {
+        // Given: 기준일 2025-01-01(수요일), 2024-02-28~03-01(윤일 포함 3일), 2024-12-30~2025-01-01(3일)
+        ActivityIndex newYear = indexAt(LocalDate.of(2025, 1, 1));
+        when(devLogMapper.findActiveDays()).thenReturn(List.of(
+                row(1, LocalDate.of(2024, 2, 28), 1), row(1, LocalDate.of(2024, 2, 29), 1),
+                row(1, LocalDate.of(2024, 3, 1), 1), row(1, LocalDate.of(2024, 12, 30), 1),
+                row(1, LocalDate.of(2024, 12, 31), 2), row(1, LocalDate.of(2025, 1, 1), 1)));
+        newYear.build();
+
+        // When
+        ActivityStatsDTO stats = newYear.getStats(1L, LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 1));
+
+        // Then
+        assertThat(stats.getCurrentStreak()).isEqualTo(3);
+        assertThat(stats.getCurrentStreakStart()).isEqualTo(LocalDate.of(2024, 12, 30));
+        assertThat(stats.getLongestStreak()).isEqualTo(3);
+        assertThat(stats.getLongestStreakStart()).isEqualTo(LocalDate.of(2024, 2, 28));
+        assertThat(stats.getLongestStreakEnd()).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(stats.getActiveDays()).isEqualTo(2);
+        // 이번 주 월~수(2024-12-30~2025-01-01) 3일, 지난주 같은 구간 0일
+        assertThat(stats.getThisWeekActiveDays()).isEqualTo(3);
+        assertThat(stats.getLastWeekActiveDays()).isZero();
+        assertThat(stats.getTotalActiveDays()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("로그가 없으면 모든 값이 0이고 날짜는 비어 있음")
+    void getStats_EmptyProject() {
+        // Given
+        when(devLogMapper.findActiveDays()).thenReturn(List.of());
+        activityIndex.build();
+
+        // When
+        ActivityStatsDTO stats = activityIndex.getStats(1L, null, null);
+
+        // Then: 기간 시작은 첫 활동일이 없으므로 오늘
+        assertThat(stats.getCurrentStreak()).isZero();
+        assertThat(stats.getCurrentStreakStart()).isNull();
+        assertThat(stats.getLongestStreak()).isZero();
+        assertThat(stats.getFirstActiveDate()).isNull();
+        assertThat(stats.getLastActiveDate()).isNull();
+        assertThat(stats.getTotalActiveDays()).isZero();
+        assertThat(stats.getFrom()).isEqualTo(TODAY);
+        assertThat(stats.getActiveDays()).isZero();
+        assertThat(stats.getWeekOverWeekChange()).isZero();
+    }
+
+    @Test
+    @DisplayName("오늘 기록이 있으면 오늘까지, 없으면 어제까지 이어진 기록이 현재 연속 기록이고 그저께에서 끊기면 0")
+    void getStats_TodayOrYesterdayContinuesStreak() {
+        // Given: 프로젝트 1은 오늘까지, 2는 어제까지, 3은 그저께까지 각각 2일 연속
+        when(devLogMapper.findActiveDays()).thenReturn(List.of(
+                row(1, TODAY.minusDays(1), 1), row(1, TODAY, 1),
+                row(2, TODAY.minusDays(2), 1), row(2, TODAY.minusDays(1), 1),
+                row(3, TODAY.minusDays(3), 1), row(3, TODAY.minusDays(2), 1)));
+        activityIndex.build();
+
+        // When
+        ActivityStatsDTO today = activityIndex.getStats(1L, null, null);
+        ActivityStatsDTO yesterday = activityIndex.getStats(2L, null, null);
+        ActivityStatsDTO broken = activityIndex.getStats(3L, null, null);
+
+        // Then
+        assertThat(today.getCurrentStreak()).isEqualTo(2);
+        assertThat(today.getCurrentStreakStart()).isEqualTo(TODAY.minusDays(1));
+        assertThat(yesterday.getCurrentStreak()).isEqualTo(2);
+        assertThat(yesterday.getCurrentStreakStart()).isEqualTo(TODAY.minusDays(2));
+        assertThat(broken.getCurrentStreak()).isZero();
+        assertThat(broken.getCurrentStreakStart()).isNull();
+        assertThat(broken.getLongestStreak()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 변경은 알림의 프로젝트와 기간만 다시 읽어 바꿈")
+    void applyRemote_ReplacesOnlyNotifiedRange() {
+        // Given: 프로젝트 1은 3/1, 3/5(2건), 3/10, 프로젝트 2는 3/5
+        LocalDate march5 = LocalDate.of(2026, 3, 5);
+        when(devLogMapper.findActiveDays()).thenReturn(List.of(
+                row(1, LocalDate.of(2026, 3, 1), 1), row(1, march5, 2),
+                row(1, LocalDate.of(2026, 3, 10), 1), row(2, march5, 1)));
+        activityIndex.build();
+        // 다른 인스턴스가 프로젝트 1의 3/5 로그를 모두 3/6으로 옮김
+        when(devLogMapper.findActiveDaysInRange(List.of(1L), march5, LocalDate.of(2026, 3, 7)))
+                .thenReturn(List.of(row(1, LocalDate.of(2026, 3, 6), 2)));
+
+        // When
+        activityIndex.applyRemote(List.of(1L), march5, LocalDate.of(2026, 3, 6));
+        ActivityStatsDTO project = activityIndex.getStats(1L, march5, LocalDate.of(2026, 3, 6));
+        ActivityStatsDTO all = activityIndex.getStats(null, null, null);
+
+        // Then: 범위 밖(3/1, 3/10)과 프로젝트 2의 3/5는 그대로
+        assertThat(project.getActiveDays()).isEqualTo(1);
+        assertThat(project.getTotalActiveDays()).isEqualTo(3);
+        assertThat(all.getTotalActiveDays()).isEqualTo(4);
+        verify(devLogMapper, times(1)).findActiveDays();
+    }
+
+    @Test
+    @DisplayName("시작 시 데이터베이스 오류는 무시하고 첫 조회에서 생성, 다시 생성하다 실패하면 이전 인덱스로 응답")
+    void getStats_ToleratesBuildFailures() {
+        // Given: 시작 시 실패, 첫 조회 때 성공, 무효화 후 다시 실패
+        when(devLogMapper.findActiveDays())
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(List.of(row(1, TODAY, 1)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(List.of(row(1, TODAY, 1), row(1, TODAY.minusDays(1), 1)));
+
+        // When
+        activityIndex.build();
+        int first = activityIndex.getStats(1L, null, null).getCurrentStreak();
+        activityIndex.invalidate();
+        int whileFailing = activityIndex.getStats(1L, null, null).getCurrentStreak();
+        int rebuilt = activityIndex.getStats(1L, null, null).getCurrentStreak();
+        int cached = activityIndex.getStats(1L, null, null).getCurrentStreak();
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(whileFailing).isEqualTo(1);
+        assertThat(rebuilt).isEqualTo(2);
+        assertThat(cached).isEqualTo(2);
+        verify(devLogMapper, times(4)).findActiveDays();
+    }
+}
@@ -0,0 +1,122 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.CalendarHeatmapDTO;
+import com.vibecoding.devlog.mapper.ProjectStatsMapper;
+import com.vibecoding.devlog.model.DevLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CalendarHeatmap 단위 테스트
+ *
+ * 년도 배열을 한 번만 채우고, 쓰기는 커밋된 뒤 변화량으로만 반영되는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CalendarHeatmap 테스트")
+public class CalendarHeatmapTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Mock
+    private ProjectStatsMapper projectStatsMapper;
+
+    private CalendarHeatmap heatmap;
+
+    @BeforeEach
+    void setUp() {
+        heatmap = new CalendarHeatmap(projectStatsMapper, 20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Map<String, Object> row(LocalDate date, long count, long minutes) {
+        return Map.of("date", Date.valueOf(date), "count", count, "minutes", minutes);
+    }
+
+    private static DevLog devLog(LocalDate logDate, int minutes) {
+        DevLog devLog = new DevLog();
+        devLog.setLogDate(logDate);
+        devLog.setStartTime(LocalTime.of(9, 0));
+        devLog.setEndTime(LocalTime.of(9, 0).plusMinutes(minutes));
+        return devLog;
+    }
+
+    @Test
+    @DisplayName("없는 년도는 한 번 조회해 채우고, 이후 쓰기는 변화량만 더함")
+    void getYear_LoadsOnceAndAppliesDeltas() {
+        // Given: 2024년(윤년)에 3월 1일 로그 2건(90분)
+        LocalDate march1 = LocalDate.of(2024, 3, 1);
+        when(projectStatsMapper.findDailyTotals(START, START.plusYears(1)))
+                .thenReturn(List.of(row(march1, 2, 90)));
+
+        // When: 조회 후 3월 1일 로그를 60분짜리로 새로 만들고, 기존 로그 하나를 12월 31일로 옮김
+        CalendarHeatmapDTO before = heatmap.getYear(2024);
+        heatmap.applyChange(null, devLog(march1, 60));
+        heatmap.applyChange(devLog(march1, 30), devLog(LocalDate.of(2024, 12, 31), 30));
+        CalendarHeatmapDTO after = heatmap.getYear(2024);
+
+        // Then
+        assertThat(before.getCounts()).hasSize(366);
+        assertThat(before.getCounts()[march1.getDayOfYear() - 1]).isEqualTo(2);
+        assertThat(after.getCounts()[march1.getDayOfYear() - 1]).isEqualTo(2);
+        assertThat(after.getWorkMinutes()[march1.getDayOfYear() - 1]).isEqualTo(120);
+        assertThat(after.getCounts()[365]).isEqualTo(1);
+        assertThat(after.getTotalLogs()).isEqualTo(3);
+        assertThat(after.getActiveDays()).isEqualTo(2);
+        assertThat(heatmap.getMonth(2024, 12))
+                .containsExactly(Map.of("date", LocalDate.of(2024, 12, 31), "count", 1L, "workMinutes", 30));
+        verify(projectStatsMapper, times(1)).findDailyTotals(any(), any());
+    }
+
+    @Test
+    @DisplayName("커밋 중인 쓰기와 겹친 조회 결과는 저장하지 않고, 커밋된 변화량은 다음 조회부터 반영")
+    void getYear_DoesNotCacheLoadOverlappingCommit() {
+        // Given: 커밋 직전 단계의 쓰기 트랜잭션
+        when(projectStatsMapper.findDailyTotals(START, START.plusYears(1)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(row(LocalDate.of(2024, 1, 2), 1, 0)));
+        TransactionSynchronizationManager.initSynchronization();
+        heatmap.applyChange(null, devLog(LocalDate.of(2024, 1, 2), 0));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        // When: 커밋 중에 조회(커밋 전 스냅샷), 커밋 완료 후 다시 조회
+        int duringCommit = heatmap.getYear(2024).getTotalLogs();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        int afterCommit = heatmap.getYear(2024).getTotalLogs();
+        int cached = heatmap.getYear(2024).getTotalLogs();
+
+        // Then: 첫 결과는 버려지고 두 번째 조회 결과만 저장되며, 변화량이 두 번 더해지지 않음
+        assertThat(duringCommit).isZero();
+        assertThat(afterCommit).isEqualTo(1);
+        assertThat(cached).isEqualTo(1);
+        verify(projectStatsMapper, times(2)).findDailyTotals(any(), any());
+    }
+}
@@ -0,0 +1,70 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.ChangeEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ChangeSubscription 단위 테스트
+ *
+ * 변경 피드 구독의 프로젝트 필터와 버퍼 초과 시 오래된 이벤트 제거를 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("ChangeSubscription 테스트")
+public class ChangeSubscriptionTest {
+
+    private ChangeEvent logEvent(long sequence, Long projectId, Long previousProjectId) {
+        return ChangeEvent.builder()
+                .sequence(sequence)
+                .entity(ChangeEvent.Entity.LOG)
+                .action(ChangeEvent.Action.UPDATED)
+                .id(sequence)
+                .projectId(projectId)
+                .previousProjectId(previousProjectId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("프로젝트 필터는 해당 프로젝트 로그(이전 프로젝트 포함)와 태그 이벤트만 통과")
+    void matches_FiltersByProject() {
+        // Given
+        ChangeSubscription subscription = new ChangeSubscription(1L, 7L, 8);
+        ChangeEvent tagEvent = ChangeEvent.builder()
+                .entity(ChangeEvent.Entity.TECH_TAG)
+                .action(ChangeEvent.Action.CREATED)
+                .id(3L)
+                .build();
+
+        // When & Then
+        assertThat(subscription.matches(logEvent(1, 7L, null))).isTrue();
+        assertThat(subscription.matches(logEvent(2, 9L, 7L))).isTrue();
+        assertThat(subscription.matches(logEvent(3, 9L, null))).isFalse();
+        assertThat(subscription.matches(tagEvent)).isTrue();
+        assertThat(new ChangeSubscription(2L, null, 8).matches(logEvent(4, 9L, null))).isTrue();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 가장 오래된 이벤트를 버리고 버린 수를 기록")
+    void offer_DropsOldestWhenFull() {
+        // Given
+        ChangeSubscription subscription = new ChangeSubscription(1L, null, 2);
+
+        // When
+        for (long i = 1; i <= 5; i++) {
+            subscription.offer(logEvent(i, 1L, null));
+        }
+        List<ChangeEvent> events = subscription.drain();
+
+        // Then
+        assertThat(events).extracting(ChangeEvent::getSequence).containsExactly(4L, 5L);
+        assertThat(subscription.takeDropped()).isEqualTo(3);
+        assertThat(subscription.takeDropped()).isZero();
+        assertThat(subscription.isEmpty()).isTrue();
+    }
+}
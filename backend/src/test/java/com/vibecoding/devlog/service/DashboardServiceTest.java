@@ -0,0 +1,164 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.DashboardStatsDTO;
+import com.vibecoding.devlog.dto.response.MonthlyStatsDTO;
+import com.vibecoding.devlog.dto.response.TechStackStatsDTO;
+import com.vibecoding.devlog.dto.response.WeeklyStatsDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * DashboardService 단위 테스트
+ *
+ * 섹션 병렬 조회와 기한 초과/동시 실행 제한 시 부분 결과 반환, 남은 기한을 트랜잭션(쿼리) 타임아웃으로 거는지를 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardService 테스트")
+public class DashboardServiceTest {
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("모든 섹션이 기한 안에 끝나면 전체 결과 반환")
+    void getDashboardStats_AllSections() {
+        // Given
+        when(statisticsService.getCurrentWeekStats()).thenReturn(WeeklyStatsDTO.builder().totalLogs(3).build());
+        when(statisticsService.getCurrentMonthStats()).thenReturn(MonthlyStatsDTO.builder().totalLogs(10).build());
+        when(statisticsService.getTechStackStats()).thenReturn(TechStackStatsDTO.builder().build());
+        DashboardService dashboardService = new DashboardService(statisticsService, transactionManager, executor, 6, 1000);
+
+        // When
+        DashboardStatsDTO stats = dashboardService.getDashboardStats();
+
+        // Then
+        assertThat(stats.isPartial()).isFalse();
+        assertThat(stats.getWeekly().getTotalLogs()).isEqualTo(3);
+        assertThat(stats.getMonthly().getTotalLogs()).isEqualTo(10);
+        assertThat(stats.getTechStack()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("기한을 넘긴 섹션과 실패한 섹션은 비우고 부분 결과 반환")
+    void getDashboardStats_PartialOnTimeout() {
+        // Given
+        when(statisticsService.getCurrentWeekStats()).thenReturn(WeeklyStatsDTO.builder().totalLogs(3).build());
+        when(statisticsService.getCurrentMonthStats()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return MonthlyStatsDTO.builder().build();
+        });
+        when(statisticsService.getTechStackStats()).thenThrow(new IllegalStateException("boom"));
+        DashboardService dashboardService = new DashboardService(statisticsService, transactionManager, executor, 6, 200);
+
+        // When
+        long started = System.currentTimeMillis();
+        DashboardStatsDTO stats = dashboardService.getDashboardStats();
+        long elapsed = System.currentTimeMillis() - started;
+
+        // Then
+        assertThat(elapsed).isLessThan(2_000);
+        assertThat(stats.isPartial()).isTrue();
+        assertThat(stats.getWeekly().getTotalLogs()).isEqualTo(3);
+        assertThat(stats.getMonthly()).isNull();
+        assertThat(stats.getTechStack()).isNull();
+        assertThat(stats.getMissingSections())
+                .containsExactly(DashboardService.MONTHLY, DashboardService.TECH_STACK);
+    }
+
+    @Test
+    @DisplayName("각 섹션은 남은 기한을 올림한 읽기 전용 트랜잭션 타임아웃으로 실행")
+    void getDashboardStats_SetsTransactionTimeoutFromDeadline() {
+        // Given
+        when(statisticsService.getCurrentWeekStats()).thenReturn(WeeklyStatsDTO.builder().build());
+        when(statisticsService.getCurrentMonthStats()).thenReturn(MonthlyStatsDTO.builder().build());
+        when(statisticsService.getTechStackStats()).thenReturn(TechStackStatsDTO.builder().build());
+        DashboardService dashboardService = new DashboardService(statisticsService, transactionManager, executor, 6, 2500);
+
+        // When
+        dashboardService.getDashboardStats();
+
+        // Then: 2.5초 기한은 최대 3초로 올림되어 MyBatis가 문장마다 쿼리 타임아웃으로 사용
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(3)).getTransaction(definitions.capture());
+        assertThat(definitions.getAllValues()).allSatisfy(definition -> {
+            assertThat(definition.isReadOnly()).isTrue();
+            assertThat(definition.getTimeout()).isBetween(1, 3);
+        });
+    }
+
+    @Test
+    @DisplayName("동시 실행 허가를 기한 안에 얻지 못한 섹션은 실행하지 않고 부분 결과로 비움")
+    void getDashboardStats_PartialWhenConcurrencyExhausted() {
+        // Given: 동시 실행 1개, 먼저 시작한 섹션이 기한을 넘겨 허가를 쥐고 있음
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        Supplier<Object> blocking = () -> {
+            started.incrementAndGet();
+            awaitQuietly(release);
+            return null;
+        };
+        lenient().when(statisticsService.getCurrentWeekStats()).thenAnswer(invocation -> blocking.get());
+        lenient().when(statisticsService.getCurrentMonthStats()).thenAnswer(invocation -> blocking.get());
+        lenient().when(statisticsService.getTechStackStats()).thenAnswer(invocation -> blocking.get());
+        DashboardService dashboardService = new DashboardService(statisticsService, transactionManager, executor, 1, 200);
+
+        try {
+            // When
+            DashboardStatsDTO stats = dashboardService.getDashboardStats();
+
+            // Then: 허가를 얻은 한 섹션만 시작
+            assertThat(stats.isPartial()).isTrue();
+            assertThat(stats.getMissingSections())
+                    .containsExactly(DashboardService.WEEKLY, DashboardService.MONTHLY, DashboardService.TECH_STACK);
+            assertThat(started.get()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.vibecoding.devlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * DatabaseChangeListener 단위 테스트
+ *
+ * 트리거 알림 payload를 받아 로컬 캐시를 알맞게 무효화하는지 DB 연결 없이 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatabaseChangeListener 테스트")
+public class DatabaseChangeListenerTest {
+
+    @Mock
+    private StatisticsCache statisticsCache;
+
+    @Mock
+    private CalendarHeatmap calendarHeatmap;
+
+    @Mock
+    private ActivityIndex activityIndex;
+
+    @Mock
+    private LogSearchIndex logSearchIndex;
+
+    @Mock
+    private TechTagRegistry techTagRegistry;
+
+    @Mock
+    private ChangeVersions changeVersions;
+
+    @Mock
+    private DataSource dataSource;
+
+    private DatabaseChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        listener = new DatabaseChangeListener(statisticsCache, calendarHeatmap, activityIndex, logSearchIndex,
+                techTagRegistry, changeVersions, dataSource, objectMapper,
+                false, "jdbc:postgresql://localhost/devlog", "devlog", "devlog", 1000, 1000);
+    }
+
+    @Test
+    @DisplayName("로그 변경 알림은 해당 기간/프로젝트 통계를 무효화하고 변경된 로그만 다시 색인")
+    void handle_DevLogs_EvictsRangeAndRefreshesIndex() {
+        // Given
+        when(logSearchIndex.isReady()).thenReturn(true);
+        String payload = "{\"table\":\"dev_logs\",\"op\":\"UPDATE\",\"node\":\"psql\",\"ids\":[15,16],"
+                + "\"projectIds\":[1],\"from\":\"2026-01-05\",\"to\":\"2026-01-07\"}";
+
+        // When
+        listener.handle(payload);
+
+        // Then
+        verify(statisticsCache).evictRange(List.of(1L), LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 7));
+        verify(calendarHeatmap).evictRange(LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 7));
+        verify(activityIndex).applyRemote(List.of(1L), LocalDate.of(2026, 1, 5), LocalDate.of(2026, 1, 7));
+        verify(changeVersions).markChanged(ChangeVersions.Domain.LOGS);
+        verify(logSearchIndex).refresh(List.of(15L, 16L));
+        verify(logSearchIndex, never()).build();
+    }
+
+    @Test
+    @DisplayName("행이 많아 ID가 없는 알림은 전체 범위로 처리, 잘못된 payload는 무시")
+    void handle_WithoutIds_FallsBackToFullInvalidation() {
+        // Given
+        when(logSearchIndex.isReady()).thenReturn(true);
+
+        // When
+        listener.handle("{\"table\":\"dev_logs\",\"op\":\"INSERT\",\"node\":\"devlog-b\",\"ids\":null,"
+                + "\"projectIds\":null,\"from\":\"2025-01-01\",\"to\":\"2026-01-07\"}");
+        listener.handle("{\"table\":\"projects\",\"op\":\"DELETE\",\"node\":\"devlog-b\",\"ids\":null}");
+        listener.handle("not json");
+
+        // Then
+        verify(statisticsCache).evictRange(null, LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 7));
+        verify(logSearchIndex).build();
+        verify(logSearchIndex, never()).refresh(any());
+        verify(statisticsCache).evictAll();
+        verify(changeVersions).markChanged(ChangeVersions.Domain.PROJECTS, ChangeVersions.Domain.LOGS);
+    }
+
+    @Test
+    @DisplayName("태그 변경 알림은 태그 목록만 다시 읽고 로그 ETag 버전은 올리지 않음")
+    void handle_TechTags_DoesNotBumpLogs() {
+        // Given
+        when(techTagRegistry.isReady()).thenReturn(true);
+
+        // When
+        listener.handle("{\"table\":\"tech_tags\",\"op\":\"UPDATE\",\"node\":\"devlog-b\"}");
+
+        // Then
+        verify(techTagRegistry).reload();
+        verify(statisticsCache).evictTechTags();
+        verify(changeVersions).markChanged(ChangeVersions.Domain.TECH_TAGS);
+        verifyNoMoreInteractions(changeVersions);
+    }
+}
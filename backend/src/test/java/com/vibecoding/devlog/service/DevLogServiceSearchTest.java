@@ -0,0 +1,193 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.request.LogFields;
+import com.vibecoding.devlog.dto.response.SearchPage;
+import com.vibecoding.devlog.mapper.DevLogMapper;
+import com.vibecoding.devlog.model.DevLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DevLogService 검색 테스트
+ *
+ * 검색 결과가 요청한 페이지와 전체 일치 수로 나뉘고 페이지를 지정하지 않으면 잘리지 않는지,
+ * 선택한 필드와 이스케이프한 검색어가 매퍼까지 그대로 전달되는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DevLogService 검색 테스트")
+public class DevLogServiceSearchTest {
+
+    @Mock
+    private DevLogMapper devLogMapper;
+
+    @Mock
+    private LogSearchIndex logSearchIndex;
+
+    @Mock
+    private ProjectStatsService projectStatsService;
+
+    @Mock
+    private StatisticsCache statisticsCache;
+
+    @Mock
+    private ChangeVersions changeVersions;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    @Mock
+    private TagUsageCounter tagUsageCounter;
+
+    @Mock
+    private CalendarHeatmap calendarHeatmap;
+
+    @Mock
+    private ActivityIndex activityIndex;
+
+    @InjectMocks
+    private DevLogService devLogService;
+
+    private static List<DevLog> logs(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> DevLog.builder().id(id).title("Spring 로그 " + id).build())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("색인 준비 전에는 요청한 페이지만 조회하고 전체 일치 수를 함께 반환")
+    void searchPage_Database_ReturnsPageWithTotal() {
+        // Given
+        when(logSearchIndex.isReady()).thenReturn(false);
+        when(devLogMapper.search("spring", "%spring%", 10, 10, null)).thenReturn(logs(11, 20));
+        when(devLogMapper.countSearch("%spring%")).thenReturn(37L);
+
+        // When
+        SearchPage<DevLog> page = devLogService.searchPage("  spring ", 2, 10, null);
+
+        // Then
+        assertThat(page.getItems()).extracting(DevLog::getId).containsExactlyElementsOf(LongStream.rangeClosed(11, 20).boxed().toList());
+        assertThat(page.getTotal()).isEqualTo(37);
+        assertThat(page.getItems().get(0).getSearchSnippet()).isEqualTo("<mark>Spring</mark> 로그 11");
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 다 차지 않으면 COUNT 없이 결과 수를 전체 수로 사용")
+    void searchPage_Database_SkipsCountWhenFirstPageIsPartial() {
+        // Given
+        when(logSearchIndex.isReady()).thenReturn(false);
+        when(devLogMapper.search("spring", "%spring%", 0, 20, null)).thenReturn(logs(1, 3));
+
+        // When
+        SearchPage<DevLog> page = devLogService.searchPage("spring", 1, 20, null);
+
+        // Then
+        assertThat(page.getTotal()).isEqualTo(3);
+        verify(devLogMapper, never()).countSearch(anyString());
+    }
+
+    @Test
+    @DisplayName("색인 검색은 색인의 전체 일치 수를 반환하고 순위 순서를 유지")
+    void searchPage_Index_UsesIndexTotal() {
+        // Given
+        when(logSearchIndex.isReady()).thenReturn(true);
+        when(logSearchIndex.searchPage("spring", 20, 20)).thenReturn(new LogSearchIndex.Page(
+                List.of(new LogSearchIndex.Hit(7L, 3.0), new LogSearchIndex.Hit(4L, 2.0)), 22));
+        when(devLogMapper.findByIds(List.of(7L, 4L), null)).thenReturn(logs(4, 7));
+
+        // When
+        SearchPage<DevLog> page = devLogService.searchPage("spring", 2, 20, null);
+
+        // Then
+        assertThat(page.getItems()).extracting(DevLog::getId).containsExactly(7L, 4L);
+        assertThat(page.getItems()).extracting(DevLog::getSearchRank).containsExactly(3.0, 2.0);
+        assertThat(page.getTotal()).isEqualTo(22);
+    }
+
+    @Test
+    @DisplayName("페이지를 지정하지 않은 검색은 일치한 로그를 모두 반환하고 ID 조회는 나눠서 실행")
+    void search_WithoutPaging_ReturnsAllMatches() {
+        // Given: 기본 페이지 크기(20)보다 훨씬 많은 1500건이 일치
+        List<LogSearchIndex.Hit> hits = new ArrayList<>();
+        for (long id = 1500; id >= 1; id--) {
+            hits.add(new LogSearchIndex.Hit(id, id));
+        }
+        when(logSearchIndex.isReady()).thenReturn(true);
+        when(logSearchIndex.search("spring", 0, Integer.MAX_VALUE)).thenReturn(hits);
+        when(devLogMapper.findByIds(anyList(), isNull())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> DevLog.builder().id(id).title("Spring").build()).collect(Collectors.toList());
+        });
+
+        // When
+        List<DevLog> results = devLogService.search("spring", null);
+
+        // Then
+        assertThat(results).hasSize(1500);
+        assertThat(results.get(0).getId()).isEqualTo(1500L);
+        assertThat(results.get(1499).getId()).isEqualTo(1L);
+        verify(devLogMapper, times(2)).findByIds(anyList(), isNull());
+    }
+
+    @Test
+    @DisplayName("검색어의 LIKE 와일드카드는 이스케이프하고 앞뒤 공백은 제거")
+    void searchPage_EscapesLikeWildcards() {
+        // Given
+        when(logSearchIndex.isReady()).thenReturn(false);
+        when(devLogMapper.search(anyString(), anyString(), anyInt(), anyInt(), isNull())).thenReturn(List.of());
+
+        // When
+        devLogService.searchPage(" 100%_a\\b ", 1, 20, null);
+
+        // Then
+        verify(devLogMapper).search("100%_a\\b", "%100\\%\\_a\\\\b%", 0, 20, null);
+    }
+
+    @Test
+    @DisplayName("선택한 필드를 매퍼에 그대로 넘기고, 발췌는 조회한 필드에서만 만듦")
+    void searchPage_PassesFieldsAndBuildsSnippetFromSelectedFields() {
+        // Given: 제목만 조회, 키워드는 조회하지 않은 설명에만 있음
+        LogFields fields = LogFields.parse("title,logDate");
+        when(logSearchIndex.isReady()).thenReturn(true);
+        when(logSearchIndex.searchPage("redis", 0, 20)).thenReturn(new LogSearchIndex.Page(
+                List.of(new LogSearchIndex.Hit(1L, 2.0), new LogSearchIndex.Hit(2L, 1.0)), 2));
+        when(devLogMapper.findByIds(List.of(1L, 2L), fields)).thenReturn(List.of(
+                DevLog.builder().id(1L).title("Redis 캐시 적용").build(),
+                DevLog.builder().id(2L).title("세션 저장소 교체").build()));
+
+        // When
+        SearchPage<DevLog> page = devLogService.searchPage("redis", 1, 20, fields);
+
+        // Then
+        assertThat(page.getItems()).extracting(DevLog::getSearchSnippet)
+                .containsExactly("<mark>Redis</mark> 캐시 적용", null);
+        verify(devLogMapper).findByIds(List.of(1L, 2L), fields);
+    }
+
+    @Test
+    @DisplayName("빈 검색어는 조회 없이 빈 페이지")
+    void searchPage_BlankKeyword_ReturnsEmptyPage() {
+        // When
+        SearchPage<DevLog> page = devLogService.searchPage("   ", 1, 20, null);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getTotal()).isZero();
+        verifyNoInteractions(devLogMapper, logSearchIndex);
+    }
+}
@@ -0,0 +1,123 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.request.DevLogCreateRequest;
+import com.vibecoding.devlog.mapper.DevLogMapper;
+import com.vibecoding.devlog.model.DevLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DevLogService 기술 태그 연결 테스트
+ *
+ * 로그 저장 시 태그 연결이 태그 수와 무관한 고정 횟수의 문장으로 처리되는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DevLogService 기술 태그 연결 테스트")
+public class DevLogServiceTechTagTest {
+
+    @Mock
+    private DevLogMapper devLogMapper;
+
+    @Mock
+    private LogSearchIndex logSearchIndex;
+
+    @Mock
+    private ProjectStatsService projectStatsService;
+
+    @Mock
+    private StatisticsCache statisticsCache;
+
+    @Mock
+    private ChangeVersions changeVersions;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    @Mock
+    private TagUsageCounter tagUsageCounter;
+
+    @Mock
+    private CalendarHeatmap calendarHeatmap;
+
+    @Mock
+    private ActivityIndex activityIndex;
+
+    @InjectMocks
+    private DevLogService devLogService;
+
+    private DevLogCreateRequest request(Long... tagIds) {
+        DevLogCreateRequest request = new DevLogCreateRequest();
+        request.setProjectId(1L);
+        request.setTitle("태그 테스트");
+        request.setLogDate(LocalDate.of(2026, 1, 5));
+        request.setTechTagIds(Arrays.asList(tagIds));
+        return request;
+    }
+
+    @Test
+    @DisplayName("생성 시 중복을 제거한 태그를 INSERT 한 번으로 연결")
+    void create_InsertsTagsInOneStatement() {
+        // Given
+        when(devLogMapper.insert(any(DevLog.class))).thenAnswer(invocation -> {
+            invocation.<DevLog>getArgument(0).setId(10L);
+            return 1;
+        });
+        when(devLogMapper.findById(10L)).thenReturn(DevLog.builder().id(10L).build());
+
+        // When
+        devLogService.create(request(1L, 2L, 2L, 3L));
+
+        // Then
+        verify(devLogMapper).insertLogTechTags(eq(10L), argThat(ids -> ids.size() == 3 && ids.containsAll(List.of(1L, 2L, 3L))));
+        verify(devLogMapper, never()).insertLogTechTag(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("수정 시 바뀐 태그만 삭제/추가")
+    void update_DiffsTagSets() {
+        // Given
+        when(devLogMapper.findByIdForUpdate(10L)).thenReturn(DevLog.builder().id(10L).build());
+        when(devLogMapper.findById(10L)).thenReturn(DevLog.builder().id(10L).build());
+        when(devLogMapper.update(any(DevLog.class))).thenReturn(1);
+        when(devLogMapper.findTechTagIds(10L)).thenReturn(Arrays.asList(1L, 2L, 3L));
+
+        // When
+        devLogService.update(10L, request(2L, 3L, 4L, 5L));
+
+        // Then
+        verify(devLogMapper).deleteLogTechTagsIn(10L, List.of(1L));
+        verify(devLogMapper).insertLogTechTags(10L, List.of(4L, 5L));
+        verify(devLogMapper, never()).deleteLogTechTags(anyLong());
+    }
+
+    @Test
+    @DisplayName("태그 변경이 없으면 연결 테이블을 건드리지 않음")
+    void update_SameTagsNoStatements() {
+        // Given
+        when(devLogMapper.findByIdForUpdate(10L)).thenReturn(DevLog.builder().id(10L).build());
+        when(devLogMapper.findById(10L)).thenReturn(DevLog.builder().id(10L).build());
+        when(devLogMapper.update(any(DevLog.class))).thenReturn(1);
+        when(devLogMapper.findTechTagIds(10L)).thenReturn(Arrays.asList(1L, 2L));
+
+        // When
+        devLogService.update(10L, request(2L, 1L));
+
+        // Then
+        verify(devLogMapper, never()).deleteLogTechTagsIn(anyLong(), anyCollection());
+        verify(devLogMapper, never()).insertLogTechTags(anyLong(), anyCollection());
+    }
+}
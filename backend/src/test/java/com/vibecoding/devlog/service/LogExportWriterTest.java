@@ -0,0 +1,87 @@
+package com.vibecoding.devlog.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vibecoding.devlog.model.DevLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogExportWriter 단위 테스트
+ *
+ * NDJSON/CSV 출력 형식과, NDJSON 출력을 일괄 가져오기로 다시 읽을 수 있는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("LogExportWriter 테스트")
+public class LogExportWriterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private DevLog sample() {
+        return DevLog.builder()
+                .id(7L)
+                .projectId(1L)
+                .logDate(LocalDate.of(2026, 1, 5))
+                .startTime(LocalTime.of(9, 0))
+                .endTime(LocalTime.of(11, 30))
+                .title("쉼표, \"따옴표\"")
+                .description("여러 줄\n설명")
+                .mood("GOOD")
+                .techTagIds(new Long[]{1L, 3L})
+                .build();
+    }
+
+    private String write(LogExportService.Format format, DevLog... logs) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LogExportWriter writer = new LogExportWriter(out, format, objectMapper.getFactory());
+        for (DevLog devLog : logs) {
+            writer.write(devLog);
+        }
+        writer.flush();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("NDJSON 출력은 한 줄에 한 건이고 가져오기로 다시 읽을 수 있음")
+    void ndjson_RoundTripsThroughImportReader() throws IOException {
+        // When
+        String output = write(LogExportService.Format.NDJSON, sample(), sample());
+
+        // Then
+        assertThat(output.split("\n")).hasSize(2);
+        try (LogImportReader reader = new LogImportReader(
+                new ByteArrayInputStream(output.getBytes(StandardCharsets.UTF_8)),
+                LogImportReader.Format.NDJSON,
+                objectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false))) {
+            LogImportReader.Row row = reader.next();
+            assertThat(row.isValid()).isTrue();
+            assertThat(row.request().getTitle()).isEqualTo("쉼표, \"따옴표\"");
+            assertThat(row.request().getDescription()).isEqualTo("여러 줄\n설명");
+            assertThat(row.request().getEndTime()).isEqualTo(LocalTime.of(11, 30));
+            assertThat(row.request().getTechTagIds()).containsExactly(1L, 3L);
+        }
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더 후 필요한 필드만 따옴표로 감싸고 태그는 세미콜론 구분")
+    void csv_QuotesOnlyWhenNeeded() throws IOException {
+        // When
+        String output = write(LogExportService.Format.CSV, sample());
+
+        // Then
+        assertThat(output).startsWith("id,projectId,logDate,startTime,endTime,title,");
+        assertThat(output).contains("7,1,2026-01-05,09:00,11:30,\"쉼표, \"\"따옴표\"\"\",\"여러 줄\n설명\",,,,,GOOD,1;3,,\r\n");
+    }
+}
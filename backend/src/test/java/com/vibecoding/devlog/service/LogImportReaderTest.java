@@ -0,0 +1,104 @@
+package com.vibecoding.devlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogImportReader 단위 테스트
+ *
+ * NDJSON/CSV 입력을 행 단위로 읽고, 잘못된 행을 예외 없이 오류 행으로 돌려주는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("LogImportReader 테스트")
+public class LogImportReaderTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private List<LogImportReader.Row> readAll(LogImportReader.Format format, String body) throws IOException {
+        List<LogImportReader.Row> rows = new ArrayList<>();
+        try (LogImportReader reader = new LogImportReader(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            LogImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("NDJSON은 빈 줄을 건너뛰고 잘못된 줄만 오류로 표시")
+    void ndjson_ReportsBadLinesWithLineNumbers() throws IOException {
+        // Given
+        String body = "{\"projectId\":1,\"title\":\"첫 로그\",\"logDate\":\"2026-01-05\",\"techTagIds\":[1,2]}\n"
+                + "\n"
+                + "{\"projectId\":1,\"title\":\n"
+                + "{\"projectId\":2,\"title\":\"세 번째\",\"startTime\":\"09:00\"}\n";
+
+        // When
+        List<LogImportReader.Row> rows = readAll(LogImportReader.Format.NDJSON, body);
+
+        // Then
+        assertThat(rows).extracting(LogImportReader.Row::line).containsExactly(1L, 3L, 4L);
+        assertThat(rows.get(0).request().getTechTagIds()).containsExactly(1L, 2L);
+        assertThat(rows.get(0).request().getLogDate()).isEqualTo(LocalDate.of(2026, 1, 5));
+        assertThat(rows.get(1).isValid()).isFalse();
+        assertThat(rows.get(2).request().getStartTime()).isEqualTo(LocalTime.of(9, 0));
+    }
+
+    @Test
+    @DisplayName("CSV 따옴표 안의 쉼표/줄바꿈과 세미콜론 태그 목록 처리")
+    void csv_ParsesQuotedFieldsAndTagList() throws IOException {
+        // Given
+        String body = "projectId,title,description,techTagIds,mood\r\n"
+                + "1,\"쉼표, 포함\",\"여러 줄\n설명 \"\"인용\"\"\",1;3,GOOD\r\n"
+                + "2,빈 태그,,,\r\n";
+
+        // When
+        List<LogImportReader.Row> rows = readAll(LogImportReader.Format.CSV, body);
+
+        // Then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).line()).isEqualTo(2L);
+        assertThat(rows.get(0).request().getTitle()).isEqualTo("쉼표, 포함");
+        assertThat(rows.get(0).request().getDescription()).isEqualTo("여러 줄\n설명 \"인용\"");
+        assertThat(rows.get(0).request().getTechTagIds()).containsExactly(1L, 3L);
+        assertThat(rows.get(1).line()).isEqualTo(4L);
+        assertThat(rows.get(1).request().getDescription()).isNull();
+        assertThat(rows.get(1).request().getTechTagIds()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV 값 변환 실패와 컬럼 수 불일치는 행 오류, 알 수 없는 헤더는 요청 오류")
+    void csv_RowAndHeaderErrors() throws IOException {
+        // Given
+        String body = "projectId,title,logDate\n"
+                + "abc,제목,2026-01-05\n"
+                + "1,제목\n"
+                + "1,제목,2026-01-06\n";
+
+        // When
+        List<LogImportReader.Row> rows = readAll(LogImportReader.Format.CSV, body);
+
+        // Then
+        assertThat(rows).extracting(LogImportReader.Row::isValid).containsExactly(false, false, true);
+        assertThat(rows.get(1).error()).contains("Expected 3 columns");
+        assertThatThrownBy(() -> readAll(LogImportReader.Format.CSV, "projectId,unknown\n1,x\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unknown");
+    }
+}
@@ -0,0 +1,233 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.mapper.DevLogMapper;
+import com.vibecoding.devlog.model.DevLog;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LogSearchIndex 단위 테스트
+ *
+ * 인메모리 역색인의 토큰화, BM25 순위, 증분 갱신, 다시 만드는 동안의 쓰기 보존을 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogSearchIndex 테스트")
+public class LogSearchIndexTest {
+
+    @Mock
+    private DevLogMapper devLogMapper;
+
+    private LogSearchIndex logSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(devLogMapper.streamSearchDocuments()).thenReturn(cursor(Arrays.asList(
+                devLog(1L, "Spring Boot 초기 설정", "프로젝트 구조 설정"),
+                devLog(2L, "React 컴포넌트 작성", "Spring 연동 테스트"),
+                devLog(3L, "PostgreSQL 인덱스 튜닝", "트라이그램 인덱스 추가")
+        )));
+        logSearchIndex = new LogSearchIndex(devLogMapper, TransactionOperations.withoutTransaction());
+        logSearchIndex.build();
+    }
+
+    private DevLog devLog(Long id, String title, String description) {
+        return DevLog.builder().id(id).projectId(1L).title(title).description(description).build();
+    }
+
+    private static Cursor<DevLog> cursor(Iterable<DevLog> logs) {
+        return new Cursor<>() {
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public boolean isConsumed() {
+                return false;
+            }
+
+            @Override
+            public int getCurrentIndex() {
+                return 0;
+            }
+
+            @Override
+            public Iterator<DevLog> iterator() {
+                return logs.iterator();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private List<Long> ids(List<LogSearchIndex.Hit> hits) {
+        return hits.stream().map(LogSearchIndex.Hit::logId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("한글은 음절 바이그램, 영문은 소문자 단어로 토큰화")
+    void tokenize_MixedText() {
+        assertThat(LogSearchIndex.tokenize("Spring부트 설정!"))
+                .containsExactly("spring", "부트", "설정");
+        assertThat(LogSearchIndex.tokenize("인덱스")).containsExactly("인덱", "덱스");
+    }
+
+    @Test
+    @DisplayName("제목에 키워드가 있는 로그가 더 높은 순위")
+    void search_TitleRanksHigher() {
+        List<LogSearchIndex.Hit> hits = logSearchIndex.search("spring", 0, 10);
+
+        assertThat(ids(hits)).containsExactly(1L, 2L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색")
+    void search_Korean() {
+        assertThat(ids(logSearchIndex.search("인덱스", 0, 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("생성/수정/삭제가 색인에 반영됨")
+    void incrementalUpdates() {
+        logSearchIndex.add(devLog(4L, "Docker 배포", "nginx 설정"));
+        assertThat(ids(logSearchIndex.search("docker", 0, 10))).containsExactly(4L);
+
+        logSearchIndex.update(devLog(4L, "Kubernetes 배포", "nginx 설정"));
+        assertThat(logSearchIndex.search("docker", 0, 10)).isEmpty();
+        assertThat(ids(logSearchIndex.search("kubernetes", 0, 10))).containsExactly(4L);
+
+        logSearchIndex.remove(4L);
+        assertThat(logSearchIndex.search("kubernetes", 0, 10)).isEmpty();
+        assertThat(logSearchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("offset/limit 페이지 처리 및 대량 삭제 후 압축")
+    void paging_AndCompaction() {
+        IntStream.rangeClosed(10, 2509).forEach(i -> logSearchIndex.add(devLog((long) i, "bulk " + i, "대량 로그")));
+        IntStream.rangeClosed(10, 1509).forEach(i -> logSearchIndex.remove((long) i));
+
+        assertThat(logSearchIndex.size()).isEqualTo(1003);
+        List<LogSearchIndex.Hit> first = logSearchIndex.search("bulk", 0, 5);
+        List<LogSearchIndex.Hit> second = logSearchIndex.search("bulk", 5, 5);
+        assertThat(first).hasSize(5);
+        assertThat(second).hasSize(5);
+        assertThat(ids(first)).doesNotContainAnyElementsOf(ids(second));
+        assertThat(ids(logSearchIndex.search("2000", 0, 5))).containsExactly(2000L);
+        assertThat(logSearchIndex.search("1000", 0, 5)).isEmpty();
+        // 전체 일치 수는 페이지와 무관하고, 끝을 넘는 페이지는 남은 만큼만 반환
+        assertThat(logSearchIndex.searchPage("bulk", 5, 5).total()).isEqualTo(1000);
+        assertThat(logSearchIndex.searchPage("bulk", 998, Integer.MAX_VALUE).hits()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 그 토큰으로 시작하는 토큰에도 일치하고, 같은 토큰이 더 높은 점수")
+    void search_MatchesTokenPrefixes() {
+        // Given
+        logSearchIndex.add(devLog(4L, "Springfield 출장", "회의"));
+
+        // When
+        List<LogSearchIndex.Hit> prefix = logSearchIndex.search("spr", 0, 10);
+        List<LogSearchIndex.Hit> exact = logSearchIndex.search("spring", 0, 10);
+
+        // Then
+        assertThat(ids(prefix)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(ids(exact)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThat(ids(exact).get(2)).isEqualTo(4L);
+        assertThat(ids(logSearchIndex.search("인", 0, 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("삭제와 다시 읽기는 문서 빈도를 정확히 보정하고, 프로젝트 삭제는 그 프로젝트의 로그를 모두 뺌")
+    void removeAndRefresh_KeepDocFreqExact() {
+        // Given: 로그 2가 다른 인스턴스에서 Spring 없이 수정됨
+        when(devLogMapper.findByIds(List.of(2L, 9L), null))
+                .thenReturn(List.of(devLog(2L, "React 컴포넌트 작성", "Vite 설정")));
+        logSearchIndex.add(DevLog.builder().id(5L).projectId(2L).title("Spring 배치").build());
+        logSearchIndex.add(DevLog.builder().id(6L).projectId(2L).title("Spring 보안").build());
+
+        // When
+        logSearchIndex.refresh(List.of(2L, 9L));
+        int afterRefresh = logSearchIndex.docFreq("spring");
+        logSearchIndex.removeProject(2L);
+
+        // Then
+        assertThat(afterRefresh).isEqualTo(3);
+        assertThat(logSearchIndex.docFreq("spring")).isEqualTo(1);
+        assertThat(logSearchIndex.docFreq("vite")).isEqualTo(1);
+        assertThat(ids(logSearchIndex.search("spring", 0, 10))).containsExactly(1L);
+        assertThat(logSearchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다시 만드는 동안 반영된 쓰기는 새 색인에 다시 적용됨")
+    void build_ReplaysWritesDuringRebuild() {
+        // Given: 전체 조회 스냅샷에는 로그 1, 2만 있고, 읽는 도중 로그 7 생성과 로그 1 삭제가 커밋됨
+        List<DevLog> snapshot = List.of(
+                devLog(1L, "Spring Boot 초기 설정", "프로젝트 구조 설정"),
+                devLog(2L, "React 컴포넌트 작성", "Spring 연동 테스트"));
+        when(devLogMapper.streamSearchDocuments()).thenReturn(cursor(() -> new Iterator<>() {
+            private final Iterator<DevLog> delegate = snapshot.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public DevLog next() {
+                DevLog next = delegate.next();
+                if (next.getId() == 2L) {
+                    logSearchIndex.add(devLog(7L, "Redis 캐시", "TTL 설정"));
+                    logSearchIndex.remove(1L);
+                }
+                return next;
+            }
+        }));
+
+        // When
+        logSearchIndex.build();
+
+        // Then
+        assertThat(ids(logSearchIndex.search("redis", 0, 10))).containsExactly(7L);
+        assertThat(ids(logSearchIndex.search("spring", 0, 10))).containsExactly(2L);
+        assertThat(logSearchIndex.size()).isEqualTo(2);
+        assertThat(logSearchIndex.docFreq("boot")).isZero();
+    }
+
+    @Test
+    @DisplayName("데이터베이스 오류로 다시 만들지 못하면 기존 색인 유지")
+    void build_KeepsPreviousIndexOnFailure() {
+        // Given
+        when(devLogMapper.streamSearchDocuments()).thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // When
+        logSearchIndex.build();
+
+        // Then
+        assertThat(logSearchIndex.isReady()).isTrue();
+        assertThat(logSearchIndex.size()).isEqualTo(3);
+    }
+}
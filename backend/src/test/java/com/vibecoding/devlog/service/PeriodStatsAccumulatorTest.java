@@ -0,0 +1,72 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.model.ProjectStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PeriodStatsAccumulator 단위 테스트
+ *
+ * 롤업 행 한 번의 순회로 합계, 일별, 프로젝트별, 구간 집계가 만들어지는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("PeriodStatsAccumulator 테스트")
+public class PeriodStatsAccumulatorTest {
+
+    private PeriodStatsAccumulator acc;
+
+    @BeforeEach
+    void setUp() {
+        acc = new PeriodStatsAccumulator();
+        acc.add(row(1L, "DevLog", "2026-01-05", 120, 2, 2));
+        acc.add(row(2L, "Portfolio", "2026-01-05", 200, 1, 1));
+        acc.add(row(1L, "DevLog", "2026-01-12", 60, 2, 1));
+        acc.add(row(2L, "Portfolio", "2026-01-13", 0, 0, 0));
+    }
+
+    private ProjectStats row(Long projectId, String name, String date, int minutes, int logs, int timed) {
+        return ProjectStats.builder()
+                .projectId(projectId)
+                .projectName(name)
+                .statDate(LocalDate.parse(date))
+                .totalMinutes(minutes)
+                .logCount(logs)
+                .timedLogCount(timed)
+                .build();
+    }
+
+    @Test
+    @DisplayName("합계와 평균은 작업 시간이 기록된 로그 기준으로 계산")
+    void totals() {
+        assertThat(acc.getTotalLogs()).isEqualTo(5);
+        assertThat(acc.getTotalWorkMinutes()).isEqualTo(380);
+        assertThat(acc.getAvgWorkMinutes()).isEqualTo(95);
+        assertThat(acc.getActiveProjects()).isEqualTo(2);
+        assertThat(acc.getWorkDays()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("프로젝트별은 로그 수, 작업 시간 내림차순")
+    void projects_SortedByCountThenMinutes() {
+        assertThat(acc.getProjects().stream().map(p -> p.projectName).collect(Collectors.toList()))
+                .containsExactly("DevLog", "Portfolio");
+        assertThat(acc.getProjects().get(0).workMinutes).isEqualTo(180);
+    }
+
+    @Test
+    @DisplayName("구간 합계는 반개구간 [from, to)만 포함")
+    void sumRange_HalfOpen() {
+        PeriodStatsAccumulator.Totals week = acc.sumRange(LocalDate.parse("2026-01-05"), LocalDate.parse("2026-01-12"));
+
+        assertThat(week.logCount).isEqualTo(3);
+        assertThat(week.workMinutes).isEqualTo(320);
+    }
+}
@@ -0,0 +1,146 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.mapper.DevLogMapper;
+import com.vibecoding.devlog.mapper.ProjectStatsMapper;
+import com.vibecoding.devlog.model.DevLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProjectStatsService 단위 테스트
+ *
+ * 로그 변경이 project_stats 롤업에 변화량으로 반영되는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProjectStatsService 테스트")
+public class ProjectStatsServiceTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2026, 1, 5);
+    private static final LocalDate DAY2 = LocalDate.of(2026, 1, 6);
+
+    @Mock
+    private ProjectStatsMapper projectStatsMapper;
+
+    @Mock
+    private DevLogMapper devLogMapper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ProjectStatsService projectStatsService;
+
+    private DevLog devLog(Long projectId, LocalDate logDate, String start, String end) {
+        return DevLog.builder()
+                .id(1L)
+                .projectId(projectId)
+                .logDate(logDate)
+                .startTime(start != null ? LocalTime.parse(start) : null)
+                .endTime(end != null ? LocalTime.parse(end) : null)
+                .build();
+    }
+
+    @Test
+    @DisplayName("로그 생성 시 해당 날짜 행에 로그 수와 작업 시간 가산")
+    void applyChange_Create() {
+        // Given
+        DevLog created = devLog(1L, DAY1, "09:00", "11:30");
+
+        // When
+        projectStatsService.applyChange(null, created);
+
+        // Then
+        verify(projectStatsMapper).applyDelta(1L, DAY1, 150, 1, 1);
+        verifyNoMoreInteractions(projectStatsMapper);
+    }
+
+    @Test
+    @DisplayName("같은 날짜 안에서 수정하면 작업 시간 차이만 반영")
+    void applyChange_UpdateSameBucket() {
+        // Given
+        DevLog previous = devLog(1L, DAY1, "09:00", "10:00");
+        DevLog current = devLog(1L, DAY1, "09:00", "12:00");
+
+        // When
+        projectStatsService.applyChange(previous, current);
+
+        // Then
+        verify(projectStatsMapper).applyDelta(1L, DAY1, 120, 0, 0);
+        verifyNoMoreInteractions(projectStatsMapper);
+    }
+
+    @Test
+    @DisplayName("작업 시간 변경이 없는 수정은 롤업을 건드리지 않음")
+    void applyChange_UpdateWithoutDelta() {
+        // Given
+        DevLog previous = devLog(1L, DAY1, "09:00", "10:00");
+        DevLog current = devLog(1L, DAY1, "09:00", "10:00");
+
+        // When
+        projectStatsService.applyChange(previous, current);
+
+        // Then
+        verify(projectStatsMapper, never()).applyDelta(any(), any(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("프로젝트와 날짜가 바뀌면 이전 행에서 빼고 새 행에 더함")
+    void applyChange_MoveBucket() {
+        // Given
+        DevLog previous = devLog(1L, DAY1, "09:00", "10:00");
+        DevLog current = devLog(2L, DAY2, null, null);
+
+        // When
+        projectStatsService.applyChange(previous, current);
+
+        // Then
+        verify(projectStatsMapper).applyDelta(1L, DAY1, -60, -1, -1);
+        verify(projectStatsMapper).applyDelta(2L, DAY2, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("롤업이 비어 있고 로그가 있으면 시작 시 재집계")
+    void rebuildIfEmpty_EmptyRollup() {
+        // Given
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        when(projectStatsMapper.count()).thenReturn(0);
+        when(devLogMapper.count()).thenReturn(3);
+
+        // When
+        projectStatsService.rebuildIfEmpty();
+
+        // Then
+        verify(projectStatsMapper).deleteAll();
+        verify(projectStatsMapper).insertFromDevLogs();
+    }
+
+    @Test
+    @DisplayName("시작 시 데이터베이스에 연결할 수 없으면 재집계를 건너뜀")
+    void rebuildIfEmpty_DatabaseUnavailable() {
+        // Given
+        when(transactionTemplate.execute(any())).thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // When
+        projectStatsService.rebuildIfEmpty();
+
+        // Then
+        verify(projectStatsMapper, never()).deleteAll();
+    }
+}
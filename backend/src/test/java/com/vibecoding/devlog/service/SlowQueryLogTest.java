@@ -0,0 +1,125 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.dto.response.SlowQuery;
+import com.vibecoding.devlog.dto.response.SlowQuery.ExplainStatus;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SlowQueryLog 단위 테스트
+ *
+ * 링 버퍼 보관, 파라미터 기록과 기본 가림, 읽기 전용 구문만 표본으로 실행 계획을 수집하는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SlowQueryLog 테스트")
+public class SlowQueryLogTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private ExecutorService executor;
+
+    private Configuration configuration;
+    private SlowQueryLog slowQueryLog;
+
+    @BeforeEach
+    void setUp() {
+        configuration = new Configuration();
+        slowQueryLog = new SlowQueryLog(dataSource, executor, 3, 1.0, 300, 30000, true);
+    }
+
+    private MappedStatement statement(String id, boolean flushCache) {
+        StaticSqlSource sqlSource = new StaticSqlSource(configuration,
+                "SELECT *\n  FROM project_stats WHERE project_id = ?",
+                List.of(new ParameterMapping.Builder(configuration, "projectId", Object.class).build()));
+        return new MappedStatement.Builder(configuration, id, sqlSource, SqlCommandType.SELECT)
+                .flushCacheRequired(flushCache)
+                .build();
+    }
+
+    private SlowQuery record(MappedStatement statement, long elapsedMillis) {
+        Map<String, Object> parameter = Map.of("projectId", 7L);
+        BoundSql boundSql = statement.getBoundSql(parameter);
+        return slowQueryLog.record(statement, parameter, boundSql, elapsedMillis);
+    }
+
+    @Test
+    @DisplayName("가득 차면 오래된 기록부터 덮어쓰고 최근 것부터 반환")
+    void record_KeepsNewestEntries() {
+        // Given: 쓰기 구문(flushCache select)은 실행 계획을 수집하지 않음
+        MappedStatement write = statement("TechTagMapper.insertMissing", true);
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            record(write, i * 100L);
+        }
+
+        // Then
+        assertThat(slowQueryLog.findAll()).extracting(SlowQuery::getElapsedMillis).containsExactly(500L, 400L, 300L);
+        SlowQuery latest = slowQueryLog.findAll().get(0);
+        assertThat(latest.getSql()).isEqualTo("SELECT * FROM project_stats WHERE project_id = ?");
+        assertThat(latest.getParameters()).containsExactly("7");
+        assertThat(latest.getExplainStatus()).isEqualTo(ExplainStatus.SKIPPED);
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 구문은 재실행 간격 안에 한 번만 실행 계획 수집을 예약하고, 대기열이 차면 DROPPED")
+    void record_SamplesReadOnlyStatementsOncePerCooldown() {
+        // Given
+        MappedStatement read = statement("StatisticsMapper.getPeriodProjectStats", false);
+        MappedStatement other = statement("StatisticsMapper.getTechStackStats", false);
+
+        // When
+        SlowQuery first = record(read, 900);
+        SlowQuery second = record(read, 950);
+        doThrow(new RejectedExecutionException("queue full")).when(executor).execute(any());
+        record(other, 800);
+
+        // Then
+        assertThat(first.getExplainStatus()).isEqualTo(ExplainStatus.PENDING);
+        assertThat(second.getExplainStatus()).isEqualTo(ExplainStatus.SKIPPED);
+        assertThat(slowQueryLog.findAll().get(0).getExplainStatus()).isEqualTo(ExplainStatus.DROPPED);
+        verify(executor, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("파라미터 기록을 켜지 않으면 값 대신 타입만 남김")
+    void record_RedactsParametersByDefault() {
+        // Given
+        SlowQueryLog redacting = new SlowQueryLog(dataSource, executor, 3, 1.0, 300, 30000, false);
+        MappedStatement write = statement("TechTagMapper.insertMissing", true);
+        Map<String, Object> parameter = Map.of("projectId", 7L);
+
+        // When
+        SlowQuery entry = redacting.record(write, parameter, write.getBoundSql(parameter), 700);
+
+        // Then
+        assertThat(entry.getParameters()).containsExactly("<Long>");
+        assertThat(redacting.findAll().get(0).getParameters()).containsExactly("<Long>");
+    }
+}
@@ -0,0 +1,132 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.model.DevLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * StatisticsCache 단위 테스트
+ *
+ * 캐시 적중/실패 집계와 로그 변경 시 영향받는 항목만 무효화되는지,
+ * 계산 중에 커밋된 변경이 있으면 계산 결과를 저장하지 않는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@DisplayName("StatisticsCache 테스트")
+public class StatisticsCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 15);
+
+    private static final StatisticsCache.Key JANUARY =
+            StatisticsCache.Key.monthly(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 2, 1));
+    private static final StatisticsCache.Key FEBRUARY =
+            StatisticsCache.Key.monthly(LocalDate.of(2026, 2, 1), LocalDate.of(2026, 3, 1));
+
+    private StatisticsCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        cache = new StatisticsCache(100, Duration.ofSeconds(60), Duration.ofHours(24), clock);
+        loads = new AtomicInteger();
+    }
+
+    private Integer load(StatisticsCache.Key key) {
+        return cache.get(key, loads::incrementAndGet);
+    }
+
+    @Test
+    @DisplayName("같은 키는 한 번만 계산하고 적중/실패를 집계")
+    void get_CachesAndRecordsStats() {
+        // When
+        load(JANUARY);
+        load(JANUARY);
+        load(JANUARY);
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.getStats())
+                .containsEntry("hitCount", 2L)
+                .containsEntry("missCount", 1L);
+    }
+
+    @Test
+    @DisplayName("로그 변경은 그 날짜를 포함한 기간과 해당 프로젝트만 무효화")
+    void evictLog_OnlyAffectedEntries() {
+        // Given
+        load(JANUARY);
+        load(FEBRUARY);
+        load(StatisticsCache.Key.project(1L));
+        load(StatisticsCache.Key.project(2L));
+        DevLog moved = DevLog.builder().projectId(1L).logDate(LocalDate.of(2026, 1, 20)).build();
+
+        // When (트랜잭션 밖에서는 즉시 적용)
+        cache.evictLog(moved, null);
+        load(JANUARY);
+        load(FEBRUARY);
+        load(StatisticsCache.Key.project(1L));
+        load(StatisticsCache.Key.project(2L));
+
+        // Then: 1월과 프로젝트 1만 다시 계산
+        assertThat(loads.get()).isEqualTo(6);
+        assertThat(cache.getStats()).containsEntry("hitCount", 2L);
+    }
+
+    @Test
+    @DisplayName("계산 중 예외는 캐시하지 않음")
+    void get_DoesNotCacheFailures() {
+        // When
+        assertThatThrownBy(() -> cache.get(JANUARY, () -> {
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        assertThat(load(JANUARY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계산하는 동안 무효화가 적용되면 계산 결과를 반환만 하고 저장하지 않음")
+    void get_DoesNotStoreLoadOverlappingEviction() {
+        // Given: 계산 도중 1월 로그 변경이 커밋됨 (트랜잭션 밖에서는 즉시 적용)
+        DevLog changed = DevLog.builder().projectId(1L).logDate(LocalDate.of(2026, 1, 20)).build();
+
+        // When
+        Integer first = cache.get(JANUARY, () -> {
+            int value = loads.incrementAndGet();
+            cache.evictLog(null, changed);
+            return value;
+        });
+        Integer second = load(JANUARY);
+
+        // Then: 변경 이전에 읽었을 수 있는 첫 결과는 남지 않고 다시 계산
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(load(JANUARY)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지난 기간 항목도 설정한 TTL이 지나면 만료")
+    void closedPeriod_ExpiresAfterClosedTtl() {
+        // Given
+        Clock clock = Clock.fixed(TODAY.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        StatisticsCache shortLived = new StatisticsCache(100, Duration.ofSeconds(60), Duration.ZERO, clock);
+
+        // When
+        shortLived.get(JANUARY, loads::incrementAndGet);
+        Integer reloaded = shortLived.get(JANUARY, loads::incrementAndGet);
+
+        // Then
+        assertThat(reloaded).isEqualTo(2);
+    }
+}
@@ -0,0 +1,173 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.mapper.TechTagMapper;
+import com.vibecoding.devlog.model.TagUsageDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * TagUsageCounter 단위 테스트
+ *
+ * 트랜잭션 없이 호출해 변화량이 즉시 모이는 경로로 일괄 반영과 실패 시 복구를 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TagUsageCounter 테스트")
+public class TagUsageCounterTest {
+
+    @Mock
+    private TechTagMapper techTagMapper;
+
+    @Mock
+    private TechTagRegistry techTagRegistry;
+
+    @Mock
+    private StatisticsCache statisticsCache;
+
+    @Mock
+    private ChangeVersions changeVersions;
+
+    @Mock
+    private ScheduledExecutorService executor;
+
+    private SimpleTransactionStatus transactionStatus;
+
+    private TagUsageCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        transactionStatus = new SimpleTransactionStatus();
+        TransactionOperations transactionOperations = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return action.doInTransaction(transactionStatus);
+            }
+        };
+        counter = new TagUsageCounter(techTagMapper, techTagRegistry, statisticsCache, changeVersions,
+                transactionOperations, executor, 5000, 60);
+    }
+
+    @Test
+    @DisplayName("모아 둔 변화량을 태그 ID 순으로 한 번에 반영하고 상쇄된 태그는 제외")
+    void flush_BatchesDeltasInTagOrder() {
+        // Given
+        counter.linked(List.of(3L, 1L, 2L));
+        counter.linked(List.of(1L));
+        counter.unlinked(List.of(2L));
+        counter.add(Map.of(3L, -4L));
+
+        // When
+        int flushed = counter.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(2);
+        verify(techTagMapper).addUsageCounts(List.of(new TagUsageDelta(1L, 2L), new TagUsageDelta(3L, -3L)));
+        verify(statisticsCache).evictTechTags();
+        assertThat(counter.pending(1L)).isZero();
+        assertThat(counter.flush()).isZero();
+        verifyNoMoreInteractions(techTagMapper);
+    }
+
+    @Test
+    @DisplayName("반영이 실패하면 변화량을 되돌려 다음 주기에 다시 시도")
+    void flush_RestoresDeltasOnFailure() {
+        // Given
+        counter.linked(List.of(7L, 7L));
+        when(techTagMapper.addUsageCounts(anyList())).thenThrow(new RuntimeException("connection refused"));
+
+        // When & Then
+        assertThatThrownBy(() -> counter.flush()).isInstanceOf(RuntimeException.class);
+        assertThat(counter.pending(7L)).isEqualTo(2);
+        verify(statisticsCache, never()).evictTechTags();
+    }
+
+    @Test
+    @DisplayName("보정은 대기 중인 변화량을 먼저 반영한 뒤 잠금을 얻고 실제 연결 수로 맞춤")
+    void reconcile_FlushesThenCorrectsUnderLock() {
+        // Given
+        counter.linked(List.of(1L));
+        when(techTagMapper.tryLockUsageCounts()).thenReturn(true);
+        when(techTagMapper.reconcileUsageCounts()).thenReturn(2);
+
+        // When
+        int corrected = counter.reconcile();
+
+        // Then
+        assertThat(corrected).isEqualTo(2);
+        assertThat(transactionStatus.isRollbackOnly()).isFalse();
+        InOrder inOrder = inOrder(techTagMapper);
+        inOrder.verify(techTagMapper).addUsageCounts(List.of(new TagUsageDelta(1L, 1L)));
+        inOrder.verify(techTagMapper).tryLockUsageCounts();
+        inOrder.verify(techTagMapper).reconcileUsageCounts();
+        verify(techTagRegistry).reload();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 보정 중이면 건너뜀")
+    void reconcile_SkipsWhenLockedElsewhere() {
+        // Given
+        when(techTagMapper.tryLockUsageCounts()).thenReturn(false);
+
+        // When
+        int corrected = counter.reconcile();
+
+        // Then
+        assertThat(corrected).isZero();
+        verify(techTagMapper, never()).reconcileUsageCounts();
+        verify(techTagRegistry, never()).reload();
+    }
+
+    @Test
+    @DisplayName("보정 중에 연결 변경이 커밋되면 보정을 롤백하고 변화량은 남겨 다음 반영에 더함")
+    void reconcile_RollsBackWhenLinksCommitMeanwhile() {
+        // Given: 보정 문장이 실행되는 동안 다른 요청의 연결 추가가 커밋됨
+        when(techTagMapper.tryLockUsageCounts()).thenReturn(true);
+        when(techTagMapper.reconcileUsageCounts()).thenAnswer(invocation -> {
+            counter.linked(List.of(5L));
+            return 1;
+        });
+
+        // When
+        int corrected = counter.reconcile();
+
+        // Then: 보정은 버리고, 변화량은 한 번만 반영되도록 남아 있음
+        assertThat(corrected).isZero();
+        assertThat(transactionStatus.isRollbackOnly()).isTrue();
+        assertThat(counter.pending(5L)).isEqualTo(1);
+        verify(techTagRegistry, never()).reload();
+    }
+
+    @Test
+    @DisplayName("주기 작업은 생성자가 아니라 애플리케이션 시작 후 등록")
+    void start_SchedulesFlushAndReconcile() {
+        // Given: 생성만 한 상태에서는 등록된 작업이 없음
+        verifyNoInteractions(executor);
+
+        // When
+        counter.start();
+
+        // Then
+        verify(executor, times(2)).scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any());
+    }
+}
@@ -0,0 +1,118 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.mapper.TechTagMapper;
+import com.vibecoding.devlog.model.TechTag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * TechTagRegistry 단위 테스트
+ *
+ * 시작 시 한 번 읽은 뒤 목록, 자동완성, 사용 횟수 반영이 데이터베이스 없이 처리되는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TechTagRegistry 테스트")
+public class TechTagRegistryTest {
+
+    @Mock
+    private TechTagMapper techTagMapper;
+
+    private TechTagRegistry registry;
+
+    private TechTag tag(long id, String name, String category, int usageCount) {
+        return TechTag.builder().id(id).name(name).category(category).usageCount(usageCount).build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(techTagMapper.findAll()).thenReturn(List.of(
+                tag(1L, "Spring Boot", "FRAMEWORK", 12),
+                tag(2L, "Spring Security", "FRAMEWORK", 3),
+                tag(3L, "PostgreSQL", "DATABASE", 8),
+                tag(4L, "Node.js", "PLATFORM", 0),
+                tag(5L, "Svelte", "FRAMEWORK", 5)));
+        registry = new TechTagRegistry(techTagMapper);
+        registry.load();
+    }
+
+    @Test
+    @DisplayName("미리 정렬한 스냅샷에서 전체/카테고리/인기 목록 반환")
+    void snapshots_ServeListsWithoutDatabase() {
+        // Then
+        assertThat(registry.findAll()).extracting(TechTag::getId).containsExactly(1L, 3L, 5L, 2L, 4L);
+        assertThat(registry.findByCategory("FRAMEWORK")).extracting(TechTag::getId).containsExactly(1L, 5L, 2L);
+        assertThat(registry.findPopular(10)).extracting(TechTag::getId).containsExactly(1L, 3L, 5L, 2L);
+        assertThat(registry.findPopular(2)).extracting(TechTag::getId).containsExactly(1L, 3L);
+        assertThat(registry.search("spring")).extracting(TechTag::getId).containsExactly(1L, 2L);
+        verify(techTagMapper, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("자동완성은 이름 접두어, 단어 접두어, 오타 허용 순으로 정렬")
+    void autocomplete_RanksPrefixThenWordThenFuzzy() {
+        // 이름 접두어 (사용 횟수 순)
+        assertThat(registry.autocomplete("spr", 10, false)).extracting(TechTag::getId).containsExactly(1L, 2L);
+        // 이름 중간 단어 접두어
+        assertThat(registry.autocomplete("JS", 10, false)).extracting(TechTag::getId).containsExactly(4L);
+        assertThat(registry.autocomplete("sec", 10, false)).extracting(TechTag::getId).containsExactly(2L);
+        // 오타 허용 (postgre → posgre, svelte → svlte)
+        assertThat(registry.autocomplete("posgre", 10, false)).isEmpty();
+        assertThat(registry.autocomplete("posgre", 10, true)).extracting(TechTag::getId).containsExactly(3L);
+        assertThat(registry.autocomplete("svlte", 10, true)).extracting(TechTag::getId).containsExactly(5L);
+        // 짧은 질의는 오타를 허용하지 않음
+        assertThat(registry.autocomplete("sx", 10, true)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쓰기와 사용 횟수 반영은 새 스냅샷으로 교체되고 이전 스냅샷은 바뀌지 않음")
+    void writes_ReplaceSnapshot() {
+        // Given
+        List<TechTag> before = registry.findAll();
+
+        // When
+        registry.put(List.of(tag(6L, "Kotlin", "LANGUAGE", 0)));
+        registry.remove(2L);
+        registry.applyUsageCounts(List.of(TechTag.builder().id(4L).usageCount(20).build()));
+
+        // Then
+        assertThat(before).extracting(TechTag::getId).containsExactly(1L, 3L, 5L, 2L, 4L);
+        assertThat(registry.findAll()).extracting(TechTag::getId).containsExactly(4L, 1L, 3L, 5L, 6L);
+        assertThat(registry.findById(4L)).get().extracting(TechTag::getName).isEqualTo("Node.js");
+        assertThat(registry.autocomplete("kot", 10, false)).extracting(TechTag::getId).containsExactly(6L);
+        assertThat(registry.autocomplete("sec", 10, false)).isEmpty();
+        assertThat(registry.countByCategory("FRAMEWORK")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시작 시 데이터베이스에 연결하지 못하면 준비되지 않은 상태로 두고, 다시 로드하면 준비됨")
+    void load_StaysNotReadyWhenDatabaseUnavailable() {
+        // Given
+        TechTagRegistry unavailable = new TechTagRegistry(techTagMapper);
+        when(techTagMapper.findAll())
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(List.of(tag(1L, "Spring Boot", "FRAMEWORK", 12)));
+
+        // When
+        unavailable.load();
+        boolean readyAfterFailure = unavailable.isReady();
+        unavailable.load();
+
+        // Then
+        assertThat(readyAfterFailure).isFalse();
+        assertThat(unavailable.isReady()).isTrue();
+        assertThat(unavailable.findAll()).extracting(TechTag::getId).containsExactly(1L);
+    }
+}
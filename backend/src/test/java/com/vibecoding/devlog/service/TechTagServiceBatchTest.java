@@ -0,0 +1,95 @@
+package com.vibecoding.devlog.service;
+
+import com.vibecoding.devlog.mapper.TechTagMapper;
+import com.vibecoding.devlog.model.TechTag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TechTagService 일괄 조회/생성 테스트
+ *
+ * 태그 이름 목록이 태그 수와 무관하게 INSERT 한 번과 조회 한 번으로 처리되는지 검증합니다.
+ *
+ * @author DevLog Test Team
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TechTagService 일괄 조회/생성 테스트")
+public class TechTagServiceBatchTest {
+
+    @Mock
+    private TechTagMapper techTagMapper;
+
+    @Mock
+    private TechTagRegistry techTagRegistry;
+
+    @Mock
+    private StatisticsCache statisticsCache;
+
+    @Mock
+    private ChangeVersions changeVersions;
+
+    @Mock
+    private ChangeFeed changeFeed;
+
+    @InjectMocks
+    private TechTagService techTagService;
+
+    private TechTag tag(long id, String name) {
+        return TechTag.builder().id(id).name(name).category("TOOL").usageCount(0).build();
+    }
+
+    @Test
+    @DisplayName("없는 태그만 생성하고 나머지는 한 번에 조회해 입력 순서대로 반환")
+    void findOrCreateMultiple_InsertsMissingAndSelectsRestOnce() {
+        // Given
+        when(techTagMapper.insertMissing(any(String[].class), eq("TOOL")))
+                .thenReturn(List.of(tag(30L, "Svelte")));
+        when(techTagMapper.findByNames(any(String[].class)))
+                .thenReturn(List.of(tag(5L, "PostgreSQL"), tag(1L, "Java")));
+
+        // When
+        List<TechTag> tags = techTagService.findOrCreateMultiple(
+                Arrays.asList(" Java ", "Svelte", null, "PostgreSQL", "Java", ""));
+
+        // Then
+        assertThat(tags).extracting(TechTag::getId).containsExactly(1L, 30L, 5L);
+        verify(techTagMapper).insertMissing(aryEq(new String[]{"Java", "Svelte", "PostgreSQL"}), eq("TOOL"));
+        verify(techTagMapper).findByNames(aryEq(new String[]{"Java", "PostgreSQL"}));
+        verify(techTagMapper, never()).findByName(anyString());
+        verify(techTagMapper, never()).insert(any(TechTag.class));
+        verify(statisticsCache).evictTechTags();
+    }
+
+    @Test
+    @DisplayName("모든 태그가 새로 생성되면 조회 없이 반환하고, 모두 있으면 캐시를 무효화하지 않음")
+    void findOrCreateMultiple_SkipsSelectOrEvictionWhenNotNeeded() {
+        // Given
+        when(techTagMapper.insertMissing(any(String[].class), eq("LANGUAGE")))
+                .thenReturn(List.of(tag(40L, "Kotlin")))
+                .thenReturn(List.of());
+        when(techTagMapper.findByNames(any(String[].class))).thenReturn(List.of(tag(40L, "Kotlin")));
+
+        // When
+        List<TechTag> created = techTagService.findOrCreateMultiple(List.of("Kotlin"), "LANGUAGE");
+        List<TechTag> existing = techTagService.findOrCreateMultiple(List.of("Kotlin"), "LANGUAGE");
+
+        // Then
+        assertThat(created).extracting(TechTag::getId).containsExactly(40L);
+        assertThat(existing).extracting(TechTag::getId).containsExactly(40L);
+        verify(techTagMapper, times(1)).findByNames(any(String[].class));
+        verify(statisticsCache, times(1)).evictTechTags();
+    }
+}
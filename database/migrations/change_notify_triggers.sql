@@ -0,0 +1,143 @@
+-- ============================================================
+-- 변경 알림 (LISTEN devlog_changes) 함수와 트리거 추가
+-- ============================================================
+-- DatabaseChangeListener가 다른 인스턴스나 SQL로 직접 수정한 변경을 받아 캐시를 무효화하려면
+-- dev_logs, projects, log_tech_tags에 schema.sql과 같은 알림 트리거가 있어야 합니다.
+-- tech_tags 트리거는 다음 스크립트(tech_tags_change_notify.sql)가 만들며, 이 스크립트의 notify_table_change()를 사용합니다.
+-- 여러 번 실행해도 결과가 같습니다.
+--
+-- 실행: psql -U postgres -d devlog -f migrations/change_notify_triggers.sql
+
+BEGIN;
+
+CREATE OR REPLACE FUNCTION notify_dev_logs_change()
+RETURNS TRIGGER AS $$
+DECLARE
+    new_ids BIGINT[];
+    old_ids BIGINT[];
+    new_projects BIGINT[];
+    old_projects BIGINT[];
+    new_from DATE;
+    new_to DATE;
+    old_from DATE;
+    old_to DATE;
+    all_ids BIGINT[];
+    all_projects BIGINT[];
+BEGIN
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        SELECT array_agg(id), array_agg(DISTINCT project_id), MIN(log_date), MAX(log_date)
+        INTO new_ids, new_projects, new_from, new_to
+        FROM new_rows;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        SELECT array_agg(id), array_agg(DISTINCT project_id), MIN(log_date), MAX(log_date)
+        INTO old_ids, old_projects, old_from, old_to
+        FROM old_rows;
+    END IF;
+
+    all_ids := ARRAY(SELECT DISTINCT unnest(COALESCE(new_ids, '{}') || COALESCE(old_ids, '{}')));
+    IF cardinality(all_ids) = 0 THEN
+        RETURN NULL;
+    END IF;
+    all_projects := ARRAY(SELECT DISTINCT unnest(COALESCE(new_projects, '{}') || COALESCE(old_projects, '{}')));
+
+    PERFORM pg_notify('devlog_changes', json_build_object(
+        'table', TG_TABLE_NAME,
+        'op', TG_OP,
+        'node', current_setting('application_name'),
+        'ids', CASE WHEN cardinality(all_ids) <= 200 THEN all_ids END,
+        'projectIds', CASE WHEN cardinality(all_projects) <= 50 THEN all_projects END,
+        'from', LEAST(new_from, old_from),
+        'to', GREATEST(new_to, old_to)
+    )::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION notify_projects_change()
+RETURNS TRIGGER AS $$
+DECLARE
+    changed_ids BIGINT[];
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        SELECT array_agg(id) INTO changed_ids FROM old_rows;
+    ELSE
+        SELECT array_agg(id) INTO changed_ids FROM new_rows;
+    END IF;
+    IF changed_ids IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    PERFORM pg_notify('devlog_changes', json_build_object(
+        'table', TG_TABLE_NAME,
+        'op', TG_OP,
+        'node', current_setting('application_name'),
+        'ids', CASE WHEN cardinality(changed_ids) <= 200 THEN changed_ids END
+    )::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 태그 변경은 행 정보 없이 테이블 단위로 알림 (같은 트랜잭션의 같은 payload는 한 번만 전달됨)
+CREATE OR REPLACE FUNCTION notify_table_change()
+RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify('devlog_changes', json_build_object(
+        'table', TG_TABLE_NAME,
+        'op', TG_OP,
+        'node', current_setting('application_name')
+    )::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS notify_dev_logs_insert ON dev_logs;
+DROP TRIGGER IF EXISTS notify_dev_logs_update ON dev_logs;
+DROP TRIGGER IF EXISTS notify_dev_logs_delete ON dev_logs;
+DROP TRIGGER IF EXISTS notify_projects_insert ON projects;
+DROP TRIGGER IF EXISTS notify_projects_update ON projects;
+DROP TRIGGER IF EXISTS notify_projects_delete ON projects;
+DROP TRIGGER IF EXISTS notify_log_tech_tags_change ON log_tech_tags;
+
+CREATE TRIGGER notify_dev_logs_insert
+    AFTER INSERT ON dev_logs
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_dev_logs_change();
+
+CREATE TRIGGER notify_dev_logs_update
+    AFTER UPDATE ON dev_logs
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_dev_logs_change();
+
+CREATE TRIGGER notify_dev_logs_delete
+    AFTER DELETE ON dev_logs
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_dev_logs_change();
+
+CREATE TRIGGER notify_projects_insert
+    AFTER INSERT ON projects
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_projects_change();
+
+CREATE TRIGGER notify_projects_update
+    AFTER UPDATE ON projects
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_projects_change();
+
+CREATE TRIGGER notify_projects_delete
+    AFTER DELETE ON projects
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_projects_change();
+
+CREATE TRIGGER notify_log_tech_tags_change
+    AFTER INSERT OR UPDATE OR DELETE ON log_tech_tags
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_table_change();
+
+COMMIT;
@@ -0,0 +1,29 @@
+-- ============================================================
+-- dev_logs.search_text 추가 (트라이그램 부분 문자열 검색용)
+-- ============================================================
+-- pg_trgm 확장을 설치하고, 제목/설명/성과/도전과제/학습내용을 결합한 생성 컬럼과 GIN 인덱스를 만듭니다.
+-- STORED 생성 컬럼을 추가하면 테이블을 다시 쓰면서 기존 행의 값이 모두 채워집니다.
+-- 다시 쓰는 동안 dev_logs에 ACCESS EXCLUSIVE 잠금이 걸리므로 로그가 많으면 사용량이 적을 때 실행합니다.
+-- CREATE EXTENSION은 데이터베이스 소유자(또는 슈퍼유저) 권한이 필요합니다.
+-- 여러 번 실행해도 결과가 같습니다.
+--
+-- 실행: psql -U postgres -d devlog -f migrations/dev_logs_search_text.sql
+
+BEGIN;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE dev_logs ADD COLUMN IF NOT EXISTS search_text TEXT GENERATED ALWAYS AS (
+    COALESCE(title, '') || ' ' ||
+    COALESCE(description, '') || ' ' ||
+    COALESCE(achievements, '') || ' ' ||
+    COALESCE(challenges, '') || ' ' ||
+    COALESCE(learnings, '')
+) STORED;
+COMMENT ON COLUMN dev_logs.search_text IS '검색용 본문 (title, description, achievements, challenges, learnings 결합, 자동 생성)';
+
+CREATE INDEX IF NOT EXISTS idx_dev_logs_search_trgm ON dev_logs USING GIN (search_text gin_trgm_ops);
+
+ANALYZE dev_logs;
+
+COMMIT;
@@ -0,0 +1,32 @@
+-- ============================================================
+-- tech_tags.usage_count 행 단위 트리거 제거 (애플리케이션 관리로 전환)
+-- ============================================================
+-- 백엔드(TagUsageCounter)가 연결 변화량을 모아 usage_count에 반영하므로,
+-- 예전 increment_tag_usage/decrement_tag_usage 트리거가 남아 있으면 연결마다 두 번 셉니다.
+-- 트리거와 트리거 함수를 지우고, 그동안 두 번 센 값이 있으면 log_tech_tags 기준으로 한 번 보정합니다.
+-- log_tech_tags를 SHARE 모드로 잠가 보정 중 연결 쓰기는 커밋까지 대기합니다.
+-- 여러 번 실행해도 결과가 같습니다.
+--
+-- 실행: psql -U postgres -d devlog -f migrations/drop_tag_usage_triggers.sql
+
+BEGIN;
+
+DROP TRIGGER IF EXISTS increment_tag_usage ON log_tech_tags;
+DROP TRIGGER IF EXISTS decrement_tag_usage ON log_tech_tags;
+DROP FUNCTION IF EXISTS increment_tag_usage_count();
+DROP FUNCTION IF EXISTS decrement_tag_usage_count();
+
+LOCK TABLE log_tech_tags IN SHARE MODE;
+
+UPDATE tech_tags t
+SET usage_count = c.actual
+FROM (
+    SELECT tt.id, COUNT(lt.log_id)::integer AS actual
+    FROM tech_tags tt
+    LEFT JOIN log_tech_tags lt ON lt.tech_tag_id = tt.id
+    GROUP BY tt.id
+) c
+WHERE t.id = c.id
+  AND t.usage_count <> c.actual;
+
+COMMIT;
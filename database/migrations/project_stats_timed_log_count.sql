@@ -0,0 +1,28 @@
+-- ============================================================
+-- project_stats.timed_log_count 추가 (평균 작업 시간 계산용)
+-- ============================================================
+-- 기존 행에는 작업 시간이 기록된 로그 수가 없으므로 롤업을 비우고 dev_logs에서 다시 집계합니다.
+-- dev_logs를 SHARE 모드로 잠가 재집계 중 로그 쓰기는 커밋까지 대기합니다 (애플리케이션 중지 불필요).
+-- 여러 번 실행해도 결과가 같습니다.
+--
+-- 실행: psql -U postgres -d devlog -f migrations/project_stats_timed_log_count.sql
+
+BEGIN;
+
+ALTER TABLE project_stats ADD COLUMN IF NOT EXISTS timed_log_count INTEGER DEFAULT 0;
+COMMENT ON COLUMN project_stats.timed_log_count IS '해당 날짜에 시작/종료 시간이 모두 기록된 로그 개수';
+
+LOCK TABLE dev_logs IN SHARE MODE;
+TRUNCATE project_stats;
+
+INSERT INTO project_stats (project_id, stat_date, total_minutes, log_count, timed_log_count)
+SELECT
+    project_id,
+    log_date,
+    COALESCE(SUM(GREATEST(FLOOR(EXTRACT(EPOCH FROM (end_time - start_time)) / 60), 0)), 0)::integer,
+    COUNT(*)::integer,
+    COUNT(end_time - start_time)::integer
+FROM dev_logs
+GROUP BY project_id, log_date;
+
+COMMIT;
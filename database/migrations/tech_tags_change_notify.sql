@@ -0,0 +1,30 @@
+-- ============================================================
+-- tech_tags 변경 알림에서 사용 횟수 반영과 0행 문장 제외
+-- ============================================================
+-- 문장 단위 notify_tech_tags_change 트리거를 행 단위 트리거 둘로 바꿉니다.
+-- usage_count만 바뀐 UPDATE와 행이 없는 문장은 더 이상 devlog_changes 알림을 보내지 않습니다.
+-- notify_table_change() 함수가 필요하므로 change_notify_triggers.sql 다음에 실행합니다.
+-- 여러 번 실행해도 결과가 같습니다.
+--
+-- 실행: psql -U postgres -d devlog -f migrations/tech_tags_change_notify.sql
+
+BEGIN;
+
+DROP TRIGGER IF EXISTS notify_tech_tags_change ON tech_tags;
+DROP TRIGGER IF EXISTS notify_tech_tags_insert_delete ON tech_tags;
+DROP TRIGGER IF EXISTS notify_tech_tags_update ON tech_tags;
+
+CREATE TRIGGER notify_tech_tags_insert_delete
+    AFTER INSERT OR DELETE ON tech_tags
+    FOR EACH ROW
+    EXECUTE FUNCTION notify_table_change();
+
+CREATE TRIGGER notify_tech_tags_update
+    AFTER UPDATE OF name, category, color ON tech_tags
+    FOR EACH ROW
+    WHEN (OLD.name IS DISTINCT FROM NEW.name
+          OR OLD.category IS DISTINCT FROM NEW.category
+          OR OLD.color IS DISTINCT FROM NEW.color)
+    EXECUTE FUNCTION notify_table_change();
+
+COMMIT;
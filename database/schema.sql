@@ -6,6 +6,10 @@
 -- Last Updated: 2025-01-20
 -- ============================================================
 
+-- Extensions
+-- 기존 DB: migrations/dev_logs_search_text.sql (확장, search_text 컬럼, 인덱스를 함께 추가)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;  -- 한글/영문 혼합 부분 문자열 검색용 트라이그램 인덱스
+
 -- Drop tables if exists (역순으로 삭제)
 DROP TABLE IF EXISTS project_stats CASCADE;
 DROP TABLE IF EXISTS log_tech_tags CASCADE;
@@ -62,6 +66,16 @@ CREATE TABLE dev_logs (
     -- 코드 스니펫 (JSON 형식)
     code_snippets JSONB,
 
+    -- 검색용 본문 (제목/설명/성과/도전과제/학습내용, 자동 생성)
+    -- 기존 DB: migrations/dev_logs_search_text.sql
+    search_text TEXT GENERATED ALWAYS AS (
+        COALESCE(title, '') || ' ' ||
+        COALESCE(description, '') || ' ' ||
+        COALESCE(achievements, '') || ' ' ||
+        COALESCE(challenges, '') || ' ' ||
+        COALESCE(learnings, '')
+    ) STORED,
+
     -- 기분/컨디션
     mood VARCHAR(20) DEFAULT 'NEUTRAL' CHECK (mood IN ('GREAT', 'GOOD', 'NEUTRAL', 'BAD', 'TERRIBLE')),
 
@@ -124,6 +138,8 @@ CREATE TABLE project_stats (
     -- 통계 정보
     total_minutes INTEGER DEFAULT 0,  -- 총 작업 시간 (분)
     log_count INTEGER DEFAULT 0,      -- 로그 개수
+    timed_log_count INTEGER DEFAULT 0, -- 작업 시간이 기록된 로그 개수 (평균 계산용)
+                                       -- 기존 DB: migrations/project_stats_timed_log_count.sql
 
     -- 메타데이터
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -154,6 +170,9 @@ CREATE INDEX idx_dev_logs_log_date ON dev_logs(log_date);
 CREATE INDEX idx_dev_logs_created_at ON dev_logs(created_at);
 CREATE INDEX idx_dev_logs_mood ON dev_logs(mood);
 CREATE INDEX idx_dev_logs_project_date ON dev_logs(project_id, log_date);  -- 복합 인덱스
+CREATE INDEX idx_dev_logs_keyset ON dev_logs(log_date DESC, created_at DESC, id DESC);  -- 키셋 페이지네이션용
+CREATE INDEX idx_dev_logs_project_keyset ON dev_logs(project_id, log_date DESC, created_at DESC, id DESC);  -- 프로젝트별 키셋 페이지네이션용
+CREATE INDEX idx_dev_logs_search_trgm ON dev_logs USING GIN (search_text gin_trgm_ops);  -- 전문 검색용 트라이그램 인덱스
 
 -- Tech_tags 테이블 인덱스
 CREATE INDEX idx_tech_tags_category ON tech_tags(category);
@@ -187,6 +206,7 @@ COMMENT ON COLUMN dev_logs.achievements IS '완료한 작업 및 성과';
 COMMENT ON COLUMN dev_logs.challenges IS '어려웠던 점 및 문제';
 COMMENT ON COLUMN dev_logs.learnings IS '배운 점 및 깨달음';
 COMMENT ON COLUMN dev_logs.code_snippets IS '코드 스니펫 (JSON 형식: [{language, code, description}])';
+COMMENT ON COLUMN dev_logs.search_text IS '검색용 본문 (title, description, achievements, challenges, learnings 결합, 자동 생성)';
 COMMENT ON COLUMN dev_logs.mood IS '작업 시 기분/컨디션: GREAT, GOOD, NEUTRAL, BAD, TERRIBLE';
 
 -- Tech_tags 테이블
@@ -201,6 +221,7 @@ COMMENT ON TABLE log_tech_tags IS '개발 로그와 기술 태그의 다대다 
 COMMENT ON TABLE project_stats IS '프로젝트별 일일 통계 집계 테이블';
 COMMENT ON COLUMN project_stats.total_minutes IS '해당 날짜의 총 작업 시간 (분 단위)';
 COMMENT ON COLUMN project_stats.log_count IS '해당 날짜의 로그 개수';
+COMMENT ON COLUMN project_stats.timed_log_count IS '해당 날짜에 시작/종료 시간이 모두 기록된 로그 개수';
 
 -- ============================================================
 -- FUNCTIONS & TRIGGERS (자동화)
@@ -236,37 +257,153 @@ CREATE TRIGGER update_project_stats_updated_at
     FOR EACH ROW
     EXECUTE FUNCTION update_updated_at_column();
 
--- 3. tech_tags usage_count 자동 증가 함수
-CREATE OR REPLACE FUNCTION increment_tag_usage_count()
+-- 3. tech_tags usage_count는 트리거 대신 애플리케이션이 관리
+-- 로그 저장마다 인기 태그 행을 UPDATE하면 행 잠금 경합이 생기므로,
+-- 백엔드(TagUsageCounter)가 변화량을 메모리에 모아 주기적으로 일괄 반영하고 log_tech_tags 기준으로 보정함
+-- 기존 DB: migrations/drop_tag_usage_triggers.sql (예전 increment/decrement 트리거와 함수 제거)
+
+-- 4. 변경 알림 (LISTEN devlog_changes)
+-- 백엔드 인스턴스가 로컬 캐시를 무효화할 수 있도록 문장 단위로 변경 요약을 보냄
+-- payload: {"table","op","node"(application_name), "ids", "projectIds", "from", "to"}
+-- 행이 많으면 ids/projectIds는 null (받는 쪽에서 전체 무효화), NOTIFY payload 8000바이트 제한 때문
+-- 기존 DB: migrations/change_notify_triggers.sql (tech_tags 트리거는 tech_tags_change_notify.sql)
+CREATE OR REPLACE FUNCTION notify_dev_logs_change()
 RETURNS TRIGGER AS $$
+DECLARE
+    new_ids BIGINT[];
+    old_ids BIGINT[];
+    new_projects BIGINT[];
+    old_projects BIGINT[];
+    new_from DATE;
+    new_to DATE;
+    old_from DATE;
+    old_to DATE;
+    all_ids BIGINT[];
+    all_projects BIGINT[];
 BEGIN
-    UPDATE tech_tags
-    SET usage_count = usage_count + 1
-    WHERE id = NEW.tech_tag_id;
-    RETURN NEW;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        SELECT array_agg(id), array_agg(DISTINCT project_id), MIN(log_date), MAX(log_date)
+        INTO new_ids, new_projects, new_from, new_to
+        FROM new_rows;
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        SELECT array_agg(id), array_agg(DISTINCT project_id), MIN(log_date), MAX(log_date)
+        INTO old_ids, old_projects, old_from, old_to
+        FROM old_rows;
+    END IF;
+
+    all_ids := ARRAY(SELECT DISTINCT unnest(COALESCE(new_ids, '{}') || COALESCE(old_ids, '{}')));
+    IF cardinality(all_ids) = 0 THEN
+        RETURN NULL;
+    END IF;
+    all_projects := ARRAY(SELECT DISTINCT unnest(COALESCE(new_projects, '{}') || COALESCE(old_projects, '{}')));
+
+    PERFORM pg_notify('devlog_changes', json_build_object(
+        'table', TG_TABLE_NAME,
+        'op', TG_OP,
+        'node', current_setting('application_name'),
+        'ids', CASE WHEN cardinality(all_ids) <= 200 THEN all_ids END,
+        'projectIds', CASE WHEN cardinality(all_projects) <= 50 THEN all_projects END,
+        'from', LEAST(new_from, old_from),
+        'to', GREATEST(new_to, old_to)
+    )::text);
+    RETURN NULL;
 END;
 $$ LANGUAGE plpgsql;
 
-CREATE TRIGGER increment_tag_usage
-    AFTER INSERT ON log_tech_tags
-    FOR EACH ROW
-    EXECUTE FUNCTION increment_tag_usage_count();
+CREATE OR REPLACE FUNCTION notify_projects_change()
+RETURNS TRIGGER AS $$
+DECLARE
+    changed_ids BIGINT[];
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        SELECT array_agg(id) INTO changed_ids FROM old_rows;
+    ELSE
+        SELECT array_agg(id) INTO changed_ids FROM new_rows;
+    END IF;
+    IF changed_ids IS NULL THEN
+        RETURN NULL;
+    END IF;
+
+    PERFORM pg_notify('devlog_changes', json_build_object(
+        'table', TG_TABLE_NAME,
+        'op', TG_OP,
+        'node', current_setting('application_name'),
+        'ids', CASE WHEN cardinality(changed_ids) <= 200 THEN changed_ids END
+    )::text);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
 
--- 4. tech_tags usage_count 자동 감소 함수
-CREATE OR REPLACE FUNCTION decrement_tag_usage_count()
+-- 태그 변경은 행 정보 없이 테이블 단위로 알림 (같은 트랜잭션의 같은 payload는 한 번만 전달됨)
+CREATE OR REPLACE FUNCTION notify_table_change()
 RETURNS TRIGGER AS $$
 BEGIN
-    UPDATE tech_tags
-    SET usage_count = GREATEST(0, usage_count - 1)
-    WHERE id = OLD.tech_tag_id;
-    RETURN OLD;
+    PERFORM pg_notify('devlog_changes', json_build_object(
+        'table', TG_TABLE_NAME,
+        'op', TG_OP,
+        'node', current_setting('application_name')
+    )::text);
+    RETURN NULL;
 END;
 $$ LANGUAGE plpgsql;
 
-CREATE TRIGGER decrement_tag_usage
-    AFTER DELETE ON log_tech_tags
+CREATE TRIGGER notify_dev_logs_insert
+    AFTER INSERT ON dev_logs
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_dev_logs_change();
+
+CREATE TRIGGER notify_dev_logs_update
+    AFTER UPDATE ON dev_logs
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_dev_logs_change();
+
+CREATE TRIGGER notify_dev_logs_delete
+    AFTER DELETE ON dev_logs
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_dev_logs_change();
+
+CREATE TRIGGER notify_projects_insert
+    AFTER INSERT ON projects
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_projects_change();
+
+CREATE TRIGGER notify_projects_update
+    AFTER UPDATE ON projects
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_projects_change();
+
+CREATE TRIGGER notify_projects_delete
+    AFTER DELETE ON projects
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_projects_change();
+
+-- tech_tags는 행 단위로 등록해 0행 문장(insertMissing의 ON CONFLICT DO NOTHING 등)은 알리지 않고,
+-- usage_count만 바뀐 UPDATE(TagUsageCounter 반영/보정)도 제외함 (같은 payload는 트랜잭션당 한 번만 전달됨)
+-- 기존 DB: migrations/tech_tags_change_notify.sql
+CREATE TRIGGER notify_tech_tags_insert_delete
+    AFTER INSERT OR DELETE ON tech_tags
+    FOR EACH ROW
+    EXECUTE FUNCTION notify_table_change();
+
+CREATE TRIGGER notify_tech_tags_update
+    AFTER UPDATE OF name, category, color ON tech_tags
     FOR EACH ROW
-    EXECUTE FUNCTION decrement_tag_usage_count();
+    WHEN (OLD.name IS DISTINCT FROM NEW.name
+          OR OLD.category IS DISTINCT FROM NEW.category
+          OR OLD.color IS DISTINCT FROM NEW.color)
+    EXECUTE FUNCTION notify_table_change();
+
+CREATE TRIGGER notify_log_tech_tags_change
+    AFTER INSERT OR UPDATE OR DELETE ON log_tech_tags
+    FOR EACH STATEMENT
+    EXECUTE FUNCTION notify_table_change();
 
 -- ============================================================
 -- VIEWS (자주 사용하는 조회 쿼리)
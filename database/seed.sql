@@ -277,29 +277,28 @@ INSERT INTO log_tech_tags (log_id, tech_tag_id) VALUES
 -- 로그 10: 앱 스토어 배포
 (10, (SELECT id FROM tech_tags WHERE name = 'React Native'));
 
+-- usage_count 동기화 (트리거 대신 백엔드가 관리하므로 초기 데이터는 직접 맞춤)
+UPDATE tech_tags t
+SET usage_count = (SELECT COUNT(*) FROM log_tech_tags lt WHERE lt.tech_tag_id = t.id);
+
 -- ============================================================
 -- 5. PROJECT_STATS 샘플 데이터 (집계 데이터)
 -- ============================================================
-INSERT INTO project_stats (project_id, stat_date, total_minutes, log_count) VALUES
--- DevLog 프로젝트 통계
-(1, '2025-01-20', 180, 1),  -- 3시간
-(1, '2025-01-21', 240, 1),  -- 4시간
-(1, '2025-01-22', 180, 1),  -- 3시간
-
--- 포트폴리오 프로젝트 통계
-(2, '2025-01-18', 240, 1),  -- 4시간
-(2, '2025-01-19', 240, 1),  -- 4시간
-
--- E-commerce 프로젝트 통계
-(3, '2024-12-15', 480, 1),  -- 8시간
-
--- AI 챗봇 프로젝트 통계
-(4, '2024-12-10', 300, 1),  -- 5시간
-(4, '2024-12-14', 300, 1),  -- 5시간
-
--- 모바일 앱 프로젝트 통계
-(5, '2024-09-20', 420, 1),  -- 7시간
-(5, '2024-09-28', 240, 1);  -- 4시간
+-- 애플리케이션은 로그 생성/수정/삭제 시 project_stats를 증분 갱신하므로,
+-- SQL로 직접 넣은 로그는 dev_logs에서 다시 집계해 롤업을 맞춰 둡니다.
+INSERT INTO project_stats (project_id, stat_date, total_minutes, log_count, timed_log_count)
+SELECT
+    project_id,
+    log_date,
+    COALESCE(SUM(GREATEST(FLOOR(EXTRACT(EPOCH FROM (end_time - start_time)) / 60), 0)), 0)::integer,
+    COUNT(*)::integer,
+    COUNT(end_time - start_time)::integer
+FROM dev_logs
+GROUP BY project_id, log_date
+ON CONFLICT (project_id, stat_date) DO UPDATE SET
+    total_minutes = EXCLUDED.total_minutes,
+    log_count = EXCLUDED.log_count,
+    timed_log_count = EXCLUDED.timed_log_count;
 
 -- ============================================================
 -- 데이터 검증 쿼리
@@ -231,33 +231,29 @@ AND (
     (dl.log_date = '2026-01-04' AND dl.title LIKE '%회고%' AND tt.name IN ('Git'))
 );
 
+-- usage_count 동기화 (트리거 대신 백엔드가 관리하므로 초기 데이터는 직접 맞춤)
+UPDATE tech_tags t
+SET usage_count = (SELECT COUNT(*) FROM log_tech_tags lt WHERE lt.tech_tag_id = t.id);
+
 -- ============================================================
 -- PROJECT_STATS 주간 통계 데이터
 -- ============================================================
-INSERT INTO project_stats (project_id, stat_date, total_minutes, log_count) VALUES
--- 12/29
-(1, '2025-12-29', 180, 1),  -- 3시간
-(2, '2025-12-29', 180, 1),  -- 3시간
-
--- 12/30
-(1, '2025-12-30', 360, 3),  -- 6시간 (2.5 + 3 + 1.5)
-
--- 12/31
-(1, '2025-12-31', 330, 3),  -- 5.5시간 (3 + 2.5 + 1)
-(2, '2025-12-31', 150, 1),  -- 2.5시간
-
--- 01/01
-(1, '2026-01-01', 270, 2),  -- 4.5시간 (3 + 1.5)
-
--- 01/02
-(2, '2026-01-02', 240, 1),  -- 4시간
-
--- 01/03
-(1, '2026-01-03', 390, 3),  -- 6.5시간 (2 + 3 + 1.5)
-
--- 01/04
-(1, '2026-01-04', 270, 2),  -- 4.5시간 (3 + 1.5)
-(2, '2026-01-04', 180, 1);  -- 3시간
+-- 애플리케이션은 로그 생성/수정/삭제 시 project_stats를 증분 갱신하므로,
+-- SQL로 직접 넣은 로그는 dev_logs에서 다시 집계해 롤업을 맞춰 둡니다.
+INSERT INTO project_stats (project_id, stat_date, total_minutes, log_count, timed_log_count)
+SELECT
+    project_id,
+    log_date,
+    COALESCE(SUM(GREATEST(FLOOR(EXTRACT(EPOCH FROM (end_time - start_time)) / 60), 0)), 0)::integer,
+    COUNT(*)::integer,
+    COUNT(end_time - start_time)::integer
+FROM dev_logs
+WHERE log_date BETWEEN '2025-12-29' AND '2026-01-04'
+GROUP BY project_id, log_date
+ON CONFLICT (project_id, stat_date) DO UPDATE SET
+    total_minutes = EXCLUDED.total_minutes,
+    log_count = EXCLUDED.log_count,
+    timed_log_count = EXCLUDED.timed_log_count;
 
 -- ============================================================
 -- 데이터 검증 쿼리
@@ -45,8 +45,8 @@ const GlobalSearch = () => {
     const searchLogs = async () => {
       try {
         setLoading(true);
-        const response = await devLogApi.getAll({ keyword: query });
-        setResults((response.data || []).slice(0, 5)); // Limit to 5 results
+        const response = await devLogApi.search(query, { size: 5 });
+        setResults(response.data || []);
       } catch (err) {
         console.error('Search error:', err);
         setResults([]);
@@ -47,13 +47,13 @@ const LogList = () => {
     }
   };
 
-  const fetchLogs = async (reset = false) => {
+  const fetchLogs = async (reset = false, nextPage = 1) => {
     try {
       setLoading(true);
       setError(null);
 
       const params = {
-        page: reset ? 1 : page,
+        page: reset ? 1 : nextPage,
         size: 10,
       };
 
@@ -83,10 +83,11 @@ const LogList = () => {
 
   const loadMore = useCallback(() => {
     if (!loading && hasMore) {
-      setPage((prev) => prev + 1);
-      fetchLogs(false);
+      const nextPage = page + 1;
+      setPage(nextPage);
+      fetchLogs(false, nextPage);
     }
-  }, [loading, hasMore]);
+  }, [loading, hasMore, page]);
 
   // Infinite scroll observer
   const lastLogRef = useCallback(
@@ -21,7 +21,7 @@ export const devLogApi = {
   getByProject: (projectId) => axios.get(`/logs?projectId=${projectId}`),
   
   // Search logs
-  search: (keyword) => axios.get(`/logs/search?q=${keyword}`),
+  search: (keyword, params) => axios.get('/logs/search', { params: { q: keyword, ...params } }),
 };
 
 // Projects API